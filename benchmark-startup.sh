@@ -0,0 +1,39 @@
+#!/bin/bash
+
+# Compare startup time with and without the AppCDS archive.
+# Build first with: mvn package -Pappcds
+# Usage: ./benchmark-startup.sh [runs]
+
+RUNS=${1:-10}
+# Absolute paths: the archive only matches the exact classpath it was dumped with
+BASE_DIR="$(cd "$(dirname "$0")" && pwd)"
+APP_JAR="$BASE_DIR/target/jsonformmaker-1.0.0-SNAPSHOT-jar-with-dependencies.jar"
+CDS_ARCHIVE="$BASE_DIR/target/appcds/jsonformmaker.jsa"
+TRAINING_CLASS="com.adui.jsoncraft.main.StartupTraining"
+
+if [ ! -f "$APP_JAR" ] || [ ! -f "$CDS_ARCHIVE" ]; then
+    echo "❌ Missing $APP_JAR or $CDS_ARCHIVE - run: mvn package -Pappcds"
+    exit 1
+fi
+
+# Average wall-clock time of the training launch over $RUNS runs
+measure() {
+    local total=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local start=$(date +%s%N)
+        java "$@" -cp "$APP_JAR" "$TRAINING_CLASS" > /dev/null 2>&1
+        local end=$(date +%s%N)
+        total=$((total + (end - start) / 1000000))
+    done
+    echo $((total / RUNS))
+}
+
+echo "⏱  Measuring startup over $RUNS runs..."
+WITHOUT=$(measure -Xshare:auto)
+WITH=$(measure -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xshare:auto)
+
+echo "Without AppCDS: ${WITHOUT} ms"
+echo "With AppCDS:    ${WITH} ms"
+if [ "$WITHOUT" -gt 0 ]; then
+    echo "Improvement:    $(( (WITHOUT - WITH) * 100 / WITHOUT ))%"
+fi
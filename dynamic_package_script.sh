@@ -105,6 +105,28 @@ echo "📦 Creating release package..."
 RELEASE_JAR_NAME="${PROJECT_NAME,,}-$VERSION.jar"  # Convert to lowercase
 cp "$BUILT_JAR" "$RELEASE_VERSION_DIR/$RELEASE_JAR_NAME"
 
+# Build the AppCDS archive against the release JAR itself: the JVM only uses an archive when the
+# JAR path (relative, as the launchers pass it), size and modification time match the dump
+CDS_ARCHIVE_NAME="${PROJECT_NAME,,}.jsa"
+CDS_TRAINING_CLASS="com.adui.jsoncraft.main.StartupTraining"
+echo "⚡ Building class-data-sharing archive..."
+# Whole-minute timestamp, so the modification time survives the ZIP round trip
+touch -t "$(date +%Y%m%d%H%M.00)" "$RELEASE_VERSION_DIR/$RELEASE_JAR_NAME"
+CDS_WORK_DIR=$(mktemp -d)
+RELEASE_JAR_PATH="$(pwd)/$RELEASE_VERSION_DIR/$RELEASE_JAR_NAME"
+# The training launch runs in a throwaway home and directory, so it leaves no config or logs behind
+if (cd "$CDS_WORK_DIR" && java -Xshare:off -XX:DumpLoadedClassList="$CDS_WORK_DIR/classes.lst" \
+        -Duser.home="$CDS_WORK_DIR" -cp "$RELEASE_JAR_PATH" "$CDS_TRAINING_CLASS") \
+        > "$CDS_WORK_DIR/training.log" 2>&1 \
+    && (cd "$RELEASE_VERSION_DIR" && java -Xshare:dump -XX:SharedClassListFile="$CDS_WORK_DIR/classes.lst" \
+        -XX:SharedArchiveFile="$CDS_ARCHIVE_NAME" -cp "$RELEASE_JAR_NAME") > "$CDS_WORK_DIR/dump.log" 2>&1; then
+    echo "✅ Archive created: $CDS_ARCHIVE_NAME (used by the launchers with the same Java build)"
+else
+    echo "⚠️  Warning: Could not build the class-data-sharing archive; launchers start without it"
+    rm -f "$RELEASE_VERSION_DIR/$CDS_ARCHIVE_NAME"
+fi
+rm -rf "$CDS_WORK_DIR"
+
 # Create Windows launcher
 cat > "$RELEASE_VERSION_DIR/${PROJECT_NAME}.bat" << EOF
 @echo off
@@ -124,8 +146,12 @@ if errorlevel 1 (
     exit /b 1
 )
 
+REM Use the class-data-sharing archive when present; Java ignores it if it does not match
+set JAVA_OPTS=
+if exist "$CDS_ARCHIVE_NAME" set JAVA_OPTS=-XX:SharedArchiveFile=$CDS_ARCHIVE_NAME -Xshare:auto
+
 REM Run the application
-java -jar "$RELEASE_JAR_NAME"
+java %JAVA_OPTS% -jar "$RELEASE_JAR_NAME"
 
 if errorlevel 1 (
     echo.
@@ -156,8 +182,14 @@ if [ "\$JAVA_VERSION" -lt 11 ]; then
     exit 1
 fi
 
+# Use the class-data-sharing archive when present; -Xshare:auto ignores it if it does not match
+JAVA_OPTS=""
+if [ -f "$CDS_ARCHIVE_NAME" ]; then
+    JAVA_OPTS="-XX:SharedArchiveFile=$CDS_ARCHIVE_NAME -Xshare:auto"
+fi
+
 # Run the application
-java -jar "$RELEASE_JAR_NAME"
+java \$JAVA_OPTS -jar "$RELEASE_JAR_NAME"
 EOF
 
 # Make shell script executable
@@ -248,6 +280,9 @@ echo "✅ Package created successfully!"
 echo ""
 echo "📦 Release Files:"
 echo "   📄 $RELEASE_JAR_NAME ($JAR_SIZE)"
+if [ -f "$RELEASE_VERSION_DIR/$CDS_ARCHIVE_NAME" ]; then
+    echo "   📄 $CDS_ARCHIVE_NAME (class-data-sharing archive)"
+fi
 echo "   📄 ${PROJECT_NAME}.bat (Windows launcher)"
 echo "   📄 ${PROJECT_NAME,,}.sh (Linux/Mac launcher)"
 echo "   📄 github-config.properties (Auto-update config)"
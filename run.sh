@@ -2,6 +2,22 @@
 
 echo "🚀 Running JSONFormMaker..."
 
+# Absolute paths: the archive only matches the exact classpath it was dumped with
+BASE_DIR="$(cd "$(dirname "$0")" && pwd)"
+APP_JAR="$BASE_DIR/target/jsonformmaker-1.0.0-SNAPSHOT-jar-with-dependencies.jar"
+CDS_ARCHIVE="$BASE_DIR/target/appcds/jsonformmaker.jsa"
+
+# Prefer the packaged JAR, with the AppCDS archive from `mvn package -Pappcds` if present
+if [ -f "$APP_JAR" ]; then
+    JAVA_OPTS=""
+    if [ -f "$CDS_ARCHIVE" ]; then
+        echo "⚡ Using class-data-sharing archive: $CDS_ARCHIVE"
+        # -Xshare:auto falls back to normal class loading if the archive does not match the JAR
+        JAVA_OPTS="-XX:SharedArchiveFile=$CDS_ARCHIVE -Xshare:auto"
+    fi
+    exec java $JAVA_OPTS -jar "$APP_JAR" "$@"
+fi
+
 # Compile if needed
 if [ ! -d "target/classes" ]; then
     echo "📦 Compiling application..."
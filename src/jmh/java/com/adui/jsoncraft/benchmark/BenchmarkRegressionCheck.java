@@ -0,0 +1,130 @@
+package com.adui.jsoncraft.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and exits non-zero when any
+ * benchmark regressed by more than the tolerance. Checks the primary score (throughput
+ * must not drop, sample latency must not rise) and the normalized allocation rate from
+ * the GC profiler. When the baseline does not exist yet, the results become the baseline.
+ *
+ * Usage: BenchmarkRegressionCheck &lt;results.json&gt; &lt;baseline.json&gt; [tolerancePercent]
+ */
+public class BenchmarkRegressionCheck {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkRegressionCheck <results.json> <baseline.json> [tolerancePercent]");
+            System.exit(2);
+        }
+        File resultsFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100.0 : 0.10;
+
+        if (!baselineFile.exists()) {
+            if (baselineFile.getParentFile() != null) {
+                baselineFile.getParentFile().mkdirs();
+            }
+            Files.copy(resultsFile.toPath(), baselineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("No baseline found - stored current results as " + baselineFile);
+            return;
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(mapper.readTree(baselineFile));
+        Map<String, JsonNode> results = index(mapper.readTree(resultsFile));
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.println("NEW      " + entry.getKey());
+                continue;
+            }
+            checkScore(entry.getKey(), previous, entry.getValue(), tolerance, regressions);
+            checkAllocation(entry.getKey(), previous, entry.getValue(), tolerance, regressions);
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.println(regressions.size() + " benchmark regression(s) beyond "
+                + Math.round(tolerance * 100) + "%:");
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressions beyond " + Math.round(tolerance * 100) + "%");
+    }
+
+    private static void checkScore(String key, JsonNode previous, JsonNode current,
+                                   double tolerance, List<String> regressions) {
+        double before = previous.path("primaryMetric").path("score").asDouble();
+        double after = current.path("primaryMetric").path("score").asDouble();
+        String unit = current.path("primaryMetric").path("scoreUnit").asText();
+        // Throughput units are ops/time (higher is better); sample/average modes are time/op
+        boolean higherIsBetter = unit.startsWith("ops/");
+
+        double change = before == 0 ? 0 : (after - before) / before;
+        boolean regressed = higherIsBetter ? change < -tolerance : change > tolerance;
+        String line = String.format("%-8s %s: %.3f -> %.3f %s (%+.1f%%)",
+            regressed ? "REGRESS" : "OK", key, before, after, unit, change * 100);
+        System.out.println(line);
+        if (regressed) {
+            regressions.add(line);
+        }
+    }
+
+    private static void checkAllocation(String key, JsonNode previous, JsonNode current,
+                                        double tolerance, List<String> regressions) {
+        JsonNode before = findSecondary(previous, ALLOCATION_METRIC);
+        JsonNode after = findSecondary(current, ALLOCATION_METRIC);
+        if (before == null || after == null) {
+            return;
+        }
+        double beforeBytes = before.path("score").asDouble();
+        double afterBytes = after.path("score").asDouble();
+        // Ignore tiny absolute changes on near-allocation-free benchmarks
+        if (afterBytes - beforeBytes > Math.max(64, beforeBytes * tolerance)) {
+            regressions.add(String.format("%s: allocation %.0f -> %.0f B/op", key, beforeBytes, afterBytes));
+        }
+    }
+
+    private static JsonNode findSecondary(JsonNode result, String suffix) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(suffix)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Key results by benchmark, mode and parameters
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new HashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                .append(" [").append(result.path("mode").asText()).append(']');
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+}
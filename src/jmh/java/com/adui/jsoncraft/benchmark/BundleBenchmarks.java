@@ -0,0 +1,111 @@
+package com.adui.jsoncraft.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.adui.jsoncraft.json.FormBundle;
+import com.adui.jsoncraft.json.JsonGenerator;
+import com.adui.jsoncraft.model.WindowDefinition;
+
+/**
+ * Building a bundle of many forms and extracting one form from it.
+ * Bundle and plain JSON sizes are printed once per trial, since they do not vary between runs.
+ * Run with: mvn verify -Pjmh -Djmh.include=BundleBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BundleBenchmarks {
+
+    @Param({"100", "500"})
+    public int formCount;
+
+    @Param({"1", "6", "9"})
+    public int compressionLevel;
+
+    private List<WindowDefinition> windows;
+    private File bundleFile;
+    private FormBundle.Reader reader;
+    private String middleWindowId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        windows = new ArrayList<>();
+        for (int i = 0; i < formCount; i++) {
+            windows.add(FormFixtures.mixedForm("FORM_" + i, 3, 20));
+        }
+        middleWindowId = windows.get(formCount / 2).getWindowId();
+
+        long plainBytes = 0;
+        JsonGenerator jsonGenerator = new JsonGenerator(false, false);
+        for (WindowDefinition window : windows) {
+            plainBytes += jsonGenerator.generateJson(window).getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        bundleFile = File.createTempFile("jsonformmaker-bench-", FormBundle.FILE_EXTENSION);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (FormBundle.Writer writer = new FormBundle.Writer(buffer, compressionLevel)) {
+            for (WindowDefinition window : windows) {
+                writer.add(window);
+            }
+        }
+        Files.write(bundleFile.toPath(), buffer.toByteArray());
+        reader = new FormBundle.Reader(bundleFile);
+
+        System.out.printf("%n# %d forms, level %d: plain JSON %,d bytes, bundle %,d bytes (%.1f%%)%n",
+            formCount, compressionLevel, plainBytes, buffer.size(), 100.0 * buffer.size() / plainBytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (reader != null) {
+            reader.close();
+        }
+        if (bundleFile != null) {
+            bundleFile.delete();
+        }
+    }
+
+    @Benchmark
+    public int buildBundle() throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (FormBundle.Writer writer = new FormBundle.Writer(buffer, compressionLevel)) {
+            for (WindowDefinition window : windows) {
+                writer.add(window);
+            }
+        }
+        return buffer.size();
+    }
+
+    @Benchmark
+    public WindowDefinition extractOne() throws Exception {
+        return reader.read(middleWindowId);
+    }
+
+    @Benchmark
+    public List<String> verifyAll() {
+        return reader.verify();
+    }
+}
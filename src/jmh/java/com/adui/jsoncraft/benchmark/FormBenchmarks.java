@@ -0,0 +1,134 @@
+package com.adui.jsoncraft.benchmark;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.adui.jsoncraft.json.ContentHash;
+import com.adui.jsoncraft.json.FormDiff;
+import com.adui.jsoncraft.json.JsonGenerator;
+import com.adui.jsoncraft.json.JsonParser;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.validation.ValidationEngine;
+
+/**
+ * Hot paths of opening, editing and saving a form, measured per form shape.
+ * Run with: mvn verify -Pjmh (see the jmh profile in pom.xml)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormBenchmarks {
+
+    @Param({"SMALL", "FIELDS_1K", "FIELDS_20K", "LARGE_REFERENCES", "DEEP_TASK_TREE"})
+    public FormFixtures.Shape shape;
+
+    private WindowDefinition window;
+    private WindowDefinition parsedWindow;
+    private List<FieldDefinition> fields;
+    private String json;
+    private File jsonFile;
+
+    private JsonGenerator jsonGenerator;
+    private JsonParser jsonParser;
+    private ValidationEngine validationEngine;
+    private FormDiff formDiff;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        jsonGenerator = new JsonGenerator();
+        jsonParser = new JsonParser();
+        validationEngine = new ValidationEngine();
+        formDiff = new FormDiff();
+
+        window = FormFixtures.create(shape);
+        json = jsonGenerator.generateJson(window);
+        parsedWindow = jsonParser.parseString(json);
+
+        jsonFile = File.createTempFile("jsonformmaker-bench-", ".adui-json");
+        Files.write(jsonFile.toPath(), json.getBytes(StandardCharsets.UTF_8));
+
+        // Fields as they look after opening a file - what the editors copy and read
+        fields = new ArrayList<>();
+        for (TabDefinition tab : parsedWindow.getTabs()) {
+            fields.addAll(tab.getFields());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jsonFile != null) {
+            jsonFile.delete();
+        }
+    }
+
+    @Benchmark
+    public WindowDefinition parseString() throws Exception {
+        return jsonParser.parseString(json);
+    }
+
+    @Benchmark
+    public WindowDefinition parseFile() throws Exception {
+        return jsonParser.parseFile(jsonFile);
+    }
+
+    @Benchmark
+    public String generateJson() throws Exception {
+        return jsonGenerator.generateJson(window);
+    }
+
+    @Benchmark
+    public String contentHash() throws Exception {
+        return ContentHash.of(window);
+    }
+
+    @Benchmark
+    public FormDiff.Result diffAgainstParsed() throws Exception {
+        // Same content on both sides: every tab and field is compared
+        return formDiff.compare(window, parsedWindow);
+    }
+
+    @Benchmark
+    public ValidationEngine.ValidationResult validateWindow() {
+        return validationEngine.validateWindow(window);
+    }
+
+    @Benchmark
+    public void copyFields(Blackhole blackhole) {
+        for (FieldDefinition field : fields) {
+            blackhole.consume(field.copy());
+        }
+    }
+
+    @Benchmark
+    public void getDataProperty(Blackhole blackhole) {
+        for (FieldDefinition field : fields) {
+            for (String key : field.getData().keySet()) {
+                blackhole.consume(field.getDataProperty(key));
+            }
+        }
+    }
+}
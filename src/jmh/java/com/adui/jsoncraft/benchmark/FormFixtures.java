@@ -0,0 +1,174 @@
+package com.adui.jsoncraft.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.ValidationRules;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.properties.editors.task.model.TaskNode;
+import com.adui.jsoncraft.properties.editors.task.model.TaskPriority;
+import com.adui.jsoncraft.properties.editors.task.model.TaskStatus;
+
+/**
+ * Synthetic WindowDefinition generators for the benchmarks.
+ * All generators are seeded so every run measures the same forms.
+ */
+public final class FormFixtures {
+
+    /** Form shapes selectable through the benchmarks' {@code shape} parameter */
+    public enum Shape {
+        SMALL,          // 1 tab, 10 mixed fields
+        FIELDS_1K,      // 10 tabs x 100 fields
+        FIELDS_20K,     // 100 tabs x 200 fields
+        LARGE_REFERENCES, // 20 select fields with 5,000 reference values each
+        DEEP_TASK_TREE  // 5 task lists, each a 6-level tree with 3 children per task
+    }
+
+    private static final ComponentType[] MIXED_TYPES = {
+        ComponentType.TEXT_FIELD, ComponentType.NUMBER_FIELD, ComponentType.DATE_FIELD,
+        ComponentType.YES_NO_FIELD, ComponentType.EMAIL_FIELD, ComponentType.TEXT_AREA_FIELD,
+        ComponentType.SELECT_FIELD, ComponentType.DECIMAL_FIELD, ComponentType.PHONE_FIELD,
+        ComponentType.RATING_FIELD
+    };
+
+    private FormFixtures() {
+    }
+
+    public static WindowDefinition create(Shape shape) {
+        switch (shape) {
+            case SMALL:
+                return mixedForm("SMALL", 1, 10);
+            case FIELDS_1K:
+                return mixedForm("FIELDS_1K", 10, 100);
+            case FIELDS_20K:
+                return mixedForm("FIELDS_20K", 100, 200);
+            case LARGE_REFERENCES:
+                return referenceForm(20, 5_000);
+            case DEEP_TASK_TREE:
+                return taskForm(5, 6, 3);
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    /**
+     * Form with tabCount tabs of fieldsPerTab fields cycling through common component types
+     */
+    public static WindowDefinition mixedForm(String id, int tabCount, int fieldsPerTab) {
+        Random random = new Random(42);
+        WindowDefinition window = newWindow(id);
+
+        for (int t = 0; t < tabCount; t++) {
+            TabDefinition tab = newTab(t);
+            for (int f = 0; f < fieldsPerTab; f++) {
+                ComponentType type = MIXED_TYPES[(t * fieldsPerTab + f) % MIXED_TYPES.length];
+                FieldDefinition field = new FieldDefinition(
+                    String.format("T%03d_F%04d", t, f), "Field " + t + "." + f, type);
+                field.setSequence((f + 1) * 10);
+                field.setRequired(random.nextInt(4) == 0);
+                field.setDescription("Synthetic " + type.getDisplayType() + " field");
+                field.setUiProperty("placeholder", "Enter " + field.getName());
+
+                if (type == ComponentType.TEXT_FIELD) {
+                    ValidationRules rules = new ValidationRules();
+                    rules.setMaxLength(40 + random.nextInt(200));
+                    field.setValidation(rules);
+                } else if (type == ComponentType.SELECT_FIELD) {
+                    field.setReference(newReference("REF_" + field.getFieldId(), 10));
+                }
+                tab.addField(field);
+            }
+            window.addTab(tab);
+        }
+        return window;
+    }
+
+    /**
+     * Form of select fields with large reference lists
+     */
+    public static WindowDefinition referenceForm(int fieldCount, int valuesPerReference) {
+        WindowDefinition window = newWindow("LARGE_REFERENCES");
+        TabDefinition tab = newTab(0);
+        for (int f = 0; f < fieldCount; f++) {
+            FieldDefinition field = new FieldDefinition(
+                String.format("SELECT_%03d", f), "Select " + f, ComponentType.SELECT_FIELD);
+            field.setSequence((f + 1) * 10);
+            field.setReference(newReference("REF_" + f, valuesPerReference));
+            tab.addField(field);
+        }
+        window.addTab(tab);
+        return window;
+    }
+
+    /**
+     * Form of task list fields, each holding a complete tree of the given depth and fan-out
+     */
+    public static WindowDefinition taskForm(int fieldCount, int depth, int childrenPerTask) {
+        WindowDefinition window = newWindow("DEEP_TASK_TREE");
+        TabDefinition tab = newTab(0);
+        for (int f = 0; f < fieldCount; f++) {
+            FieldDefinition field = new FieldDefinition(
+                String.format("TASKS_%02d", f), "Tasks " + f, ComponentType.TASK_LIST_FIELD);
+            field.setSequence((f + 1) * 10);
+
+            List<Map<String, Object>> tasks = new ArrayList<>();
+            addTasks(tasks, "T" + f, null, 1, depth, childrenPerTask);
+            field.setDataProperty("tasks", tasks);
+            field.setDataProperty("dependencies", new ArrayList<>());
+            field.setDataProperty("resources", new ArrayList<>());
+            tab.addField(field);
+        }
+        window.addTab(tab);
+        return window;
+    }
+
+    private static void addTasks(List<Map<String, Object>> tasks, String prefix, String parentId,
+                                 int level, int depth, int childrenPerTask) {
+        if (level > depth) {
+            return;
+        }
+        int count = parentId == null ? 1 : childrenPerTask;
+        for (int i = 0; i < count; i++) {
+            String id = prefix + "." + i;
+            TaskNode task = new TaskNode(id, "Task " + id, parentId,
+                TaskStatus.values()[i % TaskStatus.values().length],
+                TaskPriority.values()[level % TaskPriority.values().length],
+                "Phase " + level);
+            task.setEstimatedHours(level * 4);
+            tasks.add(task.toMap());
+            addTasks(tasks, id, id, level + 1, depth, childrenPerTask);
+        }
+    }
+
+    private static WindowDefinition newWindow(String id) {
+        WindowDefinition window = new WindowDefinition();
+        window.setWindowId(id);
+        window.setName("Benchmark " + id);
+        window.setDescription("Synthetic benchmark form");
+        return window;
+    }
+
+    private static TabDefinition newTab(int index) {
+        TabDefinition tab = new TabDefinition();
+        tab.setTabId(String.format("TAB_%03d", index));
+        tab.setName("Tab " + index);
+        tab.setSequence((index + 1) * 10);
+        return tab;
+    }
+
+    private static ReferenceData newReference(String id, int valueCount) {
+        ReferenceData reference = new ReferenceData(id, "Reference " + id);
+        List<ReferenceData.ReferenceValue> values = new ArrayList<>(valueCount);
+        for (int v = 0; v < valueCount; v++) {
+            values.add(new ReferenceData.ReferenceValue(String.format("K%05d", v), "Value " + v));
+        }
+        reference.setValues(values);
+        return reference;
+    }
+}
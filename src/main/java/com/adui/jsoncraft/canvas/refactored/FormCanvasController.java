@@ -1,7 +1,9 @@
 package com.adui.jsoncraft.canvas.refactored;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.swing.JOptionPane;
 
@@ -9,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.adui.jsoncraft.canvas.refactored.components.FieldVisualizer;
+import com.adui.jsoncraft.canvas.refactored.events.FieldBatchEvent;
 import com.adui.jsoncraft.canvas.refactored.events.FieldSelectionEvent;
 import com.adui.jsoncraft.canvas.refactored.events.FormCanvasEventBus;
 import com.adui.jsoncraft.canvas.refactored.events.FormChangeEvent;
@@ -20,6 +23,8 @@ import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
 import com.adui.jsoncraft.palette.ComponentPalette;
+import com.adui.jsoncraft.palette.ComponentSearchIndex;
+import com.adui.jsoncraft.templates.TemplateLibrary;
 
 /**
  * FormCanvas Controller - MVC Pattern Implementation
@@ -95,6 +100,13 @@ public class FormCanvasController implements ComponentPalette.ComponentPaletteLi
         // Field copy events (NEW ENHANCEMENT) 
         eventBus.register(FieldVisualizer.FieldCopyEvent.class, this::handleFieldCopy);
         
+        // Clicks (single, Ctrl and Shift) and bulk edits from the field context menu
+        eventBus.register(FieldVisualizer.FieldClickEvent.class, this::handleFieldClick);
+        eventBus.register(FieldVisualizer.FieldBulkEditEvent.class, this::handleBulkEdit);
+        
+        // Bulk operations for legacy listener support
+        eventBus.register(FieldBatchEvent.class, this::handleFieldBatchForLegacy);
+        
         // Selection events for legacy listener support
         eventBus.register(FieldSelectionEvent.class, this::handleSelectionForLegacy);
         
@@ -177,6 +189,17 @@ public class FormCanvasController implements ComponentPalette.ComponentPaletteLi
      */
     private void handleFieldDeletion(FieldVisualizer.FieldDeletionEvent event) {
         FieldDefinition field = event.getField();
+        List<FieldDefinition> targets = actionTargets(field);
+        if (targets.size() > 1) {
+            int removedCount = deleteFields(targets);
+            logger.info("Deleted {} fields", removedCount);
+            JOptionPane.showMessageDialog(view, 
+                removedCount + " fields have been deleted.", 
+                "Fields Deleted", 
+                JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        
         boolean removed = model.removeField(field);
         
         if (removed) {
@@ -202,6 +225,13 @@ public class FormCanvasController implements ComponentPalette.ComponentPaletteLi
         WindowDefinition currentWindow = model.getCurrentWindow();
         TabDefinition currentTab = model.getCurrentTab();
         
+        List<FieldDefinition> targets = actionTargets(field);
+        if (targets.size() > 1) {
+            List<FieldDefinition> copies = duplicateFields(targets);
+            logger.info("Copied {} fields", copies.size());
+            return;
+        }
+        
         if (currentWindow != null && currentTab != null) {
             FieldDefinition copy = fieldManager.copyField(currentWindow, currentTab, currentTab, field);
             if (copy != null) {
@@ -218,6 +248,149 @@ public class FormCanvasController implements ComponentPalette.ComponentPaletteLi
         }
     }
     
+    /**
+     * Turn field clicks into selection changes
+     */
+    private void handleFieldClick(FieldVisualizer.FieldClickEvent event) {
+        FieldDefinition field = event.getField();
+        switch (event.getMode()) {
+            case TOGGLE:
+                selectionManager.toggleField(field);
+                break;
+            case RANGE:
+                TabDefinition currentTab = model.getCurrentTab();
+                if (currentTab != null && currentTab.getFields() != null) {
+                    selectionManager.selectRange(currentTab.getFields(), field);
+                } else {
+                    selectionManager.selectField(field);
+                }
+                break;
+            default:
+                selectionManager.selectField(field);
+                break;
+        }
+    }
+    
+    /**
+     * Apply a context menu edit to the clicked field, or to the selection it belongs to
+     */
+    private void handleBulkEdit(FieldVisualizer.FieldBulkEditEvent event) {
+        List<FieldDefinition> targets = actionTargets(event.getField());
+        switch (event.getAction()) {
+            case MOVE_TO_TAB:
+                TabDefinition target = chooseTargetTab(targets.size());
+                if (target != null && moveFields(targets, target) > 0) {
+                    model.setCurrentTab(target);
+                }
+                break;
+            case SET_REQUIRED:
+                updateFields(targets, field -> field.setRequired(true));
+                break;
+            case SET_OPTIONAL:
+                updateFields(targets, field -> field.setRequired(false));
+                break;
+            case SET_READ_ONLY:
+                updateFields(targets, field -> field.setReadOnly(true));
+                break;
+            case SET_EDITABLE:
+                updateFields(targets, field -> field.setReadOnly(false));
+                break;
+            case SHOW:
+                updateFields(targets, field -> field.setDisplayed(true));
+                break;
+            case HIDE:
+                updateFields(targets, field -> field.setDisplayed(false));
+                break;
+        }
+    }
+    
+    /**
+     * The selection if the field is part of a multi-selection, otherwise just the field
+     */
+    private List<FieldDefinition> actionTargets(FieldDefinition field) {
+        if (selectionManager.hasMultipleSelection() && selectionManager.isSelected(field)) {
+            return selectionManager.getSelectedFields();
+        }
+        List<FieldDefinition> single = new ArrayList<>();
+        single.add(field);
+        return single;
+    }
+    
+    private TabDefinition chooseTargetTab(int fieldCount) {
+        WindowDefinition window = model.getCurrentWindow();
+        if (window == null || window.getTabs() == null || window.getTabs().isEmpty()) {
+            return null;
+        }
+        
+        List<TabDefinition> tabs = window.getTabs();
+        String[] names = new String[tabs.size()];
+        for (int i = 0; i < tabs.size(); i++) {
+            names[i] = tabs.get(i).getName() != null ? tabs.get(i).getName() : tabs.get(i).getTabId();
+        }
+        Object chosen = JOptionPane.showInputDialog(view, 
+            "Move " + (fieldCount > 1 ? fieldCount + " fields" : "field") + " to tab:", 
+            "Move to Tab", JOptionPane.PLAIN_MESSAGE, null, names, names[0]);
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(chosen)) {
+                return tabs.get(i);
+            }
+        }
+        return null;
+    }
+    
+    // ===========================================
+    // BULK OPERATIONS - one model update and one event each
+    // ===========================================
+    
+    /**
+     * Get all selected fields (several with Ctrl/Shift+click)
+     */
+    public List<FieldDefinition> getSelectedFields() {
+        return selectionManager.getSelectedFields();
+    }
+    
+    public void selectFields(Collection<FieldDefinition> fields) {
+        selectionManager.selectFields(fields);
+    }
+    
+    public int updateFields(Collection<FieldDefinition> fields, Consumer<FieldDefinition> change) {
+        return fieldManager.updateFields(model.getCurrentWindow(), fields, change);
+    }
+    
+    public int moveFields(Collection<FieldDefinition> fields, TabDefinition targetTab) {
+        return fieldManager.moveFields(model.getCurrentWindow(), fields, targetTab);
+    }
+    
+    public int deleteFields(Collection<FieldDefinition> fields) {
+        // Deselect first so nothing is left pointing at removed fields
+        selectionManager.deselectFields(fields);
+        return fieldManager.removeFields(model.getCurrentWindow(), fields);
+    }
+    
+    /**
+     * Copy the fields and select the copies
+     */
+    public List<FieldDefinition> duplicateFields(Collection<FieldDefinition> fields) {
+        List<FieldDefinition> copies = fieldManager.duplicateFields(model.getCurrentWindow(), fields);
+        if (!copies.isEmpty()) {
+            selectionManager.selectFields(copies);
+        }
+        return copies;
+    }
+    
+    /**
+     * Handle bulk operations for legacy listener support
+     */
+    private void handleFieldBatchForLegacy(FieldBatchEvent event) {
+        for (FormCanvasListener listener : legacyListeners) {
+            try {
+                listener.fieldsChanged(event.getWindow(), event.getFields());
+            } catch (Exception e) {
+                logger.error("Error in legacy bulk change listener: {}", e.getMessage(), e);
+            }
+        }
+    }
+    
     /**
      * Handle selection events for legacy listener support
      */
@@ -302,6 +475,24 @@ public class FormCanvasController implements ComponentPalette.ComponentPaletteLi
         }
     }
     
+    @Override
+    public void entrySelected(ComponentSearchIndex.Entry entry) {
+        TemplateLibrary.FieldTemplate template = TemplateLibrary.isFieldTemplateEntry(entry.getId())
+            ? TemplateLibrary.getInstance().getFieldTemplate(TemplateLibrary.toFieldTemplateId(entry.getId()))
+            : null;
+        if (template == null) {
+            ComponentPalette.ComponentPaletteListener.super.entrySelected(entry);
+            return;
+        }
+        
+        // Each insert gets its own instance of the cached template
+        FieldDefinition field = model.insertField(template.instantiate());
+        if (field != null) {
+            selectionManager.selectField(field);
+            logger.debug("Added field {} from template {}", field.getFieldId(), template.getId());
+        }
+    }
+    
     // Legacy FormCanvas API support for backward compatibility
     
     /**
@@ -355,5 +546,12 @@ public class FormCanvasController implements ComponentPalette.ComponentPaletteLi
         void windowChanged(WindowDefinition window);
         void tabChanged(TabDefinition tab);
         void fieldSelected(FieldDefinition field);
+        
+        /**
+         * Many fields changed in one bulk operation; defaults to a window change
+         */
+        default void fieldsChanged(WindowDefinition window, List<FieldDefinition> fields) {
+            windowChanged(window);
+        }
     }
 }
@@ -15,6 +15,7 @@ import com.adui.jsoncraft.model.ComponentType;
 import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.MetricsRegistry;
 
 /**
  * FormCanvas Model - MVC Pattern Implementation
@@ -25,6 +26,7 @@ import com.adui.jsoncraft.model.WindowDefinition;
  */
 public class FormCanvasModel {
     private static final Logger logger = LoggerFactory.getLogger(FormCanvasModel.class);
+    private static final MetricsRegistry.Timer DISPATCH_TIMER = MetricsRegistry.getInstance().timer("event.model.dispatch");
     
     // Model state
     private WindowDefinition currentWindow;
@@ -55,9 +57,10 @@ public class FormCanvasModel {
         WindowDefinition oldWindow = this.currentWindow;
         this.currentWindow = window;
         
-        // Clear current tab if window changed
+        // Clear current tab and field selection if window changed
         if (oldWindow != window) {
             setCurrentTab(null);
+            selectionManager.clearSelection();
         }
         
         // Select first tab if available
@@ -172,6 +175,18 @@ public class FormCanvasModel {
         return fieldManager.addField(currentWindow, currentTab, componentType);
     }
     
+    /**
+     * Add a new field instance (e.g. from a template) to the current tab
+     */
+    public FieldDefinition insertField(FieldDefinition field) {
+        if (currentWindow == null || currentTab == null) {
+            logger.warn("Cannot insert field: no current window or tab");
+            return null;
+        }
+        
+        return fieldManager.insertField(currentWindow, currentTab, field);
+    }
+    
     /**
      * Remove field from current tab
      */
@@ -240,6 +255,7 @@ public class FormCanvasModel {
     private void notifyListeners(ModelChangeEvent.Type type, Object oldValue, Object newValue) {
         ModelChangeEvent event = new ModelChangeEvent(type, oldValue, newValue);
         
+        long timing = DISPATCH_TIMER.start();
         for (ModelChangeListener listener : new ArrayList<>(listeners)) {
             try {
                 listener.onModelChanged(event);
@@ -247,6 +263,7 @@ public class FormCanvasModel {
                 logger.error("Error in model change listener: {}", e.getMessage(), e);
             }
         }
+        DISPATCH_TIMER.stop(timing);
     }
     
     // Getters
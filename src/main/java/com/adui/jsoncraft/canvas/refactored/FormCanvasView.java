@@ -7,7 +7,9 @@ import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.swing.BorderFactory;
@@ -26,12 +28,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.adui.jsoncraft.canvas.refactored.components.TabPanel;
+import com.adui.jsoncraft.canvas.refactored.events.FieldBatchEvent;
 import com.adui.jsoncraft.canvas.refactored.events.FieldSelectionEvent;
 import com.adui.jsoncraft.canvas.refactored.events.FormCanvasEventBus;
 import com.adui.jsoncraft.canvas.refactored.events.FormChangeEvent;
 import com.adui.jsoncraft.canvas.refactored.managers.DragDropManager;
+import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.CommitScheduler;
+import com.adui.jsoncraft.utils.ConfigManager;
 
 /**
  * FormCanvas View - MVC Pattern Implementation
@@ -68,9 +74,16 @@ public class FormCanvasView extends JPanel {
     // Track current window for drag-drop operations (PRESERVED)
     private WindowDefinition currentWindow;
     
+    // Current field selection, re-applied when panels are rebuilt or another tab is shown
+    private List<FieldDefinition> selectedFields = Collections.emptyList();
+    
     // View event listeners
     private final java.util.List<ViewEventListener> viewListeners;
     
+    // Debounced commits for window / tab property fields
+    private final CommitScheduler windowCommitScheduler;
+    private final CommitScheduler tabCommitScheduler;
+    
     public FormCanvasView(DragDropManager dragDropManager) {
         this.dragDropManager = dragDropManager;
         this.tabPanels = new HashMap<>();
@@ -78,6 +91,12 @@ public class FormCanvasView extends JPanel {
         this.viewListeners = new java.util.ArrayList<>();
         this.currentWindow = null;
         
+        int commitDelay = ConfigManager.getInstance().getIntProperty("ui.commitDelay", 300);
+        this.windowCommitScheduler = new CommitScheduler("WindowProperties", commitDelay, this::notifyWindowPropertyChanged);
+        this.windowCommitScheduler.setSuppressed(() -> loadingProperties);
+        this.tabCommitScheduler = new CommitScheduler("TabProperties", commitDelay, this::notifyTabPropertyChanged);
+        this.tabCommitScheduler.setSuppressed(() -> loadingProperties);
+        
         initializeComponents();
         setupLayout();
         setupEventHandlers();
@@ -224,45 +243,11 @@ public class FormCanvasView extends JPanel {
      * Setup event handlers (ENHANCED with tab property listeners)
      */
     private void setupEventHandlers() {
-        // Window property change listeners (PRESERVED)
-        windowIdField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-        });
-        
-        windowNameField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-        });
-        
-        windowDescField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { notifyWindowPropertyChanged(); }
-        });
-        
-        // NEW: Tab property change listeners
-        tabIdField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-        });
-        
-        tabNameField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-        });
-        
-        tabDescField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { notifyTabPropertyChanged(); }
-        });
-        
-        tabSequenceSpinner.addChangeListener(e -> notifyTabPropertyChanged());
+        // Window and tab property edits are coalesced: one model update per typing pause or focus loss
+        windowCommitScheduler.attachTo(windowIdField, windowNameField, windowDescField);
+        tabCommitScheduler.attachTo(tabIdField, tabNameField, tabDescField);
+        
+        tabSequenceSpinner.addChangeListener(e -> tabCommitScheduler.commitNow());
     }
     
     /**
@@ -274,49 +259,55 @@ public class FormCanvasView extends JPanel {
         
         // Listen for form change events
         eventBus.register(FormChangeEvent.class, this::handleFormChange);
+        
+        // Bulk field operations
+        eventBus.register(FieldBatchEvent.class, this::handleFieldBatch);
     }
     
     /**
      * Display window in the view (PRESERVED)
      */
     public void displayWindow(WindowDefinition window) {
+        // Commit pending edits to the window/tab being replaced
+        flushPendingChanges();
+        
         String windowName = (window != null) ? window.getName() : "null";
-        logger.warn("🔍 DISPLAY WINDOW START: '{}'", windowName);
+        logger.debug("🔍 DISPLAY WINDOW START: '{}'", windowName);
         
         // Suppress ALL property change events during file loading
         loadingProperties = true;
-        logger.warn("  🚫 Event suppression ENABLED");
+        logger.debug("  🚫 Event suppression ENABLED");
         
         try {
             // Clear existing tabs BEFORE setting new window
-            logger.warn("  🧹 Clearing tabs...");
+            logger.debug("  🧹 Clearing tabs...");
             clearTabs();
             
             // Set new window AFTER cleanup
-            logger.warn("  🪟 Setting current window: '{}'", windowName);
+            logger.debug("  🪟 Setting current window: '{}'", windowName);
             this.currentWindow = window;
             
             if (window == null) {
-                logger.warn("  ❌ Window is null - clearing display");
+                logger.debug("  ❌ Window is null - clearing display");
                 clearWindow();
                 return;
             }
             
             // Update window properties WITHOUT triggering events
-            logger.warn("  📝 Setting UI fields:");
-            logger.warn("    - Window ID: '{}'", window.getWindowId());
-            logger.warn("    - Window Name: '{}'", window.getName());
-            logger.warn("    - Window Desc: '{}'", window.getDescription());
+            logger.debug("  📝 Setting UI fields:");
+            logger.debug("    - Window ID: '{}'", window.getWindowId());
+            logger.debug("    - Window Name: '{}'", window.getName());
+            logger.debug("    - Window Desc: '{}'", window.getDescription());
             
             windowIdField.setText(window.getWindowId() != null ? window.getWindowId() : "");
             windowNameField.setText(window.getName() != null ? window.getName() : "");
             windowDescField.setText(window.getDescription() != null ? window.getDescription() : "");
             
-            logger.warn("  📝 UI fields set - Field value now: '{}'", windowNameField.getText());
+            logger.debug("  📝 UI fields set - Field value now: '{}'", windowNameField.getText());
             
             // Add tabs from window definition
             if (window.getTabs() != null) {
-                logger.warn("  📋 Adding {} tabs", window.getTabs().size());
+                logger.debug("  📋 Adding {} tabs", window.getTabs().size());
                 for (TabDefinition tab : window.getTabs()) {
                     addTabToView(tab);
                 }
@@ -324,25 +315,25 @@ public class FormCanvasView extends JPanel {
             
             // Select first tab if available
             if (tabPane.getTabCount() > 1) {
-                logger.warn("  🎯 Selecting first tab");
+                logger.debug("  🎯 Selecting first tab");
                 tabPane.setSelectedIndex(0);
             }
             
-            logger.warn("  ✅ Display complete: {} with {} tabs", 
+            logger.debug("  ✅ Display complete: {} with {} tabs", 
                 window.getWindowId(), 
                 window.getTabs() != null ? window.getTabs().size() : 0);
                 
         } finally {
             // Re-enable events AFTER everything is loaded
-            logger.warn("  🔓 Event suppression DISABLED");
+            logger.debug("  🔓 Event suppression DISABLED");
             loadingProperties = false;
             
             // Force tab selection event AFTER loading is complete
             if (tabPane.getTabCount() > 1) {
-                logger.warn("  🎯 Triggering tab selection");
+                logger.debug("  🎯 Triggering tab selection");
                 handleTabSelection();
             }
-            logger.warn("🔍 DISPLAY WINDOW END");
+            logger.debug("🔍 DISPLAY WINDOW END");
         }
     }
     
@@ -448,12 +439,12 @@ public class FormCanvasView extends JPanel {
         loadingProperties = true;
         
         try {
-            logger.warn("🗑️ STARTING DIRECT TAB DELETION: {}", tab.getTabId());
-            logger.warn("  📊 Tab count before: {}", tabPane.getTabCount() - 1); // -1 for + button
+            logger.debug("🗑️ STARTING DIRECT TAB DELETION: {}", tab.getTabId());
+            logger.debug("  📊 Tab count before: {}", tabPane.getTabCount() - 1); // -1 for + button
             
             // Find which tab we're deleting
             int tabIndexToDelete = findTabIndex(tab);
-            logger.warn("  🎯 Tab index to delete: {}", tabIndexToDelete);
+            logger.debug("  🎯 Tab index to delete: {}", tabIndexToDelete);
             
             if (tabIndexToDelete < 0) {
                 logger.warn("  ❌ Tab not found in UI, aborting");
@@ -465,31 +456,31 @@ public class FormCanvasView extends JPanel {
             boolean wasCurrentTab = (currentTabPanel == tabPanel);
             
             if (tabPanel != null) {
-                logger.warn("  🧹 Cleaning up TabPanel references");
+                logger.debug("  🧹 Cleaning up TabPanel references");
                 tabPanel.setDragDropManager(null);
                 tabPanel.setWindowDefinition(null);
                 tabPanel.clearSelection();
             }
             
             // 🗑️ Remove from internal maps FIRST
-            logger.warn("  📝 Removing from internal tracking");
+            logger.debug("  📝 Removing from internal tracking");
             tabPanels.remove(tab);
             
             // 🗑️ Remove from model
             if (currentWindow != null) {
-                logger.warn("  📝 Removing from WindowDefinition");
+                logger.debug("  📝 Removing from WindowDefinition");
                 currentWindow.removeTab(tab);
-                logger.warn("  ✅ Removed from model. Remaining tabs: {}", currentWindow.getTabCount());
+                logger.debug("  ✅ Removed from model. Remaining tabs: {}", currentWindow.getTabCount());
             }
             
             // 🖥️ Remove from UI - DIRECT manipulation
-            logger.warn("  🖥️ Removing tab from UI at index: {}", tabIndexToDelete);
+            logger.debug("  🖥️ Removing tab from UI at index: {}", tabIndexToDelete);
             tabPane.removeTabAt(tabIndexToDelete);
-            logger.warn("  ✅ UI removal complete. Remaining tabs: {}", tabPane.getTabCount() - 1);
+            logger.debug("  ✅ UI removal complete. Remaining tabs: {}", tabPane.getTabCount() - 1);
             
             // 🎯 Handle selection state
             if (wasCurrentTab) {
-                logger.warn("  🔄 Updating current selection (was current tab)");
+                logger.debug("  🔄 Updating current selection (was current tab)");
                 currentTabPanel = null;
                 clearTabProperties();
                 
@@ -497,7 +488,7 @@ public class FormCanvasView extends JPanel {
                 if (tabPane.getTabCount() > 1) { // > 1 because of + button
                     int newIndex = Math.min(tabIndexToDelete, tabPane.getTabCount() - 2);
                     if (newIndex >= 0) {
-                        logger.warn("  👆 Selecting new tab at index: {}", newIndex);
+                        logger.debug("  👆 Selecting new tab at index: {}", newIndex);
                         tabPane.setSelectedIndex(newIndex);
                     }
                 }
@@ -505,7 +496,7 @@ public class FormCanvasView extends JPanel {
             
             // 🔥 CRITICAL: NO ViewEvent, NO Controller notification!
             // Just fire a simple FormChangeEvent for any listeners that need to know
-            logger.warn("  📡 Firing FormChangeEvent.TAB_REMOVED (info only)");
+            logger.debug("  📡 Firing FormChangeEvent.TAB_REMOVED (info only)");
             FormChangeEvent deleteEvent = new FormChangeEvent(
                 FormChangeEvent.Type.TAB_REMOVED, 
                 currentWindow, 
@@ -516,9 +507,9 @@ public class FormCanvasView extends JPanel {
             );
             eventBus.fire(deleteEvent);
             
-            logger.warn("🎉 DIRECT TAB DELETION COMPLETE: {}", tab.getTabId());
-            logger.warn("  📊 Final UI tab count: {}", tabPane.getTabCount() - 1);
-            logger.warn("  📊 Final model tab count: {}", currentWindow != null ? currentWindow.getTabCount() : "no window");
+            logger.debug("🎉 DIRECT TAB DELETION COMPLETE: {}", tab.getTabId());
+            logger.debug("  📊 Final UI tab count: {}", tabPane.getTabCount() - 1);
+            logger.debug("  📊 Final model tab count: {}", currentWindow != null ? currentWindow.getTabCount() : "no window");
             
         } catch (Exception e) {
             logger.error("💥 FAILED TO DELETE TAB: {}", e.getMessage(), e);
@@ -563,6 +554,25 @@ public class FormCanvasView extends JPanel {
         }
     }
     
+    /**
+     * Commit window/tab edits still waiting for the idle timer
+     */
+    public void flushPendingChanges() {
+        windowCommitScheduler.flush();
+        tabCommitScheduler.flush();
+    }
+    
+    private int indexOfTabPanel(TabPanel tabPanel) {
+        for (int i = 0; i < tabPane.getTabCount() - 1; i++) { // -1 to exclude + button
+            Component component = tabPane.getComponentAt(i);
+            if (component instanceof JScrollPane
+                    && ((JScrollPane) component).getViewport().getView() == tabPanel) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     /**
      * Find tab index (PRESERVED)
      */
@@ -654,6 +664,9 @@ public class FormCanvasView extends JPanel {
      * Handle tab selection (ENHANCED to load tab properties)
      */
     private void handleTabSelection() {
+        // Pending tab edits belong to the previously selected tab
+        tabCommitScheduler.flush();
+        
         int selectedIndex = tabPane.getSelectedIndex();
         if (selectedIndex >= 0 && selectedIndex < tabPane.getTabCount() - 1) {
             Component component = tabPane.getComponentAt(selectedIndex);
@@ -671,6 +684,7 @@ public class FormCanvasView extends JPanel {
                         tabPanel.setWindowDefinition(currentWindow);
                     }
                     
+                    tabPanel.selectFields(selectedFields);
                     loadTabProperties(tabPanel.getTabDefinition());
                     notifyTabSelected(tabPanel.getTabDefinition());
                 }
@@ -709,17 +723,35 @@ public class FormCanvasView extends JPanel {
      * Handle field selection events (PRESERVED)
      */
     private void handleFieldSelection(FieldSelectionEvent event) {
+        selectedFields = event.getSelectedFields();
+        
         // Update visual selection in current tab
         if (currentTabPanel != null) {
             if (event.getType() == FieldSelectionEvent.Type.SELECTED || 
                 event.getType() == FieldSelectionEvent.Type.CHANGED) {
                 currentTabPanel.selectField(event.getSelectedField());
+            } else if (event.getType() == FieldSelectionEvent.Type.MULTIPLE) {
+                currentTabPanel.selectFields(selectedFields);
             } else if (event.getType() == FieldSelectionEvent.Type.DESELECTED) {
                 currentTabPanel.clearSelection();
             }
         }
     }
     
+    /**
+     * Rebuild each tab touched by a bulk operation once, however many fields it changed
+     */
+    private void handleFieldBatch(FieldBatchEvent event) {
+        for (TabDefinition tab : event.getTabs()) {
+            TabPanel tabPanel = tabPanels.get(tab);
+            if (tabPanel != null) {
+                tabPanel.refreshFields();
+                tabPanel.selectFields(selectedFields);
+            }
+        }
+        logger.debug("Reconciled {} tab(s) after {}", event.getTabs().size(), event);
+    }
+    
     /**
      * Handle form change events (PRESERVED)
      */
@@ -775,14 +807,16 @@ public class FormCanvasView extends JPanel {
         String currentFieldValue = windowNameField.getText();
         String currentWindowName = (currentWindow != null) ? currentWindow.getName() : "null";
         
-        logger.warn("🔍 WINDOW PROPERTY CHANGE DEBUG:");
-        logger.warn("  📝 Field Value: '{}'", currentFieldValue);
-        logger.warn("  🪟 Current Window Name: '{}'", currentWindowName);
-        logger.warn("  🚫 Loading Properties: {}", loadingProperties);
-        logger.warn("  📍 Stack Trace: {}", Thread.currentThread().getStackTrace()[2]);
+        logger.debug("🔍 WINDOW PROPERTY CHANGE DEBUG:");
+        logger.debug("  📝 Field Value: '{}'", currentFieldValue);
+        logger.debug("  🪟 Current Window Name: '{}'", currentWindowName);
+        logger.debug("  🚫 Loading Properties: {}", loadingProperties);
+        if (logger.isTraceEnabled()) {
+            logger.trace("  📍 Stack Trace: {}", Thread.currentThread().getStackTrace()[2]);
+        }
         
         if (loadingProperties) {
-            logger.warn("  ⏸️  SUPPRESSED - loadingProperties=true");
+            logger.debug("  ⏸️  SUPPRESSED - loadingProperties=true");
             return;
         }
         
@@ -797,7 +831,7 @@ public class FormCanvasView extends JPanel {
             // Notify view listeners with the ACTUAL window
             notifyViewListeners(ViewEvent.Type.WINDOW_PROPERTY_CHANGED, currentWindow);
             
-            logger.warn("  ✅ APPLIED CHANGE: '{}' -> '{}'", oldName, currentWindow.getName());
+            logger.debug("  ✅ APPLIED CHANGE: '{}' -> '{}'", oldName, currentWindow.getName());
         } else {
             logger.warn("  ❌ NO CURRENT WINDOW - change ignored");
         }
@@ -819,8 +853,8 @@ public class FormCanvasView extends JPanel {
             updatedTab.setDescription(tabDescField.getText());
             updatedTab.setSequence((Integer) tabSequenceSpinner.getValue());
             
-            // Update the tab title in the UI immediately
-            int selectedIndex = tabPane.getSelectedIndex();
+            // Update the title of the tab being edited (may no longer be the selected one when flushed)
+            int selectedIndex = indexOfTabPanel(currentTabPanel);
             if (selectedIndex >= 0 && selectedIndex < tabPane.getTabCount() - 1) {
                 String newTabName = updatedTab.getName();
                 if (newTabName != null && !newTabName.trim().isEmpty()) {
@@ -847,22 +881,22 @@ public class FormCanvasView extends JPanel {
     }
     
     private void notifyViewListeners(ViewEvent.Type type, Object data) {
-        logger.warn("🚨 FIRING VIEW EVENT: {} with data: {}", type, 
+        logger.debug("🚨 FIRING VIEW EVENT: {} with data: {}", type, 
                     data != null ? data.getClass().getSimpleName() : "null");
-        logger.warn("📊 Registered listeners: {}", viewListeners.size());
+        logger.debug("📊 Registered listeners: {}", viewListeners.size());
         
         ViewEvent event = new ViewEvent(type, data);
         for (int i = 0; i < viewListeners.size(); i++) {
             ViewEventListener listener = viewListeners.get(i);
             try {
-                logger.warn("  🎯 Notifying listener #{}: {}", i, listener.getClass().getSimpleName());
+                logger.debug("  🎯 Notifying listener #{}: {}", i, listener.getClass().getSimpleName());
                 listener.onViewEvent(event);
-                logger.warn("  ✅ Listener #{} completed", i);
+                logger.debug("  ✅ Listener #{} completed", i);
             } catch (Exception e) {
                 logger.error("  ❌ Error in listener #{}: {}", i, e.getMessage(), e);
             }
         }
-        logger.warn("🏁 VIEW EVENT COMPLETE: {}", type);
+        logger.debug("🏁 VIEW EVENT COMPLETE: {}", type);
     }
     
     // View listener management (PRESERVED)
@@ -3,6 +3,7 @@ package com.adui.jsoncraft.canvas.refactored;
 import java.awt.BorderLayout;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.swing.JPanel;
 
@@ -14,6 +15,7 @@ import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
 import com.adui.jsoncraft.palette.ComponentPalette;
+import com.adui.jsoncraft.palette.ComponentSearchIndex;
 
 /**
  * Refactored FormCanvas - Drop-in Replacement for Original FormCanvas
@@ -71,6 +73,11 @@ public class RefactoredFormCanvas extends JPanel implements ComponentPalette.Com
             public void fieldSelected(FieldDefinition field) {
                 notifyFieldSelected(field);
             }
+            
+            @Override
+            public void fieldsChanged(WindowDefinition window, List<FieldDefinition> fields) {
+                notifyFieldsChanged(window, fields);
+            }
         });
         
         // ✅ NEW: Bridge FormCanvasView events to legacy listeners
@@ -145,6 +152,22 @@ public class RefactoredFormCanvas extends JPanel implements ComponentPalette.Com
         return controller.getSelectedField();
     }
     
+    /**
+     * Get all selected fields (Ctrl/Shift+click selects several)
+     */
+    public List<FieldDefinition> getSelectedFields() {
+        return controller.getSelectedFields();
+    }
+    
+    /**
+     * Apply a property change to every selected field as one update
+     * 
+     * @return the number of fields changed
+     */
+    public int updateSelectedFields(Consumer<FieldDefinition> change) {
+        return controller.updateFields(controller.getSelectedFields(), change);
+    }
+    
     /**
      * Add form canvas listener (legacy API)
      */
@@ -167,6 +190,11 @@ public class RefactoredFormCanvas extends JPanel implements ComponentPalette.Com
         controller.componentSelected(componentType);
     }
     
+    @Override
+    public void entrySelected(ComponentSearchIndex.Entry entry) {
+        controller.entrySelected(entry);
+    }
+    
     // ===========================================
     // LEGACY EVENT NOTIFICATION
     // ===========================================
@@ -191,6 +219,16 @@ public class RefactoredFormCanvas extends JPanel implements ComponentPalette.Com
         }
     }
     
+    private void notifyFieldsChanged(WindowDefinition window, List<FieldDefinition> fields) {
+        for (FormCanvasListener listener : new ArrayList<>(listeners)) {
+            try {
+                listener.fieldsChanged(window, fields);
+            } catch (Exception e) {
+                logger.error("Error in legacy bulk change listener: {}", e.getMessage(), e);
+            }
+        }
+    }
+    
     private void notifyFieldSelected(FieldDefinition field) {
         for (FormCanvasListener listener : new ArrayList<>(listeners)) {
             try {
@@ -247,5 +285,12 @@ public class RefactoredFormCanvas extends JPanel implements ComponentPalette.Com
         void windowChanged(WindowDefinition window);
         void tabChanged(TabDefinition tab);
         void fieldSelected(FieldDefinition field);
+        
+        /**
+         * Many fields changed in one bulk operation; defaults to a window change
+         */
+        default void fieldsChanged(WindowDefinition window, List<FieldDefinition> fields) {
+            windowChanged(window);
+        }
     }
 }
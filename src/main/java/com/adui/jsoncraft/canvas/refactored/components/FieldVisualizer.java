@@ -25,10 +25,10 @@ import javax.swing.border.Border;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.adui.jsoncraft.canvas.refactored.events.FieldSelectionEvent;
 import com.adui.jsoncraft.canvas.refactored.events.FormCanvasEventBus;
 import com.adui.jsoncraft.canvas.refactored.managers.DragDropManager;
 import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.utils.LogSampler;
 
 /**
  * Standalone Field Visualizer Component
@@ -39,6 +39,7 @@ import com.adui.jsoncraft.model.FieldDefinition;
  */
 public class FieldVisualizer extends JPanel {
     private static final Logger logger = LoggerFactory.getLogger(FieldVisualizer.class);
+    private static final LogSampler FIELD_LOG = new LogSampler(20, 1000);
     
     private final FieldDefinition field;
     private final FormCanvasEventBus eventBus;
@@ -52,6 +53,8 @@ public class FieldVisualizer extends JPanel {
     
     // State
     private boolean selected = false;
+    // Size of the selection this field belongs to; context menu actions apply to all of it
+    private int selectionSize = 0;
     private boolean isDragging = false;
     private Point startPoint;
     
@@ -69,7 +72,7 @@ public class FieldVisualizer extends JPanel {
         setupEventHandlers();
         updateDisplay();
         
-        logger.debug("FieldVisualizer created for field: {}", field.getFieldId());
+        FIELD_LOG.debug(logger, "FieldVisualizer created for field: {}", field.getFieldId());
     }
     
     /**
@@ -149,7 +152,13 @@ public class FieldVisualizer extends JPanel {
             public void mouseClicked(MouseEvent e) {
                 // Only handle left-click selection if we didn't drag
                 if (!isDragging && !SwingUtilities.isRightMouseButton(e)) {
-                    selectField();
+                    if (e.isShiftDown()) {
+                        eventBus.fire(new FieldClickEvent(field, FieldClickEvent.Mode.RANGE));
+                    } else if (e.isControlDown() || e.isMetaDown()) {
+                        eventBus.fire(new FieldClickEvent(field, FieldClickEvent.Mode.TOGGLE));
+                    } else {
+                        selectField();
+                    }
                 }
             }
             
@@ -209,26 +218,49 @@ public class FieldVisualizer extends JPanel {
      * Select this field
      */
     private void selectField() {
-        eventBus.fire(FieldSelectionEvent.selected(field));
+        eventBus.fire(new FieldClickEvent(field, FieldClickEvent.Mode.SINGLE));
         logger.debug("Field selected: {}", field.getFieldId());
     }
     
+    /**
+     * Number of fields a context menu action applies to
+     */
+    private int actionCount() {
+        return selected && selectionSize > 1 ? selectionSize : 1;
+    }
+    
     /**
      * Show context menu (NEW ENHANCEMENT for right-click delete)
      */
     private void showContextMenu(Point point) {
         JPopupMenu contextMenu = new JPopupMenu();
+        int count = actionCount();
+        String fields = count > 1 ? count + " Fields" : "Field";
         
         // Delete field option
-        JMenuItem deleteItem = new JMenuItem("Delete Field");
+        JMenuItem deleteItem = new JMenuItem("Delete " + fields);
         deleteItem.addActionListener(e -> deleteField());
         contextMenu.add(deleteItem);
         
         // Copy field option
-        JMenuItem copyItem = new JMenuItem("Copy Field");
+        JMenuItem copyItem = new JMenuItem("Copy " + fields);
         copyItem.addActionListener(e -> copyField());
         contextMenu.add(copyItem);
         
+        // Bulk edits; applied to the whole selection in one update
+        JMenuItem moveItem = new JMenuItem("Move " + fields + " to Tab...");
+        moveItem.addActionListener(e -> bulkEdit(FieldBulkEditEvent.Action.MOVE_TO_TAB));
+        contextMenu.add(moveItem);
+        
+        contextMenu.addSeparator();
+        addBulkEditItem(contextMenu, field.isRequired() ? "Mark Optional" : "Mark Required",
+            field.isRequired() ? FieldBulkEditEvent.Action.SET_OPTIONAL : FieldBulkEditEvent.Action.SET_REQUIRED);
+        addBulkEditItem(contextMenu, field.isReadOnly() ? "Mark Editable" : "Mark Read Only",
+            field.isReadOnly() ? FieldBulkEditEvent.Action.SET_EDITABLE : FieldBulkEditEvent.Action.SET_READ_ONLY);
+        addBulkEditItem(contextMenu, field.isDisplayed() ? "Hide" : "Show",
+            field.isDisplayed() ? FieldBulkEditEvent.Action.HIDE : FieldBulkEditEvent.Action.SHOW);
+        contextMenu.addSeparator();
+        
         // Field properties option
         JMenuItem propertiesItem = new JMenuItem("Properties...");
         propertiesItem.addActionListener(e -> selectField());
@@ -238,13 +270,27 @@ public class FieldVisualizer extends JPanel {
         logger.debug("Context menu shown for field: {}", field.getFieldId());
     }
     
+    private void addBulkEditItem(JPopupMenu menu, String label, FieldBulkEditEvent.Action action) {
+        JMenuItem item = new JMenuItem(actionCount() > 1 ? label + " (" + actionCount() + ")" : label);
+        item.addActionListener(e -> bulkEdit(action));
+        menu.add(item);
+    }
+    
+    private void bulkEdit(FieldBulkEditEvent.Action action) {
+        eventBus.fire(new FieldBulkEditEvent(field, action));
+        logger.debug("Bulk edit {} requested from field: {}", action, field.getFieldId());
+    }
+    
     /**
-     * Delete this field (NEW ENHANCEMENT)
+     * Delete this field, or the whole selection it is part of (NEW ENHANCEMENT)
      */
     private void deleteField() {
+        int count = actionCount();
         int result = JOptionPane.showConfirmDialog(
             this,
-            "Are you sure you want to delete field '" + field.getName() + "'?",
+            count > 1
+                ? "Are you sure you want to delete the " + count + " selected fields?"
+                : "Are you sure you want to delete field '" + field.getName() + "'?",
             "Delete Field",
             JOptionPane.YES_NO_OPTION,
             JOptionPane.WARNING_MESSAGE
@@ -322,8 +368,20 @@ public class FieldVisualizer extends JPanel {
     
     public boolean isSelected() { return selected; }
     
+    /**
+     * Select this field alone, or deselect it
+     */
     public void setSelected(boolean selected) {
+        setSelected(selected, selected ? 1 : 0);
+    }
+    
+    /**
+     * Mark this field as part of a selection of the given size; the context menu labels and the
+     * delete confirmation use the size, so it has to follow every selection change
+     */
+    public void setSelected(boolean selected, int selectionSize) {
         this.selected = selected;
+        this.selectionSize = selectionSize;
         updateDisplay();
     }
     
@@ -334,7 +392,7 @@ public class FieldVisualizer extends JPanel {
         if (dragDropManager != null) {
             this.transferHandler = new FieldTransferHandler(dragDropManager);
             setTransferHandler(this.transferHandler);
-            logger.debug("TransferHandler set for field: {}", field.getFieldId());
+            FIELD_LOG.debug(logger, "TransferHandler set for field: {}", field.getFieldId());
         }
     }
     
@@ -351,6 +409,55 @@ public class FieldVisualizer extends JPanel {
         public FieldDefinition getField() { return field; }
     }
     
+    /**
+     * Field clicked; the controller turns this into a selection change
+     */
+    public static class FieldClickEvent {
+        public enum Mode {
+            SINGLE,  // plain click
+            TOGGLE,  // Ctrl/Cmd+click
+            RANGE    // Shift+click
+        }
+        
+        private final FieldDefinition field;
+        private final Mode mode;
+        
+        public FieldClickEvent(FieldDefinition field, Mode mode) {
+            this.field = field;
+            this.mode = mode;
+        }
+        
+        public FieldDefinition getField() { return field; }
+        public Mode getMode() { return mode; }
+    }
+    
+    /**
+     * Property change or move requested from the context menu; applies to the
+     * selection when the field is part of it
+     */
+    public static class FieldBulkEditEvent {
+        public enum Action {
+            MOVE_TO_TAB,
+            SET_REQUIRED,
+            SET_OPTIONAL,
+            SET_READ_ONLY,
+            SET_EDITABLE,
+            SHOW,
+            HIDE
+        }
+        
+        private final FieldDefinition field;
+        private final Action action;
+        
+        public FieldBulkEditEvent(FieldDefinition field, Action action) {
+            this.field = field;
+            this.action = action;
+        }
+        
+        public FieldDefinition getField() { return field; }
+        public Action getAction() { return action; }
+    }
+    
     /**
      * Field copy event (NEW ENHANCEMENT)
      */
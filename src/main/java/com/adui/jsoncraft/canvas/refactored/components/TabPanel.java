@@ -1,9 +1,12 @@
 package com.adui.jsoncraft.canvas.refactored.components;
 
 import java.awt.Color;
-import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Insets;
+import java.awt.Point;
 import java.awt.datatransfer.UnsupportedFlavorException;
+import java.awt.dnd.Autoscroll;
 import java.awt.dnd.DnDConstants;
 import java.awt.dnd.DropTarget;
 import java.awt.dnd.DropTargetDragEvent;
@@ -12,7 +15,11 @@ import java.awt.dnd.DropTargetEvent;
 import java.awt.dnd.DropTargetListener;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -26,6 +33,8 @@ import com.adui.jsoncraft.canvas.refactored.managers.DragDropManager;
 import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.FormEvents;
+import com.adui.jsoncraft.utils.LogSampler;
 
 /**
  * Tab Panel Component for Form Canvas
@@ -34,8 +43,9 @@ import com.adui.jsoncraft.model.WindowDefinition;
  * @version 1.0
  * @namespace com.adui.jsoncraft.canvas.refactored.components.TabPanel
  */
-public class TabPanel extends JPanel {
+public class TabPanel extends JPanel implements Autoscroll {
     private static final Logger logger = LoggerFactory.getLogger(TabPanel.class);
+    private static final LogSampler FIELD_LOG = new LogSampler(20, 1000);
     private WindowDefinition windowDefinition;
     private final TabDefinition tabDefinition;
     private final List<FieldVisualizer> fieldVisualizers;
@@ -94,6 +104,9 @@ public class TabPanel extends JPanel {
      * Refresh field visualizers based on tab definition
      */
     public void refreshFields() {
+        FormEvents.TabRefreshEvent event = new FormEvents.TabRefreshEvent();
+        event.begin();
+        
         // Clear existing visualizers
         clearFields();
         
@@ -110,6 +123,13 @@ public class TabPanel extends JPanel {
         revalidate();
         repaint();
         
+        event.end();
+        if (event.shouldCommit()) {
+            event.tabId = tabDefinition.getTabId();
+            event.fieldCount = fieldVisualizers.size();
+            event.commit();
+        }
+        
         logger.debug("Refreshed {} fields for tab: {}", 
             fieldVisualizers.size(), tabDefinition.getTabId());
     }
@@ -133,7 +153,7 @@ public class TabPanel extends JPanel {
         }
         add(visualizer);
         
-        logger.debug("Added field visualizer: {}", field.getFieldId());
+        FIELD_LOG.debug(logger, "Added field visualizer: {}", field.getFieldId());
         return visualizer;
     }
     
@@ -185,13 +205,21 @@ public class TabPanel extends JPanel {
      * Select field visualizer
      */
     public void selectField(FieldDefinition field) {
-        // Clear all selections first
-        fieldVisualizers.forEach(visualizer -> visualizer.setSelected(false));
-        
-        // Select the target field
+        // Single selection: also resets the selection size a previous multi-selection left behind
         FieldVisualizer targetVisualizer = findFieldVisualizer(field);
-        if (targetVisualizer != null) {
-            targetVisualizer.setSelected(true);
+        for (FieldVisualizer visualizer : fieldVisualizers) {
+            visualizer.setSelected(visualizer == targetVisualizer, 1);
+        }
+    }
+    
+    /**
+     * Highlight every selected field shown in this tab; the selection may include fields of other tabs
+     */
+    public void selectFields(Collection<FieldDefinition> fields) {
+        Set<FieldDefinition> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        selected.addAll(fields);
+        for (FieldVisualizer visualizer : fieldVisualizers) {
+            visualizer.setSelected(selected.contains(visualizer.getField()), selected.size());
         }
     }
     
@@ -199,7 +227,7 @@ public class TabPanel extends JPanel {
      * Clear all selections
      */
     public void clearSelection() {
-        fieldVisualizers.forEach(visualizer -> visualizer.setSelected(false));
+        fieldVisualizers.forEach(visualizer -> visualizer.setSelected(false, 0));
     }
     
     /**
@@ -223,6 +251,30 @@ public class TabPanel extends JPanel {
         return fieldVisualizers.isEmpty();
     }
     
+    /**
+     * Paint the drag drop indicator over the fields, so showing it needs no layout
+     */
+    @Override
+    protected void paintChildren(Graphics g) {
+        super.paintChildren(g);
+        if (dragDropManager != null) {
+            dragDropManager.paintDropIndicator(g, this);
+        }
+    }
+    
+    // Autoscroll: the drop target scrolls a long tab while a field is held near its visible edge
+    @Override
+    public Insets getAutoscrollInsets() {
+        return dragDropManager != null ? dragDropManager.getAutoscrollInsets(this) : new Insets(0, 0, 0, 0);
+    }
+    
+    @Override
+    public void autoscroll(Point cursorLocation) {
+        if (dragDropManager != null) {
+            dragDropManager.autoscroll(this, cursorLocation);
+        }
+    }
+    
     private void setupDropTarget() {
         if (dragDropManager != null) {
             // Create drop target that accepts field transfers
@@ -247,13 +299,9 @@ public class TabPanel extends JPanel {
             if (dtde.isDataFlavorSupported(FieldTransferable.FIELD_FLAVOR)) {
                 dtde.acceptDrag(DnDConstants.ACTION_MOVE);
                 
-                // Delegate visual feedback to DragDropManager
+                // Delegate visual feedback to DragDropManager (no per-move copy of the field list)
                 if (dragDropManager != null) {
-                    java.util.List<Component> visualizerComponents = new ArrayList<>();
-                    for (FieldVisualizer viz : fieldVisualizers) {
-                        visualizerComponents.add(viz);
-                    }
-                    dragDropManager.handleDragOver(dtde.getLocation(), visualizerComponents);
+                    dragDropManager.handleDragOver(dtde.getLocation(), fieldVisualizers);
                 }
             } else {
                 dtde.rejectDrag();
@@ -268,7 +316,9 @@ public class TabPanel extends JPanel {
         @Override
         public void dragExit(DropTargetEvent dte) {
             // Clean up visual feedback via DragDropManager
-            // dragDropManager.handleDragExit(); // TODO: Add method if needed
+            if (dragDropManager != null) {
+                dragDropManager.handleDragExit();
+            }
         }
         
         @Override
@@ -281,17 +331,11 @@ public class TabPanel extends JPanel {
                     FieldDefinition draggedField = (FieldDefinition) dtde.getTransferable()
                         .getTransferData(FieldTransferable.FIELD_FLAVOR);
                     
-                    // Create list of FieldVisualizer components for DragDropManager
-                    java.util.List<Component> visualizerComponents = new ArrayList<>();
-                    for (FieldVisualizer viz : fieldVisualizers) {
-                        visualizerComponents.add(viz);
-                    }
-                    
                     // Delegate to DragDropManager with correct parameters
                     if (dragDropManager != null) {
-                    	dragDropManager.handleDragOver(dtde.getLocation(), visualizerComponents);
+                    	dragDropManager.handleDragOver(dtde.getLocation(), fieldVisualizers);
                         // Note: Passing null for window - DragDropManager gets it from context
-                        boolean success = dragDropManager.completeDrop(windowDefinition, tabDefinition, visualizerComponents);
+                        boolean success = dragDropManager.completeDrop(windowDefinition, tabDefinition, fieldVisualizers);
                         dtde.dropComplete(success);
                         
                         if (success) {
@@ -0,0 +1,66 @@
+package com.adui.jsoncraft.canvas.refactored.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+
+/**
+ * Event fired once for a bulk operation on many fields, instead of one
+ * {@link FormChangeEvent} per field
+ *
+ * @version 1.0
+ * @namespace com.adui.jsoncraft.canvas.refactored.events.FieldBatchEvent
+ */
+public class FieldBatchEvent {
+
+    public enum Operation {
+        PROPERTIES_CHANGED,
+        MOVED,
+        REMOVED,
+        DUPLICATED
+    }
+
+    private final Operation operation;
+    private final WindowDefinition window;
+    private final List<FieldDefinition> fields;
+    private final Set<TabDefinition> tabs;
+    private final long timestamp;
+
+    /**
+     * Create batch event
+     *
+     * @param fields the fields operated on (for DUPLICATED, the new copies)
+     * @param tabs every tab whose field list or fields changed
+     */
+    public FieldBatchEvent(Operation operation, WindowDefinition window,
+                           Collection<FieldDefinition> fields, Collection<TabDefinition> tabs) {
+        this.operation = operation;
+        this.window = window;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.tabs = Collections.unmodifiableSet(new LinkedHashSet<>(tabs));
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Getters
+    public Operation getOperation() { return operation; }
+    public WindowDefinition getWindow() { return window; }
+    public List<FieldDefinition> getFields() { return fields; }
+    public Set<TabDefinition> getTabs() { return tabs; }
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return String.format("FieldBatchEvent[operation=%s, window=%s, fields=%d, tabs=%d]",
+            operation,
+            window != null ? window.getWindowId() : "null",
+            fields.size(),
+            tabs.size());
+    }
+}
@@ -1,5 +1,9 @@
 package com.adui.jsoncraft.canvas.refactored.events;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import com.adui.jsoncraft.model.FieldDefinition;
 
 /**
@@ -13,21 +17,30 @@ public class FieldSelectionEvent {
     public enum Type {
         SELECTED,   // Field was selected
         DESELECTED, // Field was deselected
-        CHANGED     // Selection changed from one field to another
+        CHANGED,    // Selection changed from one field to another
+        MULTIPLE    // Several fields are selected (selectedField is the most recent one)
     }
     
     private final Type type;
     private final FieldDefinition selectedField;
     private final FieldDefinition previousField;
+    private final List<FieldDefinition> selectedFields;
     private final long timestamp;
     
     /**
      * Create field selection event
      */
     public FieldSelectionEvent(Type type, FieldDefinition selectedField, FieldDefinition previousField) {
+        this(type, selectedField, previousField,
+            selectedField != null ? Collections.singletonList(selectedField) : Collections.emptyList());
+    }
+    
+    private FieldSelectionEvent(Type type, FieldDefinition selectedField, FieldDefinition previousField,
+                                List<FieldDefinition> selectedFields) {
         this.type = type;
         this.selectedField = selectedField;
         this.previousField = previousField;
+        this.selectedFields = selectedFields;
         this.timestamp = System.currentTimeMillis();
     }
     
@@ -52,10 +65,20 @@ public class FieldSelectionEvent {
         return new FieldSelectionEvent(Type.CHANGED, newField, previousField);
     }
     
+    /**
+     * Create multi-selection event
+     */
+    public static FieldSelectionEvent multiple(List<FieldDefinition> fields, FieldDefinition primaryField,
+                                               FieldDefinition previousField) {
+        return new FieldSelectionEvent(Type.MULTIPLE, primaryField, previousField,
+            Collections.unmodifiableList(new ArrayList<>(fields)));
+    }
+    
     // Getters
     public Type getType() { return type; }
     public FieldDefinition getSelectedField() { return selectedField; }
     public FieldDefinition getPreviousField() { return previousField; }
+    public List<FieldDefinition> getSelectedFields() { return selectedFields; }
     public long getTimestamp() { return timestamp; }
     
     public boolean hasSelectedField() { return selectedField != null; }
@@ -63,9 +86,10 @@ public class FieldSelectionEvent {
     
     @Override
     public String toString() {
-        return String.format("FieldSelectionEvent[type=%s, selected=%s, previous=%s]",
+        return String.format("FieldSelectionEvent[type=%s, selected=%s, count=%d, previous=%s]",
             type,
             selectedField != null ? selectedField.getFieldId() : "null",
+            selectedFields.size(),
             previousField != null ? previousField.getFieldId() : "null");
     }
 }
@@ -8,6 +8,10 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.adui.jsoncraft.utils.FormEvents;
+import com.adui.jsoncraft.utils.LogSampler;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+
 /**
  * Event bus for FormCanvas using Observer pattern
  * Provides type-safe, decoupled communication between components
@@ -17,6 +21,8 @@ import org.slf4j.LoggerFactory;
  */
 public class FormCanvasEventBus {
     private static final Logger logger = LoggerFactory.getLogger(FormCanvasEventBus.class);
+    private static final LogSampler DISPATCH_LOG = new LogSampler(20, 1000);
+    private static final MetricsRegistry.Timer DISPATCH_TIMER = MetricsRegistry.getInstance().timer("event.bus.dispatch");
     
     // Singleton instance
     private static FormCanvasEventBus instance;
@@ -85,11 +91,14 @@ public class FormCanvasEventBus {
         List<Object> eventListeners = listeners.get(eventType);
         
         if (eventListeners != null && !eventListeners.isEmpty()) {
-            logger.debug("Firing event: {} to {} listeners", 
+            DISPATCH_LOG.debug(logger, "Firing event: {} to {} listeners", 
                 eventType.getSimpleName(), eventListeners.size());
             
             // Fire to all listeners (copy to avoid concurrent modification)
             List<Object> safeListeners = new CopyOnWriteArrayList<>(eventListeners);
+            long timing = DISPATCH_TIMER.start();
+            FormEvents.EventDispatchEvent dispatchEvent = new FormEvents.EventDispatchEvent();
+            dispatchEvent.begin();
             for (Object listener : safeListeners) {
                 try {
                     ((EventListener<T>) listener).onEvent(event);
@@ -98,8 +107,15 @@ public class FormCanvasEventBus {
                         eventType.getSimpleName(), e.getMessage(), e);
                 }
             }
+            DISPATCH_TIMER.stop(timing);
+            dispatchEvent.end();
+            if (dispatchEvent.shouldCommit()) {
+                dispatchEvent.eventType = eventType.getSimpleName();
+                dispatchEvent.listenerCount = safeListeners.size();
+                dispatchEvent.commit();
+            }
         } else {
-            logger.debug("No listeners registered for event type: {}", eventType.getSimpleName());
+            DISPATCH_LOG.debug(logger, "No listeners registered for event type: {}", eventType.getSimpleName());
         }
     }
     
@@ -3,19 +3,18 @@ package com.adui.jsoncraft.canvas.refactored.managers;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Container;
-import java.awt.Dimension;
-import java.awt.Font;
-import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.datatransfer.DataFlavor;
 import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.io.IOException;
+import java.util.List;
 
-import javax.swing.BorderFactory;
+import javax.swing.JComponent;
 import javax.swing.JPanel;
-import javax.swing.UIManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,11 +34,20 @@ import com.adui.jsoncraft.model.WindowDefinition;
 public class DragDropManager {
     private static final Logger logger = LoggerFactory.getLogger(DragDropManager.class);
     
+    // Drop indicator bar, painted over the tab panel rather than inserted into it
+    private static final Color INDICATOR_COLOR = Color.GREEN;
+    private static final int INDICATOR_HEIGHT = 3;
+    // Distance from the visible edge of a tab at which dragging starts scrolling it
+    private static final int AUTOSCROLL_MARGIN = 30;
+    
     // Drag state
     private FieldDefinition draggedField;
-    private JPanel dropIndicator;
     private int dropIndex = -1;
     private JPanel currentTabPanel;
+    private Rectangle indicatorBounds;
+    
+    // Field positions of the tab being dragged over, measured once per drag and layout
+    private DropLayout dropLayout;
     
     private final FormCanvasEventBus eventBus;
     private final FieldManager fieldManager;
@@ -48,7 +56,6 @@ public class DragDropManager {
         this.fieldManager = fieldManager;
         this.eventBus = FormCanvasEventBus.getInstance();
         this.dropIndex = -1;
-        createDropIndicator();
         logger.debug("DragDropManager initialized");
     }
     
@@ -58,13 +65,14 @@ public class DragDropManager {
     public void startDrag(FieldDefinition field, JPanel tabPanel) {
         this.draggedField = field;
         this.currentTabPanel = tabPanel;
+        this.dropLayout = null;
         logger.debug("Started drag for field: {}", field.getFieldId());
     }
     
     /**
      * Handle drag over operation
      */
-    public void handleDragOver(Point dropPoint, java.util.List<Component> fieldVisualizers) {
+    public void handleDragOver(Point dropPoint, List<? extends Component> fieldVisualizers) {
         if (currentTabPanel == null || fieldVisualizers == null) {
             return;
         }
@@ -77,11 +85,19 @@ public class DragDropManager {
         }
     }
     
+    /**
+     * Drag left the tab panel: remove the indicator until it comes back
+     */
+    public void handleDragExit() {
+        hideDropIndicator();
+        dropIndex = -1;
+    }
+    
     /**
      * Complete drop operation
      */
     public boolean completeDrop(WindowDefinition window, TabDefinition tab, 
-                               java.util.List<Component> fieldVisualizers) {
+                               List<? extends Component> fieldVisualizers) {
         if (draggedField == null || tab == null || dropIndex < 0) {
             logger.warn("Cannot complete drop: invalid state");
             return false;
@@ -90,7 +106,7 @@ public class DragDropManager {
         try {
             // Find current index of dragged field
             int currentIndex = -1;
-            java.util.List<FieldDefinition> fields = tab.getFields();
+            List<FieldDefinition> fields = tab.getFields();
             for (int i = 0; i < fields.size(); i++) {
                 if (fields.get(i).equals(draggedField)) {
                     currentIndex = i;
@@ -127,119 +143,133 @@ public class DragDropManager {
     }
     
     /**
-     * Calculate drop index based on drop point
+     * Calculate drop index based on drop point: before the first field whose
+     * vertical midpoint is at or below the point, found by binary search
      */
-    private int calculateDropIndex(Point dropPoint, java.util.List<Component> fieldVisualizers) {
+    private int calculateDropIndex(Point dropPoint, List<? extends Component> fieldVisualizers) {
         if (currentTabPanel == null || fieldVisualizers == null) {
             return -1;
         }
         
-        Component[] components = currentTabPanel.getComponents();
-        
-        for (int i = 0; i < components.length; i++) {
-            Component comp = components[i];
-            if (fieldVisualizers.contains(comp)) {
-                Rectangle bounds = comp.getBounds();
-                if (dropPoint.y <= bounds.y + bounds.height / 2) {
-                    return fieldVisualizers.indexOf(comp);
-                }
+        int[] midpoints = getDropLayout(fieldVisualizers).midpoints;
+        int low = 0;
+        int high = midpoints.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (midpoints[mid] < dropPoint.y) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        
-        // Drop at the end
-        return fieldVisualizers.size();
+        // low == midpoints.length means drop at the end
+        return low;
+    }
+    
+    /**
+     * Cached field bounds, re-measured only when the fields or the panel size changed
+     */
+    private DropLayout getDropLayout(List<? extends Component> fieldVisualizers) {
+        DropLayout layout = dropLayout;
+        if (layout == null || !layout.matches(currentTabPanel, fieldVisualizers)) {
+            layout = new DropLayout(currentTabPanel, fieldVisualizers);
+            dropLayout = layout;
+        }
+        return layout;
     }
     
     /**
      * Show drop indicator at specified index
      */
-    private void showDropIndicator(int index, java.util.List<Component> fieldVisualizers) {
-        hideDropIndicator();
+    private void showDropIndicator(int index, List<? extends Component> fieldVisualizers) {
+        if (currentTabPanel == null || index < 0) {
+            hideDropIndicator();
+            return;
+        }
         
-        if (currentTabPanel != null && index >= 0) {
-            if (index < fieldVisualizers.size()) {
-                // Insert before the field at index
-                Component targetField = fieldVisualizers.get(index);
-                int componentIndex = getComponentIndex(targetField);
-                if (componentIndex >= 0) {
-                    currentTabPanel.add(dropIndicator, componentIndex);
-                }
-            } else {
-                // Insert at the end
-                currentTabPanel.add(dropIndicator);
-            }
-            
-            dropIndicator.setVisible(true);
-            currentTabPanel.revalidate();
-            currentTabPanel.repaint();
+        DropLayout layout = getDropLayout(fieldVisualizers);
+        Insets insets = currentTabPanel.getInsets();
+        int y;
+        if (layout.size() == 0) {
+            y = insets.top;
+        } else if (index < layout.size()) {
+            // Centered in the gap above the target field
+            y = Math.max(insets.top, layout.tops[index] - layout.gapAbove(index) / 2 - INDICATOR_HEIGHT / 2 - 1);
+        } else {
+            y = layout.bottoms[layout.size() - 1] + 1;
+        }
+        
+        Rectangle previous = indicatorBounds;
+        indicatorBounds = new Rectangle(insets.left, y,
+            Math.max(0, currentTabPanel.getWidth() - insets.left - insets.right), INDICATOR_HEIGHT);
+        
+        // Repaint just the old and new bar; the component tree and layout are untouched
+        if (previous != null) {
+            currentTabPanel.repaint(previous);
         }
+        currentTabPanel.repaint(indicatorBounds);
     }
     
     /**
      * Hide drop indicator
      */
     private void hideDropIndicator() {
-        if (dropIndicator != null && dropIndicator.isVisible()) {
-            dropIndicator.setVisible(false);
+        if (indicatorBounds != null) {
             if (currentTabPanel != null) {
-                currentTabPanel.remove(dropIndicator);
-                currentTabPanel.revalidate();
-                currentTabPanel.repaint();
+                currentTabPanel.repaint(indicatorBounds);
             }
+            indicatorBounds = null;
         }
     }
     
     /**
-     * Get component index in tab panel
+     * Paint the drop indicator over a tab panel; called by the panel after painting its children
      */
-    private int getComponentIndex(Component component) {
-        if (currentTabPanel != null) {
-            Component[] components = currentTabPanel.getComponents();
-            for (int i = 0; i < components.length; i++) {
-                if (components[i] == component) {
-                    return i;
-                }
-            }
+    public void paintDropIndicator(Graphics g, JComponent panel) {
+        Rectangle bounds = indicatorBounds;
+        if (bounds != null && panel == currentTabPanel) {
+            g.setColor(INDICATOR_COLOR);
+            g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
         }
-        return -1;
     }
     
     /**
-     * Create drop indicator component
+     * Autoscroll region for a tab panel in a scroll pane: a band along the top and bottom
+     * of the visible part, for {@link java.awt.dnd.Autoscroll#getAutoscrollInsets()}
      */
-    private void createDropIndicator() {
-        dropIndicator = new JPanel() {
-            @Override
-            public Dimension getPreferredSize() {
-                // Get font metrics from parent container or use default
-                Font font = getFont();
-                if (font == null) {
-                    Container parent = getParent();
-                    font = (parent != null) ? parent.getFont() : UIManager.getFont("Label.font");
-                }
-                
-                // Calculate line height with padding
-                FontMetrics fm = getFontMetrics(font);
-                int lineHeight = (fm != null) ? fm.getHeight() : 16; // 16px fallback
-                
-                return new Dimension(0, lineHeight + 2); // Add 2px vertical padding
-            }
-            
-            @Override
-            public Dimension getMinimumSize() {
-                return getPreferredSize(); // Enforce same minimum size
-            }
-            
-            @Override
-            public Dimension getMaximumSize() {
-                return new Dimension(Integer.MAX_VALUE, getPreferredSize().height);
-            }
-        };
+    public Insets getAutoscrollInsets(JComponent panel) {
+        Rectangle visible = panel.getVisibleRect();
+        return new Insets(visible.y + AUTOSCROLL_MARGIN, 0,
+            panel.getHeight() - (visible.y + visible.height) + AUTOSCROLL_MARGIN, 0);
+    }
+    
+    /**
+     * Scroll a long tab while a field is dragged near its visible top or bottom edge;
+     * called repeatedly by the drop target while the cursor stays in the autoscroll region
+     */
+    public void autoscroll(JComponent panel, Point cursor) {
+        Rectangle visible = panel.getVisibleRect();
+        // Faster the closer the cursor is to the edge
+        int step;
+        if (cursor.y < visible.y + AUTOSCROLL_MARGIN) {
+            step = -scrollStep(cursor.y - visible.y);
+        } else if (cursor.y > visible.y + visible.height - AUTOSCROLL_MARGIN) {
+            step = scrollStep(visible.y + visible.height - cursor.y);
+        } else {
+            return;
+        }
         
-        dropIndicator.setBackground(Color.GREEN); // More visible color
-        dropIndicator.setBorder(BorderFactory.createEmptyBorder(1, 0, 1, 0)); // Top/bottom borders
-        dropIndicator.setVisible(false);
+        int targetY = Math.max(0, Math.min(panel.getHeight() - visible.height, visible.y + step));
+        if (targetY != visible.y) {
+            panel.scrollRectToVisible(new Rectangle(visible.x, targetY, visible.width, visible.height));
+        }
+    }
+    
+    private static int scrollStep(int distanceFromEdge) {
+        int closeness = AUTOSCROLL_MARGIN - Math.max(0, Math.min(AUTOSCROLL_MARGIN, distanceFromEdge));
+        return 4 + closeness;
     }
+    
     /**
      * Clean up drag state
      */
@@ -248,12 +278,67 @@ public class DragDropManager {
         draggedField = null;
         dropIndex = -1;
         currentTabPanel = null;
+        dropLayout = null;
     }
     
     // Getters
     public FieldDefinition getDraggedField() { return draggedField; }
     public boolean isDragging() { return draggedField != null; }
     public int getDropIndex() { return dropIndex; }
+    public Rectangle getDropIndicatorBounds() { return indicatorBounds; }
+    
+    /**
+     * Vertical extent of each field in a tab panel, in panel coordinates
+     */
+    private static final class DropLayout {
+        private final Container panel;
+        // First and last field at measuring time: a refreshed panel has new components
+        private final Component firstField;
+        private final Component lastField;
+        private final int panelWidth;
+        private final int panelHeight;
+        final int[] tops;
+        final int[] bottoms;
+        final int[] midpoints;
+        
+        DropLayout(Container panel, List<? extends Component> fields) {
+            this.panel = panel;
+            this.firstField = fields.isEmpty() ? null : fields.get(0);
+            this.lastField = fields.isEmpty() ? null : fields.get(fields.size() - 1);
+            this.panelWidth = panel.getWidth();
+            this.panelHeight = panel.getHeight();
+            int count = fields.size();
+            this.tops = new int[count];
+            this.bottoms = new int[count];
+            this.midpoints = new int[count];
+            for (int i = 0; i < count; i++) {
+                Component field = fields.get(i);
+                tops[i] = field.getY();
+                bottoms[i] = field.getY() + field.getHeight();
+                midpoints[i] = field.getY() + field.getHeight() / 2;
+            }
+        }
+        
+        int size() {
+            return tops.length;
+        }
+        
+        int gapAbove(int index) {
+            return index > 0 ? Math.max(0, tops[index] - bottoms[index - 1]) : 0;
+        }
+        
+        /**
+         * Still valid unless the fields were replaced or the panel was laid out at another size
+         */
+        boolean matches(Container currentPanel, List<? extends Component> currentFields) {
+            return panel == currentPanel
+                && tops.length == currentFields.size()
+                && (currentFields.isEmpty() 
+                    || (firstField == currentFields.get(0) && lastField == currentFields.get(currentFields.size() - 1)))
+                && panelWidth == currentPanel.getWidth()
+                && panelHeight == currentPanel.getHeight();
+        }
+    }
     
     /**
      * Transferable implementation for field drag-drop
@@ -1,17 +1,27 @@
 package com.adui.jsoncraft.canvas.refactored.managers;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.adui.jsoncraft.canvas.refactored.events.FieldBatchEvent;
 import com.adui.jsoncraft.canvas.refactored.events.FormCanvasEventBus;
 import com.adui.jsoncraft.canvas.refactored.events.FormChangeEvent;
 import com.adui.jsoncraft.model.ComponentType;
 import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.MetricsRegistry;
 
 /**
  * Manages field operations using Strategy pattern
@@ -22,6 +32,7 @@ import com.adui.jsoncraft.model.WindowDefinition;
  */
 public class FieldManager {
     private static final Logger logger = LoggerFactory.getLogger(FieldManager.class);
+    private static final MetricsRegistry.Timer BULK_TIMER = MetricsRegistry.getInstance().timer("fields.bulk");
     
     private final FormCanvasEventBus eventBus;
     private FieldCreationStrategy creationStrategy;
@@ -123,16 +134,7 @@ public class FieldManager {
             return null;
         }
         
-        // Create copy with new ID
-        FieldDefinition copy = field.copy();
-        copy.setFieldId(generateUniqueFieldId(window, field.getFieldId()));
-        copy.setSequence((targetTab.getFields().size() + 1) * 10);
-        
-        // Add to target tab
-        targetTab.addField(copy);
-        
-        // Fire event
-        eventBus.fire(FormChangeEvent.fieldAdded(window, targetTab, copy));
+        FieldDefinition copy = insertField(window, targetTab, field.copy());
         
         logger.debug("Copied field {} to {} in tab {}", 
             field.getFieldId(), copy.getFieldId(), targetTab.getTabId());
@@ -140,6 +142,229 @@ public class FieldManager {
         return copy;
     }
     
+    /**
+     * Add a field that is not yet part of any form (a copy or a template instance),
+     * giving it a unique ID and the next sequence
+     */
+    public FieldDefinition insertField(WindowDefinition window, TabDefinition tab, FieldDefinition field) {
+        if (window == null || tab == null || field == null) {
+            logger.warn("Cannot insert field: null parameters");
+            return null;
+        }
+        
+        field.setFieldId(generateUniqueFieldId(window, field.getFieldId()));
+        field.setSequence((tab.getFields().size() + 1) * 10);
+        
+        // Add to tab
+        tab.addField(field);
+        
+        // Fire event
+        eventBus.fire(FormChangeEvent.fieldAdded(window, tab, field));
+        return field;
+    }
+    
+    // ========== BULK OPERATIONS ==========
+    // Each applies to all given fields at once, renumbers each affected tab once and fires a
+    // single FieldBatchEvent instead of one FormChangeEvent per field
+    
+    /**
+     * Apply the same property change to every field
+     * 
+     * @return the number of fields changed
+     */
+    public int updateFields(WindowDefinition window, Collection<FieldDefinition> fields, 
+                            Consumer<FieldDefinition> change) {
+        if (window == null || fields == null || fields.isEmpty() || change == null) {
+            return 0;
+        }
+        
+        long start = BULK_TIMER.start();
+        try {
+            LocatedFields located = locateFields(window, fields);
+            for (FieldDefinition field : located.fields) {
+                change.accept(field);
+            }
+            
+            eventBus.fire(new FieldBatchEvent(FieldBatchEvent.Operation.PROPERTIES_CHANGED, window, 
+                located.fields, located.tabs));
+            logger.debug("Updated {} fields", located.size());
+            return located.size();
+        } finally {
+            BULK_TIMER.stop(start);
+        }
+    }
+    
+    /**
+     * Move fields to the end of another tab, keeping their relative order
+     * 
+     * @return the number of fields moved
+     */
+    public int moveFields(WindowDefinition window, Collection<FieldDefinition> fields, TabDefinition targetTab) {
+        if (window == null || fields == null || fields.isEmpty() || targetTab == null) {
+            return 0;
+        }
+        
+        long start = BULK_TIMER.start();
+        try {
+            LocatedFields located = locateFields(window, fields);
+            List<FieldDefinition> moved = new ArrayList<>();
+            Set<TabDefinition> affectedTabs = new LinkedHashSet<>();
+            for (int i = 0; i < located.size(); i++) {
+                if (located.tabs.get(i) != targetTab) {
+                    moved.add(located.fields.get(i));
+                    affectedTabs.add(located.tabs.get(i));
+                }
+            }
+            if (moved.isEmpty()) {
+                return 0;
+            }
+            
+            removeFromTabs(affectedTabs, moved);
+            if (targetTab.getFields() == null) {
+                targetTab.setFields(new ArrayList<>());
+            }
+            targetTab.getFields().addAll(moved);
+            affectedTabs.add(targetTab);
+            affectedTabs.forEach(this::updateFieldSequences);
+            
+            eventBus.fire(new FieldBatchEvent(FieldBatchEvent.Operation.MOVED, window, moved, affectedTabs));
+            logger.debug("Moved {} fields to tab {}", moved.size(), targetTab.getTabId());
+            return moved.size();
+        } finally {
+            BULK_TIMER.stop(start);
+        }
+    }
+    
+    /**
+     * Remove fields from whichever tabs hold them
+     * 
+     * @return the number of fields removed
+     */
+    public int removeFields(WindowDefinition window, Collection<FieldDefinition> fields) {
+        if (window == null || fields == null || fields.isEmpty()) {
+            return 0;
+        }
+        
+        long start = BULK_TIMER.start();
+        try {
+            LocatedFields located = locateFields(window, fields);
+            if (located.size() == 0) {
+                return 0;
+            }
+            
+            Set<TabDefinition> affectedTabs = new LinkedHashSet<>(located.tabs);
+            removeFromTabs(affectedTabs, located.fields);
+            affectedTabs.forEach(this::updateFieldSequences);
+            
+            eventBus.fire(new FieldBatchEvent(FieldBatchEvent.Operation.REMOVED, window, 
+                located.fields, affectedTabs));
+            logger.debug("Removed {} fields", located.size());
+            return located.size();
+        } finally {
+            BULK_TIMER.stop(start);
+        }
+    }
+    
+    /**
+     * Copy fields, appending each copy (with a unique ID) to its original's tab
+     * 
+     * @return the copies, in the order of the given fields
+     */
+    public List<FieldDefinition> duplicateFields(WindowDefinition window, Collection<FieldDefinition> fields) {
+        if (window == null || fields == null || fields.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        long start = BULK_TIMER.start();
+        try {
+            LocatedFields located = locateFields(window, fields);
+            // Collect IDs once rather than searching the window for every candidate ID
+            Set<String> usedIds = new HashSet<>();
+            for (FieldDefinition field : getAllFields(window)) {
+                usedIds.add(field.getFieldId());
+            }
+            
+            List<FieldDefinition> copies = new ArrayList<>();
+            for (int i = 0; i < located.size(); i++) {
+                FieldDefinition original = located.fields.get(i);
+                FieldDefinition copy = original.copy();
+                copy.setFieldId(uniqueId(usedIds, original.getFieldId()));
+                located.tabs.get(i).getFields().add(copy);
+                copies.add(copy);
+            }
+            Set<TabDefinition> affectedTabs = new LinkedHashSet<>(located.tabs);
+            affectedTabs.forEach(this::updateFieldSequences);
+            
+            eventBus.fire(new FieldBatchEvent(FieldBatchEvent.Operation.DUPLICATED, window, copies, affectedTabs));
+            logger.debug("Duplicated {} fields", copies.size());
+            return copies;
+        } finally {
+            BULK_TIMER.stop(start);
+        }
+    }
+    
+    /**
+     * Find the tab of each field in one pass over the window; fields not in the window are skipped.
+     * Keeps the order of the given fields.
+     */
+    private LocatedFields locateFields(WindowDefinition window, Collection<FieldDefinition> fields) {
+        Map<FieldDefinition, TabDefinition> tabOf = new IdentityHashMap<>();
+        if (window.getTabs() != null) {
+            for (TabDefinition tab : window.getTabs()) {
+                if (tab.getFields() != null) {
+                    for (FieldDefinition field : tab.getFields()) {
+                        tabOf.put(field, tab);
+                    }
+                }
+            }
+        }
+        
+        LocatedFields located = new LocatedFields();
+        Set<FieldDefinition> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldDefinition field : fields) {
+            TabDefinition tab = tabOf.get(field);
+            if (tab != null && seen.add(field)) {
+                located.fields.add(field);
+                located.tabs.add(tab);
+            }
+        }
+        if (located.size() < fields.size()) {
+            logger.debug("{} of {} fields are not in window {}", 
+                fields.size() - located.size(), fields.size(), window.getWindowId());
+        }
+        return located;
+    }
+    
+    /**
+     * Fields found in the window, each with its tab at the same index
+     */
+    private static class LocatedFields {
+        final List<FieldDefinition> fields = new ArrayList<>();
+        final List<TabDefinition> tabs = new ArrayList<>();
+        
+        int size() {
+            return fields.size();
+        }
+    }
+    
+    private static void removeFromTabs(Collection<TabDefinition> tabs, Collection<FieldDefinition> fields) {
+        Set<FieldDefinition> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(fields);
+        for (TabDefinition tab : tabs) {
+            tab.getFields().removeIf(removed::contains);
+        }
+    }
+    
+    private static String uniqueId(Set<String> usedIds, String baseId) {
+        String newId = baseId;
+        int counter = 1;
+        while (!usedIds.add(newId)) {
+            newId = baseId + "_" + counter;
+            counter++;
+        }
+        return newId;
+    }
+    
     /**
      * Find a field by ID in the window
      */
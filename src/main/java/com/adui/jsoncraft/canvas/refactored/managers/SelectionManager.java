@@ -1,5 +1,12 @@
 package com.adui.jsoncraft.canvas.refactored.managers;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,16 +24,25 @@ import com.adui.jsoncraft.model.FieldDefinition;
 public class SelectionManager {
     private static final Logger logger = LoggerFactory.getLogger(SelectionManager.class);
     
+    // Most recently selected field; shown in the property inspector
     private FieldDefinition selectedField;
+    // All selected fields in selection order, with an identity set for fast membership checks
+    // (FieldDefinition equality is by ID, which can change while selected)
+    private final List<FieldDefinition> selectedFields;
+    private final Set<FieldDefinition> selectedSet;
+    // Start of a shift-click range
+    private FieldDefinition anchorField;
     private final FormCanvasEventBus eventBus;
     
     public SelectionManager() {
         this.eventBus = FormCanvasEventBus.getInstance();
+        this.selectedFields = new ArrayList<>();
+        this.selectedSet = Collections.newSetFromMap(new IdentityHashMap<>());
         logger.debug("SelectionManager initialized");
     }
     
     /**
-     * Select a field
+     * Select a single field, replacing any multi-selection
      */
     public void selectField(FieldDefinition field) {
         if (field == null) {
@@ -35,14 +51,15 @@ public class SelectionManager {
         }
         
         FieldDefinition previousField = this.selectedField;
+        anchorField = field;
         
         // Only change if different
-        if (field.equals(previousField)) {
+        if (selectedFields.size() == 1 && field.equals(previousField)) {
             logger.debug("Field already selected: {}", field.getFieldId());
             return;
         }
         
-        this.selectedField = field;
+        setSelection(Collections.singletonList(field), field);
         
         // Fire appropriate event
         if (previousField == null) {
@@ -56,13 +73,83 @@ public class SelectionManager {
             previousField != null ? previousField.getFieldId() : "none");
     }
     
+    /**
+     * Add a field to the selection, or remove it if already selected (Ctrl+click)
+     */
+    public void toggleField(FieldDefinition field) {
+        if (field == null) {
+            return;
+        }
+        
+        List<FieldDefinition> fields = new ArrayList<>(selectedFields);
+        FieldDefinition primary;
+        if (selectedSet.contains(field)) {
+            fields.removeIf(selected -> selected == field);
+            primary = fields.isEmpty() ? null : fields.get(fields.size() - 1);
+        } else {
+            fields.add(field);
+            primary = field;
+        }
+        anchorField = field;
+        updateSelection(fields, primary);
+    }
+    
+    /**
+     * Select every field between the last clicked field and this one (Shift+click).
+     * Falls back to a single selection if the anchor is not among the given fields.
+     * 
+     * @param orderedFields the fields of the tab, in display order
+     */
+    public void selectRange(List<FieldDefinition> orderedFields, FieldDefinition field) {
+        int to = indexOf(orderedFields, field);
+        int from = indexOf(orderedFields, anchorField);
+        if (to < 0 || from < 0) {
+            selectField(field);
+            return;
+        }
+        
+        List<FieldDefinition> range = new ArrayList<>(
+            orderedFields.subList(Math.min(from, to), Math.max(from, to) + 1));
+        updateSelection(range, field);
+    }
+    
+    /**
+     * Replace the selection with the given fields; the last one becomes the primary field
+     */
+    public void selectFields(Collection<FieldDefinition> fields) {
+        List<FieldDefinition> list = new ArrayList<>(fields);
+        FieldDefinition primary = list.isEmpty() ? null : list.get(list.size() - 1);
+        anchorField = primary;
+        updateSelection(list, primary);
+    }
+    
+    /**
+     * Drop fields from the selection (e.g. after they were deleted)
+     */
+    public void deselectFields(Collection<FieldDefinition> fields) {
+        Set<FieldDefinition> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(fields);
+        List<FieldDefinition> remaining = new ArrayList<>(selectedFields);
+        if (!remaining.removeIf(removed::contains)) {
+            return;
+        }
+        FieldDefinition primary = removed.contains(selectedField)
+            ? (remaining.isEmpty() ? null : remaining.get(remaining.size() - 1))
+            : selectedField;
+        if (removed.contains(anchorField)) {
+            anchorField = primary;
+        }
+        updateSelection(remaining, primary);
+    }
+    
     /**
      * Clear selection
      */
     public void clearSelection() {
         if (selectedField != null) {
             FieldDefinition previousField = this.selectedField;
-            this.selectedField = null;
+            setSelection(Collections.emptyList(), null);
+            anchorField = null;
             
             eventBus.fire(FieldSelectionEvent.deselected(previousField));
             logger.debug("Selection cleared (was: {})", previousField.getFieldId());
@@ -70,12 +157,23 @@ public class SelectionManager {
     }
     
     /**
-     * Get currently selected field
+     * Get currently selected field (the most recently selected one when several are)
      */
     public FieldDefinition getSelectedField() {
         return selectedField;
     }
     
+    /**
+     * Get all selected fields in selection order
+     */
+    public List<FieldDefinition> getSelectedFields() {
+        return new ArrayList<>(selectedFields);
+    }
+    
+    public int getSelectionCount() {
+        return selectedFields.size();
+    }
+    
     /**
      * Check if a field is selected
      */
@@ -83,11 +181,60 @@ public class SelectionManager {
         return selectedField != null;
     }
     
+    public boolean hasMultipleSelection() {
+        return selectedFields.size() > 1;
+    }
+    
     /**
      * Check if specific field is selected
      */
     public boolean isSelected(FieldDefinition field) {
-        return field != null && field.equals(selectedField);
+        return field != null && selectedSet.contains(field);
+    }
+    
+    /**
+     * Apply a new selection and fire the matching event
+     */
+    private void updateSelection(List<FieldDefinition> fields, FieldDefinition primary) {
+        if (fields.size() <= 1) {
+            if (fields.isEmpty()) {
+                clearSelection();
+            } else {
+                // Force the event even when the field was already the primary one
+                FieldDefinition previousField = selectedField;
+                setSelection(fields, fields.get(0));
+                eventBus.fire(previousField == null
+                    ? FieldSelectionEvent.selected(fields.get(0))
+                    : FieldSelectionEvent.changed(fields.get(0), previousField));
+            }
+            return;
+        }
+        
+        FieldDefinition previousField = selectedField;
+        setSelection(fields, primary);
+        eventBus.fire(FieldSelectionEvent.multiple(fields, primary, previousField));
+        logger.debug("{} fields selected (primary: {})", fields.size(), 
+            primary != null ? primary.getFieldId() : "none");
+    }
+    
+    private void setSelection(List<FieldDefinition> fields, FieldDefinition primary) {
+        selectedFields.clear();
+        selectedSet.clear();
+        for (FieldDefinition field : fields) {
+            if (selectedSet.add(field)) {
+                selectedFields.add(field);
+            }
+        }
+        selectedField = primary;
+    }
+    
+    private static int indexOf(List<FieldDefinition> fields, FieldDefinition field) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i) == field) {
+                return i;
+            }
+        }
+        return -1;
     }
     
     /**
@@ -0,0 +1,178 @@
+package com.adui.jsoncraft.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
+import com.adui.jsoncraft.json.JsonParser.JsonParseException;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Binary working format (Jackson Smile) for local saves and caches.
+ * Uses the same tree mapping as the text format (JsonGenerator.generateJsonNode /
+ * JsonParser.parseTree), so a binary file holds exactly the ADUI JSON document in a
+ * smaller, faster encoding. Deployment still uses text JSON; toText/fromText and
+ * convert() translate between the two.
+ */
+public class BinaryFormat {
+    private static final Logger logger = LoggerFactory.getLogger(BinaryFormat.class);
+
+    public static final String FILE_EXTENSION = ".adui-smile";
+    public static final String TEXT_EXTENSION = ".adui-json";
+
+    // Every Smile document starts with ":)\n"
+    private static final byte[] HEADER = {':', ')', '\n'};
+
+    private static final ObjectMapper smileMapper = createSmileMapper();
+    private static final ObjectMapper textMapper = new ObjectMapper();
+
+    private final JsonGenerator jsonGenerator;
+    private final JsonParser jsonParser;
+
+    public BinaryFormat() {
+        this(new JsonGenerator(false, false), new JsonParser());
+    }
+
+    public BinaryFormat(JsonGenerator jsonGenerator, JsonParser jsonParser) {
+        this.jsonGenerator = jsonGenerator;
+        this.jsonParser = jsonParser;
+    }
+
+    private static ObjectMapper createSmileMapper() {
+        SmileFactory factory = new SmileFactory();
+        // Component types, data types and repeated labels are written once per document
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        return new ObjectMapper(factory);
+    }
+
+    /**
+     * Encode a window as Smile
+     */
+    public byte[] write(WindowDefinition window) throws JsonGenerationException {
+        try {
+            return smileMapper.writeValueAsBytes(jsonGenerator.generateJsonNode(window));
+        } catch (IOException e) {
+            throw new JsonGenerationException("Failed to encode binary form", e);
+        }
+    }
+
+    public void writeFile(WindowDefinition window, File file) throws JsonGenerationException, IOException {
+        Files.write(file.toPath(), write(window));
+        logger.debug("Wrote binary form {} to {}", window.getWindowId(), file.getName());
+    }
+
+    /**
+     * Decode a window from Smile
+     */
+    public WindowDefinition read(byte[] content) throws JsonParseException {
+        try {
+            return jsonParser.parseTree(smileMapper.readTree(content));
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to decode binary form", e);
+        }
+    }
+
+    /**
+     * Read a form file in either format
+     */
+    public WindowDefinition readFile(File file) throws JsonParseException {
+        return jsonParser.parseFile(file);
+    }
+
+    /**
+     * True if the file starts with the Smile header
+     */
+    public static boolean isBinary(File file) {
+        if (file == null || !file.isFile() || file.length() < HEADER.length) {
+            return false;
+        }
+        byte[] start = new byte[HEADER.length];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            if (in.read(start) != HEADER.length) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (start[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * True if the file name uses the binary extension
+     */
+    public static boolean hasBinaryExtension(File file) {
+        return file != null && file.getName().endsWith(FILE_EXTENSION);
+    }
+
+    static JsonNode readTree(File file) throws IOException {
+        return smileMapper.readTree(file);
+    }
+
+    /**
+     * Convert a Smile document to (pretty-printed) ADUI text JSON
+     */
+    public static String toText(byte[] content) throws IOException {
+        JsonNode tree = smileMapper.readTree(content);
+        return textMapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+    }
+
+    /**
+     * Convert ADUI text JSON to a Smile document
+     */
+    public static byte[] fromText(String json) throws IOException {
+        return smileMapper.writeValueAsBytes(textMapper.readTree(json));
+    }
+
+    /**
+     * Convert a form file to the other format; the direction follows the source content
+     */
+    public static void convert(File source, File target) throws IOException {
+        byte[] content = Files.readAllBytes(source.toPath());
+        if (isBinary(source)) {
+            Files.write(target.toPath(), toText(content).getBytes(StandardCharsets.UTF_8));
+        } else {
+            Files.write(target.toPath(), fromText(new String(content, StandardCharsets.UTF_8)));
+        }
+        logger.info("Converted {} ({} bytes) to {} ({} bytes)",
+            source.getName(), source.length(), target.getName(), target.length());
+    }
+
+    /**
+     * Command-line converter: BinaryFormat &lt;source&gt; [target]
+     * Without a target the other extension is used next to the source.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BinaryFormat <source> [target]");
+            System.exit(2);
+        }
+        File source = new File(args[0]);
+        File target;
+        if (args.length > 1) {
+            target = new File(args[1]);
+        } else {
+            String name = source.getName();
+            int dot = name.lastIndexOf('.');
+            String base = dot > 0 ? name.substring(0, dot) : name;
+            target = new File(source.getAbsoluteFile().getParentFile(),
+                base + (isBinary(source) ? TEXT_EXTENSION : FILE_EXTENSION));
+        }
+        convert(source, target);
+        System.out.println(source + " -> " + target);
+    }
+}
@@ -0,0 +1,107 @@
+package com.adui.jsoncraft.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
+import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+
+/**
+ * SHA-256 of the canonical JSON form of a window (sorted keys, no lastModified, compact,
+ * inline references). Two windows with the same content have the same hash regardless of
+ * map order or when they were saved, so callers can compare hashes to skip unchanged forms.
+ * The canonical JSON is streamed straight into the digest; no String is built.
+ */
+public final class ContentHash {
+    private static final MetricsRegistry.Timer HASH_TIMER = MetricsRegistry.getInstance().timer("json.hash");
+
+    private static final JsonGenerator canonicalGenerator = createCanonicalGenerator();
+
+    private ContentHash() {
+    }
+
+    private static JsonGenerator createCanonicalGenerator() {
+        JsonGenerator generator = new JsonGenerator(false, false);
+        generator.setCanonical(true);
+        return generator;
+    }
+
+    /**
+     * Hex SHA-256 of the window's canonical JSON
+     */
+    public static String of(WindowDefinition window) throws JsonGenerationException {
+        long timing = HASH_TIMER.start();
+        try {
+            MessageDigest digest = newDigest();
+            canonicalGenerator.writeJson(window, new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            return toHex(digest.digest());
+        } finally {
+            HASH_TIMER.stop(timing);
+        }
+    }
+
+    /**
+     * Hex SHA-256 of a reference set's canonical JSON; equal for forms that carry the same list
+     */
+    public static String of(ReferenceData reference) throws JsonGenerationException {
+        long timing = HASH_TIMER.start();
+        try {
+            MessageDigest digest = newDigest();
+            canonicalGenerator.writeReferenceJson(reference, new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            return toHex(digest.digest());
+        } finally {
+            HASH_TIMER.stop(timing);
+        }
+    }
+
+    /**
+     * Canonical JSON text, byte-for-byte what {@link #of(WindowDefinition)} hashes
+     */
+    public static String canonicalJson(WindowDefinition window) throws JsonGenerationException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        canonicalGenerator.writeJson(window, buffer);
+        return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * True if both windows have the same canonical content
+     */
+    public static boolean sameContent(WindowDefinition first, WindowDefinition second) throws JsonGenerationException {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        return of(first).equals(of(second));
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Hex SHA-256 of raw bytes
+     */
+    public static String sha256(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+}
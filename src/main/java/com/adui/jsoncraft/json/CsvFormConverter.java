@@ -0,0 +1,173 @@
+package com.adui.jsoncraft.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.CsvReader;
+
+/**
+ * Builds a form from a field list spreadsheet (Seq, Field Name, Component, Input columns),
+ * following the same mapping as CSVtoJSON.py. Rows are read one at a time with {@link CsvReader}.
+ */
+public class CsvFormConverter {
+    private static final String[] OPTION_COLORS = {
+        "#4CAF50", "#FF9800", "#2196F3", "#9C27B0", "#F44336", "#607D8B", "#795548", "#FF5722"
+    };
+
+    private static final Map<String, ComponentType> COMPONENT_NAMES = new HashMap<>();
+    static {
+        COMPONENT_NAMES.put("text", ComponentType.TEXT_FIELD);
+        COMPONENT_NAMES.put("text field", ComponentType.TEXT_FIELD);
+        COMPONENT_NAMES.put("quantity", ComponentType.NUMBER_FIELD);
+        COMPONENT_NAMES.put("quantity field", ComponentType.NUMBER_FIELD);
+        COMPONENT_NAMES.put("number field", ComponentType.NUMBER_FIELD);
+        COMPONENT_NAMES.put("select field", ComponentType.SELECT_FIELD);
+        for (ComponentType type : ComponentType.values()) {
+            COMPONENT_NAMES.put(type.getJsonName().toLowerCase(Locale.ROOT), type);
+        }
+    }
+
+    /**
+     * Convert CSV content to a single-tab form. The title also gives the window ID.
+     */
+    public WindowDefinition convert(Reader reader, String title) throws IOException {
+        String windowId = toId(title);
+        WindowDefinition window = new WindowDefinition(windowId.isEmpty() ? "CSV_FORM" : windowId, title);
+        window.setDescription("Form generated from CSV");
+
+        TabDefinition tab = new TabDefinition("MAIN_TAB", "Main");
+        tab.setDescription("Main form fields");
+        tab.setSingleRow(true);
+        window.addTab(tab);
+
+        try (CsvReader csv = new CsvReader(reader)) {
+            String[] header = csv.readRecord();
+            if (header == null) {
+                throw new IOException("CSV is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                columns.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("field name")) {
+                throw new IOException("CSV has no 'Field Name' column");
+            }
+
+            String[] record;
+            int rowNumber = 0;
+            while ((record = csv.readRecord()) != null) {
+                rowNumber++;
+                String name = cell(record, columns, "field name");
+                if (CsvReader.isBlank(record) || name.isEmpty()) {
+                    continue;
+                }
+                int seq = parseSequence(cell(record, columns, "seq"), rowNumber);
+                // Added directly: addField renumbers the whole tab on every call
+                tab.getFields().add(createField(seq, name, cell(record, columns, "component"),
+                    cell(record, columns, "input")));
+            }
+        }
+
+        window.getMetadata().put("version", "1.1");
+        window.getMetadata().put("source", "csv-converter");
+        window.getMetadata().put("templateType", "csv-import");
+        window.getMetadata().put("lastModified", Instant.now().toString());
+        return window;
+    }
+
+    private FieldDefinition createField(int seq, String name, String component, String input) {
+        ComponentType type = component.isEmpty()
+            ? ComponentType.TEXT_FIELD
+            : COMPONENT_NAMES.getOrDefault(component.toLowerCase(Locale.ROOT), ComponentType.TEXT_FIELD);
+        String fieldId = type.getJsonName().toUpperCase(Locale.ROOT).replace("FIELD", "") + "_FIELD_" + seq;
+
+        FieldDefinition field = new FieldDefinition(fieldId, name, type);
+        field.setSequence(seq * 10);
+
+        switch (type) {
+            case SELECT_FIELD:
+                List<String> options = splitOptions(input);
+                if (!options.isEmpty()) {
+                    ReferenceData reference = new ReferenceData(fieldId + "_REF", name);
+                    for (int i = 0; i < options.size(); i++) {
+                        ReferenceData.ReferenceValue value =
+                            new ReferenceData.ReferenceValue(toId(options.get(i)), options.get(i));
+                        value.setColor(OPTION_COLORS[i % OPTION_COLORS.length]);
+                        reference.addValue(value);
+                    }
+                    field.setReference(reference);
+                    field.getValidation().setRequired(true);
+                }
+                break;
+            case NUMBER_FIELD:
+                field.getValidation().setRequired(true);
+                field.getValidation().setMin(0);
+                field.getValidation().setMax(9999);
+                field.setUiProperty("helpText", "Enter numeric value for " + name.toLowerCase(Locale.ROOT));
+                break;
+            case TASK_LIST_FIELD:
+                field.setDataProperty("tasks", createTasks(input));
+                break;
+            default:
+                break;
+        }
+        return field;
+    }
+
+    private static List<Map<String, Object>> createTasks(String input) {
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (String name : input.split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            Map<String, Object> task = new LinkedHashMap<>();
+            task.put("id", String.format("TASK%03d", tasks.size() + 1));
+            task.put("name", name.trim());
+            task.put("status", "NOT_STARTED");
+            task.put("priority", "MEDIUM");
+            task.put("completion", 0);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static List<String> splitOptions(String input) {
+        List<String> options = new ArrayList<>();
+        for (String option : input.split(input.indexOf('\n') >= 0 ? "\\r?\\n" : ",")) {
+            if (!option.trim().isEmpty()) {
+                options.add(option.trim());
+            }
+        }
+        return options;
+    }
+
+    private static int parseSequence(String value, int rowNumber) {
+        try {
+            return value.isEmpty() ? rowNumber : (int) Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return rowNumber;
+        }
+    }
+
+    private static String cell(String[] record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < record.length && record[index] != null ? record[index].trim() : "";
+    }
+
+    private static String toId(String text) {
+        return text == null ? "" : text.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_")
+            .replaceAll("^_+|_+$", "");
+    }
+}
@@ -0,0 +1,413 @@
+package com.adui.jsoncraft.json;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
+import com.adui.jsoncraft.json.JsonParser.JsonParseException;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compressed bundle of many forms for shipping to devices.
+ * A bundle is a ZIP archive: each form is a separately deflated forms/&lt;windowId&gt;.adui-json
+ * entry, followed by index.json listing every form with its sizes and SHA-256 checksum.
+ * Forms are streamed into the archive one at a time, and the ZIP central directory lets
+ * a reader extract any single form without inflating the others.
+ */
+public final class FormBundle {
+    private static final Logger logger = LoggerFactory.getLogger(FormBundle.class);
+    private static final MetricsRegistry.Timer WRITE_TIMER = MetricsRegistry.getInstance().timer("bundle.write");
+    private static final MetricsRegistry.Timer READ_TIMER = MetricsRegistry.getInstance().timer("bundle.read");
+
+    public static final String FILE_EXTENSION = ".adui-bundle";
+    public static final String INDEX_ENTRY = "index.json";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String FORMS_DIRECTORY = "forms/";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FormBundle() {
+    }
+
+    /**
+     * Write all windows into a new bundle file
+     */
+    public static List<Entry> write(List<WindowDefinition> windows, File file)
+            throws IOException, JsonGenerationException {
+        try (Writer writer = new Writer(file)) {
+            for (WindowDefinition window : windows) {
+                writer.add(window);
+            }
+            return writer.getEntries();
+        }
+    }
+
+    /**
+     * Index entry for one form in a bundle
+     */
+    public static class Entry {
+        private final String windowId;
+        private final String name;
+        private final String path;
+        private final long size;
+        private final long compressedSize;
+        private final String sha256;
+
+        Entry(String windowId, String name, String path, long size, long compressedSize, String sha256) {
+            this.windowId = windowId;
+            this.name = name;
+            this.path = path;
+            this.size = size;
+            this.compressedSize = compressedSize;
+            this.sha256 = sha256;
+        }
+
+        public String getWindowId() { return windowId; }
+        public String getName() { return name; }
+        public String getPath() { return path; }
+        public long getSize() { return size; }
+        public long getCompressedSize() { return compressedSize; }
+        public String getSha256() { return sha256; }
+
+        ObjectNode toJson() {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("windowId", windowId);
+            if (name != null) {
+                node.put("name", name);
+            }
+            node.put("path", path);
+            node.put("size", size);
+            node.put("compressedSize", compressedSize);
+            node.put("sha256", sha256);
+            return node;
+        }
+
+        static Entry fromJson(JsonNode node) {
+            return new Entry(node.path("windowId").asText(), node.hasNonNull("name") ? node.get("name").asText() : null,
+                node.path("path").asText(), node.path("size").asLong(), node.path("compressedSize").asLong(),
+                node.path("sha256").asText());
+        }
+
+        @Override
+        public String toString() {
+            return windowId + " (" + size + " -> " + compressedSize + " bytes)";
+        }
+    }
+
+    /**
+     * Streams forms into a bundle; the index is written on close
+     */
+    public static class Writer implements Closeable {
+        private final ZipOutputStream zip;
+        private final JsonGenerator jsonGenerator;
+        private final List<Entry> entries;
+        private final Set<String> paths;
+        private final Set<String> windowIds;
+        private boolean closed;
+
+        public Writer(File file) throws IOException {
+            this(Files.newOutputStream(file.toPath()), Deflater.DEFAULT_COMPRESSION);
+        }
+
+        public Writer(OutputStream out, int compressionLevel) {
+            this.zip = new ZipOutputStream(new BufferedOutputStream(out, 64 * 1024));
+            this.zip.setLevel(compressionLevel);
+            this.jsonGenerator = new JsonGenerator(false, false);
+            this.entries = new ArrayList<>();
+            this.paths = new HashSet<>();
+            this.windowIds = new HashSet<>();
+        }
+
+        /**
+         * Compress one form into the bundle
+         */
+        public Entry add(WindowDefinition window) throws IOException, JsonGenerationException {
+            if (!windowIds.add(window.getWindowId())) {
+                throw new IOException("Duplicate window ID in bundle: " + window.getWindowId());
+            }
+            long timing = WRITE_TIMER.start();
+            try {
+                String path = uniquePath(window.getWindowId());
+                ZipEntry zipEntry = new ZipEntry(path);
+                zip.putNextEntry(zipEntry);
+
+                DigestingOutputStream digestOut = new DigestingOutputStream(zip);
+                jsonGenerator.writeJson(window, digestOut);
+                zip.closeEntry();
+
+                Entry entry = new Entry(window.getWindowId(), window.getName(), path,
+                    digestOut.getCount(), zipEntry.getCompressedSize(), digestOut.getHexDigest());
+                entries.add(entry);
+                logger.debug("Bundled {}", entry);
+                return entry;
+            } finally {
+                WRITE_TIMER.stop(timing);
+            }
+        }
+
+        /**
+         * Read a form file (text or binary) and compress it into the bundle
+         */
+        public Entry add(File formFile, JsonParser jsonParser)
+                throws IOException, JsonParseException, JsonGenerationException {
+            return add(jsonParser.parseFile(formFile));
+        }
+
+        public List<Entry> getEntries() {
+            return Collections.unmodifiableList(entries);
+        }
+
+        // Different IDs can sanitize to the same name (e.g. "a/b" and "a_b")
+        private String uniquePath(String windowId) {
+            String base = sanitize(windowId);
+            String path = FORMS_DIRECTORY + base + BinaryFormat.TEXT_EXTENSION;
+            for (int i = 2; !paths.add(path); i++) {
+                path = FORMS_DIRECTORY + base + "-" + i + BinaryFormat.TEXT_EXTENSION;
+            }
+            return path;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            ObjectNode index = objectMapper.createObjectNode();
+            index.put("formatVersion", FORMAT_VERSION);
+            index.put("created", System.currentTimeMillis());
+            index.put("count", entries.size());
+            ArrayNode forms = index.putArray("forms");
+            for (Entry entry : entries) {
+                forms.add(entry.toJson());
+            }
+
+            zip.putNextEntry(new ZipEntry(INDEX_ENTRY));
+            zip.write(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(index));
+            zip.closeEntry();
+            zip.close();
+            logger.info("Wrote bundle with {} forms", entries.size());
+        }
+    }
+
+    /**
+     * Random-access reader; only the requested form is inflated
+     */
+    public static class Reader implements Closeable {
+        private final ZipFile zipFile;
+        private final JsonParser jsonParser;
+        private final Map<String, Entry> entries;
+        private final int formatVersion;
+
+        public Reader(File file) throws IOException {
+            this.zipFile = new ZipFile(file);
+            this.jsonParser = new JsonParser();
+            this.entries = new LinkedHashMap<>();
+
+            ZipEntry indexEntry = zipFile.getEntry(INDEX_ENTRY);
+            if (indexEntry == null) {
+                zipFile.close();
+                throw new IOException("Not a form bundle (missing " + INDEX_ENTRY + "): " + file.getName());
+            }
+            JsonNode index;
+            try (InputStream in = zipFile.getInputStream(indexEntry)) {
+                index = objectMapper.readTree(in);
+            }
+            this.formatVersion = index.path("formatVersion").asInt();
+            for (JsonNode node : index.path("forms")) {
+                Entry entry = Entry.fromJson(node);
+                entries.putIfAbsent(entry.getWindowId(), entry);
+            }
+        }
+
+        public int getFormatVersion() {
+            return formatVersion;
+        }
+
+        public List<Entry> getEntries() {
+            return new ArrayList<>(entries.values());
+        }
+
+        public Entry getEntry(String windowId) {
+            return entries.get(windowId);
+        }
+
+        /**
+         * Raw JSON bytes of one form, checked against the index checksum
+         */
+        public byte[] readBytes(String windowId) throws IOException {
+            Entry entry = entries.get(windowId);
+            if (entry == null) {
+                throw new IOException("Form not in bundle: " + windowId);
+            }
+            ZipEntry zipEntry = zipFile.getEntry(entry.getPath());
+            if (zipEntry == null) {
+                throw new IOException("Bundle entry missing: " + entry.getPath());
+            }
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.max(0, Math.min(entry.getSize(), Integer.MAX_VALUE)));
+            try (InputStream in = zipFile.getInputStream(zipEntry)) {
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    buffer.write(chunk, 0, read);
+                }
+            }
+
+            byte[] content = buffer.toByteArray();
+            String checksum = ContentHash.sha256(content);
+            if (!checksum.equals(entry.getSha256())) {
+                throw new IOException("Checksum mismatch for " + windowId + " in bundle");
+            }
+            return content;
+        }
+
+        /**
+         * Extract and parse one form
+         */
+        public WindowDefinition read(String windowId) throws IOException, JsonParseException {
+            long timing = READ_TIMER.start();
+            try {
+                return jsonParser.parseString(new String(readBytes(windowId), StandardCharsets.UTF_8));
+            } finally {
+                READ_TIMER.stop(timing);
+            }
+        }
+
+        /**
+         * Check every form against its checksum; returns the ids that failed
+         */
+        public List<String> verify() {
+            List<String> failed = new ArrayList<>();
+            for (String windowId : entries.keySet()) {
+                try {
+                    readBytes(windowId);
+                } catch (IOException e) {
+                    logger.warn("Bundle verification failed for {}: {}", windowId, e.getMessage());
+                    failed.add(windowId);
+                }
+            }
+            return failed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            zipFile.close();
+        }
+    }
+
+    /**
+     * Command line: create &lt;bundle&gt; &lt;form files...&gt; | list &lt;bundle&gt; | extract &lt;bundle&gt; &lt;windowId&gt; [file]
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: FormBundle create <bundle> <form files...>");
+            System.err.println("       FormBundle list <bundle>");
+            System.err.println("       FormBundle extract <bundle> <windowId> [file]");
+            System.exit(2);
+        }
+
+        File bundleFile = new File(args[1]);
+        switch (args[0]) {
+            case "create":
+                JsonParser jsonParser = new JsonParser();
+                try (Writer writer = new Writer(bundleFile)) {
+                    for (int i = 2; i < args.length; i++) {
+                        System.out.println(writer.add(new File(args[i]), jsonParser));
+                    }
+                }
+                System.out.println(bundleFile + ": " + bundleFile.length() + " bytes");
+                break;
+            case "list":
+                try (Reader reader = new Reader(bundleFile)) {
+                    reader.getEntries().forEach(entry -> System.out.println(entry + " " + entry.getSha256()));
+                }
+                break;
+            case "extract":
+                try (Reader reader = new Reader(bundleFile)) {
+                    File target = new File(args.length > 3 ? args[3] : args[2] + BinaryFormat.TEXT_EXTENSION);
+                    Files.write(target.toPath(), reader.readBytes(args[2]));
+                    System.out.println(args[2] + " -> " + target);
+                }
+                break;
+            default:
+                System.err.println("Unknown command: " + args[0]);
+                System.exit(2);
+        }
+    }
+
+    private static String sanitize(String windowId) {
+        if (windowId == null || windowId.trim().isEmpty()) {
+            return "form";
+        }
+        return windowId.trim().replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /**
+     * Counts and hashes bytes on their way into the current ZIP entry
+     */
+    private static class DigestingOutputStream extends FilterOutputStream {
+        private final MessageDigest digest = ContentHash.newDigest();
+        private long count;
+
+        DigestingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            digest.update((byte) b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            digest.update(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // The ZIP stream stays open for the next entry
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        String getHexDigest() {
+            return ContentHash.toHex(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package com.adui.jsoncraft.json;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.LogLevelManager;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Structural diff of two versions of a window. Tabs and fields are matched by tabId/fieldId
+ * (hash lookups, so the cost grows linearly with form size) and compared on their canonical
+ * JSON, which makes the result independent of map order and of the volatile lastModified stamp.
+ * A field is reported as moved when it changed tab or its order relative to the other fields of
+ * its tab changed; one inserted field does not make every field after it "moved". Field sequence
+ * numbers follow from the order and are therefore not reported as property changes.
+ */
+public class FormDiff {
+    private static final MetricsRegistry.Timer DIFF_TIMER = MetricsRegistry.getInstance().timer("json.diff");
+
+    private static final Set<String> WINDOW_SKIP = Collections.singleton("tabs");
+    private static final Set<String> TAB_SKIP = Collections.singleton("fields");
+    private static final Set<String> FIELD_SKIP = Collections.singleton("sequence");
+
+    public enum Target { WINDOW, TAB, FIELD }
+
+    public enum ChangeType { ADDED, REMOVED, MOVED, CHANGED }
+
+    private final JsonGenerator canonicalGenerator;
+
+    public FormDiff() {
+        this.canonicalGenerator = new JsonGenerator(false, false);
+        this.canonicalGenerator.setCanonical(true);
+    }
+
+    /**
+     * Differences that turn the old window into the new one
+     */
+    public Result compare(WindowDefinition oldWindow, WindowDefinition newWindow) throws JsonGenerationException {
+        long timing = DIFF_TIMER.start();
+        try {
+            return compare(canonicalGenerator.generateJsonNode(oldWindow), canonicalGenerator.generateJsonNode(newWindow));
+        } finally {
+            DIFF_TIMER.stop(timing);
+        }
+    }
+
+    /**
+     * Same as {@link #compare(WindowDefinition, WindowDefinition)} on already generated window trees
+     */
+    public Result compare(ObjectNode oldRoot, ObjectNode newRoot) {
+        List<Change> changes = new ArrayList<>();
+
+        List<PropertyChange> windowProperties = new ArrayList<>();
+        diffProperties("", oldRoot, newRoot, WINDOW_SKIP, windowProperties);
+        if (!windowProperties.isEmpty()) {
+            changes.add(new Change(Target.WINDOW, ChangeType.CHANGED, text(newRoot, "windowId"),
+                null, null, -1, -1, windowProperties));
+        }
+
+        Map<String, Element> oldTabs = new LinkedHashMap<>();
+        Map<String, Element> oldFields = new LinkedHashMap<>();
+        collect(oldRoot, oldTabs, oldFields);
+        Map<String, Element> newTabs = new LinkedHashMap<>();
+        Map<String, Element> newFields = new LinkedHashMap<>();
+        collect(newRoot, newTabs, newFields);
+
+        diffElements(Target.TAB, oldTabs, newTabs, TAB_SKIP, changes);
+        diffElements(Target.FIELD, oldFields, newFields, FIELD_SKIP, changes);
+
+        return new Result(changes);
+    }
+
+    /**
+     * Index tabs and fields by identity; a repeated ID gets an occurrence suffix so both copies are kept
+     */
+    static void collect(ObjectNode root, Map<String, Element> tabs, Map<String, Element> fields) {
+        JsonNode tabsNode = root.path("tabs");
+        for (int t = 0; t < tabsNode.size(); t++) {
+            JsonNode tabNode = tabsNode.get(t);
+            String tabKey = uniqueKey(tabs, text(tabNode, "tabId"));
+            tabs.put(tabKey, new Element(tabKey, null, t, tabNode));
+
+            JsonNode fieldsNode = tabNode.path("fields");
+            for (int f = 0; f < fieldsNode.size(); f++) {
+                JsonNode fieldNode = fieldsNode.get(f);
+                String fieldKey = uniqueKey(fields, text(fieldNode, "fieldId"));
+                fields.put(fieldKey, new Element(fieldKey, tabKey, f, fieldNode));
+            }
+        }
+    }
+
+    private static String uniqueKey(Map<String, Element> elements, String id) {
+        String key = id != null ? id : "";
+        for (int occurrence = 2; elements.containsKey(key); occurrence++) {
+            key = (id != null ? id : "") + "#" + occurrence;
+        }
+        return key;
+    }
+
+    private static void diffElements(Target target, Map<String, Element> oldElements, Map<String, Element> newElements,
+            Set<String> skip, List<Change> changes) {
+        for (Element removed : oldElements.values()) {
+            if (!newElements.containsKey(removed.id)) {
+                changes.add(new Change(target, ChangeType.REMOVED, removed.id, removed.parentId, null,
+                    removed.index, -1, Collections.emptyList()));
+            }
+        }
+
+        Set<String> moved = findMoved(oldElements, newElements);
+        for (Element element : newElements.values()) {
+            Element previous = oldElements.get(element.id);
+            if (previous == null) {
+                changes.add(new Change(target, ChangeType.ADDED, element.id, null, element.parentId,
+                    -1, element.index, Collections.emptyList()));
+                continue;
+            }
+            if (moved.contains(element.id)) {
+                changes.add(new Change(target, ChangeType.MOVED, element.id, previous.parentId, element.parentId,
+                    previous.index, element.index, Collections.emptyList()));
+            }
+            List<PropertyChange> properties = new ArrayList<>();
+            diffProperties("", previous.node, element.node, skip, properties);
+            if (!properties.isEmpty()) {
+                changes.add(new Change(target, ChangeType.CHANGED, element.id, previous.parentId, element.parentId,
+                    previous.index, element.index, properties));
+            }
+        }
+    }
+
+    /**
+     * Elements that changed parent, or whose order among the elements kept in the same parent changed.
+     * Per parent, the longest run of common elements still in increasing old order stays put
+     * (longest increasing subsequence, O(n log n)); everything else in that parent moved.
+     */
+    private static Set<String> findMoved(Map<String, Element> oldElements, Map<String, Element> newElements) {
+        Set<String> moved = new HashSet<>();
+        Map<String, List<Element>> keptByParent = new LinkedHashMap<>();
+        for (Element element : newElements.values()) {
+            Element previous = oldElements.get(element.id);
+            if (previous == null) {
+                continue;
+            }
+            if (!sameParent(previous.parentId, element.parentId)) {
+                moved.add(element.id);
+            } else {
+                keptByParent.computeIfAbsent(String.valueOf(element.parentId), key -> new ArrayList<>()).add(element);
+            }
+        }
+
+        for (List<Element> kept : keptByParent.values()) {
+            int[] oldIndexes = new int[kept.size()];
+            for (int i = 0; i < kept.size(); i++) {
+                oldIndexes[i] = oldElements.get(kept.get(i).id).index;
+            }
+            boolean[] stays = longestIncreasing(oldIndexes);
+            for (int i = 0; i < kept.size(); i++) {
+                if (!stays[i]) {
+                    moved.add(kept.get(i).id);
+                }
+            }
+        }
+        return moved;
+    }
+
+    private static boolean sameParent(String first, String second) {
+        return first == null ? second == null : first.equals(second);
+    }
+
+    /**
+     * Marks the members of one longest strictly increasing subsequence
+     */
+    private static boolean[] longestIncreasing(int[] values) {
+        int[] tails = new int[values.length];
+        int[] previous = new int[values.length];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] members = new boolean[values.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            members[i] = true;
+        }
+        return members;
+    }
+
+    /**
+     * Leaf-level differences between two objects, as dotted paths; arrays are compared as a whole
+     */
+    private static void diffProperties(String prefix, JsonNode oldNode, JsonNode newNode, Set<String> skip,
+            List<PropertyChange> changes) {
+        for (Iterator<Map.Entry<String, JsonNode>> fields = oldNode.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            if (prefix.isEmpty() && skip.contains(name)) {
+                continue;
+            }
+            JsonNode oldValue = field.getValue();
+            JsonNode newValue = newNode.get(name);
+            if (newValue != null && oldValue.isObject() && newValue.isObject()) {
+                diffProperties(prefix + name + ".", oldValue, newValue, skip, changes);
+            } else if (!oldValue.equals(newValue)) {
+                changes.add(new PropertyChange(prefix + name, oldValue, newValue));
+            }
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> fields = newNode.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            if (!oldNode.has(name) && !(prefix.isEmpty() && skip.contains(name))) {
+                changes.add(new PropertyChange(prefix + name, null, field.getValue()));
+            }
+        }
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    /**
+     * A tab or field in one version, with its position
+     */
+    static final class Element {
+        final String id;
+        final String parentId;
+        final int index;
+        final JsonNode node;
+
+        Element(String id, String parentId, int index, JsonNode node) {
+            this.id = id;
+            this.parentId = parentId;
+            this.index = index;
+            this.node = node;
+        }
+    }
+
+    /**
+     * One property that differs; a missing side is null
+     */
+    public static class PropertyChange {
+        private final String path;
+        private final JsonNode oldValue;
+        private final JsonNode newValue;
+
+        PropertyChange(String path, JsonNode oldValue, JsonNode newValue) {
+            this.path = path;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        public String getPath() { return path; }
+        public JsonNode getOldValue() { return oldValue; }
+        public JsonNode getNewValue() { return newValue; }
+
+        @Override
+        public String toString() {
+            return path + ": " + (oldValue != null ? oldValue : "(none)") + " -> " + (newValue != null ? newValue : "(none)");
+        }
+    }
+
+    /**
+     * One added, removed, moved or changed window, tab or field.
+     * For fields the parent is the tabId; indexes are positions within the parent (-1 if absent).
+     */
+    public static class Change {
+        private final Target target;
+        private final ChangeType type;
+        private final String id;
+        private final String oldParentId;
+        private final String newParentId;
+        private final int oldIndex;
+        private final int newIndex;
+        private final List<PropertyChange> properties;
+
+        Change(Target target, ChangeType type, String id, String oldParentId, String newParentId,
+                int oldIndex, int newIndex, List<PropertyChange> properties) {
+            this.target = target;
+            this.type = type;
+            this.id = id;
+            this.oldParentId = oldParentId;
+            this.newParentId = newParentId;
+            this.oldIndex = oldIndex;
+            this.newIndex = newIndex;
+            this.properties = properties;
+        }
+
+        public Target getTarget() { return target; }
+        public ChangeType getType() { return type; }
+        public String getId() { return id; }
+        public String getOldParentId() { return oldParentId; }
+        public String getNewParentId() { return newParentId; }
+        public int getOldIndex() { return oldIndex; }
+        public int getNewIndex() { return newIndex; }
+        public List<PropertyChange> getProperties() { return Collections.unmodifiableList(properties); }
+
+        @Override
+        public String toString() {
+            String subject = target.name().toLowerCase() + " " + id;
+            switch (type) {
+                case ADDED:
+                    return "+ " + subject + location(newParentId, newIndex);
+                case REMOVED:
+                    return "- " + subject + location(oldParentId, oldIndex);
+                case MOVED:
+                    return "> " + subject + location(oldParentId, oldIndex) + " ->" + location(newParentId, newIndex);
+                default:
+                    StringBuilder text = new StringBuilder("~ ").append(subject);
+                    for (PropertyChange property : properties) {
+                        text.append("\n    ").append(property);
+                    }
+                    return text.toString();
+            }
+        }
+
+        private static String location(String parentId, int index) {
+            return parentId != null ? " " + parentId + "[" + index + "]" : " [" + index + "]";
+        }
+    }
+
+    /**
+     * All changes: window properties first, then tabs, then fields; removals before the rest
+     */
+    public static class Result {
+        private final List<Change> changes;
+
+        Result(List<Change> changes) {
+            this.changes = changes;
+        }
+
+        public List<Change> getChanges() {
+            return Collections.unmodifiableList(changes);
+        }
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+
+        public int count(Target target, ChangeType type) {
+            int count = 0;
+            for (Change change : changes) {
+                if (change.target == target && change.type == type) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public String getSummary() {
+            if (changes.isEmpty()) {
+                return "No differences";
+            }
+            StringBuilder summary = new StringBuilder();
+            for (Target target : Arrays.asList(Target.TAB, Target.FIELD)) {
+                for (ChangeType type : ChangeType.values()) {
+                    int count = count(target, type);
+                    if (count > 0) {
+                        summary.append(summary.length() > 0 ? ", " : "")
+                            .append(count).append(' ').append(target.name().toLowerCase())
+                            .append(count == 1 ? "" : "s").append(' ').append(type.name().toLowerCase());
+                    }
+                }
+            }
+            if (count(Target.WINDOW, ChangeType.CHANGED) > 0) {
+                summary.insert(0, summary.length() > 0 ? "window changed, " : "window changed");
+            }
+            return summary.toString();
+        }
+
+        /**
+         * Machine-readable form of the changes, for scripts and the CLI's --json option
+         */
+        public ArrayNode toJson(ObjectMapper mapper) {
+            ArrayNode array = mapper.createArrayNode();
+            for (Change change : changes) {
+                ObjectNode node = array.addObject();
+                node.put("target", change.target.name());
+                node.put("type", change.type.name());
+                node.put("id", change.id);
+                if (change.oldIndex >= 0) {
+                    node.put("oldParent", change.oldParentId);
+                    node.put("oldIndex", change.oldIndex);
+                }
+                if (change.newIndex >= 0) {
+                    node.put("newParent", change.newParentId);
+                    node.put("newIndex", change.newIndex);
+                }
+                if (!change.properties.isEmpty()) {
+                    ArrayNode properties = node.putArray("properties");
+                    for (PropertyChange property : change.properties) {
+                        ObjectNode propertyNode = properties.addObject();
+                        propertyNode.put("path", property.path);
+                        propertyNode.set("old", property.oldValue);
+                        propertyNode.set("new", property.newValue);
+                    }
+                }
+            }
+            return array;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            for (Iterator<Change> iterator = changes.iterator(); iterator.hasNext(); ) {
+                text.append(iterator.next());
+                if (iterator.hasNext()) {
+                    text.append('\n');
+                }
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Compare two form files (text or binary). Exit code 0 when equal, 1 when different, 2 on error.
+     */
+    public static void main(String[] args) {
+        List<String> files = new ArrayList<>();
+        boolean json = false;
+        for (String arg : args) {
+            if ("--json".equals(arg)) {
+                json = true;
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.size() != 2) {
+            System.err.println("Usage: FormDiff [--json] <old form> <new form>");
+            System.exit(2);
+        }
+
+        // stdout carries the diff (git diff.textconv, scripts); keep parser chatter out of it
+        LogLevelManager.applyCommandLineLevel();
+        try {
+            JsonParser jsonParser = new JsonParser();
+            WindowDefinition oldWindow = jsonParser.parseFile(new File(files.get(0)));
+            WindowDefinition newWindow = jsonParser.parseFile(new File(files.get(1)));
+            Result result = new FormDiff().compare(oldWindow, newWindow);
+
+            if (json) {
+                ObjectMapper mapper = new ObjectMapper();
+                System.out.println(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(result.toJson(mapper)));
+            } else {
+                if (!result.isEmpty()) {
+                    System.out.println(result);
+                }
+                System.out.println(result.getSummary());
+            }
+            System.exit(result.isEmpty() ? 0 : 1);
+        } catch (Exception e) {
+            System.err.println("FormDiff failed: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
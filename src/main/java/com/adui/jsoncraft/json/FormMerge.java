@@ -0,0 +1,586 @@
+package com.adui.jsoncraft.json;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.adui.jsoncraft.json.FormDiff.Element;
+import com.adui.jsoncraft.json.FormDiff.Target;
+import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
+import com.adui.jsoncraft.json.JsonParser.JsonParseException;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.LogLevelManager;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Three-way merge of window versions (base, ours, theirs). Tabs and fields are matched by ID as
+ * in {@link FormDiff}; objects are merged key by key, while arrays (task lists, reference values,
+ * allowed file types) are taken whole from one side so they are never spliced into an invalid
+ * state. Edits made on only one side are applied automatically; the rest is reported as
+ * {@link Conflict}s and resolved to "ours" unless a resolution is passed in. The merge is linear
+ * in the size of the three forms, so re-running it with different resolutions is cheap.
+ */
+public class FormMerge {
+    private static final MetricsRegistry.Timer MERGE_TIMER = MetricsRegistry.getInstance().timer("json.merge");
+
+    private static final Set<String> WINDOW_SKIP = Collections.singleton("tabs");
+    private static final Set<String> TAB_SKIP = Collections.singleton("fields");
+    private static final Set<String> FIELD_SKIP = Collections.singleton("sequence");
+
+    public enum Side { OURS, THEIRS }
+
+    public enum ConflictKind {
+        /** Both sides changed the same property differently */
+        PROPERTY,
+        /** One side deleted the tab or field, the other changed it */
+        DELETE_MODIFY,
+        /** Both sides moved the field to different tabs */
+        LOCATION,
+        /** Both sides reordered the same tabs or fields differently */
+        ORDER
+    }
+
+    private final JsonGenerator canonicalGenerator;
+    private final JsonParser jsonParser;
+
+    public FormMerge() {
+        this.canonicalGenerator = new JsonGenerator(false, false);
+        this.canonicalGenerator.setCanonical(true);
+        this.jsonParser = new JsonParser();
+    }
+
+    /**
+     * Merge with every conflict resolved to ours
+     */
+    public Result merge(WindowDefinition base, WindowDefinition ours, WindowDefinition theirs)
+            throws JsonGenerationException, JsonParseException {
+        return merge(base, ours, theirs, Collections.emptyMap());
+    }
+
+    /**
+     * Merge, resolving conflicts by {@link Conflict#getKey()}; conflicts not in the map go to ours.
+     * Base may be null when the versions have no common ancestor.
+     */
+    public Result merge(WindowDefinition base, WindowDefinition ours, WindowDefinition theirs, Map<String, Side> resolutions)
+            throws JsonGenerationException, JsonParseException {
+        long timing = MERGE_TIMER.start();
+        try {
+            ObjectNode baseRoot = base != null ? canonicalGenerator.generateJsonNode(base) : JsonNodeFactory.instance.objectNode();
+            ObjectNode oursRoot = canonicalGenerator.generateJsonNode(ours);
+            ObjectNode theirsRoot = canonicalGenerator.generateJsonNode(theirs);
+
+            Merger merger = new Merger(resolutions);
+            ObjectNode merged = merger.mergeWindow(baseRoot, oursRoot, theirsRoot);
+            return new Result(jsonParser.parseTree(merged), merger.conflicts, merger.theirsApplied);
+        } finally {
+            MERGE_TIMER.stop(timing);
+        }
+    }
+
+    /**
+     * State of one merge run
+     */
+    private static final class Merger {
+        final Map<String, Side> resolutions;
+        final List<Conflict> conflicts = new ArrayList<>();
+        int theirsApplied;
+
+        Merger(Map<String, Side> resolutions) {
+            this.resolutions = resolutions;
+        }
+
+        Side resolve(Conflict conflict) {
+            conflict.resolution = resolutions.getOrDefault(conflict.getKey(), Side.OURS);
+            conflicts.add(conflict);
+            return conflict.resolution;
+        }
+
+        ObjectNode mergeWindow(ObjectNode base, ObjectNode ours, ObjectNode theirs) {
+            String windowId = text(ours, "windowId");
+            ObjectNode merged = mergeObject(Target.WINDOW, windowId, "", base, ours, theirs, WINDOW_SKIP);
+
+            Map<String, Element> baseTabs = new LinkedHashMap<>();
+            Map<String, Element> baseFields = new LinkedHashMap<>();
+            FormDiff.collect(base, baseTabs, baseFields);
+            Map<String, Element> oursTabs = new LinkedHashMap<>();
+            Map<String, Element> oursFields = new LinkedHashMap<>();
+            FormDiff.collect(ours, oursTabs, oursFields);
+            Map<String, Element> theirsTabs = new LinkedHashMap<>();
+            Map<String, Element> theirsFields = new LinkedHashMap<>();
+            FormDiff.collect(theirs, theirsTabs, theirsFields);
+
+            // A tab one side deleted counts as modified by the other if that side added or changed fields in it
+            Map<String, JsonNode> tabs = mergeElements(Target.TAB, baseTabs, oursTabs, theirsTabs, TAB_SKIP,
+                touchedParents(baseFields, oursFields), touchedParents(baseFields, theirsFields));
+            List<String> tabOrder = order(Target.WINDOW, windowId, new ArrayList<>(baseTabs.keySet()),
+                new ArrayList<>(oursTabs.keySet()), new ArrayList<>(theirsTabs.keySet()), tabs.keySet());
+            Map<String, String> fieldParents = new LinkedHashMap<>();
+            Map<String, JsonNode> fields = mergeElements(Target.FIELD, baseFields, oursFields, theirsFields, FIELD_SKIP,
+                Collections.emptySet(), Collections.emptySet());
+            for (Iterator<String> keys = fields.keySet().iterator(); keys.hasNext(); ) {
+                String fieldKey = keys.next();
+                Element baseField = baseFields.get(fieldKey);
+                Element oursField = oursFields.get(fieldKey);
+                Element theirsField = theirsFields.get(fieldKey);
+                String parent = mergeParent(fieldKey, baseField, oursField, theirsField);
+                if (!tabs.containsKey(parent)) {
+                    parent = survivingParent(tabs.keySet(), oursField, theirsField, baseField);
+                }
+                if (parent == null) {
+                    parent = orphanParent(fieldKey, tabOrder, baseField, oursField, theirsField);
+                }
+                if (parent == null) {
+                    keys.remove();
+                } else {
+                    fieldParents.put(fieldKey, parent);
+                }
+            }
+
+            Map<String, Set<String>> members = new HashMap<>();
+            for (Map.Entry<String, String> entry : fieldParents.entrySet()) {
+                members.computeIfAbsent(entry.getValue(), key -> new LinkedHashSet<>()).add(entry.getKey());
+            }
+            Map<String, List<String>> baseOrder = childOrder(baseFields);
+            Map<String, List<String>> oursOrder = childOrder(oursFields);
+            Map<String, List<String>> theirsOrder = childOrder(theirsFields);
+
+            ArrayNode tabsArray = merged.putArray("tabs");
+            for (String tabKey : tabOrder) {
+                // Shallow copies: the side trees are shared, only the top level is rewritten
+                ObjectNode tabNode = JsonNodeFactory.instance.objectNode().setAll((ObjectNode) tabs.get(tabKey));
+                ArrayNode fieldsArray = tabNode.putArray("fields");
+                List<String> fieldOrder = order(Target.TAB, tabKey,
+                    baseOrder.getOrDefault(tabKey, Collections.emptyList()),
+                    oursOrder.getOrDefault(tabKey, Collections.emptyList()),
+                    theirsOrder.getOrDefault(tabKey, Collections.emptyList()),
+                    members.getOrDefault(tabKey, Collections.emptySet()));
+                for (String fieldKey : fieldOrder) {
+                    ObjectNode fieldNode = JsonNodeFactory.instance.objectNode().setAll((ObjectNode) fields.get(fieldKey));
+                    fieldNode.put("sequence", (fieldsArray.size() + 1) * 10);
+                    fieldsArray.add(fieldNode);
+                }
+                tabsArray.add(tabNode);
+            }
+            return merged;
+        }
+
+        /**
+         * First of the field's tabs (ours, theirs, base) that is still in the merge, for a field
+         * whose merged tab was deleted by a resolution although the field itself was not
+         */
+        private static String survivingParent(Set<String> tabs, Element... candidates) {
+            for (Element candidate : candidates) {
+                if (candidate != null && tabs.contains(candidate.parentId)) {
+                    return candidate.parentId;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * None of the field's tabs survived: report it as a deletion conflict on the field. When the
+         * chosen side has the field it goes to the first merged tab; otherwise it is dropped.
+         */
+        private String orphanParent(String key, List<String> tabOrder, Element base, Element ours, Element theirs) {
+            Side keep = resolve(new Conflict(ConflictKind.DELETE_MODIFY, Target.FIELD, key, null,
+                base != null ? base.node : null, ours != null ? ours.node : null, theirs != null ? theirs.node : null));
+            boolean kept = (keep == Side.OURS ? ours : theirs) != null;
+            return kept && !tabOrder.isEmpty() ? tabOrder.get(0) : null;
+        }
+
+        /**
+         * Merge tabs or fields by key; returns the merged property nodes in ours-then-theirs order
+         */
+        Map<String, JsonNode> mergeElements(Target target, Map<String, Element> base, Map<String, Element> ours,
+                Map<String, Element> theirs, Set<String> skip, Set<String> oursTouched, Set<String> theirsTouched) {
+            Set<String> keys = new LinkedHashSet<>(ours.keySet());
+            keys.addAll(theirs.keySet());
+
+            Map<String, JsonNode> merged = new LinkedHashMap<>();
+            for (String key : keys) {
+                Element baseElement = base.get(key);
+                Element oursElement = ours.get(key);
+                Element theirsElement = theirs.get(key);
+
+                if (oursElement != null && theirsElement != null) {
+                    ObjectNode baseNode = baseElement != null ? (ObjectNode) baseElement.node : null;
+                    merged.put(key, mergeObject(target, key, "", baseNode,
+                        (ObjectNode) oursElement.node, (ObjectNode) theirsElement.node, skip));
+                    continue;
+                }
+
+                Element present = oursElement != null ? oursElement : theirsElement;
+                Side presentSide = oursElement != null ? Side.OURS : Side.THEIRS;
+                if (baseElement == null) {
+                    // Added on one side only
+                    merged.put(key, present.node);
+                    if (presentSide == Side.THEIRS) {
+                        theirsApplied++;
+                    }
+                    continue;
+                }
+
+                // Deleted on the other side: a conflict only if this side changed it
+                boolean modified = !sameProperties(baseElement.node, present.node, skip)
+                    || !Objects.equals(baseElement.parentId, present.parentId)
+                    || (presentSide == Side.OURS ? oursTouched : theirsTouched).contains(key);
+                if (!modified) {
+                    if (presentSide == Side.OURS) {
+                        theirsApplied++;  // their deletion
+                    }
+                    continue;
+                }
+                Side keep = resolve(new Conflict(ConflictKind.DELETE_MODIFY, target, key, null,
+                    baseElement.node, oursElement != null ? oursElement.node : null,
+                    theirsElement != null ? theirsElement.node : null));
+                if (keep == presentSide) {
+                    merged.put(key, present.node);
+                }
+            }
+            return merged;
+        }
+
+        String mergeParent(String key, Element base, Element ours, Element theirs) {
+            if (ours == null || theirs == null) {
+                return (ours != null ? ours : theirs).parentId;
+            }
+            String baseParent = base != null ? base.parentId : null;
+            if (Objects.equals(ours.parentId, theirs.parentId)) {
+                return ours.parentId;
+            }
+            if (Objects.equals(baseParent, ours.parentId)) {
+                theirsApplied++;
+                return theirs.parentId;
+            }
+            if (Objects.equals(baseParent, theirs.parentId)) {
+                return ours.parentId;
+            }
+            JsonNodeFactory nodes = JsonNodeFactory.instance;
+            Side side = resolve(new Conflict(ConflictKind.LOCATION, Target.FIELD, key, null,
+                baseParent != null ? nodes.textNode(baseParent) : null,
+                nodes.textNode(ours.parentId), nodes.textNode(theirs.parentId)));
+            return side == Side.OURS ? ours.parentId : theirs.parentId;
+        }
+
+        ObjectNode mergeObject(Target target, String id, String prefix, ObjectNode base, ObjectNode ours,
+                ObjectNode theirs, Set<String> skip) {
+            Set<String> names = new LinkedHashSet<>();
+            ours.fieldNames().forEachRemaining(names::add);
+            theirs.fieldNames().forEachRemaining(names::add);
+
+            ObjectNode merged = JsonNodeFactory.instance.objectNode();
+            for (String name : names) {
+                if (prefix.isEmpty() && skip.contains(name)) {
+                    continue;
+                }
+                JsonNode value = mergeValue(target, id, prefix + name,
+                    base != null ? base.get(name) : null, ours.get(name), theirs.get(name));
+                if (value != null) {
+                    merged.set(name, value);
+                }
+            }
+            return merged;
+        }
+
+        JsonNode mergeValue(Target target, String id, String path, JsonNode base, JsonNode ours, JsonNode theirs) {
+            if (Objects.equals(ours, theirs) || Objects.equals(base, theirs)) {
+                return ours;
+            }
+            if (Objects.equals(base, ours)) {
+                theirsApplied++;
+                return theirs;
+            }
+            if (ours != null && theirs != null && ours.isObject() && theirs.isObject() && (base == null || base.isObject())) {
+                return mergeObject(target, id, path + ".", (ObjectNode) base, (ObjectNode) ours, (ObjectNode) theirs,
+                    Collections.emptySet());
+            }
+            Side side = resolve(new Conflict(ConflictKind.PROPERTY, target, id, path, base, ours, theirs));
+            return side == Side.OURS ? ours : theirs;
+        }
+
+        /**
+         * Merged order of the members of one container. The side that reordered the common elements
+         * provides the skeleton; elements only the other side placed here are inserted after their
+         * nearest predecessor from that side.
+         */
+        List<String> order(Target container, String containerId, List<String> base, List<String> ours,
+                List<String> theirs, Set<String> members) {
+            Set<String> oursSet = new HashSet<>(ours);
+            Set<String> theirsSet = new HashSet<>(theirs);
+            Set<String> common = new HashSet<>();
+            for (String key : base) {
+                if (members.contains(key) && oursSet.contains(key) && theirsSet.contains(key)) {
+                    common.add(key);
+                }
+            }
+            List<String> baseCommon = filter(base, common);
+            List<String> oursCommon = filter(ours, common);
+            List<String> theirsCommon = filter(theirs, common);
+            boolean oursReordered = !baseCommon.equals(oursCommon);
+            boolean theirsReordered = !baseCommon.equals(theirsCommon);
+
+            Side skeletonSide = Side.OURS;
+            if (theirsReordered && !oursReordered) {
+                skeletonSide = Side.THEIRS;
+                theirsApplied++;
+            } else if (oursReordered && theirsReordered && !oursCommon.equals(theirsCommon)) {
+                skeletonSide = resolve(new Conflict(ConflictKind.ORDER, container, containerId, null, null, null, null));
+            }
+
+            List<String> skeleton = filter(skeletonSide == Side.OURS ? ours : theirs, members);
+            List<String> other = filter(skeletonSide == Side.OURS ? theirs : ours, members);
+            Set<String> inSkeleton = new HashSet<>(skeleton);
+            List<String> head = new ArrayList<>();
+            Map<String, List<String>> insertedAfter = new HashMap<>();
+            String anchor = null;
+            for (String key : other) {
+                if (inSkeleton.contains(key)) {
+                    anchor = key;
+                } else {
+                    (anchor == null ? head : insertedAfter.computeIfAbsent(anchor, k -> new ArrayList<>())).add(key);
+                }
+            }
+
+            List<String> result = new ArrayList<>(members.size());
+            result.addAll(head);
+            for (String key : skeleton) {
+                result.add(key);
+                List<String> inserted = insertedAfter.get(key);
+                if (inserted != null) {
+                    result.addAll(inserted);
+                }
+            }
+            if (result.size() < members.size()) {
+                // Members neither side had here, e.g. fields whose own tab was deleted go last
+                Set<String> placed = new HashSet<>(result);
+                for (String key : members) {
+                    if (!placed.contains(key)) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static List<String> filter(List<String> keys, Set<String> keep) {
+            List<String> filtered = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                if (keep.contains(key)) {
+                    filtered.add(key);
+                }
+            }
+            return filtered;
+        }
+
+        /**
+         * Tabs in which a side added, moved in or changed a field compared to base
+         */
+        private static Set<String> touchedParents(Map<String, Element> base, Map<String, Element> side) {
+            Set<String> touched = new HashSet<>();
+            for (Element element : side.values()) {
+                Element baseElement = base.get(element.id);
+                if (baseElement == null || !Objects.equals(baseElement.parentId, element.parentId)
+                        || !sameProperties(baseElement.node, element.node, FIELD_SKIP)) {
+                    touched.add(element.parentId);
+                }
+            }
+            return touched;
+        }
+
+        private static Map<String, List<String>> childOrder(Map<String, Element> elements) {
+            Map<String, List<String>> order = new HashMap<>();
+            for (Element element : elements.values()) {
+                order.computeIfAbsent(element.parentId, key -> new ArrayList<>()).add(element.id);
+            }
+            return order;
+        }
+
+        private static boolean sameProperties(JsonNode first, JsonNode second, Set<String> skip) {
+            if (first.size() - countSkipped(first, skip) != second.size() - countSkipped(second, skip)) {
+                return false;
+            }
+            for (Iterator<Map.Entry<String, JsonNode>> fields = first.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!skip.contains(field.getKey()) && !field.getValue().equals(second.get(field.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int countSkipped(JsonNode node, Set<String> skip) {
+            int count = 0;
+            for (String name : skip) {
+                if (node.has(name)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private static String text(JsonNode node, String name) {
+            JsonNode value = node.get(name);
+            return value != null && !value.isNull() ? value.asText() : null;
+        }
+    }
+
+    /**
+     * Something both sides changed incompatibly. Values are the canonical JSON of each side; null if absent.
+     */
+    public static class Conflict {
+        private final ConflictKind kind;
+        private final Target target;
+        private final String id;
+        private final String path;
+        private final JsonNode baseValue;
+        private final JsonNode oursValue;
+        private final JsonNode theirsValue;
+        private Side resolution;
+
+        Conflict(ConflictKind kind, Target target, String id, String path,
+                JsonNode baseValue, JsonNode oursValue, JsonNode theirsValue) {
+            this.kind = kind;
+            this.target = target;
+            this.id = id;
+            this.path = path;
+            this.baseValue = baseValue;
+            this.oursValue = oursValue;
+            this.theirsValue = theirsValue;
+        }
+
+        /**
+         * Stable identity of the conflict, used to pass resolutions back into {@link FormMerge#merge}
+         */
+        public String getKey() {
+            return target + ":" + id + ":" + (path != null ? path : kind.name());
+        }
+
+        public ConflictKind getKind() { return kind; }
+        public Target getTarget() { return target; }
+        public String getId() { return id; }
+        public String getPath() { return path; }
+        public JsonNode getBaseValue() { return baseValue; }
+        public JsonNode getOursValue() { return oursValue; }
+        public JsonNode getTheirsValue() { return theirsValue; }
+        public Side getResolution() { return resolution; }
+
+        @Override
+        public String toString() {
+            String subject = target.name().toLowerCase() + " " + id + (path != null ? " " + path : "");
+            switch (kind) {
+                case DELETE_MODIFY:
+                    return "! " + subject + ": deleted by " + (oursValue == null ? "ours" : "theirs")
+                        + ", changed by " + (oursValue == null ? "theirs" : "ours") + " -> " + resolution;
+                case ORDER:
+                    return "! " + subject + ": reordered differently on both sides -> " + resolution;
+                default:
+                    return "! " + subject + ": base " + describe(baseValue) + ", ours " + describe(oursValue)
+                        + ", theirs " + describe(theirsValue) + " -> " + resolution;
+            }
+        }
+
+        private static String describe(JsonNode value) {
+            return value != null ? value.toString() : "(none)";
+        }
+    }
+
+    /**
+     * Merged window plus what could not be merged automatically
+     */
+    public static class Result {
+        private final WindowDefinition mergedWindow;
+        private final List<Conflict> conflicts;
+        private final int theirsApplied;
+
+        Result(WindowDefinition mergedWindow, List<Conflict> conflicts, int theirsApplied) {
+            this.mergedWindow = mergedWindow;
+            this.conflicts = conflicts;
+            this.theirsApplied = theirsApplied;
+        }
+
+        public WindowDefinition getMergedWindow() { return mergedWindow; }
+        public List<Conflict> getConflicts() { return Collections.unmodifiableList(conflicts); }
+        public boolean hasConflicts() { return !conflicts.isEmpty(); }
+
+        /**
+         * Number of their changes (properties, added/deleted elements, moves) applied without conflict
+         */
+        public int getTheirsApplied() { return theirsApplied; }
+
+        public String getSummary() {
+            return String.format("%d change%s merged from theirs, %d conflict%s",
+                theirsApplied, theirsApplied == 1 ? "" : "s", conflicts.size(), conflicts.size() == 1 ? "" : "s");
+        }
+    }
+
+    /**
+     * Headless merge, usable as a git merge driver. Exit code 0 when clean, 1 when there were
+     * conflicts (resolved to ours, or theirs with --theirs), 2 on error.
+     */
+    public static void main(String[] args) {
+        List<String> files = new ArrayList<>();
+        Side defaultSide = Side.OURS;
+        for (String arg : args) {
+            if ("--theirs".equals(arg)) {
+                defaultSide = Side.THEIRS;
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.size() < 3 || files.size() > 4) {
+            System.err.println("Usage: FormMerge [--theirs] <base> <ours> <theirs> [output]");
+            System.exit(2);
+        }
+
+        // Without an output file the merged form goes to stdout (git merge driver); keep logging off it
+        LogLevelManager.applyCommandLineLevel();
+        try {
+            JsonParser jsonParser = new JsonParser();
+            File baseFile = new File(files.get(0));
+            WindowDefinition base = baseFile.length() > 0 ? jsonParser.parseFile(baseFile) : null;
+            WindowDefinition ours = jsonParser.parseFile(new File(files.get(1)));
+            WindowDefinition theirs = jsonParser.parseFile(new File(files.get(2)));
+
+            FormMerge formMerge = new FormMerge();
+            Result result = formMerge.merge(base, ours, theirs);
+            if (result.hasConflicts() && defaultSide == Side.THEIRS) {
+                Map<String, Side> resolutions = new HashMap<>();
+                result.getConflicts().forEach(conflict -> resolutions.put(conflict.getKey(), Side.THEIRS));
+                result = formMerge.merge(base, ours, theirs, resolutions);
+            }
+            result.getConflicts().forEach(System.err::println);
+            System.err.println(result.getSummary());
+
+            if (files.size() == 4) {
+                File output = new File(files.get(3));
+                if (BinaryFormat.hasBinaryExtension(output)) {
+                    new BinaryFormat().writeFile(result.getMergedWindow(), output);
+                } else {
+                    String json = new JsonGenerator().generateJson(result.getMergedWindow());
+                    Files.write(output.toPath(), json.getBytes(StandardCharsets.UTF_8));
+                }
+            } else {
+                System.out.println(new JsonGenerator().generateJson(result.getMergedWindow()));
+            }
+            System.exit(result.hasConflicts() ? 1 : 0);
+        } catch (Exception e) {
+            System.err.println("FormMerge failed: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.adui.jsoncraft.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,9 +19,13 @@ import com.adui.jsoncraft.model.ReferenceData;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.ValidationRules;
 import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.FormEvents;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.fasterxml.jackson.core.JsonGenerator.Feature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
@@ -24,11 +35,21 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class JsonGenerator {
     private static final Logger logger = LoggerFactory.getLogger(JsonGenerator.class);
+    private static final MetricsRegistry.Timer GENERATE_TIMER = MetricsRegistry.getInstance().timer("json.generate");
+    
+    // Metadata that changes on every save without the form changing
+    private static final Set<String> VOLATILE_METADATA = Collections.singleton("lastModified");
     
     private final ObjectMapper objectMapper;
     private final boolean prettyPrint;
     private final boolean includeComments;
     
+    // Emit reference sets once in a top-level "references" block and point fields at them by id
+    private boolean shareReferences;
+    
+    // Sorted keys and no volatile metadata, so identical forms produce identical bytes
+    private boolean canonical;
+    
     public JsonGenerator() {
         this(true, false);
     }
@@ -39,22 +60,90 @@ public class JsonGenerator {
         this.includeComments = includeComments;
     }
     
+    public boolean isShareReferences() {
+        return shareReferences;
+    }
+    
+    public void setShareReferences(boolean shareReferences) {
+        this.shareReferences = shareReferences;
+    }
+    
+    public boolean isCanonical() {
+        return canonical;
+    }
+    
+    /**
+     * Canonical output: object keys sorted at every level and lastModified omitted
+     */
+    public void setCanonical(boolean canonical) {
+        this.canonical = canonical;
+        // Sorted object nodes are built directly, including those from valueToTree
+        objectMapper.setNodeFactory(canonical ? new SortedNodeFactory() : JsonNodeFactory.instance);
+    }
+    
     /**
      * Generate JSON string from WindowDefinition
      */
     public String generateJson(WindowDefinition window) throws JsonGenerationException {
+        long timing = GENERATE_TIMER.start();
+        FormEvents.GenerateEvent event = new FormEvents.GenerateEvent();
+        event.begin();
+        String json = null;
         try {
             ObjectNode rootNode = generateJsonNode(window);
             
             if (prettyPrint) {
-                return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
+                json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
             } else {
-                return objectMapper.writeValueAsString(rootNode);
+                json = objectMapper.writeValueAsString(rootNode);
             }
+            return json;
             
         } catch (Exception e) {
             logger.error("Failed to generate JSON for window: {}", window.getWindowId(), e);
             throw new JsonGenerationException("Failed to generate JSON", e);
+        } finally {
+            GENERATE_TIMER.stop(timing);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setWindow(window);
+                event.success = json != null;
+                event.characters = json != null ? json.length() : 0;
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Stream JSON for a WindowDefinition to an output stream (UTF-8) without building a String.
+     * The stream is flushed but left open so several forms can go into one archive.
+     */
+    public void writeJson(WindowDefinition window, OutputStream out) throws JsonGenerationException {
+        long timing = GENERATE_TIMER.start();
+        FormEvents.GenerateEvent event = new FormEvents.GenerateEvent();
+        event.begin();
+        boolean success = false;
+        try (com.fasterxml.jackson.core.JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(Feature.AUTO_CLOSE_TARGET);
+            if (prettyPrint) {
+                generator.useDefaultPrettyPrinter();
+            }
+            objectMapper.writeTree(generator, generateJsonNode(window));
+            generator.flush();
+            success = true;
+        } catch (JsonGenerationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Failed to write JSON for window: {}", window.getWindowId(), e);
+            throw new JsonGenerationException("Failed to write JSON", e);
+        } finally {
+            GENERATE_TIMER.stop(timing);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setWindow(window);
+                event.success = success;
+                event.commit();
+            }
         }
     }
     
@@ -82,8 +171,19 @@ public class JsonGenerator {
             rootNode.put("help", window.getHelp());
         }
         
+        // Generate shared reference definitions
+        Map<String, ReferenceData> sharedReferences = shareReferences 
+            ? collectSharedReferences(window) : Collections.emptyMap();
+        if (!sharedReferences.isEmpty()) {
+            ObjectNode referencesNode = objectMapper.createObjectNode();
+            for (Map.Entry<String, ReferenceData> entry : sharedReferences.entrySet()) {
+                referencesNode.set(entry.getKey(), generateReferenceNode(entry.getValue()));
+            }
+            rootNode.set("references", referencesNode);
+        }
+        
         // Generate tabs array
-        ArrayNode tabsArray = generateTabsArray(window.getTabs());
+        ArrayNode tabsArray = generateTabsArray(window.getTabs(), sharedReferences);
         rootNode.set("tabs", tabsArray);
         
         // Generate metadata
@@ -96,12 +196,12 @@ public class JsonGenerator {
     /**
      * Generate tabs array
      */
-    private ArrayNode generateTabsArray(java.util.List<TabDefinition> tabs) throws JsonGenerationException {
+    private ArrayNode generateTabsArray(java.util.List<TabDefinition> tabs, Map<String, ReferenceData> sharedReferences) throws JsonGenerationException {
         ArrayNode tabsArray = objectMapper.createArrayNode();
         
         if (tabs != null) {
             for (TabDefinition tab : tabs) {
-                ObjectNode tabNode = generateTabNode(tab);
+                ObjectNode tabNode = generateTabNode(tab, sharedReferences);
                 tabsArray.add(tabNode);
             }
         }
@@ -112,7 +212,7 @@ public class JsonGenerator {
     /**
      * Generate individual tab node
      */
-    private ObjectNode generateTabNode(TabDefinition tab) throws JsonGenerationException {
+    private ObjectNode generateTabNode(TabDefinition tab, Map<String, ReferenceData> sharedReferences) throws JsonGenerationException {
         ObjectNode tabNode = objectMapper.createObjectNode();
         
         tabNode.put("tabId", tab.getTabId());
@@ -141,7 +241,7 @@ public class JsonGenerator {
         }
         
         // Generate fields array
-        ArrayNode fieldsArray = generateFieldsArray(tab.getFields());
+        ArrayNode fieldsArray = generateFieldsArray(tab.getFields(), sharedReferences);
         tabNode.set("fields", fieldsArray);
         
         return tabNode;
@@ -150,12 +250,12 @@ public class JsonGenerator {
     /**
      * Generate fields array
      */
-    private ArrayNode generateFieldsArray(java.util.List<FieldDefinition> fields) throws JsonGenerationException {
+    private ArrayNode generateFieldsArray(java.util.List<FieldDefinition> fields, Map<String, ReferenceData> sharedReferences) throws JsonGenerationException {
         ArrayNode fieldsArray = objectMapper.createArrayNode();
         
         if (fields != null) {
             for (FieldDefinition field : fields) {
-                ObjectNode fieldNode = generateFieldNode(field);
+                ObjectNode fieldNode = generateFieldNode(field, sharedReferences);
                 fieldsArray.add(fieldNode);
             }
         }
@@ -166,7 +266,7 @@ public class JsonGenerator {
     /**
      * Generate individual field node
      */
-    private ObjectNode generateFieldNode(FieldDefinition field) throws JsonGenerationException {
+    private ObjectNode generateFieldNode(FieldDefinition field, Map<String, ReferenceData> sharedReferences) throws JsonGenerationException {
         ObjectNode fieldNode = objectMapper.createObjectNode();
         
         fieldNode.put("fieldId", field.getFieldId());
@@ -214,10 +314,17 @@ public class JsonGenerator {
             fieldNode.set("data", dataNode);
         }
         
-        // Add reference data
-        if (field.getReference() != null) {
-            ObjectNode referenceNode = generateReferenceNode(field.getReference());
-            fieldNode.set("reference", referenceNode);
+        // Add reference data (id only when it is emitted in the shared block)
+        ReferenceData reference = field.getReference();
+        if (reference != null) {
+            ReferenceData shared = reference.getId() != null ? sharedReferences.get(reference.getId()) : null;
+            if (shared != null && (shared == reference || shared.contentEquals(reference))) {
+                ObjectNode referenceNode = objectMapper.createObjectNode();
+                referenceNode.put("id", reference.getId());
+                fieldNode.set("reference", referenceNode);
+            } else {
+                fieldNode.set("reference", generateReferenceNode(reference));
+            }
         }
         
         return fieldNode;
@@ -332,6 +439,19 @@ public class JsonGenerator {
         return dataNode;
     }
     
+    /**
+     * Stream the JSON of one reference set, as it is written inside a field, to an output stream (UTF-8)
+     */
+    public void writeReferenceJson(ReferenceData reference, OutputStream out) throws JsonGenerationException {
+        try (com.fasterxml.jackson.core.JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeTree(generator, generateReferenceNode(reference));
+            generator.flush();
+        } catch (IOException e) {
+            throw new JsonGenerationException("Failed to write reference JSON", e);
+        }
+    }
+    
     /**
      * Generate reference data node
      */
@@ -374,6 +494,38 @@ public class JsonGenerator {
         return referenceNode;
     }
     
+    /**
+     * Collect reference sets that can be emitted once by id.
+     * Ids used with differing content stay inline so no field resolves to the wrong list.
+     */
+    private Map<String, ReferenceData> collectSharedReferences(WindowDefinition window) {
+        Map<String, ReferenceData> byId = new LinkedHashMap<>();
+        Set<String> conflicting = new HashSet<>();
+        
+        if (window.getTabs() != null) {
+            for (TabDefinition tab : window.getTabs()) {
+                if (tab.getFields() == null) continue;
+                for (FieldDefinition field : tab.getFields()) {
+                    ReferenceData reference = field.getReference();
+                    if (reference == null || reference.getId() == null || reference.getId().isEmpty()) {
+                        continue;
+                    }
+                    
+                    ReferenceData existing = byId.putIfAbsent(reference.getId(), reference);
+                    if (existing != null && existing != reference && !existing.contentEquals(reference)) {
+                        conflicting.add(reference.getId());
+                    }
+                }
+            }
+        }
+        
+        byId.keySet().removeAll(conflicting);
+        if (!conflicting.isEmpty()) {
+            logger.warn("Reference ids with differing content kept inline: {}", conflicting);
+        }
+        return byId;
+    }
+    
     /**
      * Generate metadata node
      */
@@ -383,11 +535,16 @@ public class JsonGenerator {
         // Add standard metadata
         metadataNode.put("version", "2.0");
         metadataNode.put("source", "JSONFormMaker");
-        metadataNode.put("lastModified", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        if (!canonical) {
+            metadataNode.put("lastModified", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
         
         // Add custom metadata
         if (metadata != null) {
             for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+                if (canonical && VOLATILE_METADATA.contains(entry.getKey())) {
+                    continue;
+                }
                 JsonNode valueNode = objectMapper.valueToTree(entry.getValue());
                 metadataNode.set(entry.getKey(), valueNode);
             }
@@ -396,6 +553,18 @@ public class JsonGenerator {
         return metadataNode;
     }
     
+    /**
+     * Node factory whose object nodes keep their keys sorted
+     */
+    private static class SortedNodeFactory extends JsonNodeFactory {
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        public ObjectNode objectNode() {
+            return new ObjectNode(this, new TreeMap<>());
+        }
+    }
+    
     /**
      * Custom exception for JSON generation errors
      */
@@ -1,6 +1,9 @@
 package com.adui.jsoncraft.json;
 
 import com.adui.jsoncraft.model.*;
+import com.adui.jsoncraft.utils.FormEvents;
+import com.adui.jsoncraft.utils.LogSampler;
+import com.adui.jsoncraft.utils.MetricsRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -10,8 +13,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * JSON Parser for ADUI JSON files
@@ -22,6 +27,8 @@ import java.util.Map;
  */
 public class JsonParser {
     private static final Logger logger = LoggerFactory.getLogger(JsonParser.class);
+    private static final LogSampler FIELD_LOG = new LogSampler(20, 1000);
+    private static final MetricsRegistry.Timer PARSE_TIMER = MetricsRegistry.getInstance().timer("json.parse");
     
     private final ObjectMapper objectMapper;
     
@@ -34,16 +41,26 @@ public class JsonParser {
      * Parse JSON file into WindowDefinition
      */
     public WindowDefinition parseFile(File file) throws JsonParseException {
+        long timing = PARSE_TIMER.start();
+        FormEvents.ParseEvent event = new FormEvents.ParseEvent();
+        event.begin();
+        WindowDefinition window = null;
         try {
             logger.info("Parsing JSON file: {}", file.getAbsolutePath());
             
-            JsonNode rootNode = objectMapper.readTree(file);
-            return parseWindowDefinition(rootNode);
+            // Binary working files (Smile) share the same tree mapping
+            JsonNode rootNode = BinaryFormat.isBinary(file)
+                ? BinaryFormat.readTree(file) : objectMapper.readTree(file);
+            window = parseWindowDefinition(rootNode);
+            return window;
             
         } catch (IOException e) {
             throw new JsonParseException("Failed to read JSON file: " + file.getName(), e);
         } catch (Exception e) {
             throw new JsonParseException("Failed to parse JSON content: " + e.getMessage(), e);
+        } finally {
+            PARSE_TIMER.stop(timing);
+            commitParseEvent(event, window, file.getName(), file::length);
         }
     }
     
@@ -51,19 +68,89 @@ public class JsonParser {
      * Parse JSON string into WindowDefinition
      */
     public WindowDefinition parseString(String jsonContent) throws JsonParseException {
+        long timing = PARSE_TIMER.start();
+        FormEvents.ParseEvent event = new FormEvents.ParseEvent();
+        event.begin();
+        WindowDefinition window = null;
         try {
             logger.debug("Parsing JSON string content");
             
             JsonNode rootNode = objectMapper.readTree(jsonContent);
-            return parseWindowDefinition(rootNode);
+            window = parseWindowDefinition(rootNode);
+            return window;
             
         } catch (IOException e) {
             throw new JsonParseException("Failed to parse JSON string", e);
         } catch (Exception e) {
             throw new JsonParseException("Failed to parse JSON content: " + e.getMessage(), e);
+        } finally {
+            PARSE_TIMER.stop(timing);
+            commitParseEvent(event, window, "string", () -> utf8Length(jsonContent));
         }
     }
     
+    /**
+     * Parse an already-read JSON tree (text or binary source) into WindowDefinition
+     */
+    public WindowDefinition parseTree(JsonNode rootNode) throws JsonParseException {
+        long timing = PARSE_TIMER.start();
+        FormEvents.ParseEvent event = new FormEvents.ParseEvent();
+        event.begin();
+        WindowDefinition window = null;
+        try {
+            window = parseWindowDefinition(rootNode);
+            return window;
+        } catch (JsonParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JsonParseException("Failed to parse JSON content: " + e.getMessage(), e);
+        } finally {
+            PARSE_TIMER.stop(timing);
+            commitParseEvent(event, window, "tree", () -> 0);
+        }
+    }
+    
+    /**
+     * The size is only computed when the event is recorded
+     */
+    private void commitParseEvent(FormEvents.ParseEvent event, WindowDefinition window, String source, LongSupplier bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setWindow(window);
+            event.success = window != null;
+            event.source = source;
+            event.bytes = bytes.getAsLong();
+            event.commit();
+        }
+    }
+    
+    /**
+     * UTF-8 encoded size of the text, as saved, without encoding it
+     */
+    private static long utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;  // unpaired surrogate, encoded as '?'
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+    
     /**
      * Parse root window definition
      */
@@ -82,13 +169,16 @@ public class JsonParser {
             window.setMetadata(parseMetadata(rootNode.get("metadata")));
         }
         
+        // Parse shared reference definitions (referenced from fields by id)
+        Map<String, ReferenceData> sharedReferences = parseSharedReferences(rootNode.get("references"));
+        
         // Parse tabs
         if (rootNode.has("tabs")) {
             JsonNode tabsNode = rootNode.get("tabs");
             if (tabsNode.isArray()) {
                 List<TabDefinition> tabs = new ArrayList<>();
                 for (JsonNode tabNode : tabsNode) {
-                    tabs.add(parseTabDefinition(tabNode));
+                    tabs.add(parseTabDefinition(tabNode, sharedReferences));
                 }
                 window.setTabs(tabs);
             }
@@ -103,7 +193,7 @@ public class JsonParser {
     /**
      * Parse tab definition
      */
-    private TabDefinition parseTabDefinition(JsonNode tabNode) throws JsonParseException {
+    private TabDefinition parseTabDefinition(JsonNode tabNode, Map<String, ReferenceData> sharedReferences) throws JsonParseException {
         validateRequiredFields(tabNode, "tabId", "name");
         
         TabDefinition tab = new TabDefinition();
@@ -122,7 +212,7 @@ public class JsonParser {
             if (fieldsNode.isArray()) {
                 List<FieldDefinition> fields = new ArrayList<>();
                 for (JsonNode fieldNode : fieldsNode) {
-                    fields.add(parseFieldDefinition(fieldNode));
+                    fields.add(parseFieldDefinition(fieldNode, sharedReferences));
                 }
                 tab.setFields(fields);
             }
@@ -137,7 +227,7 @@ public class JsonParser {
     /**
      * Parse field definition
      */
-    private FieldDefinition parseFieldDefinition(JsonNode fieldNode) throws JsonParseException {
+    private FieldDefinition parseFieldDefinition(JsonNode fieldNode, Map<String, ReferenceData> sharedReferences) throws JsonParseException {
         validateRequiredFields(fieldNode, "fieldId", "name", "component");
         
         FieldDefinition field = new FieldDefinition();
@@ -174,12 +264,12 @@ public class JsonParser {
             field.setData(parseObjectMap(fieldNode.get("data")));
         }
         
-        // Parse reference data - SIMPLIFIED to avoid missing methods
+        // Parse reference data, resolving id-only references against the shared definitions
         if (fieldNode.has("reference")) {
-            field.setReference(parseReferenceData(fieldNode.get("reference")));
+            field.setReference(resolveReferenceData(fieldNode.get("reference"), sharedReferences));
         }
         
-        logger.debug("Parsed field: {} ({})", field.getFieldId(), field.getComponentType().getJsonName());
+        FIELD_LOG.debug(logger, "Parsed field: {} ({})", field.getFieldId(), field.getComponentType().getJsonName());
         
         return field;
     }
@@ -212,15 +302,48 @@ public class JsonParser {
     }
     
     /**
-     * Parse reference data - SIMPLIFIED for existing ReferenceData class
+     * Parse the shared reference definitions block into interned instances keyed by id
+     */
+    private Map<String, ReferenceData> parseSharedReferences(JsonNode referencesNode) {
+        Map<String, ReferenceData> sharedReferences = new HashMap<>();
+        if (referencesNode == null || !referencesNode.isObject()) {
+            return sharedReferences;
+        }
+        
+        referencesNode.fields().forEachRemaining(entry -> {
+            ReferenceData reference = parseReferenceData(entry.getValue());
+            if (reference.getId() == null) {
+                reference.setId(entry.getKey());
+            }
+            sharedReferences.put(entry.getKey(), ReferenceRegistry.getInstance().intern(reference));
+        });
+        
+        logger.debug("Parsed {} shared reference definitions", sharedReferences.size());
+        return sharedReferences;
+    }
+    
+    /**
+     * Resolve a field reference: id-only nodes use the shared definition, others are parsed inline.
+     * Either way the result is interned so identical lists share one instance.
+     */
+    private ReferenceData resolveReferenceData(JsonNode referenceNode, Map<String, ReferenceData> sharedReferences) {
+        String id = getStringValue(referenceNode, "id");
+        if (id != null && !referenceNode.has("values") && sharedReferences.containsKey(id)) {
+            return sharedReferences.get(id);
+        }
+        return ReferenceRegistry.getInstance().intern(parseReferenceData(referenceNode));
+    }
+    
+    /**
+     * Parse reference data
      */
     private ReferenceData parseReferenceData(JsonNode referenceNode) {
         ReferenceData reference = new ReferenceData();
+        reference.setId(getStringValue(referenceNode, "id"));
+        reference.setName(getStringValue(referenceNode, "name"));
+        reference.setAllowCustomValues(getBooleanValue(referenceNode, "allowCustomValues", false));
         
-        // Skip setter methods that may not exist
-        // reference.setType(), setQuery(), setKeyField(), setDisplayField() may not exist
-        
-        // Parse values array (this should work)
+        // Parse values array
         if (referenceNode.has("values")) {
             JsonNode valuesNode = referenceNode.get("values");
             if (valuesNode.isArray()) {
@@ -243,7 +366,7 @@ public class JsonParser {
      * Parse metadata into map
      */
     private Map<String, Object> parseMetadata(JsonNode metadataNode) {
-        Map<String, Object> metadata = new HashMap<>();
+        Map<String, Object> metadata = new LinkedHashMap<>();
         metadataNode.fields().forEachRemaining(entry -> {
             metadata.put(entry.getKey(), getNodeValue(entry.getValue()));
         });
@@ -254,7 +377,8 @@ public class JsonParser {
      * Parse JSON object into Map
      */
     private Map<String, Object> parseObjectMap(JsonNode objectNode) {
-        Map<String, Object> map = new HashMap<>();
+        // Keep document key order so a parse/generate round trip reproduces the input
+        Map<String, Object> map = new LinkedHashMap<>();
         objectNode.fields().forEachRemaining(entry -> {
         	String key = entry.getKey();
         	Object value = getNodeValue(entry.getValue());
@@ -329,7 +453,7 @@ public class JsonParser {
         }
         
         if (node.isObject()) {
-            Map<String, Object> map = new HashMap<>();
+            Map<String, Object> map = new LinkedHashMap<>();
             node.fields().forEachRemaining(entry -> {
                 map.put(entry.getKey(), getNodeValue(entry.getValue())); // Recursive conversion
             });
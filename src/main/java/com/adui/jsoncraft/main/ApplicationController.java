@@ -4,17 +4,29 @@ import java.awt.Dimension;
 import com.adui.jsoncraft.json.JsonParser; 
 import java.awt.Font;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import javax.swing.JDialog;
+import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.adui.jsoncraft.canvas.FormCanvas;
 import com.adui.jsoncraft.canvas.refactored.RefactoredFormCanvas;
+import com.adui.jsoncraft.json.BinaryFormat;
+import com.adui.jsoncraft.json.ContentHash;
+import com.adui.jsoncraft.json.FormMerge;
 import com.adui.jsoncraft.json.JsonGenerator;
 import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
 import com.adui.jsoncraft.model.ComponentType;
@@ -22,8 +34,14 @@ import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
 import com.adui.jsoncraft.palette.ComponentPalette;
+import com.adui.jsoncraft.palette.ComponentSearchIndex;
 import com.adui.jsoncraft.properties.PropertyInspector;
+import com.adui.jsoncraft.templates.TemplateLibrary;
+import com.adui.jsoncraft.utils.CommitScheduler;
+import com.adui.jsoncraft.utils.ConfigManager;
 import com.adui.jsoncraft.utils.FileManager;
+import com.adui.jsoncraft.utils.WorkspaceIndex;
+import com.adui.jsoncraft.utils.WorkspaceWatcher;
 import com.adui.jsoncraft.validation.ValidationEngine;
 
 /**
@@ -54,10 +72,23 @@ public class ApplicationController implements
     private File currentFile;
     private boolean hasUnsavedChanges;
     
+    // Canonical content hash of the last opened/saved state, for change detection
+    private String savedContentHash;
+    // Canonical JSON of that state: the common base when merging changes made on disk
+    private String savedSnapshot;
+    private long savedFileTime;
+    
+    private WorkspaceWatcher workspaceWatcher;
+    // Palette entries currently showing field templates
+    private final Set<String> templatePaletteIds = new HashSet<>();
+    
     public ApplicationController(MainWindow mainWindow) throws JsonGenerationException {
         this.mainWindow = mainWindow;
         this.fileManager = new FileManager();
+        this.fileManager.createSampleFilesInBackground();
         this.jsonGenerator = new JsonGenerator();
+        this.jsonGenerator.setShareReferences(
+            ConfigManager.getInstance().getBooleanProperty("export.sharedReferences", false));
         this.validationEngine = new ValidationEngine();
         this.hasUnsavedChanges = false;
      // Initialize persistence enhancements
@@ -65,10 +96,94 @@ public class ApplicationController implements
  
         initializeComponents();
         setupEventHandlers();
+        startWorkspaceWatcher();
+        loadTemplates();
         
         logger.info("Application controller initialized");
     }
     
+    /**
+     * Parse the template library off the EDT and show its field templates in the palette;
+     * later changes in the templates directory arrive through the workspace watcher
+     */
+    private void loadTemplates() {
+        TemplateLibrary library = TemplateLibrary.getInstance();
+        library.addListener(() -> SwingUtilities.invokeLater(this::refreshTemplatePalette));
+        Thread loader = new Thread(() -> {
+            library.ensureLoaded();
+            SwingUtilities.invokeLater(this::refreshTemplatePalette);
+        }, "template-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+    
+    private void refreshTemplatePalette() {
+        for (String id : templatePaletteIds) {
+            componentPalette.removeCustomEntry(id);
+        }
+        templatePaletteIds.clear();
+        for (TemplateLibrary.FieldTemplate template : TemplateLibrary.getInstance().getFieldTemplates()) {
+            componentPalette.addCustomEntry(new ComponentSearchIndex.Entry(template.getPaletteId(),
+                template.getName(), template.getDescription(), "Templates", null,
+                template.getComponentType(), Collections.emptyList()));
+            templatePaletteIds.add(template.getPaletteId());
+        }
+    }
+    
+    /**
+     * Watch the workspace for forms changed by scripts or other editors (workspace.watch)
+     */
+    private void startWorkspaceWatcher() {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.getBooleanProperty("workspace.watch", true)) {
+            return;
+        }
+        workspaceWatcher = new WorkspaceWatcher(config.getDefaultJsonDirectory(),
+            config.getIntProperty("workspace.watchDebounceMs", 500));
+        workspaceWatcher.addListener(this::workspaceFilesChanged);
+        try {
+            workspaceWatcher.start();
+        } catch (IOException e) {
+            logger.warn("Workspace watching unavailable: {}", e.getMessage());
+            workspaceWatcher = null;
+        }
+    }
+    
+    /**
+     * Called on the watcher thread with a debounced batch of changes
+     */
+    private void workspaceFilesChanged(Set<Path> paths, boolean overflow) {
+        WorkspaceIndex index = WorkspaceIndex.getInstance();
+        try {
+            if (overflow) {
+                if (index.isLoaded()) {
+                    index.refresh();
+                }
+            } else {
+                index.applyChanges(paths);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not update workspace index: {}", e.getMessage());
+        }
+        
+        // The templates directory lives inside the workspace
+        TemplateLibrary templates = TemplateLibrary.getInstance();
+        if (templates.isLoaded()) {
+            if (overflow) {
+                templates.reload();
+            } else {
+                templates.applyChanges(paths);
+            }
+        }
+        
+        SwingUtilities.invokeLater(() -> {
+            if (currentFile != null
+                    && (overflow || paths.contains(currentFile.toPath().toAbsolutePath().normalize()))) {
+                checkExternalChange();
+            }
+        });
+    }
+    
     private void initializeComponents() {
         // Create UI components
     	this.formCanvas = new RefactoredFormCanvas(); 
@@ -105,6 +220,11 @@ public class ApplicationController implements
     	        ApplicationController.this.tabChanged(tab); // Delegate to existing methods  
     	    }
     	    
+    	    @Override
+    	    public void fieldsChanged(WindowDefinition window, List<FieldDefinition> fields) {
+    	        ApplicationController.this.fieldsChanged(fields);
+    	    }
+    	    
     	    @Override
     	    public void fieldSelected(FieldDefinition field) {
         // Update property inspector with selected field (handles null properly)
@@ -130,6 +250,7 @@ public class ApplicationController implements
     
     // File operations
     public void newWindow() {
+        commitPendingEdits();
         if (hasUnsavedChanges && !confirmDiscardChanges()) {
             return;
         }
@@ -137,6 +258,7 @@ public class ApplicationController implements
         formCanvas.createNewWindow();
         currentFile = null;
         hasUnsavedChanges = false;
+        markSaved(formCanvas.getCurrentWindow());
         updateWindowTitle();
         
         mainWindow.updateStatus("New window created");
@@ -146,36 +268,80 @@ public class ApplicationController implements
         logger.info("Created new window");
     }
     
+    /**
+     * Start a new, unsaved form from a template in the template library
+     */
+    public void newFromTemplate() {
+        commitPendingEdits();
+        if (hasUnsavedChanges && !confirmDiscardChanges()) {
+            return;
+        }
+        
+        List<TemplateLibrary.FormTemplate> templates = TemplateLibrary.getInstance().getFormTemplates();
+        if (templates.isEmpty()) {
+            JOptionPane.showMessageDialog(mainWindow,
+                "No form templates found.\nUse File > Save as Template or add forms to " + TemplateLibrary.getInstance().getDirectory(),
+                "New from Template", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        TemplateLibrary.FormTemplate selected = (TemplateLibrary.FormTemplate) JOptionPane.showInputDialog(mainWindow,
+            "Template:", "New from Template", JOptionPane.PLAIN_MESSAGE, null,
+            templates.toArray(), templates.get(0));
+        if (selected == null) {
+            return;
+        }
+        
+        WindowDefinition window = selected.instantiate();
+        currentWindow = window;
+        formCanvas.setCurrentWindow(window);
+        propertyInspector.setCurrentWindow(window);
+        currentFile = null;
+        hasUnsavedChanges = false;
+        markSaved(window);
+        updateWindowTitle();
+        
+        mainWindow.updateStatus("New form from template " + selected.getName());
+        mainWindow.updateFileStatus("New Window");
+        validateCurrentWindow();
+        
+        logger.info("Created window from template {}", selected.getFile());
+    }
+    
+    /**
+     * Save the current form to the template library
+     */
+    public void saveAsTemplate() {
+        commitPendingEdits();
+        WindowDefinition window = formCanvas.getCurrentWindow();
+        if (window == null) {
+            mainWindow.updateStatus("No form to save as template");
+            return;
+        }
+        String name = (String) JOptionPane.showInputDialog(mainWindow, "Template name:", "Save as Template",
+            JOptionPane.PLAIN_MESSAGE, null, null, window.getName());
+        if (name == null || name.trim().isEmpty()) {
+            return;
+        }
+        try {
+            TemplateLibrary.getInstance().saveFormTemplate(window, name.trim());
+            mainWindow.updateStatus("Saved template " + name.trim());
+        } catch (IOException e) {
+            logger.error("Failed to save form template", e);
+            JOptionPane.showMessageDialog(mainWindow,
+                "Failed to save template: " + e.getMessage(),
+                "Save Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
     public void openFile() {
+        commitPendingEdits();
         if (hasUnsavedChanges && !confirmDiscardChanges()) {
             return;
         }
         
         File selectedFile = fileManager.showFileDialog(mainWindow);
         if (selectedFile != null) {
-            try {
-                WindowDefinition window = jsonParser.parseFile(selectedFile);
-                if (window != null) {
-                    currentWindow = window;
-                    formCanvas.setCurrentWindow(window);  // ✅ Correct method name
-                    propertyInspector.setCurrentWindow(window);
-                    currentFile = selectedFile;  // ✅ Now we have the actual file
-                    hasUnsavedChanges = false;
-                    updateWindowTitle();
-                    
-                    mainWindow.updateStatus("File opened successfully");
-                    mainWindow.updateFileStatus(selectedFile.getName());
-                    validateCurrentWindow();
-                    
-                    logger.info("Opened window: {}", window.getWindowId());
-                }
-            } catch (JsonParser.JsonParseException e) {
-                logger.error("Failed to parse JSON file", e);
-                mainWindow.updateStatus("Error: " + e.getMessage());
-                JOptionPane.showMessageDialog(mainWindow, 
-                    "Failed to open file: " + e.getMessage(), 
-                    "Parse Error", JOptionPane.ERROR_MESSAGE);
-            }
+            loadWindowFile(selectedFile);
         } else {
             // Handle case where fileManager.showOpenDialog returns WindowDefinition directly
             // (Keep existing logic as fallback)
@@ -197,7 +363,237 @@ public class ApplicationController implements
         } 
     }
     
+    /**
+     * Open a specific form file (e.g. from workspace search), asking about unsaved changes first
+     */
+    public void openFile(File file) {
+        commitPendingEdits();
+        if (hasUnsavedChanges && !confirmDiscardChanges()) {
+            return;
+        }
+        loadWindowFile(file);
+    }
+    
+    private void loadWindowFile(File selectedFile) {
+        try {
+            WindowDefinition window = jsonParser.parseFile(selectedFile);
+            if (window != null) {
+                showLoadedWindow(window, selectedFile);
+                mainWindow.updateStatus("File opened successfully");
+                
+                logger.info("Opened window: {}", window.getWindowId());
+            }
+        } catch (JsonParser.JsonParseException e) {
+            logger.error("Failed to parse JSON file", e);
+            mainWindow.updateStatus("Error: " + e.getMessage());
+            JOptionPane.showMessageDialog(mainWindow, 
+                "Failed to open file: " + e.getMessage(), 
+                "Parse Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private void showLoadedWindow(WindowDefinition window, File file) {
+        currentWindow = window;
+        formCanvas.setCurrentWindow(window);  // ✅ Correct method name
+        propertyInspector.setCurrentWindow(window);
+        currentFile = file;  // ✅ Now we have the actual file
+        hasUnsavedChanges = false;
+        markSaved(window);
+        updateWindowTitle();
+        
+        mainWindow.updateFileStatus(file.getName());
+        validateCurrentWindow();
+        
+        if (workspaceWatcher != null) {
+            workspaceWatcher.watchFile(file);
+        }
+    }
+    
+    /**
+     * The open file changed on disk: reload it when there are no local edits,
+     * otherwise let the user choose between the disk version and their own
+     */
+    private void checkExternalChange() {
+        File file = currentFile;
+        if (file == null || file.lastModified() == savedFileTime) {
+            return;
+        }
+        if (!file.exists()) {
+            mainWindow.updateStatus("Warning: " + file.getName() + " was deleted or moved on disk");
+            return;
+        }
+        
+        WindowDefinition diskWindow;
+        try {
+            diskWindow = jsonParser.parseFile(file);
+        } catch (JsonParser.JsonParseException e) {
+            // Most likely still being written; its next change event brings us back here
+            logger.debug("Changed file not readable yet: {}", e.getMessage());
+            return;
+        }
+        String diskHash = contentHash(diskWindow);
+        if (diskHash != null && diskHash.equals(savedContentHash)) {
+            savedFileTime = file.lastModified();
+            return;
+        }
+        
+        commitPendingEdits();
+        if (!isModified()) {
+            showLoadedWindow(diskWindow, file);
+            mainWindow.updateStatus("Reloaded " + file.getName() + " (changed on disk)");
+            logger.info("Reloaded externally changed file: {}", file.getName());
+            return;
+        }
+        
+        Object[] options = {"Merge", "Reload from Disk", "Keep My Changes"};
+        int choice = JOptionPane.showOptionDialog(mainWindow,
+            file.getName() + " was changed on disk and you have unsaved changes.",
+            "File Changed on Disk", JOptionPane.DEFAULT_OPTION, JOptionPane.WARNING_MESSAGE,
+            null, options, options[0]);
+        if (choice == 0) {
+            mergeExternalChange(file, diskWindow);
+        } else if (choice == 1) {
+            showLoadedWindow(diskWindow, file);
+            mainWindow.updateStatus("Reloaded " + file.getName());
+        } else {
+            // The disk version becomes the baseline; saving now replaces it deliberately
+            rebase(diskWindow, file);
+        }
+    }
+    
+    /**
+     * Three-way merge of our edits and the disk version, with the last opened/saved state as base
+     */
+    private void mergeExternalChange(File file, WindowDefinition diskWindow) {
+        WindowDefinition base = null;
+        try {
+            base = savedSnapshot != null ? jsonParser.parseString(savedSnapshot) : null;
+        } catch (JsonParser.JsonParseException e) {
+            logger.warn("Could not restore merge base: {}", e.getMessage());
+        }
+        showMerge(base, formCanvas.getCurrentWindow(), diskWindow, file.getName() + " (on disk)",
+            () -> rebase(diskWindow, file));
+    }
+    
+    /**
+     * Merge another version of the open form: pick the common base version and their version
+     */
+    public void mergeForms() {
+        commitPendingEdits();
+        WindowDefinition ours = formCanvas.getCurrentWindow();
+        if (ours == null) {
+            mainWindow.updateStatus("No form to merge into");
+            return;
+        }
+        File baseFile = chooseFile("Select Base Version (common ancestor)");
+        if (baseFile == null) {
+            return;
+        }
+        File theirsFile = chooseFile("Select Their Version");
+        if (theirsFile == null) {
+            return;
+        }
+        try {
+            showMerge(jsonParser.parseFile(baseFile), ours, jsonParser.parseFile(theirsFile), theirsFile.getName(), () -> { });
+        } catch (JsonParser.JsonParseException e) {
+            logger.error("Failed to read form for merge", e);
+            JOptionPane.showMessageDialog(mainWindow,
+                "Failed to read form: " + e.getMessage(),
+                "Merge Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private File chooseFile(String title) {
+        JFileChooser chooser = fileManager.getFileChooser();
+        String previousTitle = chooser.getDialogTitle();
+        chooser.setDialogTitle(title);
+        try {
+            return fileManager.showFileDialog(mainWindow);
+        } finally {
+            chooser.setDialogTitle(previousTitle);
+        }
+    }
+    
+    /**
+     * Merge and apply directly when there are no conflicts, otherwise let the user resolve them
+     */
+    private void showMerge(WindowDefinition base, WindowDefinition ours, WindowDefinition theirs,
+            String theirsLabel, Runnable onApplied) {
+        try {
+            FormMerge.Result result = new FormMerge().merge(base, ours, theirs);
+            if (!result.hasConflicts()) {
+                onApplied.run();
+                applyMergedWindow(result);
+                return;
+            }
+            new MergeDialog(mainWindow, theirsLabel, base, ours, theirs, result, merged -> {
+                onApplied.run();
+                applyMergedWindow(merged);
+            }).setVisible(true);
+        } catch (JsonGenerationException | JsonParser.JsonParseException e) {
+            logger.error("Merge failed", e);
+            JOptionPane.showMessageDialog(mainWindow,
+                "Merge failed: " + e.getMessage(),
+                "Merge Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private void applyMergedWindow(FormMerge.Result result) {
+        WindowDefinition window = result.getMergedWindow();
+        currentWindow = window;
+        formCanvas.setCurrentWindow(window);
+        propertyInspector.setCurrentWindow(window);
+        hasUnsavedChanges = true;
+        updateWindowTitle();
+        validateCurrentWindow();
+        
+        mainWindow.updateStatus("Merged: " + result.getSummary());
+        logger.info("Merged form {}: {}", window.getWindowId(), result.getSummary());
+    }
+    
+    /**
+     * Before saving over the open file: if it was changed on disk since we opened or saved it,
+     * ask instead of silently overwriting. Returns true to go ahead with the write.
+     */
+    private boolean confirmOverwriteExternalChange(File file) {
+        if (!file.equals(currentFile) || savedFileTime == 0 || !file.exists()
+                || file.lastModified() == savedFileTime) {
+            return true;
+        }
+        
+        WindowDefinition diskWindow;
+        try {
+            diskWindow = jsonParser.parseFile(file);
+        } catch (JsonParser.JsonParseException e) {
+            diskWindow = null;
+        }
+        String diskHash = contentHash(diskWindow);
+        if (diskHash != null && diskHash.equals(savedContentHash)) {
+            return true;
+        }
+        
+        Object[] options = diskWindow != null
+            ? new Object[] {"Overwrite", "Merge", "Reload from Disk", "Cancel"}
+            : new Object[] {"Overwrite", "Cancel"};
+        int choice = JOptionPane.showOptionDialog(mainWindow,
+            file.getName() + " was changed on disk since it was opened.\nOverwrite it with your version?",
+            "File Changed on Disk", JOptionPane.DEFAULT_OPTION, JOptionPane.WARNING_MESSAGE,
+            null, options, options[options.length - 1]);
+        if (choice == 0) {
+            return true;
+        }
+        if (diskWindow != null && choice == 1) {
+            // Review the merged result, then save again
+            mergeExternalChange(file, diskWindow);
+        } else if (diskWindow != null && choice == 2) {
+            showLoadedWindow(diskWindow, file);
+            mainWindow.updateStatus("Reloaded " + file.getName());
+        }
+        return false;
+    }
+    
     public void saveFile() {
+        commitPendingEdits();
         if (currentFile != null) {
             saveToFile(currentFile);
         } else {
@@ -206,12 +602,15 @@ public class ApplicationController implements
     }
     
     public void saveAsFile() {
+        commitPendingEdits();
         WindowDefinition window = formCanvas.getCurrentWindow();
         if (window != null) {
             File file = fileManager.showSaveDialog(mainWindow, window);
             if (file != null) {
                 currentFile = file;
                 hasUnsavedChanges = false;
+                markSaved(window);
+                indexSavedFile(file);
                 updateWindowTitle();
                 fileManager.addToRecentFiles(file);
                 
@@ -227,14 +626,34 @@ public class ApplicationController implements
         WindowDefinition window = formCanvas.getCurrentWindow();
         if (window != null) {
             try {
-                // Generate JSON using existing JsonGenerator
-                String jsonContent = jsonGenerator.generateJson(window);
+                if (!confirmOverwriteExternalChange(file)) {
+                    return;
+                }
+                
+                // Nothing to write if the content and the file on disk are as last saved
+                if (isUnchangedOnDisk(window, file)) {
+                    hasUnsavedChanges = false;
+                    updateWindowTitle();
+                    mainWindow.updateStatus("No changes to save");
+                    logger.debug("Skipped saving unchanged window to: {}", file.getName());
+                    return;
+                }
                 
-                // Write to file
-                java.nio.file.Files.write(file.toPath(), jsonContent.getBytes("UTF-8"));
+                if (BinaryFormat.hasBinaryExtension(file)) {
+                    // Binary working file, same model mapping as the text JSON
+                    new BinaryFormat(jsonGenerator, jsonParser).writeFile(window, file);
+                } else {
+                    // Generate JSON using existing JsonGenerator
+                    String jsonContent = jsonGenerator.generateJson(window);
+                    
+                    // Write to file
+                    java.nio.file.Files.write(file.toPath(), jsonContent.getBytes("UTF-8"));
+                }
                 
                 // Update state
                 hasUnsavedChanges = false;
+                markSaved(window);
+                indexSavedFile(file);
                 updateWindowTitle();
                 
                 mainWindow.updateStatus("File saved successfully");
@@ -253,6 +672,7 @@ public class ApplicationController implements
     }
     
     public void validateJson() {
+        commitPendingEdits();
         WindowDefinition window = formCanvas.getCurrentWindow();
         if (window != null) {
             ValidationEngine.ValidationResult result = validationEngine.validateWindow(window);
@@ -297,6 +717,7 @@ public class ApplicationController implements
     }
     
     public void previewForm() {
+        commitPendingEdits();
         WindowDefinition window = formCanvas.getCurrentWindow();
         if (window != null) {
             try {
@@ -314,6 +735,21 @@ public class ApplicationController implements
         }
     }
     
+    /**
+     * Open the current window in the form simulator
+     */
+    public void simulateForm() {
+        commitPendingEdits();
+        WindowDefinition window = formCanvas.getCurrentWindow();
+        if (window == null) {
+            mainWindow.updateStatus("No form to simulate");
+            return;
+        }
+        FormSimulatorDialog dialog = new FormSimulatorDialog(mainWindow, window);
+        dialog.setVisible(true);
+        mainWindow.updateStatus("Simulating " + window.getName());
+    }
+    
     private void showJsonPreview(String json) {
         JTextArea textArea = new JTextArea(json);
         textArea.setEditable(false);
@@ -329,7 +765,13 @@ public class ApplicationController implements
         dialog.setVisible(true);
     }
     
+    public void exportBundle() {
+        commitPendingEdits();
+        fileManager.showBundleExportDialog(mainWindow);
+    }
+    
     public void exportJson() {
+        commitPendingEdits();
         WindowDefinition window = formCanvas.getCurrentWindow();
         if (window != null) {
             // Validate before export
@@ -346,11 +788,22 @@ public class ApplicationController implements
                 }
             }
             
-            // Export (same as save for now)
-            saveAsFile();
+            // Deployment always gets text JSON; the working file stays current
+            File file = fileManager.showSaveDialog(mainWindow, window, BinaryFormat.TEXT_EXTENSION);
+            if (file != null) {
+                mainWindow.updateStatus("Exported " + file.getName());
+                logger.info("Exported window to: {}", file.getName());
+            }
         }
     }
     
+    /**
+     * Apply edits still waiting in debounced property fields to the model
+     */
+    private void commitPendingEdits() {
+        CommitScheduler.flushAll();
+    }
+    
     private void validateCurrentWindow() {
         WindowDefinition window = formCanvas.getCurrentWindow();
         if (window != null) {
@@ -364,6 +817,12 @@ public class ApplicationController implements
     private boolean confirmDiscardChanges() {
         if (!hasUnsavedChanges) return true;
         
+        // Edits that were undone by hand leave the content as saved
+        if (!isModified()) {
+            hasUnsavedChanges = false;
+            return true;
+        }
+        
         int result = JOptionPane.showConfirmDialog(mainWindow,
             "You have unsaved changes. Discard them?",
             "Unsaved Changes",
@@ -373,6 +832,70 @@ public class ApplicationController implements
         return result == JOptionPane.YES_OPTION;
     }
     
+    /**
+     * Remember the content hash of the state just opened or saved
+     */
+    private void markSaved(WindowDefinition window) {
+        rebase(window, currentFile);
+    }
+    
+    /**
+     * Make the given content the baseline for change detection and merging
+     */
+    private void rebase(WindowDefinition window, File file) {
+        savedSnapshot = canonicalJson(window);
+        // Same bytes ContentHash.of() digests, so the hash needs no second serialization
+        savedContentHash = savedSnapshot != null
+            ? ContentHash.sha256(savedSnapshot.getBytes(StandardCharsets.UTF_8)) : null;
+        savedFileTime = file != null ? file.lastModified() : 0L;
+    }
+    
+    /**
+     * True if there are edits that change the content compared to the last opened/saved state
+     */
+    private boolean isModified() {
+        return hasUnsavedChanges
+            && (savedContentHash == null || !savedContentHash.equals(contentHash(formCanvas.getCurrentWindow())));
+    }
+    
+    private boolean isUnchangedOnDisk(WindowDefinition window, File file) {
+        return savedContentHash != null && file.equals(currentFile) && file.exists()
+            && file.lastModified() == savedFileTime && savedContentHash.equals(contentHash(window));
+    }
+    
+    private void indexSavedFile(File file) {
+        if (workspaceWatcher != null) {
+            // The watcher reports our own save like any other change
+            workspaceWatcher.watchFile(file);
+        } else {
+            WorkspaceIndex.getInstance().update(file);
+        }
+    }
+    
+    private String canonicalJson(WindowDefinition window) {
+        if (window == null) {
+            return null;
+        }
+        try {
+            return ContentHash.canonicalJson(window);
+        } catch (JsonGenerationException e) {
+            logger.warn("Could not serialize window content: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    private String contentHash(WindowDefinition window) {
+        if (window == null) {
+            return null;
+        }
+        try {
+            return ContentHash.of(window);
+        } catch (JsonGenerationException e) {
+            logger.warn("Could not hash window content: {}", e.getMessage());
+            return null;
+        }
+    }
+    
     private void updateWindowTitle() {
         String title = "JSONFormMaker - ADUI JSON Craft Studio";
         
@@ -420,6 +943,19 @@ public class ApplicationController implements
         }
     }
     
+    /**
+     * A bulk edit on the canvas: validate and refresh the inspector once for all fields
+     */
+    private void fieldsChanged(List<FieldDefinition> fields) {
+        hasUnsavedChanges = true;
+        updateWindowTitle();
+        validateCurrentWindow();
+        // The inspected field may be one of them
+        propertyInspector.setSelectedField(formCanvas.getSelectedField());
+        
+        mainWindow.updateStatus(fields.size() + " field(s) updated");
+    }
+    
     // PropertyInspector.PropertyChangeListener implementation
     @Override
     public void propertyChanged(FieldDefinition field) {
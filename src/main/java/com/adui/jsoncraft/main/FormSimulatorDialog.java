@@ -0,0 +1,334 @@
+package com.adui.jsoncraft.main;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Frame;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.validation.FormRuntime;
+
+/**
+ * Form simulator: renders a window as a fillable form and applies displayLogic, requiredWhen and
+ * value rules while typing. Tabs are built when first shown; each edit refreshes only the rows
+ * {@link FormRuntime#setValue} reports as affected.
+ */
+public class FormSimulatorDialog extends JDialog {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(FormSimulatorDialog.class);
+
+    private static final int LABEL_WIDTH = 200;
+    private static final Color ERROR_COLOR = new Color(200, 40, 40);
+
+    private final WindowDefinition window;
+    private final FormRuntime runtime;
+    private final Map<String, FieldRow> rows = new HashMap<>();
+    private final List<JPanel> tabPanels = new ArrayList<>();
+    private final JTabbedPane tabbedPane = new JTabbedPane();
+    private final JLabel statusLabel = new JLabel();
+    private boolean showAllErrors;
+
+    public FormSimulatorDialog(Frame parent, WindowDefinition window) {
+        super(parent, "Simulate - " + window.getName(), false);
+        this.window = window;
+
+        long start = System.nanoTime();
+        this.runtime = new FormRuntime(window);
+        logger.debug("Simulator runtime for {} built in {} ms", window.getName(),
+            (System.nanoTime() - start) / 1_000_000);
+
+        initializeComponents();
+
+        setSize(700, 600);
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    }
+
+    private void initializeComponents() {
+        if (window.getTabs() != null) {
+            for (TabDefinition tab : window.getTabs()) {
+                JPanel tabPanel = new JPanel();
+                tabPanel.setLayout(new BoxLayout(tabPanel, BoxLayout.Y_AXIS));
+                tabPanel.setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
+                tabPanels.add(tabPanel);
+
+                JScrollPane scrollPane = new JScrollPane(tabPanel);
+                scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+                tabbedPane.addTab(tab.getName() != null ? tab.getName() : tab.getTabId(), scrollPane);
+            }
+        }
+        tabbedPane.addChangeListener(e -> ensureTabBuilt(tabbedPane.getSelectedIndex()));
+        ensureTabBuilt(tabbedPane.getSelectedIndex());
+
+        JButton checkButton = new JButton("Check Form");
+        checkButton.addActionListener(e -> checkForm());
+        JButton closeButton = new JButton("Close");
+        closeButton.addActionListener(e -> dispose());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(checkButton);
+        buttonPanel.add(closeButton);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 8, 0, 8));
+        statusLabel.setText(runtime.getGraph().getConditionalFieldCount() + " fields with conditional logic");
+
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(statusLabel, BorderLayout.CENTER);
+        southPanel.add(buttonPanel, BorderLayout.EAST);
+
+        setLayout(new BorderLayout());
+        add(tabbedPane, BorderLayout.CENTER);
+        add(southPanel, BorderLayout.SOUTH);
+    }
+
+    private void ensureTabBuilt(int index) {
+        if (index < 0 || index >= tabPanels.size()) {
+            return;
+        }
+        JPanel tabPanel = tabPanels.get(index);
+        if (tabPanel.getComponentCount() > 0) {
+            return;
+        }
+        List<FieldDefinition> fields = window.getTabs().get(index).getFields();
+        if (fields != null) {
+            for (FieldDefinition field : fields) {
+                if (field.getFieldId() != null && !rows.containsKey(field.getFieldId())) {
+                    FieldRow row = new FieldRow(field, tabPanel);
+                    rows.put(field.getFieldId(), row);
+                    tabPanel.add(row.panel);
+                    row.refresh();
+                }
+            }
+        }
+        tabPanel.add(Box.createVerticalGlue());
+        tabPanel.revalidate();
+    }
+
+    private void valueChanged(FieldRow source, String value) {
+        source.touched = true;
+        long start = System.nanoTime();
+        FormRuntime.Update update = runtime.setValue(source.field.getFieldId(), value);
+
+        List<JPanel> relayout = new ArrayList<>();
+        for (String fieldId : update.getAffectedFields()) {
+            FieldRow row = rows.get(fieldId);
+            if (row != null && row.refresh() && !relayout.contains(row.container)) {
+                relayout.add(row.container);
+            }
+        }
+        for (JPanel container : relayout) {
+            container.revalidate();
+            container.repaint();
+        }
+
+        statusLabel.setText(String.format("%d rule evaluations, %d fields updated in %.2f ms",
+            update.getEvaluations(), update.getAffectedFields().size(), (System.nanoTime() - start) / 1e6));
+    }
+
+    /**
+     * Show every error, including required fields nobody has touched, and go to the first one
+     */
+    private void checkForm() {
+        showAllErrors = true;
+        Map<String, String> errors = runtime.getErrors();
+        for (FieldRow row : rows.values()) {
+            row.refresh();
+        }
+        if (errors.isEmpty()) {
+            statusLabel.setText("No errors - the form can be submitted");
+            return;
+        }
+        statusLabel.setText(errors.size() + " field(s) with errors");
+
+        String firstFieldId = errors.keySet().iterator().next();
+        for (int i = 0; i < window.getTabs().size(); i++) {
+            List<FieldDefinition> fields = window.getTabs().get(i).getFields();
+            if (fields != null && fields.stream().anyMatch(field -> firstFieldId.equals(field.getFieldId()))) {
+                tabbedPane.setSelectedIndex(i);
+                FieldRow row = rows.get(firstFieldId);
+                if (row != null) {
+                    row.panel.scrollRectToVisible(new Rectangle(row.panel.getSize()));
+                    row.editor.requestFocusInWindow();
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Label, editor and message line of one field
+     */
+    private class FieldRow {
+        private final FieldDefinition field;
+        private final JPanel container;
+        private final JPanel panel;
+        private final JLabel label;
+        private final JComponent editor;
+        private final JLabel messageLabel;
+        private boolean touched;
+
+        FieldRow(FieldDefinition field, JPanel container) {
+            this.field = field;
+            this.container = container;
+
+            label = new JLabel(field.getName() != null ? field.getName() : field.getFieldId());
+            label.setPreferredSize(new Dimension(LABEL_WIDTH, label.getPreferredSize().height));
+            label.setToolTipText(field.getFieldId());
+
+            editor = createEditor();
+            if (field.isReadOnly()) {
+                editor.setEnabled(false);
+            }
+
+            messageLabel = new JLabel(" ");
+            messageLabel.setForeground(ERROR_COLOR);
+            messageLabel.setFont(messageLabel.getFont().deriveFont(Font.PLAIN, messageLabel.getFont().getSize2D() - 1f));
+            messageLabel.setBorder(BorderFactory.createEmptyBorder(0, LABEL_WIDTH, 0, 0));
+
+            panel = new JPanel(new BorderLayout(6, 0));
+            panel.setBorder(BorderFactory.createEmptyBorder(2, 0, 2, 0));
+            panel.add(label, BorderLayout.WEST);
+            panel.add(editor, BorderLayout.CENTER);
+            panel.add(messageLabel, BorderLayout.SOUTH);
+            panel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, panel.getPreferredSize().height));
+        }
+
+        private JComponent createEditor() {
+            ComponentType type = field.getComponentType();
+            ReferenceData reference = field.getReference();
+            boolean hasValues = reference != null && reference.getValues() != null && !reference.getValues().isEmpty();
+
+            if (type == ComponentType.YES_NO_FIELD) {
+                JCheckBox checkBox = new JCheckBox();
+                checkBox.addActionListener(e -> valueChanged(this, checkBox.isSelected() ? "Y" : "N"));
+                return checkBox;
+            }
+            if (FormRuntime.isMultiValue(type) && hasValues) {
+                JList<ReferenceData.ReferenceValue> list = new JList<>(
+                    reference.getValues().toArray(new ReferenceData.ReferenceValue[0]));
+                list.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+                list.setVisibleRowCount(Math.min(reference.getValues().size(), 4));
+                list.setCellRenderer(new ReferenceValueRenderer());
+                list.addListSelectionListener(e -> {
+                    if (!e.getValueIsAdjusting()) {
+                        StringBuilder keys = new StringBuilder();
+                        for (ReferenceData.ReferenceValue value : list.getSelectedValuesList()) {
+                            if (keys.length() > 0) {
+                                keys.append(FormRuntime.VALUE_SEPARATOR);
+                            }
+                            keys.append(value.getKey());
+                        }
+                        valueChanged(this, keys.toString());
+                    }
+                });
+                return new JScrollPane(list);
+            }
+            if (type.getCategory() == ComponentType.ComponentCategory.SELECTION && hasValues) {
+                JComboBox<ReferenceData.ReferenceValue> comboBox = new JComboBox<>();
+                comboBox.addItem(null);
+                for (ReferenceData.ReferenceValue value : reference.getValues()) {
+                    comboBox.addItem(value);
+                }
+                comboBox.setRenderer(new ReferenceValueRenderer());
+                comboBox.addActionListener(e -> {
+                    ReferenceData.ReferenceValue selected = (ReferenceData.ReferenceValue) comboBox.getSelectedItem();
+                    valueChanged(this, selected != null ? selected.getKey() : null);
+                });
+                return comboBox;
+            }
+            if (type.getCategory() == ComponentType.ComponentCategory.DISPLAY) {
+                return new JLabel(field.getDescription() != null ? field.getDescription() : type.getDescription());
+            }
+
+            JTextComponent textComponent;
+            JComponent component;
+            if (type == ComponentType.TEXT_AREA_FIELD || type == ComponentType.RICH_TEXT_FIELD) {
+                JTextArea textArea = new JTextArea(3, 20);
+                textArea.setLineWrap(true);
+                textComponent = textArea;
+                component = new JScrollPane(textArea);
+            } else {
+                textComponent = new JTextField();
+                component = textComponent;
+            }
+            if (field.getUiProperty("placeholder") != null) {
+                textComponent.setToolTipText(field.getUiProperty("placeholder"));
+            }
+            textComponent.getDocument().addDocumentListener(new DocumentListener() {
+                @Override
+                public void insertUpdate(DocumentEvent e) { valueChanged(FieldRow.this, textComponent.getText()); }
+                @Override
+                public void removeUpdate(DocumentEvent e) { valueChanged(FieldRow.this, textComponent.getText()); }
+                @Override
+                public void changedUpdate(DocumentEvent e) { }
+            });
+            return component;
+        }
+
+        /**
+         * Apply the runtime state; returns true if the row was shown or hidden
+         */
+        boolean refresh() {
+            String fieldId = field.getFieldId();
+            boolean displayed = runtime.isDisplayed(fieldId);
+            boolean visibilityChanged = panel.isVisible() != displayed;
+            panel.setVisible(displayed);
+
+            String name = field.getName() != null ? field.getName() : fieldId;
+            label.setText(runtime.isRequired(fieldId) ? name + " *" : name);
+
+            String error = touched || showAllErrors ? runtime.getError(fieldId) : null;
+            messageLabel.setText(error != null ? error : " ");
+            return visibilityChanged;
+        }
+    }
+
+    private static class ReferenceValueRenderer extends DefaultListCellRenderer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                boolean isSelected, boolean cellHasFocus) {
+            Object text = value instanceof ReferenceData.ReferenceValue
+                ? ((ReferenceData.ReferenceValue) value).getDisplay() : " ";
+            return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+        }
+    }
+}
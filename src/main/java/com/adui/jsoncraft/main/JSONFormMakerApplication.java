@@ -11,6 +11,8 @@ import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
@@ -21,7 +23,12 @@ import javax.swing.UIManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.adui.jsoncraft.server.FormServer;
 import com.adui.jsoncraft.utils.ConfigManager;
+import com.adui.jsoncraft.utils.LogLevelManager;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.adui.jsoncraft.utils.StartupProfiler;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.formdev.flatlaf.FlatLightLaf;
 
 /**
@@ -50,10 +57,37 @@ public class JSONFormMakerApplication {
     private static final int MIN_WIDTH = 1000;
     private static final int MIN_HEIGHT = 600;
     
+    // Classes loaded in the background while the main window is being built
+    private static final String[] WARMUP_CLASSES = {
+        "javax.swing.JFileChooser",
+        "javax.swing.JTable",
+        "com.adui.jsoncraft.properties.PropertyEditorFactory",
+        "com.adui.jsoncraft.properties.editors.SelectFieldEditor",
+        "com.adui.jsoncraft.properties.editors.QRChecklistFieldEditor",
+        "com.adui.jsoncraft.properties.editors.MultiPhotoFieldEditor",
+        "com.adui.jsoncraft.properties.editors.TaskListFieldEditor",
+        "com.adui.jsoncraft.properties.editors.MatrixFieldEditor",
+        "com.adui.jsoncraft.json.JsonGenerator",
+        "com.adui.jsoncraft.json.JsonParser",
+        "com.adui.jsoncraft.validation.ValidationEngine"
+    };
+    
     /**
      * Application entry point
      */
     public static void main(String[] args) {
+        // Headless service mode: no Swing at all
+        if (args.length > 0 && "--server".equals(args[0])) {
+            try {
+                FormServer.main(Arrays.copyOfRange(args, 1, args.length));
+            } catch (Exception e) {
+                logger.error("Failed to start form server", e);
+                System.exit(1);
+            }
+            return;
+        }
+        
+        StartupProfiler profiler = StartupProfiler.getInstance();
         logger.info("Starting {} v{}", APP_TITLE, APP_VERSION);
         
         // Set system properties for better UI experience
@@ -61,6 +95,16 @@ public class JSONFormMakerApplication {
         System.setProperty("apple.awt.application.name", APP_TITLE);
         System.setProperty("sun.awt.noerasebackground", "true");
         
+        // Look and Feel loads on the EDT while configuration and directories are handled here
+        SwingUtilities.invokeLater(() -> profiler.time("Look and feel", JSONFormMakerApplication::setLookAndFeel));
+        profiler.time("Configuration", () -> ConfigManager.getInstance().initialize());
+        MetricsRegistry.getInstance().configure(ConfigManager.getInstance());
+        LogLevelManager.applyConfiguredLevel(ConfigManager.getInstance());
+        profiler.time("Directories", JSONFormMakerApplication::createRequiredDirectories);
+        
+        // Load classes needed after the first paint while the window is being built
+        startBackgroundWarmup();
+        
         // Initialize application on EDT
         SwingUtilities.invokeLater(() -> {
             try {
@@ -78,18 +122,12 @@ public class JSONFormMakerApplication {
      */
     private static void initializeApplication(String[] args) {
         logger.info("Initializing application components...");
+        StartupProfiler profiler = StartupProfiler.getInstance();
         
-        // Set Look and Feel
-        setLookAndFeel();
-        
-        // Initialize configuration
-        ConfigManager.getInstance().initialize();
-        
-        // Ensure required directories exist
-        createRequiredDirectories();
-        
-        // Create and show main window
+        // Create and show main window; the application controller and real panels
+        // are created after its first paint (see MainWindow.paint)
         MainWindow mainWindow = new MainWindow();
+        profiler.mark("Main window created");
         setupMainWindow(mainWindow);
         
         // Handle command line arguments
@@ -97,14 +135,40 @@ public class JSONFormMakerApplication {
         
         // Show the application
         mainWindow.setVisible(true);
+        profiler.mark("Frame shown");
         
         logger.info("Application initialized successfully");
     }
     
+    /**
+     * Preload editor, chooser and JSON classes on a daemon thread so the first
+     * selection, file dialog and save do not pay for class loading on the EDT
+     */
+    private static void startBackgroundWarmup() {
+        Thread warmup = new Thread(() -> StartupProfiler.getInstance().time("Background warm-up", () -> {
+            ClassLoader loader = JSONFormMakerApplication.class.getClassLoader();
+            for (String className : WARMUP_CLASSES) {
+                try {
+                    Class.forName(className, true, loader);
+                } catch (Throwable t) {
+                    logger.debug("Warm-up skipped {}: {}", className, t.getMessage());
+                }
+            }
+            try {
+                new ObjectMapper().writeValueAsString(Collections.singletonMap("warmup", true));
+            } catch (Exception e) {
+                logger.debug("Jackson warm-up failed: {}", e.getMessage());
+            }
+        }), "startup-warmup");
+        warmup.setDaemon(true);
+        warmup.setPriority(Thread.MIN_PRIORITY);
+        warmup.start();
+    }
+    
     /**
      * Set the application Look and Feel
      */
-    private static void setLookAndFeel() {
+    static void setLookAndFeel() {
         try {
             // Use FlatLaf for modern appearance
             FlatLightLaf.setup();
@@ -185,6 +249,9 @@ public class JSONFormMakerApplication {
         // Add shutdown hook for graceful cleanup
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             logger.info("Application shutting down...");
+            if (MetricsRegistry.getInstance().isEnabled()) {
+                logger.info("Metrics at shutdown:\n{}", MetricsRegistry.getInstance().formatReport());
+            }
             ConfigManager.getInstance().saveConfiguration();
         }));
     }
@@ -5,11 +5,13 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
+import java.awt.Graphics;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import javax.swing.BorderFactory;
+import javax.swing.ButtonGroup;
 import javax.swing.JButton;
 import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JFrame;
@@ -19,6 +21,7 @@ import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JRadioButtonMenuItem;
 import javax.swing.JScrollPane;
 import javax.swing.JSeparator;
 import javax.swing.JSplitPane;
@@ -26,11 +29,17 @@ import javax.swing.JTextArea;
 import javax.swing.JToolBar;
 import javax.swing.KeyStroke;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.MenuEvent;
+import javax.swing.event.MenuListener;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.adui.jsoncraft.utils.ConfigManager;
+import com.adui.jsoncraft.utils.LogLevelManager;
+import com.adui.jsoncraft.utils.StartupProfiler;
 
 /**
  * Main application window for JSONFormMaker
@@ -64,6 +73,13 @@ public class MainWindow extends JFrame {
     
     // Application Controller (handles the real functionality)
     private ApplicationController applicationController;
+    
+    // Controller and real panels are built after the first paint of the placeholder layout
+    private static final int CONTROLLER_FALLBACK_DELAY = 2000;
+    private boolean firstPaintDone;
+    private boolean controllerRequested;
+    private MetricsDialog metricsDialog;
+    private WorkspaceSearchDialog workspaceSearchDialog;
 
     public void setApplicationController(ApplicationController controller) {
         this.applicationController = controller;
@@ -81,25 +97,25 @@ public class MainWindow extends JFrame {
         
         JMenuItem newItem = new JMenuItem("New");
         newItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_N, InputEvent.CTRL_DOWN_MASK));
-        newItem.addActionListener(e -> applicationController.newWindow()); // ✅ Use existing method
+        newItem.addActionListener(e -> newWindow()); // ✅ Use existing method
         fileMenu.add(newItem);
         
         JMenuItem openItem = new JMenuItem("Open...");
         openItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_O, InputEvent.CTRL_DOWN_MASK));
-        openItem.addActionListener(e -> applicationController.openFile()); // ✅ Use existing method
+        openItem.addActionListener(e -> openFile()); // ✅ Use existing method
         fileMenu.add(openItem);
         
         fileMenu.addSeparator();
         
         JMenuItem saveItem = new JMenuItem("Save");
         saveItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_S, InputEvent.CTRL_DOWN_MASK));
-        saveItem.addActionListener(e -> applicationController.saveFile()); // ✅ Use existing method
+        saveItem.addActionListener(e -> saveFile()); // ✅ Use existing method
         fileMenu.add(saveItem);
         
         JMenuItem saveAsItem = new JMenuItem("Save As...");
         saveAsItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_S, 
             InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK));
-        saveAsItem.addActionListener(e -> applicationController.saveAsFile()); // ✅ Use existing method
+        saveAsItem.addActionListener(e -> saveAsFile()); // ✅ Use existing method
         fileMenu.add(saveAsItem);
         
         // ✅ Add recent files menu
@@ -117,7 +133,6 @@ public class MainWindow extends JFrame {
         setupLayout();
         setupEventHandlers();
         loadConfiguration();
-        initializeApplicationController();
         
         setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         setExtendedState(JFrame.MAXIMIZED_BOTH);
@@ -151,6 +166,10 @@ public class MainWindow extends JFrame {
         newItem.setAccelerator(KeyStroke.getKeyStroke("ctrl N"));
         newItem.addActionListener(e -> newWindow());
         
+        JMenuItem newFromTemplateItem = new JMenuItem("New from Template...");
+        newFromTemplateItem.setAccelerator(KeyStroke.getKeyStroke("ctrl shift N"));
+        newFromTemplateItem.addActionListener(e -> newFromTemplate());
+        
         JMenuItem openItem = new JMenuItem("Open...");
         openItem.setAccelerator(KeyStroke.getKeyStroke("ctrl O"));
         openItem.addActionListener(e -> openFile());
@@ -163,6 +182,12 @@ public class MainWindow extends JFrame {
         saveAsItem.setAccelerator(KeyStroke.getKeyStroke("ctrl shift S"));
         saveAsItem.addActionListener(e -> saveAsFile());
         
+        JMenuItem saveAsTemplateItem = new JMenuItem("Save as Template...");
+        saveAsTemplateItem.addActionListener(e -> saveAsTemplate());
+        
+        JMenuItem exportBundleItem = new JMenuItem("Export Bundle...");
+        exportBundleItem.addActionListener(e -> exportBundle());
+        
         fileMenu.addSeparator();
         
         // Recent files submenu
@@ -177,10 +202,13 @@ public class MainWindow extends JFrame {
         exitItem.addActionListener(e -> exitApplication());
         
         fileMenu.add(newItem);
+        fileMenu.add(newFromTemplateItem);
         fileMenu.add(openItem);
         fileMenu.addSeparator();
         fileMenu.add(saveItem);
         fileMenu.add(saveAsItem);
+        fileMenu.add(saveAsTemplateItem);
+        fileMenu.add(exportBundleItem);
         fileMenu.add(recentMenu);
         fileMenu.addSeparator();
         fileMenu.add(exitItem);
@@ -236,8 +264,13 @@ public class MainWindow extends JFrame {
         previewItem.setAccelerator(KeyStroke.getKeyStroke("F5"));
         previewItem.addActionListener(e -> previewJson());
         
+        JMenuItem simulateItem = new JMenuItem("Simulate Form");
+        simulateItem.setAccelerator(KeyStroke.getKeyStroke("F6"));
+        simulateItem.addActionListener(e -> simulateForm());
+        
         viewMenu.add(validateItem);
         viewMenu.add(previewItem);
+        viewMenu.add(simulateItem);
         
         // Tools Menu
         JMenu toolsMenu = new JMenu("Tools");
@@ -246,7 +279,21 @@ public class MainWindow extends JFrame {
         JMenuItem optionsItem = new JMenuItem("Options...");
         optionsItem.addActionListener(e -> showOptionsDialog());
         
+        JMenuItem metricsItem = new JMenuItem("Metrics...");
+        metricsItem.addActionListener(e -> showMetrics());
+        
+        JMenuItem workspaceSearchItem = new JMenuItem("Workspace Search...");
+        workspaceSearchItem.setAccelerator(KeyStroke.getKeyStroke("ctrl shift F"));
+        workspaceSearchItem.addActionListener(e -> showWorkspaceSearch());
+        
+        JMenuItem mergeItem = new JMenuItem("Merge Form...");
+        mergeItem.addActionListener(e -> mergeForms());
+        
         toolsMenu.add(optionsItem);
+        toolsMenu.add(workspaceSearchItem);
+        toolsMenu.add(mergeItem);
+        toolsMenu.add(metricsItem);
+        toolsMenu.add(createLogLevelMenu());
         
         // Help Menu
         JMenu helpMenu = new JMenu("Help");
@@ -319,8 +366,13 @@ public class MainWindow extends JFrame {
         previewBtn.setToolTipText("Preview generated JSON (F5)");
         previewBtn.addActionListener(e -> previewJson());
         
+        JButton simulateBtn = new JButton("Simulate");
+        simulateBtn.setToolTipText("Fill in the form with display logic and validation (F6)");
+        simulateBtn.addActionListener(e -> simulateForm());
+        
         toolBar.add(validateBtn);
         toolBar.add(previewBtn);
+        toolBar.add(simulateBtn);
     }
     
     private void createPanels() {
@@ -426,6 +478,14 @@ public class MainWindow extends JFrame {
             public void windowClosing(WindowEvent e) {
                 exitApplication();
             }
+            
+            @Override
+            public void windowOpened(WindowEvent e) {
+                // Fallback in case no paint reaches the frame (e.g. minimized at startup)
+                Timer fallback = new Timer(CONTROLLER_FALLBACK_DELAY, evt -> ensureApplicationController());
+                fallback.setRepeats(false);
+                fallback.start();
+            }
         });
     }
     
@@ -451,19 +511,44 @@ public class MainWindow extends JFrame {
         }
     }
     
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (!firstPaintDone) {
+            firstPaintDone = true;
+            StartupProfiler.getInstance().mark("First paint");
+            // Let the placeholder frame reach the screen before building the real panels
+            SwingUtilities.invokeLater(this::ensureApplicationController);
+        }
+    }
+    
+    /**
+     * Create the application controller once, after the frame has been shown
+     */
+    public void ensureApplicationController() {
+        if (controllerRequested) {
+            return;
+        }
+        controllerRequested = true;
+        initializeApplicationController();
+    }
+    
     private void initializeApplicationController() {
         // Initialize the application controller which provides the real functionality
+        StartupProfiler profiler = StartupProfiler.getInstance();
         try {
-            applicationController = new ApplicationController(this);
+            applicationController = profiler.timeResult("Application controller", () -> new ApplicationController(this));
             
             // Replace placeholder panels with real components
-            replaceComponentPanels();
+            profiler.time("Component panels", this::replaceComponentPanels);
             
             logger.info("Application controller initialized");
         } catch (Exception e) {
             logger.error("Failed to initialize application controller", e);
             updateStatus("Failed to initialize application controller");
         }
+        profiler.mark("UI ready");
+        profiler.logReport();
     }
     
     private void replaceComponentPanels() {
@@ -542,6 +627,22 @@ public class MainWindow extends JFrame {
         }
     }
     
+    public void newFromTemplate() {
+        if (applicationController != null) {
+            applicationController.newFromTemplate();
+        } else {
+            updateStatus("New from template - ApplicationController not ready");
+        }
+    }
+    
+    public void saveAsTemplate() {
+        if (applicationController != null) {
+            applicationController.saveAsTemplate();
+        } else {
+            updateStatus("Save as template - ApplicationController not ready");
+        }
+    }
+    
     public void openFile() {
         if (applicationController != null) {
             applicationController.openFile();
@@ -566,6 +667,22 @@ public class MainWindow extends JFrame {
         }
     }
     
+    public void exportBundle() {
+        if (applicationController != null) {
+            applicationController.exportBundle();
+        } else {
+            updateStatus("Export bundle - ApplicationController not ready");
+        }
+    }
+    
+    public void mergeForms() {
+        if (applicationController != null) {
+            applicationController.mergeForms();
+        } else {
+            updateStatus("Merge form - ApplicationController not ready");
+        }
+    }
+    
     public void undo() {
         updateStatus("Undo - Not implemented yet");
         // TODO: Implement undo functionality
@@ -592,6 +709,14 @@ public class MainWindow extends JFrame {
         }
     }
     
+    public void simulateForm() {
+        if (applicationController != null) {
+            applicationController.simulateForm();
+        } else {
+            updateStatus("Simulate - ApplicationController not ready");
+        }
+    }
+    
     public void showFindDialog() {
         updateStatus("Find - Not implemented yet");
         // TODO: Implement find functionality
@@ -602,6 +727,61 @@ public class MainWindow extends JFrame {
         // TODO: Implement options dialog
     }
     
+    /**
+     * Tools > Log Level: switch the application log level at runtime (saved for the next start)
+     */
+    private JMenu createLogLevelMenu() {
+        JMenu logLevelMenu = new JMenu("Log Level");
+        ButtonGroup group = new ButtonGroup();
+        
+        for (String level : LogLevelManager.LEVELS) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(level);
+            item.addActionListener(e -> {
+                LogLevelManager.setLevel(level, true);
+                updateStatus("Log level: " + level);
+            });
+            group.add(item);
+            logLevelMenu.add(item);
+        }
+        
+        // Reflect the current level whenever the menu opens
+        logLevelMenu.addMenuListener(new MenuListener() {
+            @Override
+            public void menuSelected(MenuEvent e) {
+                String current = LogLevelManager.getLevel();
+                for (int i = 0; i < logLevelMenu.getItemCount(); i++) {
+                    JMenuItem item = logLevelMenu.getItem(i);
+                    item.setSelected(item.getText().equals(current));
+                }
+            }
+            @Override
+            public void menuDeselected(MenuEvent e) { }
+            @Override
+            public void menuCanceled(MenuEvent e) { }
+        });
+        return logLevelMenu;
+    }
+    
+    public void showMetrics() {
+        if (metricsDialog == null || !metricsDialog.isDisplayable()) {
+            metricsDialog = new MetricsDialog(this);
+        }
+        metricsDialog.setVisible(true);
+        metricsDialog.toFront();
+    }
+    
+    public void showWorkspaceSearch() {
+        if (workspaceSearchDialog == null || !workspaceSearchDialog.isDisplayable()) {
+            workspaceSearchDialog = new WorkspaceSearchDialog(this, file -> {
+                if (applicationController != null) {
+                    applicationController.openFile(file);
+                }
+            });
+        }
+        workspaceSearchDialog.setVisible(true);
+        workspaceSearchDialog.toFront();
+    }
+    
     public void showHelp() {
         updateStatus("Help - Not implemented yet");
         // TODO: Implement help system
@@ -0,0 +1,192 @@
+package com.adui.jsoncraft.main;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.Frame;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.swing.BorderFactory;
+import javax.swing.DefaultCellEditor;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.table.AbstractTableModel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.FormMerge;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Merge view: lists the conflicts of a three-way form merge and lets the user pick ours or theirs
+ * for each one. Changes made on only one side are already merged and not shown here.
+ */
+public class MergeDialog extends JDialog {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(MergeDialog.class);
+
+    private static final int MAX_VALUE_LENGTH = 80;
+
+    private final WindowDefinition base;
+    private final WindowDefinition ours;
+    private final WindowDefinition theirs;
+    private final Consumer<FormMerge.Result> onApply;
+    private final ConflictTableModel conflictModel;
+
+    public MergeDialog(Frame parent, String theirsLabel, WindowDefinition base, WindowDefinition ours,
+            WindowDefinition theirs, FormMerge.Result result, Consumer<FormMerge.Result> onApply) {
+        super(parent, "Merge " + theirsLabel, true);
+        this.base = base;
+        this.ours = ours;
+        this.theirs = theirs;
+        this.onApply = onApply;
+        this.conflictModel = new ConflictTableModel(result.getConflicts());
+
+        initializeComponents(result);
+
+        setSize(900, 450);
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    }
+
+    private void initializeComponents(FormMerge.Result result) {
+        JTable conflictTable = new JTable(conflictModel);
+        conflictTable.getColumnModel().getColumn(ConflictTableModel.USE_COLUMN)
+            .setCellEditor(new DefaultCellEditor(new JComboBox<>(FormMerge.Side.values())));
+
+        JLabel summaryLabel = new JLabel(result.getSummary() + " - choose a side for each conflict");
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(5, 8, 5, 8));
+
+        JButton allOursButton = new JButton("All Ours");
+        allOursButton.addActionListener(e -> conflictModel.chooseAll(FormMerge.Side.OURS));
+        JButton allTheirsButton = new JButton("All Theirs");
+        allTheirsButton.addActionListener(e -> conflictModel.chooseAll(FormMerge.Side.THEIRS));
+        JButton applyButton = new JButton("Apply Merge");
+        applyButton.addActionListener(e -> applyMerge());
+        JButton cancelButton = new JButton("Cancel");
+        cancelButton.addActionListener(e -> dispose());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(allOursButton);
+        buttonPanel.add(allTheirsButton);
+        buttonPanel.add(applyButton);
+        buttonPanel.add(cancelButton);
+
+        JScrollPane scrollPane = new JScrollPane(conflictTable);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 5, 0, 5));
+
+        setLayout(new BorderLayout());
+        add(summaryLabel, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+        getRootPane().setDefaultButton(applyButton);
+    }
+
+    private void applyMerge() {
+        try {
+            FormMerge.Result merged = new FormMerge().merge(base, ours, theirs, conflictModel.getChoices());
+            dispose();
+            onApply.accept(merged);
+        } catch (Exception e) {
+            logger.error("Merge failed", e);
+            JOptionPane.showMessageDialog(this, "Merge failed: " + e.getMessage(),
+                "Merge Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private static String describe(FormMerge.Conflict conflict, JsonNode value) {
+        switch (conflict.getKind()) {
+            case ORDER:
+                return "(own order)";
+            case DELETE_MODIFY:
+                return value == null ? "(deleted)" : "(changed)";
+            default:
+                if (value == null) {
+                    return "(none)";
+                }
+                String text = value.isTextual() ? value.asText() : value.toString();
+                return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text;
+        }
+    }
+
+    /**
+     * One row per conflict; the last column is the chosen side
+     */
+    private static class ConflictTableModel extends AbstractTableModel {
+        private static final long serialVersionUID = 1L;
+        private static final String[] COLUMNS = {"Kind", "Element", "Property", "Base", "Ours", "Theirs", "Use"};
+        static final int USE_COLUMN = 6;
+
+        private final List<FormMerge.Conflict> conflicts;
+        private final Map<String, FormMerge.Side> choices;
+
+        ConflictTableModel(List<FormMerge.Conflict> conflicts) {
+            this.conflicts = conflicts;
+            this.choices = new HashMap<>();
+            for (FormMerge.Conflict conflict : conflicts) {
+                choices.put(conflict.getKey(), conflict.getResolution());
+            }
+        }
+
+        Map<String, FormMerge.Side> getChoices() {
+            return choices;
+        }
+
+        void chooseAll(FormMerge.Side side) {
+            choices.replaceAll((key, value) -> side);
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return conflicts.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return column == USE_COLUMN;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            FormMerge.Conflict conflict = conflicts.get(row);
+            switch (column) {
+                case 0: return conflict.getKind();
+                case 1: return conflict.getTarget().name().toLowerCase() + " " + conflict.getId();
+                case 2: return conflict.getPath() != null ? conflict.getPath() : "";
+                case 3: return describe(conflict, conflict.getBaseValue());
+                case 4: return describe(conflict, conflict.getOursValue());
+                case 5: return describe(conflict, conflict.getTheirsValue());
+                default: return choices.get(conflict.getKey());
+            }
+        }
+
+        @Override
+        public void setValueAt(Object value, int row, int column) {
+            if (column == USE_COLUMN && value instanceof FormMerge.Side) {
+                choices.put(conflicts.get(row).getKey(), (FormMerge.Side) value);
+                fireTableCellUpdated(row, column);
+            }
+        }
+    }
+}
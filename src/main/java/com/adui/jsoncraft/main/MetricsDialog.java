@@ -0,0 +1,129 @@
+package com.adui.jsoncraft.main;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Frame;
+import java.io.File;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.Timer;
+import javax.swing.filechooser.FileNameExtensionFilter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.utils.MetricsRegistry;
+
+/**
+ * Non-modal metrics panel: live timer/counter table with enable, reset and JSON export
+ */
+public class MetricsDialog extends JDialog {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(MetricsDialog.class);
+
+    private static final int REFRESH_INTERVAL = 1000;
+
+    private final MetricsRegistry registry;
+    private final Timer refreshTimer;
+    private JTextArea reportArea;
+    private JCheckBox enabledCheckBox;
+
+    public MetricsDialog(Frame parent) {
+        super(parent, "Metrics", false);
+        this.registry = MetricsRegistry.getInstance();
+        this.refreshTimer = new Timer(REFRESH_INTERVAL, e -> refresh());
+
+        initializeComponents();
+        refresh();
+
+        setSize(900, 450);
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    }
+
+    private void initializeComponents() {
+        reportArea = new JTextArea();
+        reportArea.setEditable(false);
+        reportArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+
+        enabledCheckBox = new JCheckBox("Collect metrics", registry.isEnabled());
+        enabledCheckBox.addActionListener(e -> {
+            registry.setEnabled(enabledCheckBox.isSelected());
+            refresh();
+        });
+
+        JButton resetButton = new JButton("Reset");
+        resetButton.addActionListener(e -> {
+            registry.reset();
+            refresh();
+        });
+
+        JButton exportButton = new JButton("Export JSON...");
+        exportButton.addActionListener(e -> exportJson());
+
+        JButton closeButton = new JButton("Close");
+        closeButton.addActionListener(e -> dispose());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(enabledCheckBox);
+        buttonPanel.add(resetButton);
+        buttonPanel.add(exportButton);
+        buttonPanel.add(closeButton);
+
+        JScrollPane scrollPane = new JScrollPane(reportArea);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+
+        setLayout(new BorderLayout());
+        add(scrollPane, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    private void refresh() {
+        int caret = reportArea.getCaretPosition();
+        reportArea.setText(registry.formatReport());
+        reportArea.setCaretPosition(Math.min(caret, reportArea.getDocument().getLength()));
+    }
+
+    private void exportJson() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("JSON Files (*.json)", "json"));
+        chooser.setSelectedFile(new File("metrics.json"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File file = chooser.getSelectedFile();
+        try {
+            registry.exportJson(file);
+        } catch (Exception e) {
+            logger.error("Failed to export metrics", e);
+            JOptionPane.showMessageDialog(this, "Failed to export metrics:\n" + e.getMessage(),
+                "Export Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        if (visible) {
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+        }
+        super.setVisible(visible);
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+        super.dispose();
+    }
+}
@@ -0,0 +1,89 @@
+package com.adui.jsoncraft.main;
+
+import java.awt.GraphicsEnvironment;
+
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.JsonGenerator;
+import com.adui.jsoncraft.json.JsonParser;
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.palette.ComponentSearchIndex;
+import com.adui.jsoncraft.properties.PropertyEditorFactory;
+import com.adui.jsoncraft.utils.ConfigManager;
+import com.adui.jsoncraft.validation.ValidationEngine;
+
+/**
+ * Training launch for the AppCDS build profile (-Pappcds).
+ * Walks through the code paths of a normal startup and first edit - configuration,
+ * look and feel, palette search, every component editor, JSON generate/parse/validate
+ * and (when a display is available) the main window - then exits, so the JVM can
+ * record which classes to put in the class-data-sharing archive.
+ * The profile launches it with user.home and the working directory pointed at
+ * target/appcds/training-home, so the config, sample and template files it creates stay
+ * out of the builder's home directory.
+ */
+public class StartupTraining {
+    private static final Logger logger = LoggerFactory.getLogger(StartupTraining.class);
+
+    public static void main(String[] args) throws Exception {
+        long start = System.nanoTime();
+
+        ConfigManager.getInstance().initialize();
+        SwingUtilities.invokeAndWait(JSONFormMakerApplication::setLookAndFeel);
+
+        WindowDefinition window = createTrainingWindow();
+        SwingUtilities.invokeAndWait(() -> {
+            ComponentSearchIndex.createDefault().search("text");
+            for (TabDefinition tab : window.getTabs()) {
+                for (FieldDefinition field : tab.getFields()) {
+                    PropertyEditorFactory.createEditor(field.getComponentType(), field);
+                }
+            }
+        });
+
+        String json = new JsonGenerator().generateJson(window);
+        WindowDefinition parsed = new JsonParser().parseString(json);
+        new ValidationEngine().validateWindow(parsed);
+
+        if (!GraphicsEnvironment.isHeadless()) {
+            SwingUtilities.invokeAndWait(() -> {
+                MainWindow mainWindow = new MainWindow();
+                mainWindow.ensureApplicationController();
+                mainWindow.dispose();
+            });
+        } else {
+            logger.info("Headless training run - main window classes are not recorded");
+        }
+
+        logger.info("Startup training finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+        System.exit(0);
+    }
+
+    private static WindowDefinition createTrainingWindow() {
+        WindowDefinition window = new WindowDefinition();
+        window.setWindowId("CDS_TRAINING");
+        window.setName("CDS Training");
+
+        TabDefinition tab = new TabDefinition();
+        tab.setTabId("TAB_TRAINING");
+        tab.setName("Training");
+        tab.setSequence(10);
+
+        int sequence = 10;
+        for (ComponentType type : ComponentType.values()) {
+            FieldDefinition field = new FieldDefinition("FIELD_" + type.name(), type.name(), type);
+            field.setSequence(sequence);
+            sequence += 10;
+            tab.addField(field);
+        }
+
+        window.addTab(tab);
+        return window;
+    }
+}
@@ -0,0 +1,185 @@
+package com.adui.jsoncraft.main;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.Frame;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
+import javax.swing.table.AbstractTableModel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.utils.WorkspaceIndex;
+
+/**
+ * Non-modal search across all forms in the workspace: which forms use a field ID,
+ * component type or reference list. Double-click a result to open it.
+ */
+public class WorkspaceSearchDialog extends JDialog {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceSearchDialog.class);
+
+    private final WorkspaceIndex index;
+    private final Consumer<File> fileOpener;
+    private final ResultTableModel resultModel;
+    private JComboBox<WorkspaceIndex.Kind> kindCombo;
+    private JTextField termField;
+    private JButton refreshButton;
+    private JLabel statusLabel;
+
+    public WorkspaceSearchDialog(Frame parent, Consumer<File> fileOpener) {
+        super(parent, "Workspace Search", false);
+        this.index = WorkspaceIndex.getInstance();
+        this.fileOpener = fileOpener;
+        this.resultModel = new ResultTableModel();
+
+        initializeComponents();
+
+        setSize(800, 500);
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        refreshIndex();
+    }
+
+    private void initializeComponents() {
+        kindCombo = new JComboBox<>(WorkspaceIndex.Kind.values());
+        termField = new JTextField(25);
+        termField.addActionListener(e -> search());
+
+        JButton searchButton = new JButton("Search");
+        searchButton.addActionListener(e -> search());
+
+        refreshButton = new JButton("Refresh Index");
+        refreshButton.addActionListener(e -> refreshIndex());
+
+        JPanel queryPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        queryPanel.add(kindCombo);
+        queryPanel.add(termField);
+        queryPanel.add(searchButton);
+        queryPanel.add(refreshButton);
+
+        JTable resultTable = new JTable(resultModel);
+        resultTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultTable.setAutoCreateRowSorter(true);
+        resultTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int row = resultTable.getSelectedRow();
+                if (e.getClickCount() == 2 && row >= 0) {
+                    WorkspaceIndex.Match match = resultModel.getMatch(resultTable.convertRowIndexToModel(row));
+                    fileOpener.accept(index.resolve(match.getEntry()));
+                }
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(resultTable);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 5, 0, 5));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(3, 8, 3, 8));
+
+        setLayout(new BorderLayout());
+        add(queryPanel, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+    }
+
+    private void search() {
+        WorkspaceIndex.Kind kind = (WorkspaceIndex.Kind) kindCombo.getSelectedItem();
+        long start = System.nanoTime();
+        List<WorkspaceIndex.Match> matches = index.query(kind, termField.getText());
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        resultModel.setMatches(matches);
+        statusLabel.setText(String.format("%d of %d forms match (%.1f ms)", matches.size(), index.getFileCount(), millis));
+    }
+
+    private void refreshIndex() {
+        refreshButton.setEnabled(false);
+        statusLabel.setText("Indexing " + index.getRoot() + " ...");
+
+        new SwingWorker<WorkspaceIndex.RefreshResult, Void>() {
+            @Override
+            protected WorkspaceIndex.RefreshResult doInBackground() throws Exception {
+                return index.refresh();
+            }
+
+            @Override
+            protected void done() {
+                refreshButton.setEnabled(true);
+                try {
+                    statusLabel.setText("Index: " + get());
+                    if (!termField.getText().trim().isEmpty()) {
+                        search();
+                    }
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    logger.error("Failed to refresh workspace index", cause);
+                    statusLabel.setText("Indexing failed: " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * One row per matching form
+     */
+    private static class ResultTableModel extends AbstractTableModel {
+        private static final long serialVersionUID = 1L;
+        private static final String[] COLUMNS = {"File", "Window ID", "Name", "Matched"};
+
+        private List<WorkspaceIndex.Match> matches = Collections.emptyList();
+
+        void setMatches(List<WorkspaceIndex.Match> matches) {
+            this.matches = matches;
+            fireTableDataChanged();
+        }
+
+        WorkspaceIndex.Match getMatch(int row) {
+            return matches.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return matches.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            WorkspaceIndex.Match match = matches.get(row);
+            switch (column) {
+                case 0: return match.getEntry().getPath();
+                case 1: return match.getEntry().getWindowId();
+                case 2: return match.getEntry().getName();
+                default: return String.join(", ", match.getMatchedKeys());
+            }
+        }
+    }
+}
@@ -443,9 +443,10 @@ public class FieldDefinition {
             copy.data = new HashMap<>(this.data);
         }
         
-        // Deep copy reference
+        // Share reference data through the registry instead of deep copying it
         if (this.reference != null) {
-            copy.reference = this.reference.copy();
+            copy.reference = this.reference.isShared()
+                ? this.reference : ReferenceRegistry.getInstance().intern(this.reference);
         }
         
         return copy;
@@ -2,6 +2,7 @@ package com.adui.jsoncraft.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Data model for reference data used in selection components
@@ -14,6 +15,12 @@ public class ReferenceData {
     private boolean allowCustomValues;
     private List<ReferenceValue> values;
     
+    // Lazily built lookup index, discarded whenever the value list changes
+    private ReferenceIndex index;
+    
+    // Set once this instance is the registry's canonical copy; shared instances must not be edited in place
+    private boolean shared;
+    
     public ReferenceData() {
         this.values = new ArrayList<>();
         this.validationType = "LIST";
@@ -40,7 +47,10 @@ public class ReferenceData {
     public void setAllowCustomValues(boolean allowCustomValues) { this.allowCustomValues = allowCustomValues; }
     
     public List<ReferenceValue> getValues() { return values; }
-    public void setValues(List<ReferenceValue> values) { this.values = values; }
+    public void setValues(List<ReferenceValue> values) { 
+        this.values = values; 
+        this.index = null;
+    }
     
     // Utility Methods
     public void addValue(ReferenceValue value) {
@@ -48,28 +58,99 @@ public class ReferenceData {
             values = new ArrayList<>();
         }
         values.add(value);
+        index = null;
     }
     
     public void removeValue(ReferenceValue value) {
         if (values != null) {
             values.remove(value);
+            index = null;
         }
     }
     
     public ReferenceValue getValue(String key) {
         if (values != null) {
-            return values.stream()
-                .filter(value -> key.equals(value.getKey()))
-                .findFirst()
-                .orElse(null);
+            return getIndex().get(key);
         }
         return null;
     }
     
+    /**
+     * Get lookup index over the values, rebuilding it if the list changed.
+     * Call invalidateIndex() after editing keys or sort orders in place.
+     */
+    public ReferenceIndex getIndex() {
+        if (index == null || !index.isCurrentFor(values)) {
+            index = new ReferenceIndex(values);
+        }
+        return index;
+    }
+    
+    public void invalidateIndex() {
+        index = null;
+    }
+    
+    /**
+     * Find values whose key or display starts with the given prefix
+     */
+    public List<ReferenceValue> findValuesByPrefix(String prefix, int limit) {
+        return getIndex().findByPrefix(prefix, limit);
+    }
+    
+    /**
+     * Get values ordered by sort order
+     */
+    public List<ReferenceValue> getSortedValues() {
+        return getIndex().getSortedValues();
+    }
+    
     public int getValueCount() {
         return values != null ? values.size() : 0;
     }
     
+    /**
+     * Check whether this instance is shared between fields via ReferenceRegistry
+     */
+    public boolean isShared() { return shared; }
+    
+    void markShared() { this.shared = true; }
+    
+    /**
+     * Hash over id, name, settings and all value content
+     */
+    public int contentHash() {
+        int hash = Objects.hash(id, name, validationType, allowCustomValues);
+        if (values != null) {
+            for (ReferenceValue value : values) {
+                hash = 31 * hash + (value != null ? value.contentHash() : 0);
+            }
+        }
+        return hash;
+    }
+    
+    /**
+     * Compare id, name, settings and all value content
+     */
+    public boolean contentEquals(ReferenceData other) {
+        if (other == this) return true;
+        if (other == null) return false;
+        if (allowCustomValues != other.allowCustomValues
+                || !Objects.equals(id, other.id)
+                || !Objects.equals(name, other.name)
+                || !Objects.equals(validationType, other.validationType)) {
+            return false;
+        }
+        
+        int size = getValueCount();
+        if (size != other.getValueCount()) return false;
+        for (int i = 0; i < size; i++) {
+            ReferenceValue a = values.get(i);
+            ReferenceValue b = other.values.get(i);
+            if (a == null ? b != null : !a.contentEquals(b)) return false;
+        }
+        return true;
+    }
+    
     public ReferenceData copy() {
         ReferenceData copy = new ReferenceData();
         copy.id = this.id;
@@ -138,6 +219,21 @@ public class ReferenceData {
             return copy;
         }
         
+        public int contentHash() {
+            return Objects.hash(key, display, description, color, icon, sortOrder);
+        }
+        
+        public boolean contentEquals(ReferenceValue other) {
+            if (other == this) return true;
+            return other != null
+                && sortOrder == other.sortOrder
+                && Objects.equals(key, other.key)
+                && Objects.equals(display, other.display)
+                && Objects.equals(description, other.description)
+                && Objects.equals(color, other.color)
+                && Objects.equals(icon, other.icon);
+        }
+        
         @Override
         public String toString() {
             return String.format("ReferenceValue[key=%s, display=%s]", key, display);
@@ -0,0 +1,178 @@
+package com.adui.jsoncraft.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-only lookup index over a list of reference values.
+ * Provides key lookup, sort-order traversal and prefix search for large code lists.
+ * Instances are immutable snapshots; rebuild after the underlying list changes.
+ */
+public class ReferenceIndex {
+    private final List<ReferenceData.ReferenceValue> values;
+    private final Map<String, Integer> keyIndex;
+    private final int[] sortOrderIndex;
+
+    // Lower-cased key/display terms sorted for binary search, with the value position for each term
+    private final String[] terms;
+    private final int[] termPositions;
+
+    public ReferenceIndex(List<ReferenceData.ReferenceValue> values) {
+        this.values = values != null ? values : Collections.emptyList();
+
+        int size = this.values.size();
+        this.keyIndex = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+
+        List<Integer> sortPositions = new ArrayList<>(size);
+        List<Term> termEntries = new ArrayList<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            ReferenceData.ReferenceValue value = this.values.get(i);
+            sortPositions.add(i);
+            if (value == null) continue;
+
+            // First occurrence wins, matching the previous linear scan
+            if (value.getKey() != null) {
+                keyIndex.putIfAbsent(value.getKey(), i);
+                termEntries.add(new Term(normalize(value.getKey()), i));
+            }
+            if (value.getDisplay() != null && !value.getDisplay().equals(value.getKey())) {
+                termEntries.add(new Term(normalize(value.getDisplay()), i));
+            }
+        }
+
+        // Stable sort keeps list order for equal sort orders
+        sortPositions.sort((a, b) -> Integer.compare(sortOrderAt(a), sortOrderAt(b)));
+        this.sortOrderIndex = sortPositions.stream().mapToInt(Integer::intValue).toArray();
+
+        termEntries.sort((a, b) -> a.text.compareTo(b.text));
+        this.terms = new String[termEntries.size()];
+        this.termPositions = new int[termEntries.size()];
+        for (int i = 0; i < termEntries.size(); i++) {
+            terms[i] = termEntries.get(i).text;
+            termPositions[i] = termEntries.get(i).position;
+        }
+    }
+
+    /**
+     * Get value by key
+     */
+    public ReferenceData.ReferenceValue get(String key) {
+        int position = indexOf(key);
+        return position >= 0 ? values.get(position) : null;
+    }
+
+    /**
+     * Get list position of the value with the given key, or -1
+     */
+    public int indexOf(String key) {
+        if (key == null) return -1;
+        Integer position = keyIndex.get(key);
+        return position != null ? position : -1;
+    }
+
+    public boolean containsKey(String key) {
+        return key != null && keyIndex.containsKey(key);
+    }
+
+    /**
+     * Get values ordered by sort order (list order breaks ties)
+     */
+    public List<ReferenceData.ReferenceValue> getSortedValues() {
+        List<ReferenceData.ReferenceValue> sorted = new ArrayList<>(sortOrderIndex.length);
+        for (int position : sortOrderIndex) {
+            sorted.add(values.get(position));
+        }
+        return sorted;
+    }
+
+    /**
+     * Get list positions ordered by sort order
+     */
+    public int[] getSortOrderPositions() {
+        return sortOrderIndex.clone();
+    }
+
+    /**
+     * Find list positions whose key or display starts with the prefix (case-insensitive).
+     * Positions are returned in list order; an empty prefix matches everything.
+     */
+    public int[] findPositionsByPrefix(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            int[] all = new int[values.size()];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        String term = normalize(prefix);
+        BitSet matches = new BitSet(values.size());
+        for (int i = lowerBound(term); i < terms.length && terms[i].startsWith(term); i++) {
+            matches.set(termPositions[i]);
+        }
+        return matches.stream().toArray();
+    }
+
+    /**
+     * Find values whose key or display starts with the prefix, up to limit results
+     */
+    public List<ReferenceData.ReferenceValue> findByPrefix(String prefix, int limit) {
+        int[] positions = findPositionsByPrefix(prefix);
+        int count = limit > 0 ? Math.min(limit, positions.length) : positions.length;
+
+        List<ReferenceData.ReferenceValue> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(values.get(positions[i]));
+        }
+        return result;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Check whether this index was built over the given list in its current state
+     */
+    boolean isCurrentFor(List<ReferenceData.ReferenceValue> list) {
+        return list == values && list.size() == sortOrderIndex.length;
+    }
+
+    private int sortOrderAt(int position) {
+        ReferenceData.ReferenceValue value = values.get(position);
+        return value != null ? value.getSortOrder() : Integer.MAX_VALUE;
+    }
+
+    private int lowerBound(String term) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(term) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Term {
+        private final String text;
+        private final int position;
+
+        Term(String text, int position) {
+            this.text = text;
+            this.position = position;
+        }
+    }
+}
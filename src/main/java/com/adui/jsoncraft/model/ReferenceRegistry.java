@@ -0,0 +1,98 @@
+package com.adui.jsoncraft.model;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry that interns reference data by content so identical value lists
+ * (status, priority, code lists) are held once in memory and shared between fields and forms.
+ * Canonical instances are weakly held and disappear once no field uses them.
+ * Shared instances must be treated as read-only; edit a copy() and intern the result instead.
+ */
+public class ReferenceRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceRegistry.class);
+
+    private static ReferenceRegistry instance;
+
+    // Content hash -> canonical instances with that hash
+    private final Map<Integer, List<WeakReference<ReferenceData>>> buckets;
+    private long internCount;
+    private long hitCount;
+
+    private ReferenceRegistry() {
+        this.buckets = new HashMap<>();
+    }
+
+    public static synchronized ReferenceRegistry getInstance() {
+        if (instance == null) {
+            instance = new ReferenceRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Return the shared instance with the same content, registering this one if none exists
+     */
+    public synchronized ReferenceData intern(ReferenceData reference) {
+        if (reference == null) {
+            return null;
+        }
+        internCount++;
+
+        int hash = reference.contentHash();
+        List<WeakReference<ReferenceData>> bucket = buckets.computeIfAbsent(hash, k -> new ArrayList<>(1));
+
+        Iterator<WeakReference<ReferenceData>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            ReferenceData candidate = iterator.next().get();
+            if (candidate == null) {
+                iterator.remove();
+            } else if (candidate == reference || candidate.contentEquals(reference)) {
+                hitCount++;
+                return candidate;
+            }
+        }
+
+        reference.markShared();
+        bucket.add(new WeakReference<>(reference));
+        logger.debug("Interned reference set {} with {} values", reference.getId(), reference.getValueCount());
+        return reference;
+    }
+
+    /**
+     * Number of live shared reference sets
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (List<WeakReference<ReferenceData>> bucket : buckets.values()) {
+            for (WeakReference<ReferenceData> ref : bucket) {
+                if (ref.get() != null) size++;
+            }
+        }
+        return size;
+    }
+
+    public synchronized long getInternCount() {
+        return internCount;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Forget all canonical instances (existing holders keep theirs)
+     */
+    public synchronized void clear() {
+        buckets.clear();
+        internCount = 0;
+        hitCount = 0;
+    }
+}
@@ -90,6 +90,26 @@ public class TabDefinition {
         return fields != null ? fields.size() : 0;
     }
     
+    /**
+     * Create a copy of this tab with copies of its fields
+     */
+    public TabDefinition copy() {
+        TabDefinition copy = new TabDefinition(tabId, name);
+        copy.description = this.description;
+        copy.sequence = this.sequence;
+        copy.tabLevel = this.tabLevel;
+        copy.isReadOnly = this.isReadOnly;
+        copy.isSingleRow = this.isSingleRow;
+        copy.help = this.help;
+        if (this.fields != null) {
+            copy.fields = new ArrayList<>(this.fields.size());
+            for (FieldDefinition field : this.fields) {
+                copy.fields.add(field.copy());
+            }
+        }
+        return copy;
+    }
+    
     public void updateFieldSequences() {
         if (fields != null) {
             for (int i = 0; i < fields.size(); i++) {
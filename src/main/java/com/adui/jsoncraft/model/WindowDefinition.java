@@ -87,6 +87,26 @@ public class WindowDefinition {
             .sum();
     }
     
+    /**
+     * Create a copy of this window with copies of its tabs and fields
+     */
+    public WindowDefinition copy() {
+        WindowDefinition copy = new WindowDefinition(windowId, name);
+        copy.description = this.description;
+        copy.windowType = this.windowType;
+        copy.help = this.help;
+        if (this.tabs != null) {
+            copy.tabs = new ArrayList<>(this.tabs.size());
+            for (TabDefinition tab : this.tabs) {
+                copy.tabs.add(tab.copy());
+            }
+        }
+        if (this.metadata != null) {
+            copy.metadata = new HashMap<>(this.metadata);
+        }
+        return copy;
+    }
+    
     public boolean isValid() {
         return windowId != null && !windowId.trim().isEmpty() &&
                name != null && !name.trim().isEmpty() &&
@@ -4,10 +4,16 @@ import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.swing.BorderFactory;
 import javax.swing.JComponent;
@@ -19,20 +25,28 @@ import javax.swing.JPopupMenu;
 import javax.swing.JScrollPane;
 import javax.swing.JTextField;
 import javax.swing.JTree;
+import javax.swing.KeyStroke;
+import javax.swing.Timer;
 import javax.swing.TransferHandler;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.MutableTreeNode;
 import javax.swing.tree.TreePath;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.utils.ConfigManager;
 
 /**
  * Component Palette for JSONFormMaker
- * Displays categorized tree of available ADUI components
+ * Displays categorized tree of available ADUI components.
+ * Filters as you type (debounced) through a ComponentSearchIndex and updates the
+ * existing tree nodes in place rather than rebuilding the tree.
  */
 public class ComponentPalette extends JPanel {
     private static final Logger logger = LoggerFactory.getLogger(ComponentPalette.class);
@@ -43,8 +57,21 @@ public class ComponentPalette extends JPanel {
     private JTextField searchField;
     private List<ComponentPaletteListener> listeners;
     
+    // Search index and the single tree node created for each entry / category
+    private ComponentSearchIndex searchIndex;
+    private Map<String, DefaultMutableTreeNode> entryNodes;
+    private Map<String, DefaultMutableTreeNode> categoryNodes;
+    private Map<String, List<DefaultMutableTreeNode>> categoryEntries;
+    private Timer filterTimer;
+    private String activeFilter = "";
+    private Set<String> expandedBeforeSearch;
+    
     public ComponentPalette() {
         this.listeners = new ArrayList<>();
+        this.searchIndex = ComponentSearchIndex.createDefault();
+        this.entryNodes = new HashMap<>();
+        this.categoryNodes = new LinkedHashMap<>();
+        this.categoryEntries = new LinkedHashMap<>();
         initializeComponents();
         setupLayout();
         setupEventHandlers();
@@ -56,7 +83,11 @@ public class ComponentPalette extends JPanel {
     private void initializeComponents() {
         // Search field
         searchField = new JTextField();
-        searchField.setToolTipText("Search components...");
+        searchField.setToolTipText("Search components by name, description or keyword...");
+        
+        int searchDelay = ConfigManager.getInstance().getIntProperty("palette.searchDelay", 150);
+        filterTimer = new Timer(searchDelay, e -> filterComponents(searchField.getText()));
+        filterTimer.setRepeats(false);
         
         // Component tree
         rootNode = new DefaultMutableTreeNode("Components");
@@ -93,8 +124,26 @@ public class ComponentPalette extends JPanel {
     }
     
     private void setupEventHandlers() {
-        // Search functionality
-        searchField.addActionListener(e -> filterComponents(searchField.getText()));
+        // Search as you type; the timer coalesces bursts of keystrokes into one filter pass
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { filterTimer.restart(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { filterTimer.restart(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { filterTimer.restart(); }
+        });
+        
+        // Enter applies the filter immediately and selects the best match
+        searchField.addActionListener(e -> {
+            filterTimer.stop();
+            filterComponents(searchField.getText());
+            selectBestMatch();
+        });
+        
+        // Escape clears the search
+        searchField.registerKeyboardAction(e -> searchField.setText(""),
+            KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), JComponent.WHEN_FOCUSED);
         
         // Double-click to add component
         componentTree.addMouseListener(new MouseAdapter() {
@@ -107,6 +156,8 @@ public class ComponentPalette extends JPanel {
                         if (node.getUserObject() instanceof ComponentType) {
                             ComponentType type = (ComponentType) node.getUserObject();
                             notifyComponentSelected(type);
+                        } else if (node.getUserObject() instanceof ComponentSearchIndex.Entry) {
+                            notifyEntrySelected((ComponentSearchIndex.Entry) node.getUserObject());
                         }
                     }
                 }
@@ -132,72 +183,211 @@ public class ComponentPalette extends JPanel {
     }
     
     private void populateTree() {
-        // Create category nodes
+        // Create category and component nodes once; filtering only moves these nodes
         for (ComponentType.ComponentCategory category : ComponentType.ComponentCategory.values()) {
-            DefaultMutableTreeNode categoryNode = new DefaultMutableTreeNode(category);
-            
-            // Add components to category
-            for (ComponentType type : ComponentType.values()) {
-                if (type.getCategory() == category) {
-                    DefaultMutableTreeNode componentNode = new DefaultMutableTreeNode(type);
-                    categoryNode.add(componentNode);
-                }
-            }
-            
-            // Only add category if it has components
-            if (categoryNode.getChildCount() > 0) {
-                rootNode.add(categoryNode);
-            }
+            getOrCreateCategoryNode(category.getDisplayName(), category);
+        }
+        for (ComponentSearchIndex.Entry entry : searchIndex.getEntries()) {
+            createEntryNode(entry);
         }
         
+        applyFilter(null);
+        
         // Expand first few categories by default
         for (int i = 0; i < Math.min(3, rootNode.getChildCount()); i++) {
             TreePath path = new TreePath(new Object[]{rootNode, rootNode.getChildAt(i)});
             componentTree.expandPath(path);
         }
         
-        treeModel.reload();
         logger.debug("Populated component tree with {} categories", rootNode.getChildCount());
     }
     
+    private DefaultMutableTreeNode getOrCreateCategoryNode(String name, Object userObject) {
+        DefaultMutableTreeNode categoryNode = categoryNodes.get(name);
+        if (categoryNode == null) {
+            categoryNode = new DefaultMutableTreeNode(userObject != null ? userObject : name);
+            categoryNodes.put(name, categoryNode);
+            categoryEntries.put(name, new ArrayList<>());
+        }
+        return categoryNode;
+    }
+    
+    private void createEntryNode(ComponentSearchIndex.Entry entry) {
+        // Built-in entries keep ComponentType as the node object so existing handlers keep working
+        Object userObject = entry.isBuiltIn() ? entry.getComponentType() : entry;
+        DefaultMutableTreeNode node = new DefaultMutableTreeNode(userObject);
+        entryNodes.put(entry.getId(), node);
+        
+        getOrCreateCategoryNode(entry.getCategory(), null);
+        categoryEntries.get(entry.getCategory()).add(node);
+    }
+    
     private void filterComponents(String searchText) {
-        if (searchText == null || searchText.trim().isEmpty()) {
-            populateTree(); // Reset to full tree
+        String filter = searchText != null ? searchText.trim() : "";
+        if (filter.equals(activeFilter)) {
             return;
         }
         
-        String filter = searchText.toLowerCase();
-        rootNode.removeAllChildren();
+        if (activeFilter.isEmpty()) {
+            expandedBeforeSearch = getExpandedCategories();
+        }
+        activeFilter = filter;
         
-        // Create filtered tree
-        for (ComponentType.ComponentCategory category : ComponentType.ComponentCategory.values()) {
-            DefaultMutableTreeNode categoryNode = new DefaultMutableTreeNode(category);
-            
-            for (ComponentType type : ComponentType.values()) {
-                if (type.getCategory() == category) {
-                    if (type.getJsonName().toLowerCase().contains(filter) ||
-                        type.getDescription().toLowerCase().contains(filter) ||
-                        category.getDisplayName().toLowerCase().contains(filter)) {
-                        
-                        DefaultMutableTreeNode componentNode = new DefaultMutableTreeNode(type);
-                        categoryNode.add(componentNode);
-                    }
-                }
-            }
-            
-            if (categoryNode.getChildCount() > 0) {
-                rootNode.add(categoryNode);
-            }
+        if (filter.isEmpty()) {
+            applyFilter(null);
+            restoreExpandedCategories(expandedBeforeSearch);
+            return;
         }
         
+        List<ComponentSearchIndex.Match> matches = searchIndex.search(filter);
+        applyFilter(matches);
+        
         // Expand all categories when searching
         for (int i = 0; i < rootNode.getChildCount(); i++) {
             TreePath path = new TreePath(new Object[]{rootNode, rootNode.getChildAt(i)});
             componentTree.expandPath(path);
         }
         
-        treeModel.reload();
-        logger.debug("Filtered components with '{}', found {} categories", searchText, rootNode.getChildCount());
+        logger.debug("Filtered components with '{}', found {} matches in {} categories",
+            filter, matches.size(), rootNode.getChildCount());
+    }
+    
+    /**
+     * Show the given matches (ranked, best category first), or everything in default order when null
+     */
+    private void applyFilter(List<ComponentSearchIndex.Match> matches) {
+        Map<String, List<DefaultMutableTreeNode>> visible = new LinkedHashMap<>();
+        
+        if (matches == null) {
+            for (Map.Entry<String, List<DefaultMutableTreeNode>> category : categoryEntries.entrySet()) {
+                visible.put(category.getKey(), category.getValue());
+            }
+        } else {
+            // Matches arrive best first, so categories are ordered by their best match
+            for (ComponentSearchIndex.Match match : matches) {
+                ComponentSearchIndex.Entry entry = match.getEntry();
+                DefaultMutableTreeNode node = entryNodes.get(entry.getId());
+                if (node != null) {
+                    visible.computeIfAbsent(entry.getCategory(), k -> new ArrayList<>()).add(node);
+                }
+            }
+        }
+        
+        List<DefaultMutableTreeNode> visibleCategories = new ArrayList<>();
+        for (Map.Entry<String, List<DefaultMutableTreeNode>> category : visible.entrySet()) {
+            if (category.getValue().isEmpty()) continue;
+            DefaultMutableTreeNode categoryNode = categoryNodes.get(category.getKey());
+            syncChildren(categoryNode, category.getValue());
+            visibleCategories.add(categoryNode);
+        }
+        syncChildren(rootNode, visibleCategories);
+    }
+    
+    /**
+     * Make parent's children equal to the desired list, moving only nodes that differ.
+     * Detached nodes are edited directly; attached ones go through the tree model so
+     * the tree receives fine-grained insert/remove events instead of a full reload.
+     */
+    private void syncChildren(DefaultMutableTreeNode parent, List<DefaultMutableTreeNode> desired) {
+        boolean attached = parent == rootNode || parent.getParent() != null;
+        
+        for (int i = 0; i < desired.size(); i++) {
+            DefaultMutableTreeNode node = desired.get(i);
+            if (i < parent.getChildCount() && parent.getChildAt(i) == node) {
+                continue;
+            }
+            if (node.getParent() != null) {
+                if (attached && node.getParent() == parent) {
+                    treeModel.removeNodeFromParent(node);
+                } else {
+                    node.removeFromParent();
+                }
+            }
+            if (attached) {
+                treeModel.insertNodeInto(node, parent, i);
+            } else {
+                parent.insert(node, i);
+            }
+        }
+        
+        while (parent.getChildCount() > desired.size()) {
+            MutableTreeNode extra = (MutableTreeNode) parent.getChildAt(parent.getChildCount() - 1);
+            if (attached) {
+                treeModel.removeNodeFromParent(extra);
+            } else {
+                parent.remove(extra);
+            }
+        }
+    }
+    
+    private Set<String> getExpandedCategories() {
+        Set<String> expanded = new HashSet<>();
+        for (Map.Entry<String, DefaultMutableTreeNode> category : categoryNodes.entrySet()) {
+            DefaultMutableTreeNode node = category.getValue();
+            if (node.getParent() != null && componentTree.isExpanded(new TreePath(node.getPath()))) {
+                expanded.add(category.getKey());
+            }
+        }
+        return expanded;
+    }
+    
+    private void restoreExpandedCategories(Set<String> expanded) {
+        if (expanded == null) return;
+        for (Map.Entry<String, DefaultMutableTreeNode> category : categoryNodes.entrySet()) {
+            DefaultMutableTreeNode node = category.getValue();
+            if (node.getParent() == null) continue;
+            TreePath path = new TreePath(node.getPath());
+            if (expanded.contains(category.getKey())) {
+                componentTree.expandPath(path);
+            } else {
+                componentTree.collapsePath(path);
+            }
+        }
+    }
+    
+    private void selectBestMatch() {
+        if (rootNode.getChildCount() == 0) return;
+        DefaultMutableTreeNode firstCategory = (DefaultMutableTreeNode) rootNode.getChildAt(0);
+        if (firstCategory.getChildCount() == 0) return;
+        
+        DefaultMutableTreeNode best = (DefaultMutableTreeNode) firstCategory.getChildAt(0);
+        TreePath path = new TreePath(best.getPath());
+        componentTree.setSelectionPath(path);
+        componentTree.scrollPathToVisible(path);
+    }
+    
+    /**
+     * Add a custom component or saved template to the palette and its search index.
+     * Entries with an existing id are replaced.
+     */
+    public void addCustomEntry(ComponentSearchIndex.Entry entry) {
+        removeCustomEntry(entry.getId());
+        searchIndex.addEntry(entry);
+        createEntryNode(entry);
+        refreshFilter();
+        logger.debug("Added palette entry {} to category {}", entry.getId(), entry.getCategory());
+    }
+    
+    public void removeCustomEntry(String id) {
+        DefaultMutableTreeNode node = entryNodes.remove(id);
+        if (node == null) return;
+        
+        ComponentSearchIndex.Entry entry = searchIndex.removeEntry(id);
+        if (entry != null) {
+            categoryEntries.get(entry.getCategory()).remove(node);
+        }
+        if (node.getParent() != null) {
+            treeModel.removeNodeFromParent(node);
+        }
+        refreshFilter();
+    }
+    
+    public ComponentSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+    
+    private void refreshFilter() {
+        applyFilter(activeFilter.isEmpty() ? null : searchIndex.search(activeFilter));
     }
     
     private void showContextMenu(MouseEvent e) {
@@ -220,9 +410,15 @@ public class ComponentPalette extends JPanel {
                 infoItem.addActionListener(ae -> showComponentInfo(type));
                 popup.add(infoItem);
                 
-            } else if (node.getUserObject() instanceof ComponentType.ComponentCategory) {
-                ComponentType.ComponentCategory category = (ComponentType.ComponentCategory) node.getUserObject();
+            } else if (node.getUserObject() instanceof ComponentSearchIndex.Entry) {
+                ComponentSearchIndex.Entry entry = (ComponentSearchIndex.Entry) node.getUserObject();
                 
+                JMenuItem addItem = new JMenuItem("Add " + entry.getName());
+                addItem.addActionListener(ae -> notifyEntrySelected(entry));
+                addItem.setEnabled(entry.getComponentType() != null);
+                popup.add(addItem);
+                
+            } else if (!node.isLeaf()) {
                 JMenuItem expandItem = new JMenuItem("Expand Category");
                 expandItem.addActionListener(ae -> componentTree.expandPath(path));
                 popup.add(expandItem);
@@ -262,6 +458,13 @@ public class ComponentPalette extends JPanel {
         logger.debug("Component selected: {}", type.getJsonName());
     }
     
+    private void notifyEntrySelected(ComponentSearchIndex.Entry entry) {
+        for (ComponentPaletteListener listener : listeners) {
+            listener.entrySelected(entry);
+        }
+        logger.debug("Palette entry selected: {}", entry.getId());
+    }
+    
     public void addComponentPaletteListener(ComponentPaletteListener listener) {
         listeners.add(listener);
     }
@@ -294,6 +497,15 @@ public class ComponentPalette extends JPanel {
                     setText(type.getIcon() + " " + type.getJsonName());
                     setFont(getFont().deriveFont(Font.PLAIN));
                     setToolTipText(type.getDescription());
+                    
+                } else if (userObject instanceof ComponentSearchIndex.Entry) {
+                    ComponentSearchIndex.Entry entry = (ComponentSearchIndex.Entry) userObject;
+                    setText(entry.getIcon().isEmpty() ? entry.getName() : entry.getIcon() + " " + entry.getName());
+                    setFont(getFont().deriveFont(Font.ITALIC));
+                    setToolTipText(entry.getDescription());
+                    
+                } else if (userObject instanceof String && !leaf) {
+                    setFont(getFont().deriveFont(Font.BOLD));
                 }
             }
             
@@ -318,5 +530,14 @@ public class ComponentPalette extends JPanel {
      */
     public interface ComponentPaletteListener {
         void componentSelected(ComponentType type);
+        
+        /**
+         * Custom component or template chosen; defaults to adding its base component type
+         */
+        default void entrySelected(ComponentSearchIndex.Entry entry) {
+            if (entry.getComponentType() != null) {
+                componentSelected(entry.getComponentType());
+            }
+        }
     }
 }
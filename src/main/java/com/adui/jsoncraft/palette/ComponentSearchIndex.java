@@ -0,0 +1,422 @@
+package com.adui.jsoncraft.palette;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.adui.jsoncraft.model.ComponentType;
+
+/**
+ * Search index for the component palette.
+ * Names, descriptions, categories and synonyms are normalized and tokenized once when an
+ * entry is added, so each keystroke only compares precomputed terms. Matches are ranked
+ * (exact name, name prefix, word prefix, initials, synonym, description, category, fuzzy).
+ * Built-in component types are indexed up front; custom components and saved templates
+ * can be added as extra entries.
+ */
+public class ComponentSearchIndex {
+
+    // Score for each kind of match, per query word
+    private static final int SCORE_EXACT_NAME = 100;
+    private static final int SCORE_NAME_PREFIX = 80;
+    private static final int SCORE_WORD_PREFIX = 60;
+    private static final int SCORE_INITIALS = 55;
+    private static final int SCORE_SYNONYM = 50;
+    private static final int SCORE_NAME_CONTAINS = 35;
+    private static final int SCORE_DESCRIPTION = 30;
+    private static final int SCORE_CATEGORY = 20;
+    private static final int SCORE_FUZZY = 10;
+    private static final int SCORE_ABBREVIATION = 5;
+
+    private static final Map<ComponentType, String[]> BUILT_IN_SYNONYMS = createBuiltInSynonyms();
+
+    private final Map<String, IndexedEntry> entries;
+    private int nextOrder;
+
+    public ComponentSearchIndex() {
+        this.entries = new LinkedHashMap<>();
+    }
+
+    /**
+     * Create an index over all built-in component types
+     */
+    public static ComponentSearchIndex createDefault() {
+        ComponentSearchIndex index = new ComponentSearchIndex();
+        for (ComponentType type : ComponentType.values()) {
+            index.addEntry(Entry.forComponentType(type));
+        }
+        return index;
+    }
+
+    /**
+     * Add or replace an entry (matched by id)
+     */
+    public void addEntry(Entry entry) {
+        IndexedEntry existing = entries.get(entry.getId());
+        int order = existing != null ? existing.order : nextOrder++;
+        entries.put(entry.getId(), new IndexedEntry(entry, order));
+    }
+
+    public Entry removeEntry(String id) {
+        IndexedEntry removed = entries.remove(id);
+        return removed != null ? removed.entry : null;
+    }
+
+    public Entry getEntry(String id) {
+        IndexedEntry indexed = entries.get(id);
+        return indexed != null ? indexed.entry : null;
+    }
+
+    /**
+     * Get all entries in insertion order
+     */
+    public List<Entry> getEntries() {
+        List<Entry> result = new ArrayList<>(entries.size());
+        for (IndexedEntry indexed : entries.values()) {
+            result.add(indexed.entry);
+        }
+        return result;
+    }
+
+    /**
+     * Add extra search terms to an existing entry
+     */
+    public void addSynonyms(String id, String... synonyms) {
+        IndexedEntry indexed = entries.get(id);
+        if (indexed == null || synonyms == null) return;
+
+        List<String> combined = new ArrayList<>(indexed.entry.getSynonyms());
+        combined.addAll(Arrays.asList(synonyms));
+        Entry entry = indexed.entry;
+        entries.put(id, new IndexedEntry(new Entry(entry.getId(), entry.getName(), entry.getDescription(),
+            entry.getCategory(), entry.getIcon(), entry.getComponentType(), combined), indexed.order));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Search entries. Every query word must match; results are ordered by score,
+     * then by insertion order. An empty query returns no matches.
+     */
+    public List<Match> search(String query) {
+        String[] words = splitWords(query);
+        if (words.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (IndexedEntry indexed : entries.values()) {
+            int total = 0;
+            for (String word : words) {
+                int score = indexed.score(word);
+                if (score == 0) {
+                    total = 0;
+                    break;
+                }
+                total += score;
+            }
+            if (total > 0) {
+                matches.add(new Match(indexed.entry, total, indexed.order));
+            }
+        }
+
+        matches.sort((a, b) -> a.score != b.score
+            ? Integer.compare(b.score, a.score)
+            : Integer.compare(a.order, b.order));
+        return matches;
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static String[] splitWords(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return new String[0];
+        }
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    /**
+     * Split camel case and punctuation: "QRChecklistField" -> qr, checklist, field
+     */
+    private static String[] splitCamelCase(String text) {
+        if (text == null) return new String[0];
+        String spaced = text
+            .replaceAll("([a-z0-9])([A-Z])", "$1 $2")
+            .replaceAll("([A-Z]+)([A-Z][a-z])", "$1 $2");
+        return splitWords(spaced);
+    }
+
+    private static boolean anyStartsWith(String[] terms, String word) {
+        for (String term : terms) {
+            if (term.startsWith(word)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Initials of camel-case words: text, area, field -> "taf"
+     */
+    private static String initials(String[] words) {
+        StringBuilder initials = new StringBuilder(words.length);
+        for (String word : words) {
+            initials.append(word.charAt(0));
+        }
+        return initials.toString();
+    }
+
+    /**
+     * True when a and b differ by at most one edit (insert, delete, substitute
+     * or swap of adjacent characters)
+     */
+    private static boolean withinOneEdit(String a, String b) {
+        int lengthDiff = a.length() - b.length();
+        if (Math.abs(lengthDiff) > 1) return false;
+
+        if (lengthDiff == 0) {
+            int first = 0;
+            while (first < a.length() && a.charAt(first) == b.charAt(first)) first++;
+            if (first + 1 < a.length()
+                    && a.charAt(first) == b.charAt(first + 1)
+                    && a.charAt(first + 1) == b.charAt(first)
+                    && a.substring(first + 2).equals(b.substring(first + 2))) {
+                return true;
+            }
+        }
+
+        String longer = lengthDiff >= 0 ? a : b;
+        String shorter = lengthDiff >= 0 ? b : a;
+        int i = 0;
+        int j = 0;
+        boolean edited = false;
+        while (i < longer.length() && j < shorter.length()) {
+            if (longer.charAt(i) == shorter.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            if (edited) return false;
+            edited = true;
+            i++;
+            if (longer.length() == shorter.length()) {
+                j++;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSubsequence(String word, String text) {
+        int j = 0;
+        for (int i = 0; i < text.length() && j < word.length(); i++) {
+            if (text.charAt(i) == word.charAt(j)) j++;
+        }
+        return j == word.length();
+    }
+
+    private static Map<ComponentType, String[]> createBuiltInSynonyms() {
+        Map<ComponentType, String[]> synonyms = new EnumMap<>(ComponentType.class);
+        synonyms.put(ComponentType.TEXT_FIELD, new String[]{"input", "textbox", "string", "name"});
+        synonyms.put(ComponentType.TEXT_AREA_FIELD, new String[]{"memo", "notes", "comment", "paragraph", "textarea"});
+        synonyms.put(ComponentType.NUMBER_FIELD, new String[]{"integer", "int", "quantity", "count", "numeric"});
+        synonyms.put(ComponentType.DECIMAL_FIELD, new String[]{"float", "double", "number", "numeric"});
+        synonyms.put(ComponentType.CURRENCY_FIELD, new String[]{"money", "price", "cost", "amount"});
+        synonyms.put(ComponentType.PERCENTAGE_FIELD, new String[]{"percent", "ratio"});
+        synonyms.put(ComponentType.YES_NO_FIELD, new String[]{"boolean", "checkbox", "toggle", "switch", "flag"});
+        synonyms.put(ComponentType.EMAIL_FIELD, new String[]{"mail", "e-mail", "address"});
+        synonyms.put(ComponentType.PHONE_FIELD, new String[]{"telephone", "mobile", "tel", "contact"});
+        synonyms.put(ComponentType.URL_FIELD, new String[]{"link", "website", "hyperlink"});
+        synonyms.put(ComponentType.PASSWORD_FIELD, new String[]{"secret", "pin", "masked"});
+        synonyms.put(ComponentType.RICH_TEXT_FIELD, new String[]{"wysiwyg", "formatted", "html", "editor"});
+        synonyms.put(ComponentType.AUTO_COMPLETE_FIELD, new String[]{"typeahead", "suggest", "lookup"});
+        synonyms.put(ComponentType.DATE_FIELD, new String[]{"calendar", "day"});
+        synonyms.put(ComponentType.TIME_FIELD, new String[]{"clock", "hour"});
+        synonyms.put(ComponentType.DATE_TIME_FIELD, new String[]{"timestamp", "calendar"});
+        synonyms.put(ComponentType.DATE_RANGE_FIELD, new String[]{"period", "from to", "between"});
+        synonyms.put(ComponentType.TIME_RANGE_FIELD, new String[]{"shift", "duration"});
+        synonyms.put(ComponentType.MEASUREMENT_FIELD, new String[]{"length", "unit", "dimension", "size"});
+        synonyms.put(ComponentType.COORDINATE_FIELD, new String[]{"gps", "location", "latitude", "longitude", "geo"});
+        synonyms.put(ComponentType.SLIDER_FIELD, new String[]{"range", "scale"});
+        synonyms.put(ComponentType.RATING_FIELD, new String[]{"stars", "score", "review"});
+        synonyms.put(ComponentType.SELECT_FIELD, new String[]{"dropdown", "combo", "combobox", "picklist", "list", "choice"});
+        synonyms.put(ComponentType.MULTI_SELECT_FIELD, new String[]{"multiple", "listbox", "choices"});
+        synonyms.put(ComponentType.RADIO_BUTTON_GROUP_FIELD, new String[]{"radio", "option", "choice"});
+        synonyms.put(ComponentType.CHECKBOX_GROUP_FIELD, new String[]{"checkboxes", "options"});
+        synonyms.put(ComponentType.TAG_SELECT_FIELD, new String[]{"tags", "labels", "chips"});
+        synonyms.put(ComponentType.TREE_SELECT_FIELD, new String[]{"hierarchy", "nested", "tree"});
+        synonyms.put(ComponentType.QR_CODE_FIELD, new String[]{"scan", "scanner", "barcode"});
+        synonyms.put(ComponentType.CAMERA_FIELD, new String[]{"photo", "picture", "image"});
+        synonyms.put(ComponentType.QR_COLLECTOR_FIELD, new String[]{"scan", "batch"});
+        synonyms.put(ComponentType.MULTI_PHOTO_FIELD, new String[]{"gallery", "pictures", "images"});
+        synonyms.put(ComponentType.FILE_UPLOAD_FIELD, new String[]{"attachment", "document", "upload"});
+        synonyms.put(ComponentType.AUDIO_RECORDING_FIELD, new String[]{"voice", "sound", "microphone"});
+        synonyms.put(ComponentType.VIDEO_RECORDING_FIELD, new String[]{"movie", "clip", "film"});
+        synonyms.put(ComponentType.DOCUMENT_SCANNER_FIELD, new String[]{"ocr", "pdf", "scan"});
+        synonyms.put(ComponentType.SIGNATURE_FIELD, new String[]{"sign", "autograph", "approval"});
+        synonyms.put(ComponentType.LABEL_FIELD, new String[]{"text", "caption", "heading", "static"});
+        synonyms.put(ComponentType.IMAGE_DISPLAY_FIELD, new String[]{"picture", "photo", "logo"});
+        synonyms.put(ComponentType.MAP_DISPLAY_FIELD, new String[]{"location", "gps"});
+        synonyms.put(ComponentType.HTML_CONTENT_FIELD, new String[]{"markup", "web"});
+        synonyms.put(ComponentType.CALCULATOR_FIELD, new String[]{"formula", "compute", "math"});
+        synonyms.put(ComponentType.COUNTER_FIELD, new String[]{"tally", "increment", "stepper"});
+        synonyms.put(ComponentType.TIMER_FIELD, new String[]{"countdown", "clock"});
+        synonyms.put(ComponentType.DRAWING_FIELD, new String[]{"paint", "sketch", "annotate"});
+        synonyms.put(ComponentType.SKETCH_FIELD, new String[]{"drawing", "draw"});
+        synonyms.put(ComponentType.MATERIAL_SELECT_FIELD, new String[]{"bim", "product", "supply"});
+        synonyms.put(ComponentType.EQUIPMENT_SELECT_FIELD, new String[]{"machine", "tool", "asset"});
+        synonyms.put(ComponentType.LOCATION_HIERARCHY_FIELD, new String[]{"building", "floor", "room", "site"});
+        synonyms.put(ComponentType.WEATHER_CONDITIONS_FIELD, new String[]{"temperature", "climate", "rain"});
+        synonyms.put(ComponentType.SAFETY_CHECKLIST_FIELD, new String[]{"hse", "ppe", "hazard"});
+        synonyms.put(ComponentType.INSPECTION_SCORE_FIELD, new String[]{"audit", "grade", "quality"});
+        synonyms.put(ComponentType.DEFECT_CATEGORY_FIELD, new String[]{"issue", "snag", "punch"});
+        synonyms.put(ComponentType.SURVEY_GRID_FIELD, new String[]{"questionnaire", "likert", "grid"});
+        synonyms.put(ComponentType.MATRIX_FIELD, new String[]{"table", "grid", "spreadsheet"});
+        synonyms.put(ComponentType.REPEATING_GROUP_FIELD, new String[]{"repeat", "array", "list", "rows"});
+        synonyms.put(ComponentType.CONDITIONAL_SECTION_FIELD, new String[]{"if", "logic", "show hide"});
+        synonyms.put(ComponentType.WIZARD_STEP_FIELD, new String[]{"steps", "page", "stepper"});
+        synonyms.put(ComponentType.ACCORDION_FIELD, new String[]{"collapse", "expand", "section", "panel"});
+        synonyms.put(ComponentType.QR_CHECKLIST_FIELD, new String[]{"checklist", "scan", "todo"});
+        synonyms.put(ComponentType.FLIPPABLE_QR_CHECKLIST_FIELD, new String[]{"cards", "flip", "checklist"});
+        synonyms.put(ComponentType.TASK_LIST_FIELD, new String[]{"tasks", "gantt", "project", "schedule", "todo"});
+        return synonyms;
+    }
+
+    /**
+     * Searchable palette entry. Built-in entries wrap a ComponentType; custom components
+     * and templates set their own id and category and may name the type they are based on.
+     */
+    public static class Entry {
+        private final String id;
+        private final String name;
+        private final String description;
+        private final String category;
+        private final String icon;
+        private final ComponentType componentType;
+        private final List<String> synonyms;
+
+        public Entry(String id, String name, String description, String category, String icon,
+                     ComponentType componentType, List<String> synonyms) {
+            if (id == null || id.isEmpty()) {
+                throw new IllegalArgumentException("Entry id is required");
+            }
+            this.id = id;
+            this.name = name != null ? name : id;
+            this.description = description != null ? description : "";
+            this.category = category != null ? category : "";
+            this.icon = icon != null ? icon : "";
+            this.componentType = componentType;
+            this.synonyms = synonyms != null
+                ? Collections.unmodifiableList(new ArrayList<>(synonyms))
+                : Collections.emptyList();
+        }
+
+        public static Entry forComponentType(ComponentType type) {
+            String[] synonyms = BUILT_IN_SYNONYMS.getOrDefault(type, new String[0]);
+            return new Entry(type.name(), type.getJsonName(), type.getDescription(),
+                type.getCategory().getDisplayName(), type.getIcon(), type, Arrays.asList(synonyms));
+        }
+
+        public String getId() { return id; }
+        public String getName() { return name; }
+        public String getDescription() { return description; }
+        public String getCategory() { return category; }
+        public String getIcon() { return icon; }
+        public ComponentType getComponentType() { return componentType; }
+        public List<String> getSynonyms() { return synonyms; }
+
+        public boolean isBuiltIn() {
+            return componentType != null && componentType.name().equals(id);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Search result with its rank score
+     */
+    public static class Match {
+        private final Entry entry;
+        private final int score;
+        private final int order;
+
+        Match(Entry entry, int score, int order) {
+            this.entry = entry;
+            this.score = score;
+            this.order = order;
+        }
+
+        public Entry getEntry() { return entry; }
+        public int getScore() { return score; }
+    }
+
+    /**
+     * Entry with its precomputed search terms
+     */
+    private static class IndexedEntry {
+        private final Entry entry;
+        private final int order;
+        private final String name;
+        private final String[] nameWords;
+        private final String nameInitials;
+        private final String[] synonymWords;
+        private final String[] descriptionWords;
+        private final String[] categoryWords;
+
+        IndexedEntry(Entry entry, int order) {
+            this.entry = entry;
+            this.order = order;
+            this.name = normalize(entry.getName());
+            this.nameWords = splitCamelCase(entry.getName());
+            this.nameInitials = initials(nameWords);
+
+            List<String> synonyms = new ArrayList<>();
+            for (String synonym : entry.getSynonyms()) {
+                synonyms.addAll(Arrays.asList(splitWords(synonym)));
+            }
+            this.synonymWords = synonyms.toArray(new String[0]);
+            this.descriptionWords = splitWords(entry.getDescription());
+            this.categoryWords = splitWords(entry.getCategory());
+        }
+
+        /**
+         * Best score for a single normalized query word, 0 if it does not match
+         */
+        int score(String word) {
+            if (name.equals(word)) return SCORE_EXACT_NAME;
+            if (name.startsWith(word)) return SCORE_NAME_PREFIX;
+            if (anyStartsWith(nameWords, word)) return SCORE_WORD_PREFIX;
+            if (word.length() >= 2 && nameInitials.startsWith(word)) return SCORE_INITIALS;
+            if (anyStartsWith(synonymWords, word)) return SCORE_SYNONYM;
+            if (word.length() >= 3 && name.contains(word)) return SCORE_NAME_CONTAINS;
+            if (anyStartsWith(descriptionWords, word)) return SCORE_DESCRIPTION;
+            if (anyStartsWith(categoryWords, word)) return SCORE_CATEGORY;
+
+            // Typo tolerance only for words long enough to be meaningful
+            if (word.length() >= 4) {
+                for (String term : nameWords) {
+                    if (withinOneEdit(term, word)) return SCORE_FUZZY;
+                }
+                for (String term : synonymWords) {
+                    if (withinOneEdit(term, word)) return SCORE_FUZZY;
+                }
+            }
+            if (word.length() >= 2 && !name.isEmpty() && word.charAt(0) == name.charAt(0) && isSubsequence(word, name)) {
+                return SCORE_ABBREVIATION;
+            }
+            return 0;
+        }
+    }
+}
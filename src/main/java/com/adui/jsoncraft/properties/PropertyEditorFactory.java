@@ -14,6 +14,7 @@ import com.adui.jsoncraft.properties.editors.QRCollectorFieldEditor;
 import com.adui.jsoncraft.properties.editors.SelectFieldEditor;
 import com.adui.jsoncraft.properties.editors.TaskListFieldEditor;
 import com.adui.jsoncraft.properties.editors.WeatherConditionsFieldEditor;
+import com.adui.jsoncraft.utils.FormEvents;
 
 /**
  * Factory for creating component-specific property editors
@@ -26,6 +27,20 @@ public class PropertyEditorFactory {
      * Create appropriate editor for component type
      */
     public static ComponentDataEditor createEditor(ComponentType type, FieldDefinition field) {
+        FormEvents.EditorCreationEvent event = new FormEvents.EditorCreationEvent();
+        event.begin();
+        ComponentDataEditor editor = instantiateEditor(type, field);
+        event.end();
+        if (event.shouldCommit()) {
+            event.componentType = type != null ? type.name() : null;
+            event.fieldId = field != null ? field.getFieldId() : null;
+            event.editorClass = editor.getClass().getSimpleName();
+            event.commit();
+        }
+        return editor;
+    }
+    
+    private static ComponentDataEditor instantiateEditor(ComponentType type, FieldDefinition field) {
         if (type == null || field == null) {
             return new DefaultComponentEditor(field);
         }
@@ -0,0 +1,99 @@
+package com.adui.jsoncraft.properties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.properties.editors.ComponentDataEditor;
+
+/**
+ * Pool of component editors keyed by component type.
+ * Selecting another field of a type that already has an editor rebinds that editor
+ * instead of building a new one. Holds at most maxSize editors and evicts the least
+ * recently used one beyond that.
+ */
+public class PropertyEditorPool {
+    private static final Logger logger = LoggerFactory.getLogger(PropertyEditorPool.class);
+
+    private final int maxSize;
+    private final Map<ComponentType, ComponentDataEditor> editors;
+    private final Consumer<ComponentDataEditor> editorInitializer;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * @param maxSize maximum number of pooled editors
+     * @param editorInitializer called once for every newly created editor (e.g. to add listeners)
+     */
+    public PropertyEditorPool(int maxSize, Consumer<ComponentDataEditor> editorInitializer) {
+        this.maxSize = Math.max(1, maxSize);
+        this.editorInitializer = editorInitializer;
+        this.editors = new LinkedHashMap<ComponentType, ComponentDataEditor>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ComponentType, ComponentDataEditor> eldest) {
+                if (size() > PropertyEditorPool.this.maxSize) {
+                    logger.debug("Evicted editor for {}", eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get an editor bound to the field, reusing the pooled editor for its type when possible
+     */
+    public ComponentDataEditor acquire(FieldDefinition field) {
+        ComponentType type = field.getComponentType();
+        ComponentDataEditor editor = editors.get(type);
+
+        if (editor != null && editor.isReusable()) {
+            hitCount++;
+            editor.bindField(field);
+            return editor;
+        }
+
+        missCount++;
+        editor = PropertyEditorFactory.createEditor(type, field);
+        if (editorInitializer != null) {
+            editorInitializer.accept(editor);
+        }
+        editors.put(type, editor);
+        logger.debug("Created pooled editor for {} ({} pooled)", type, editors.size());
+        return editor;
+    }
+
+    /**
+     * Drop the pooled editor for a type, e.g. after it failed to rebind
+     */
+    public void evict(ComponentType type) {
+        editors.remove(type);
+    }
+
+    public void clear() {
+        editors.clear();
+    }
+
+    public int size() {
+        return editors.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+}
@@ -32,6 +32,9 @@ import org.slf4j.LoggerFactory;
 import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.WindowDefinition;
 import com.adui.jsoncraft.properties.editors.ComponentDataEditor;
+import com.adui.jsoncraft.utils.CommitScheduler;
+import com.adui.jsoncraft.utils.ConfigManager;
+import com.adui.jsoncraft.utils.MetricsRegistry;
 
 /**
  * Property Inspector for JSONFormMaker
@@ -42,6 +45,7 @@ import com.adui.jsoncraft.properties.editors.ComponentDataEditor;
  */
 public class PropertyInspector extends JPanel {
     private static final Logger logger = LoggerFactory.getLogger(PropertyInspector.class);
+    private static final MetricsRegistry.Timer DISPATCH_TIMER = MetricsRegistry.getInstance().timer("event.property.dispatch");
     
     private FieldDefinition currentField;
     private WindowDefinition currentWindow;
@@ -53,6 +57,8 @@ public class PropertyInspector extends JPanel {
     private JPanel uiPanel;
     private JPanel componentDataPanel;  
     private ComponentDataEditor currentComponentEditor;
+    private PropertyEditorPool editorPool;
+    private CommitScheduler commitScheduler;  // Coalesces typing into one field update per pause
     
     // General property fields
     private JTextField fieldIdField;
@@ -71,6 +77,13 @@ public class PropertyInspector extends JPanel {
     
     public PropertyInspector() {
         this.listeners = new ArrayList<>();
+        this.editorPool = new PropertyEditorPool(
+            ConfigManager.getInstance().getIntProperty("properties.editorPoolSize", 8),
+            editor -> editor.addPropertyChangeListener(
+                (ComponentDataEditor.PropertyChangeListener) field -> notifyPropertyChanged()));
+        this.commitScheduler = new CommitScheduler("PropertyInspector",
+            ConfigManager.getInstance().getIntProperty("ui.commitDelay", 300), this::updateCurrentField);
+        this.commitScheduler.setSuppressed(() -> loadingProperties);
         initializeComponents();
         setupLayout();
         clearProperties();
@@ -151,13 +164,6 @@ public class PropertyInspector extends JPanel {
         helpTextArea.setLineWrap(true);
         helpTextArea.setWrapStyleWord(true);
         JScrollPane helpScroll = new JScrollPane(helpTextArea);
-
-        // Add change listeners for help text area
-        helpTextArea.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { updateCurrentField(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { updateCurrentField(); }
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { updateCurrentField(); }
-        });
         generalPanel.add(helpScroll, gbc);
         
         // Description (reduced from 3 to 1 row)
@@ -169,14 +175,10 @@ public class PropertyInspector extends JPanel {
         descriptionArea.setLineWrap(true);
         descriptionArea.setWrapStyleWord(true);
         JScrollPane descScroll = new JScrollPane(descriptionArea);
-
-        // Add change listeners for description area
-        descriptionArea.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { updateCurrentField(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { updateCurrentField(); }
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { updateCurrentField(); }
-        });
         generalPanel.add(descScroll, gbc);
+        
+        // Typing commits after a pause or on focus loss; Enter still commits immediately
+        commitScheduler.attachTo(fieldIdField, fieldNameField, helpTextArea, descriptionArea);
     }
     
     private void createUiPanel() {
@@ -209,6 +211,8 @@ public class PropertyInspector extends JPanel {
         helpTextUiField = new JTextField();
         helpTextUiField.addActionListener(e -> updateCurrentField());
         uiPanel.add(helpTextUiField, gbc);
+        
+        commitScheduler.attachTo(placeholderField, helpTextUiField);
     }
     
     private void createComponentDataPanel() {
@@ -246,13 +250,18 @@ public class PropertyInspector extends JPanel {
         buttonPanel.add(applyButton);
         
         JButton resetButton = new JButton("Reset");
-        resetButton.addActionListener(e -> loadFieldProperties());
+        resetButton.addActionListener(e -> {
+            commitScheduler.cancel();
+            loadFieldProperties();
+        });
         buttonPanel.add(resetButton);
         
         add(buttonPanel, BorderLayout.SOUTH);
     }
     
     public void setSelectedField(FieldDefinition field) {
+        // Pending edits belong to the previously selected field
+        commitScheduler.flush();
         this.currentField = field;
         loadFieldProperties();
         updateComponentDataPanel();
@@ -260,37 +269,33 @@ public class PropertyInspector extends JPanel {
     }
     
     private void updateComponentDataPanel() {
-        // Remove existing component editor
-        if (currentComponentEditor != null) {
-            componentDataPanel.remove(currentComponentEditor);
-            currentComponentEditor = null;
-        }
-        
-        // Clear the panel
-        componentDataPanel.removeAll();
+        ComponentDataEditor previousEditor = currentComponentEditor;
+        currentComponentEditor = null;
         
         if (currentField != null && currentField.getComponentType() != null) {
             try {
-                // Create component-specific editor using factory
-                currentComponentEditor = PropertyEditorFactory.createEditor(
-                    currentField.getComponentType(), currentField);
-                
-                if (currentComponentEditor != null) {
-                    // Add property change listener
-                	currentComponentEditor.addPropertyChangeListener(
-                		    (ComponentDataEditor.PropertyChangeListener) field -> notifyPropertyChanged());
-                    
-                    // Add to panel
-                    componentDataPanel.add(currentComponentEditor, BorderLayout.CENTER);
-                    
-                    logger.debug("Created component editor for: {}", currentField.getComponentType());
-                } else {
-                    addPlaceholderLabel("No specific editor for " + currentField.getComponentType().getJsonName());
-                }
+                // Reuse the pooled editor for this component type, rebinding it to the field
+                currentComponentEditor = editorPool.acquire(currentField);
+                logger.debug("Bound component editor for: {}", currentField.getComponentType());
             } catch (Exception e) {
                 logger.warn("Failed to create component editor", e);
-                addPlaceholderLabel("Error loading component editor");
+                editorPool.evict(currentField.getComponentType());
             }
+        }
+        
+        // Same editor as before - it has been rebound in place, no need to touch the panel
+        if (currentComponentEditor != null && currentComponentEditor == previousEditor
+                && currentComponentEditor.getParent() == componentDataPanel) {
+            return;
+        }
+        
+        // Clear the panel
+        componentDataPanel.removeAll();
+        
+        if (currentComponentEditor != null) {
+            componentDataPanel.add(currentComponentEditor, BorderLayout.CENTER);
+        } else if (currentField != null && currentField.getComponentType() != null) {
+            addPlaceholderLabel("Error loading component editor");
         } else {
             addPlaceholderLabel("Select a field to edit component properties");
         }
@@ -386,8 +391,16 @@ public class PropertyInspector extends JPanel {
         helpTextUiField.setEnabled(enabled);
     }
     
+    /**
+     * Commit edits still waiting for the idle timer (call before save or generate)
+     */
+    public void flushPendingChanges() {
+        commitScheduler.flush();
+    }
+    
     private void updateCurrentField() {
         if (loadingProperties) return;  // Skip updates during programmatic loading
+        commitScheduler.cancel();  // This commit covers any pending edits
 
         if (currentField == null) return;
         
@@ -430,9 +443,11 @@ public class PropertyInspector extends JPanel {
     }
     
     private void notifyPropertyChanged() {
+        long timing = DISPATCH_TIMER.start();
         for (PropertyChangeListener listener : listeners) {
             listener.propertyChanged(currentField);
         }
+        DISPATCH_TIMER.stop(timing);
     }
     
     /**
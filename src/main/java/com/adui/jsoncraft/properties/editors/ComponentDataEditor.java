@@ -16,12 +16,51 @@ public abstract class ComponentDataEditor extends JPanel {
 	protected FieldDefinition field;
     protected List<PropertyChangeListener> listeners;
     
+    private boolean loading;
+    
     public ComponentDataEditor(FieldDefinition field) {
         this.field = field;
         this.listeners = new ArrayList<>();
         initializeComponents();
         setupLayout();
-        loadFieldData();
+        reloadFieldData();
+    }
+    
+    /**
+     * Rebind this editor to another field of the same component type.
+     * Lets pooled editors be reused instead of rebuilding their UI on every selection.
+     */
+    public void bindField(FieldDefinition field) {
+        this.field = field;
+        reloadFieldData();
+    }
+    
+    public FieldDefinition getField() {
+        return field;
+    }
+    
+    /**
+     * Check whether the editor can be rebound to another field right now
+     * (editors with background work still tied to their field return false)
+     */
+    public boolean isReusable() {
+        return true;
+    }
+    
+    /**
+     * True while field data is being loaded into the UI; change events are ignored then
+     */
+    protected boolean isLoading() {
+        return loading;
+    }
+    
+    private void reloadFieldData() {
+        loading = true;
+        try {
+            loadFieldData();
+        } finally {
+            loading = false;
+        }
     }
     
     /**
@@ -35,7 +74,8 @@ public abstract class ComponentDataEditor extends JPanel {
     protected abstract void setupLayout();
     
     /**
-     * Load data from field into UI
+     * Load data from field into UI. Must reset every control, since the editor
+     * may previously have shown another field.
      */
     protected abstract void loadFieldData();
     
@@ -67,6 +107,7 @@ public abstract class ComponentDataEditor extends JPanel {
      * Notify listeners of property changes
      */
     protected void notifyPropertyChanged() {
+        if (loading) return;  // Control updates while loading are not user edits
         saveFieldData();
         for (PropertyChangeListener listener : listeners) {
             listener.propertyChanged(field);
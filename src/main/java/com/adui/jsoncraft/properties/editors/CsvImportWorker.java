@@ -0,0 +1,194 @@
+package com.adui.jsoncraft.properties.editors;
+
+import java.awt.Component;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.utils.CsvReader;
+
+/**
+ * Background CSV import shared by the table-based component editors.
+ * Parses the file off the EDT with CsvReader, maps records to rows and hands them
+ * to the editor in chunks so the table fires one event per chunk instead of per row.
+ * Shows a cancellable progress monitor while running.
+ *
+ * @param <T> row type produced for the editor's table model
+ */
+public class CsvImportWorker<T> extends SwingWorker<Integer, Void> {
+    private static final Logger logger = LoggerFactory.getLogger(CsvImportWorker.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final File file;
+    private final RowMapper<T> rowMapper;
+    private final BatchConsumer<T> batchConsumer;
+    private Predicate<String[]> headerDetector;
+    private ImportListener importListener;
+    private ProgressMonitor progressMonitor;
+
+    public CsvImportWorker(File file, RowMapper<T> rowMapper, BatchConsumer<T> batchConsumer) {
+        this.file = file;
+        this.rowMapper = rowMapper;
+        this.batchConsumer = batchConsumer;
+    }
+
+    /**
+     * Set detector for an optional header row (checked against the first non-blank record)
+     */
+    public void setHeaderDetector(Predicate<String[]> headerDetector) {
+        this.headerDetector = headerDetector;
+    }
+
+    public void setImportListener(ImportListener importListener) {
+        this.importListener = importListener;
+    }
+
+    /**
+     * Show progress and start the import
+     */
+    public void start(Component parent, String title) {
+        progressMonitor = new ProgressMonitor(parent, title, file.getName(), 0, 100);
+        progressMonitor.setMillisToDecideToPopup(200);
+        progressMonitor.setMillisToPopup(400);
+
+        addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                progressMonitor.setProgress((Integer) evt.getNewValue());
+                checkCancelled();
+            }
+        });
+        execute();
+    }
+
+    @Override
+    protected Integer doInBackground() throws Exception {
+        long totalChars = Math.max(1, file.length());
+        int imported = 0;
+        boolean firstRecord = true;
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8);
+             CsvReader csv = new CsvReader(reader)) {
+
+            String[] record;
+            while ((record = csv.readRecord()) != null) {
+                if (isCancelled()) {
+                    break;
+                }
+                if (CsvReader.isBlank(record)) {
+                    continue;
+                }
+                if (firstRecord) {
+                    firstRecord = false;
+                    if (headerDetector != null && headerDetector.test(record)) {
+                        continue;
+                    }
+                }
+
+                T row = rowMapper.map(record, imported + 1);
+                if (row != null) {
+                    chunk.add(row);
+                    imported++;
+                }
+
+                if (chunk.size() >= CHUNK_SIZE) {
+                    deliver(chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    setProgress((int) Math.min(99, csv.getCharsRead() * 100 / totalChars));
+                }
+            }
+        }
+
+        if (!chunk.isEmpty() && !isCancelled()) {
+            deliver(chunk);
+        }
+        logger.debug("Parsed {} rows from {}", imported, file.getName());
+        return imported;
+    }
+
+    /**
+     * Hand a chunk to the EDT. Uses invokeLater rather than publish() so every chunk
+     * is delivered before done() runs.
+     */
+    private void deliver(List<T> chunk) {
+        SwingUtilities.invokeLater(() -> {
+            if (isCancelled()) return;
+            batchConsumer.accept(chunk);
+            checkCancelled();
+        });
+    }
+
+    @Override
+    protected void done() {
+        if (progressMonitor != null) {
+            progressMonitor.close();
+        }
+
+        int imported = 0;
+        boolean cancelled = isCancelled();
+        Exception error = null;
+
+        if (!cancelled) {
+            try {
+                imported = get();
+            } catch (CancellationException e) {
+                cancelled = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+            } catch (ExecutionException e) {
+                error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                logger.error("CSV import failed for {}", file.getName(), error);
+            }
+        }
+
+        if (importListener != null) {
+            importListener.importFinished(imported, cancelled, error);
+        }
+    }
+
+    private void checkCancelled() {
+        if (progressMonitor != null && progressMonitor.isCanceled() && !isDone()) {
+            cancel(true);
+        }
+    }
+
+    /**
+     * Maps one CSV record to a table row; return null to skip the record
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(String[] record, int rowNumber);
+    }
+
+    /**
+     * Receives mapped rows on the EDT, one call per chunk
+     */
+    @FunctionalInterface
+    public interface BatchConsumer<T> {
+        void accept(List<T> rows);
+    }
+
+    /**
+     * Notified on the EDT when the import ends
+     */
+    @FunctionalInterface
+    public interface ImportListener {
+        void importFinished(int importedRows, boolean cancelled, Exception error);
+    }
+}
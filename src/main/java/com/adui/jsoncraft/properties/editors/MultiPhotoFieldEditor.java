@@ -69,19 +69,13 @@ public class MultiPhotoFieldEditor extends ComponentDataEditor {
     protected void loadFieldData() {
         if (field != null) {
             Object maxPhotos = field.getDataProperty("maxPhotos");
-            if (maxPhotos instanceof Integer) {
-                maxPhotosSpinner.setValue(maxPhotos);
-            }
+            maxPhotosSpinner.setValue(maxPhotos instanceof Integer ? maxPhotos : 10);
             
             Object quality = field.getDataProperty("quality");
-            if (quality instanceof Double) {
-                qualitySlider.setValue((int) (((Double) quality) * 10));
-            }
+            qualitySlider.setValue(quality instanceof Double ? (int) (((Double) quality) * 10) : 8);
             
             Object geoTagging = field.getDataProperty("geoTagging");
-            if (geoTagging instanceof Boolean) {
-                geoTaggingCheckbox.setSelected((Boolean) geoTagging);
-            }
+            geoTaggingCheckbox.setSelected(geoTagging instanceof Boolean && (Boolean) geoTagging);
         }
     }
     
@@ -7,16 +7,20 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.Window;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Vector;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
@@ -48,6 +52,7 @@ public class QRChecklistFieldEditor extends ComponentDataEditor {
     private JButton editItemButton;
     private JButton deleteItemButton;
     private JButton importItemsButton;
+    private CsvImportWorker<Object[]> importWorker;
     
     // QR settings
     private JCheckBox continuousModeCheckbox;
@@ -211,9 +216,10 @@ public class QRChecklistFieldEditor extends ComponentDataEditor {
         
         // Load checklist items
         Object itemsData = field.getDataProperty("items");
+        tableModel.setRowCount(0);
         if (itemsData instanceof List) {
-            tableModel.setRowCount(0);
             List<?> items = (List<?>) itemsData;
+            List<Object[]> rows = new ArrayList<>(items.size());
             for (Object itemObj : items) {
                 if (itemObj instanceof Map) {
                     Map<?, ?> item = (Map<?, ?>) itemObj;
@@ -224,9 +230,10 @@ public class QRChecklistFieldEditor extends ComponentDataEditor {
                         item.get("category"),
                         item.get("description")
                     };
-                    tableModel.addRow(row);
+                    rows.add(row);
                 }
             }
+            appendRows(rows);
         }
         
         // Load QR settings
@@ -275,6 +282,12 @@ public class QRChecklistFieldEditor extends ComponentDataEditor {
         field.setDataProperty("animation", animationCombo.getSelectedItem());
     }
     
+    @Override
+    public boolean isReusable() {
+        // A running import still writes to this editor's field
+        return importWorker == null || importWorker.isDone();
+    }
+    
     @Override
     public boolean validateInput() {
         if (tableModel.getRowCount() == 0) {
@@ -368,8 +381,143 @@ public class QRChecklistFieldEditor extends ComponentDataEditor {
         }
     }
     
+    /**
+     * Import checklist items from CSV file
+     * Expected CSV format: ID,QR Code,Name,Category,Description
+     * Parsing runs in the background and rows are added to the table in chunks.
+     */
     private void importFromCSV() {
-        JOptionPane.showMessageDialog(this, "CSV Import feature coming soon!", "Import CSV", JOptionPane.INFORMATION_MESSAGE);
+        if (importWorker != null && !importWorker.isDone()) {
+            return; // Import already running
+        }
+        
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter(
+            "CSV Files (*.csv)", "csv"));
+        fileChooser.setDialogTitle("Import Checklist Items from CSV");
+        
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        
+        File selectedFile = fileChooser.getSelectedFile();
+        
+        // Confirm replacing existing items
+        if (tableModel.getRowCount() > 0) {
+            int confirmation = JOptionPane.showConfirmDialog(this,
+                String.format("Import checklist items from CSV?\nThis will replace the existing %d items.", 
+                    tableModel.getRowCount()),
+                "Confirm Import", 
+                JOptionPane.YES_NO_OPTION);
+            
+            if (confirmation != JOptionPane.YES_OPTION) {
+                return;
+            }
+        }
+        
+        // Keep previous rows so a cancelled or failed import can be rolled back
+        List<Object[]> previousRows = getRows();
+        tableModel.setRowCount(0);
+        setImportControlsEnabled(false);
+        
+        importWorker = new CsvImportWorker<>(selectedFile, this::toChecklistRow, this::appendRows);
+        importWorker.setHeaderDetector(this::isHeaderRow);
+        importWorker.setImportListener((rowCount, cancelled, error) -> {
+            setImportControlsEnabled(true);
+            
+            if (cancelled || error != null || rowCount == 0) {
+                tableModel.setRowCount(0);
+                appendRows(previousRows);
+            }
+            
+            if (error != null) {
+                JOptionPane.showMessageDialog(this,
+                    "Error reading CSV file: " + error.getMessage(),
+                    "Import Error", JOptionPane.ERROR_MESSAGE);
+            } else if (!cancelled && rowCount == 0) {
+                JOptionPane.showMessageDialog(this, 
+                    "No valid data found in CSV file.\nExpected format: ID,QR Code,Name,Category,Description", 
+                    "Import Error", JOptionPane.WARNING_MESSAGE);
+            } else if (!cancelled) {
+                notifyPropertyChanged();
+                
+                JOptionPane.showMessageDialog(this,
+                    String.format("Successfully imported %d checklist items from CSV.", rowCount),
+                    "Import Complete", JOptionPane.INFORMATION_MESSAGE);
+            }
+        });
+        importWorker.start(this, "Importing checklist items");
+    }
+    
+    /**
+     * Map a CSV record to a table row (null skips the record)
+     */
+    private Object[] toChecklistRow(String[] values, int rowNumber) {
+        String id = values.length > 0 ? values[0].trim() : "";
+        String qrCode = values.length > 1 ? values[1].trim() : "";
+        String name = values.length > 2 ? values[2].trim() : "";
+        String category = values.length > 3 ? values[3].trim() : "";
+        String description = values.length > 4 ? values[4].trim() : "";
+        
+        if (id.isEmpty() && qrCode.isEmpty() && name.isEmpty()) {
+            return null;
+        }
+        if (id.isEmpty()) {
+            id = "ITEM_" + rowNumber;
+        }
+        if (qrCode.isEmpty()) {
+            qrCode = id;
+        }
+        if (name.isEmpty()) {
+            name = qrCode;
+        }
+        
+        return new Object[] {id, qrCode, name, category, description};
+    }
+    
+    /**
+     * Check if the first row looks like a header
+     */
+    private boolean isHeaderRow(String[] values) {
+        if (values.length == 0) return false;
+        
+        String firstValue = values[0].toLowerCase().trim();
+        return firstValue.equals("id") || firstValue.equals("key") || 
+               firstValue.contains("qr") || firstValue.equals("item");
+    }
+    
+    /**
+     * Append rows to the table with a single table event
+     */
+    private void appendRows(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        
+        int firstRow = tableModel.getRowCount();
+        @SuppressWarnings("unchecked")
+        Vector<Vector<Object>> dataVector = (Vector<Vector<Object>>) (Vector<?>) tableModel.getDataVector();
+        for (Object[] row : rows) {
+            dataVector.add(new Vector<>(Arrays.asList(row)));
+        }
+        tableModel.fireTableRowsInserted(firstRow, tableModel.getRowCount() - 1);
+    }
+    
+    private List<Object[]> getRows() {
+        List<Object[]> rows = new ArrayList<>(tableModel.getRowCount());
+        for (int i = 0; i < tableModel.getRowCount(); i++) {
+            Object[] row = new Object[tableModel.getColumnCount()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = tableModel.getValueAt(i, j);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    private void setImportControlsEnabled(boolean enabled) {
+        importItemsButton.setEnabled(enabled);
+        addItemButton.setEnabled(enabled);
+        editItemButton.setEnabled(enabled);
+        deleteItemButton.setEnabled(enabled);
     }
     
     /**
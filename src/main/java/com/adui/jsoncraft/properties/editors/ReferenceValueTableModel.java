@@ -0,0 +1,222 @@
+package com.adui.jsoncraft.properties.editors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.ReferenceIndex;
+
+/**
+ * Lazy table model over a list of reference values.
+ * Cells are read from the backing values only when the table asks for a visible row,
+ * so opening very large code lists does not copy every value into row vectors.
+ * Supports an optional key/display prefix filter backed by ReferenceIndex.
+ */
+public class ReferenceValueTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    public static final String[] COLUMNS = {"Key", "Display", "Description", "Color", "Icon", "Sort"};
+    public static final int SORT_COLUMN = 5;
+
+    private List<ReferenceData.ReferenceValue> values;
+    private ReferenceIndex index;
+
+    // View rows when a filter is active (model positions), null when unfiltered
+    private int[] visibleRows;
+    private String filterPrefix;
+
+    public ReferenceValueTableModel() {
+        this.values = new ArrayList<>();
+    }
+
+    /**
+     * Replace all values, firing a single table event
+     */
+    public void setValues(List<ReferenceData.ReferenceValue> newValues) {
+        this.values = newValues != null ? new ArrayList<>(newValues) : new ArrayList<>();
+        this.index = null;
+        applyFilter();
+        fireTableDataChanged();
+    }
+
+    /**
+     * Get a snapshot of all values (ignores the filter)
+     */
+    public List<ReferenceData.ReferenceValue> getValues() {
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * Get total value count (ignores the filter)
+     */
+    public int getValueCount() {
+        return values.size();
+    }
+
+    /**
+     * Get the value shown at a view row
+     */
+    public ReferenceData.ReferenceValue getValueAtRow(int row) {
+        return values.get(toModelIndex(row));
+    }
+
+    public void addValue(ReferenceData.ReferenceValue value) {
+        values.add(value);
+        index = null;
+        if (visibleRows != null) {
+            applyFilter();
+            fireTableDataChanged();
+        } else {
+            fireTableRowsInserted(values.size() - 1, values.size() - 1);
+        }
+    }
+
+    /**
+     * Append values, firing a single table event for the whole batch
+     */
+    public void addValues(Collection<ReferenceData.ReferenceValue> batch) {
+        if (batch == null || batch.isEmpty()) return;
+
+        int first = values.size();
+        values.addAll(batch);
+        index = null;
+        if (visibleRows != null) {
+            applyFilter();
+            fireTableDataChanged();
+        } else {
+            fireTableRowsInserted(first, values.size() - 1);
+        }
+    }
+
+    public void updateValue(int row, ReferenceData.ReferenceValue value) {
+        values.set(toModelIndex(row), value);
+        index = null;
+        fireTableRowsUpdated(row, row);
+    }
+
+    public void removeRow(int row) {
+        values.remove(toModelIndex(row));
+        index = null;
+        if (visibleRows != null) {
+            applyFilter();
+            fireTableDataChanged();
+        } else {
+            fireTableRowsDeleted(row, row);
+        }
+    }
+
+    public void clear() {
+        setValues(null);
+    }
+
+    /**
+     * Show only values whose key or display starts with the prefix; empty shows all
+     */
+    public void setFilter(String prefix) {
+        String normalized = prefix != null && !prefix.trim().isEmpty() ? prefix.trim() : null;
+        if (normalized == null ? filterPrefix == null : normalized.equals(filterPrefix)) {
+            return;
+        }
+        this.filterPrefix = normalized;
+        applyFilter();
+        fireTableDataChanged();
+    }
+
+    public String getFilter() {
+        return filterPrefix;
+    }
+
+    public boolean isFiltered() {
+        return visibleRows != null;
+    }
+
+    private void applyFilter() {
+        if (filterPrefix == null) {
+            visibleRows = null;
+            return;
+        }
+        if (index == null) {
+            index = new ReferenceIndex(values);
+        }
+        visibleRows = index.findPositionsByPrefix(filterPrefix);
+    }
+
+    private int toModelIndex(int row) {
+        return visibleRows != null ? visibleRows[row] : row;
+    }
+
+    @Override
+    public int getRowCount() {
+        return visibleRows != null ? visibleRows.length : values.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        if (columnIndex == SORT_COLUMN) return Integer.class;
+        return String.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return true;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        ReferenceData.ReferenceValue value = getValueAtRow(rowIndex);
+        if (value == null) return null;
+
+        switch (columnIndex) {
+            case 0: return value.getKey();
+            case 1: return value.getDisplay();
+            case 2: return value.getDescription();
+            case 3: return value.getColor();
+            case 4: return value.getIcon();
+            case SORT_COLUMN: return value.getSortOrder();
+            default: return null;
+        }
+    }
+
+    @Override
+    public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
+        // Copy on write so in-table edits don't touch the field's values until saved
+        ReferenceData.ReferenceValue current = getValueAtRow(rowIndex);
+        ReferenceData.ReferenceValue value = current != null ? current.copy() : new ReferenceData.ReferenceValue();
+        String text = aValue != null ? aValue.toString() : null;
+
+        switch (columnIndex) {
+            case 0: value.setKey(text); break;
+            case 1: value.setDisplay(text); break;
+            case 2: value.setDescription(text); break;
+            case 3: value.setColor(text); break;
+            case 4: value.setIcon(text); break;
+            case SORT_COLUMN:
+                if (aValue instanceof Number) {
+                    value.setSortOrder(((Number) aValue).intValue());
+                } else if (text != null) {
+                    try {
+                        value.setSortOrder(Integer.parseInt(text.trim()));
+                    } catch (NumberFormatException e) {
+                        value.setSortOrder(10);
+                    }
+                }
+                break;
+            default: return;
+        }
+
+        updateValue(rowIndex, value);
+    }
+}
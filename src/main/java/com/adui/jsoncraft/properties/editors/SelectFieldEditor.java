@@ -7,11 +7,7 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.Window;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.BorderFactory;
@@ -32,10 +28,12 @@ import javax.swing.ListSelectionModel;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 import com.adui.jsoncraft.model.FieldDefinition;
 import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.ReferenceRegistry;
 
 /**
  * Property editor for SelectField and related selection components
@@ -50,11 +48,14 @@ public class SelectFieldEditor extends ComponentDataEditor {
     
     // Reference values table
     private JTable valuesTable;
-    private DefaultTableModel tableModel;
+    private ReferenceValueTableModel tableModel;
+    private JTextField filterField;
+    private JLabel valueCountLabel;
     private JButton addValueButton;
     private JButton editValueButton;
     private JButton deleteValueButton;
     private JButton importButton;
+    private CsvImportWorker<ReferenceData.ReferenceValue> importWorker;
     
     // UI properties
     private JCheckBox searchableCheckbox;
@@ -74,14 +75,7 @@ public class SelectFieldEditor extends ComponentDataEditor {
         allowCustomValuesCheckbox = new JCheckBox("Allow Custom Values");
         
         // Reference values table
-        String[] columns = {"Key", "Display", "Description", "Color", "Icon", "Sort"};
-        tableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public Class<?> getColumnClass(int columnIndex) {
-                if (columnIndex == 5) return Integer.class; // Sort column
-                return String.class;
-            }
-        };
+        tableModel = new ReferenceValueTableModel();
         valuesTable = new JTable(tableModel);
         valuesTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         valuesTable.getColumnModel().getColumn(0).setPreferredWidth(80);  // Key
@@ -90,6 +84,9 @@ public class SelectFieldEditor extends ComponentDataEditor {
         valuesTable.getColumnModel().getColumn(3).setPreferredWidth(60);  // Color
         valuesTable.getColumnModel().getColumn(4).setPreferredWidth(40);  // Icon
         valuesTable.getColumnModel().getColumn(5).setPreferredWidth(50);  // Sort
+        filterField = new JTextField();
+        filterField.setToolTipText("Filter values by key or display prefix");
+        valueCountLabel = new JLabel();
         
         // Table buttons
         addValueButton = new JButton("Add");
@@ -113,6 +110,17 @@ public class SelectFieldEditor extends ComponentDataEditor {
         deleteValueButton.addActionListener(e -> deleteReferenceValue());
         importButton.addActionListener(e -> importFromCSV());
         
+        // Filter values as the user types
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { applyFilter(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { applyFilter(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { applyFilter(); }
+        });
+        tableModel.addTableModelListener(e -> updateValueCount());
+        
         // Update field when properties change
         referenceIdField.addActionListener(e -> notifyPropertyChanged());
         referenceNameField.addActionListener(e -> notifyPropertyChanged());
@@ -171,6 +179,14 @@ public class SelectFieldEditor extends ComponentDataEditor {
     private JPanel createValuesPanel() {
         JPanel panel = new JPanel(new BorderLayout());
         
+        // Filter
+        JPanel filterPanel = new JPanel(new BorderLayout(5, 0));
+        filterPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        filterPanel.add(new JLabel("Filter:"), BorderLayout.WEST);
+        filterPanel.add(filterField, BorderLayout.CENTER);
+        filterPanel.add(valueCountLabel, BorderLayout.EAST);
+        panel.add(filterPanel, BorderLayout.NORTH);
+        
         // Table
         JScrollPane tableScroll = new JScrollPane(valuesTable);
         tableScroll.setPreferredSize(new Dimension(500, 200));
@@ -219,27 +235,20 @@ public class SelectFieldEditor extends ComponentDataEditor {
         if (field == null) return;
         
         // Load reference data
+        filterField.setText("");
         ReferenceData reference = field.getReference();
         if (reference != null) {
             referenceIdField.setText(reference.getId() != null ? reference.getId() : "");
             referenceNameField.setText(reference.getName() != null ? reference.getName() : "");
             allowCustomValuesCheckbox.setSelected(reference.isAllowCustomValues());
             
-            // Load reference values into table
-            tableModel.setRowCount(0);
-            if (reference.getValues() != null) {
-                for (ReferenceData.ReferenceValue value : reference.getValues()) {
-                    Object[] row = {
-                        value.getKey(),
-                        value.getDisplay(),
-                        value.getDescription(),
-                        value.getColor(),
-                        value.getIcon(),
-                        value.getSortOrder()
-                    };
-                    tableModel.addRow(row);
-                }
-            }
+            // Load reference values into table (rows are read lazily by the model)
+            tableModel.setValues(reference.getValues());
+        } else {
+            referenceIdField.setText("");
+            referenceNameField.setText("");
+            allowCustomValuesCheckbox.setSelected(false);
+            tableModel.clear();
         }
         
         // Load UI properties
@@ -253,41 +262,20 @@ public class SelectFieldEditor extends ComponentDataEditor {
     protected void saveFieldData() {
         if (field == null) return;
         
-        // Save reference data
-        ReferenceData reference = field.getReference();
-        if (reference == null) {
-            reference = new ReferenceData();
-            field.setReference(reference);
+        // Save reference data into a fresh instance; the current one may be shared with other fields
+        ReferenceData current = field.getReference();
+        ReferenceData reference = new ReferenceData();
+        if (current != null) {
+            reference.setValidationType(current.getValidationType());
         }
         
         reference.setId(referenceIdField.getText().trim());
         reference.setName(referenceNameField.getText().trim());
         reference.setAllowCustomValues(allowCustomValuesCheckbox.isSelected());
         
-        // Save reference values from table
-        List<ReferenceData.ReferenceValue> values = new ArrayList<>();
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            ReferenceData.ReferenceValue value = new ReferenceData.ReferenceValue();
-            value.setKey((String) tableModel.getValueAt(i, 0));
-            value.setDisplay((String) tableModel.getValueAt(i, 1));
-            value.setDescription((String) tableModel.getValueAt(i, 2));
-            value.setColor((String) tableModel.getValueAt(i, 3));
-            value.setIcon((String) tableModel.getValueAt(i, 4));
-            
-            Object sortValue = tableModel.getValueAt(i, 5);
-            if (sortValue instanceof Integer) {
-                value.setSortOrder((Integer) sortValue);
-            } else if (sortValue instanceof String) {
-                try {
-                    value.setSortOrder(Integer.parseInt((String) sortValue));
-                } catch (NumberFormatException e) {
-                    value.setSortOrder(10);
-                }
-            }
-            
-            values.add(value);
-        }
-        reference.setValues(values);
+        // Save reference values from table (all values, regardless of filter)
+        reference.setValues(tableModel.getValues());
+        field.setReference(ReferenceRegistry.getInstance().intern(reference));
         
         // Save UI properties
         field.setUiProperty("searchable", searchableCheckbox.isSelected());
@@ -296,6 +284,12 @@ public class SelectFieldEditor extends ComponentDataEditor {
         field.setUiProperty("placeholder", placeholderField.getText().trim());
     }
     
+    @Override
+    public boolean isReusable() {
+        // A running import still writes to this editor's field
+        return importWorker == null || importWorker.isDone();
+    }
+    
     @Override
     public boolean validateInput() {
         // Validate reference ID
@@ -306,7 +300,7 @@ public class SelectFieldEditor extends ComponentDataEditor {
         }
         
         // Validate that we have at least one value
-        if (tableModel.getRowCount() == 0) {
+        if (tableModel.getValueCount() == 0) {
             JOptionPane.showMessageDialog(this, "At least one reference value is required", "Validation Error", JOptionPane.ERROR_MESSAGE);
             return false;
         }
@@ -319,16 +313,7 @@ public class SelectFieldEditor extends ComponentDataEditor {
         dialog.setVisible(true);
         
         if (dialog.isConfirmed()) {
-            ReferenceData.ReferenceValue value = dialog.getValue();
-            Object[] row = {
-                value.getKey(),
-                value.getDisplay(),
-                value.getDescription(),
-                value.getColor(),
-                value.getIcon(),
-                value.getSortOrder()
-            };
-            tableModel.addRow(row);
+            tableModel.addValue(dialog.getValue());
             notifyPropertyChanged();
         }
     }
@@ -337,26 +322,14 @@ public class SelectFieldEditor extends ComponentDataEditor {
         int selectedRow = valuesTable.getSelectedRow();
         if (selectedRow >= 0) {
             // Get current values
-            ReferenceData.ReferenceValue value = new ReferenceData.ReferenceValue();
-            value.setKey((String) tableModel.getValueAt(selectedRow, 0));
-            value.setDisplay((String) tableModel.getValueAt(selectedRow, 1));
-            value.setDescription((String) tableModel.getValueAt(selectedRow, 2));
-            value.setColor((String) tableModel.getValueAt(selectedRow, 3));
-            value.setIcon((String) tableModel.getValueAt(selectedRow, 4));
-            value.setSortOrder((Integer) tableModel.getValueAt(selectedRow, 5));
+            ReferenceData.ReferenceValue value = tableModel.getValueAtRow(selectedRow);
             
             ReferenceValueDialog dialog = new ReferenceValueDialog(SwingUtilities.getWindowAncestor(this),"Edit Reference Value", true);
             dialog.setValue(value);
             dialog.setVisible(true);
             
             if (dialog.isConfirmed()) {
-                value = dialog.getValue();
-                tableModel.setValueAt(value.getKey(), selectedRow, 0);
-                tableModel.setValueAt(value.getDisplay(), selectedRow, 1);
-                tableModel.setValueAt(value.getDescription(), selectedRow, 2);
-                tableModel.setValueAt(value.getColor(), selectedRow, 3);
-                tableModel.setValueAt(value.getIcon(), selectedRow, 4);
-                tableModel.setValueAt(value.getSortOrder(), selectedRow, 5);
+                tableModel.updateValue(selectedRow, dialog.getValue());
                 notifyPropertyChanged();
             }
         }
@@ -380,11 +353,16 @@ public class SelectFieldEditor extends ComponentDataEditor {
     /**
      * Import reference values from CSV file
      * Expected CSV format: Key,Display,Description,Color,Icon,Sort
+     * Parsing runs in the background and rows are added to the table in chunks.
      * 
-     * @version 1.0
+     * @version 1.1
      * @namespace com.adui.jsoncraft.properties.editors.SelectFieldEditor
      */
     private void importFromCSV() {
+        if (importWorker != null && !importWorker.isDone()) {
+            return; // Import already running
+        }
+        
         // Create file chooser for CSV files
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter(
@@ -398,137 +376,115 @@ public class SelectFieldEditor extends ComponentDataEditor {
         
         File selectedFile = fileChooser.getSelectedFile();
         
-        try {
-            // Read and parse CSV file
-            List<String[]> csvData = new ArrayList<>();
-            try (BufferedReader reader = new BufferedReader(new FileReader(selectedFile))) {
-                String line;
-                boolean isFirstLine = true;
-                
-                while ((line = reader.readLine()) != null) {
-                    // Skip empty lines
-                    if (line.trim().isEmpty()) continue;
-                    
-                    // Parse CSV line (simple implementation)
-                    String[] values = parseCSVLine(line);
-                    
-                    // Skip header if it looks like one
-                    if (isFirstLine && isHeaderRow(values)) {
-                        isFirstLine = false;
-                        continue;
-                    }
-                    
-                    if (values.length >= 2) { // At least Key and Display required
-                        csvData.add(values);
-                    }
-                    isFirstLine = false;
-                }
-            }
-            
-            if (csvData.isEmpty()) {
-                JOptionPane.showMessageDialog(this, 
-                    "No valid data found in CSV file.\nExpected format: Key,Display,Description,Color,Icon,Sort", 
-                    "Import Error", JOptionPane.WARNING_MESSAGE);
-                return;
-            }
-            
-            // Confirm import
+        // Confirm replacing existing values
+        if (tableModel.getValueCount() > 0) {
             int confirmation = JOptionPane.showConfirmDialog(this,
-                String.format("Import %d reference values from CSV?\nThis will replace existing values.", csvData.size()),
+                String.format("Import reference values from CSV?\nThis will replace the existing %d values.", 
+                    tableModel.getValueCount()),
                 "Confirm Import", 
                 JOptionPane.YES_NO_OPTION);
                 
             if (confirmation != JOptionPane.YES_OPTION) {
                 return;
             }
+        }
+        
+        // Keep previous values so a cancelled or failed import can be rolled back
+        List<ReferenceData.ReferenceValue> previousValues = tableModel.getValues();
+        filterField.setText("");
+        tableModel.clear();
+        setImportControlsEnabled(false);
+        
+        importWorker = new CsvImportWorker<>(selectedFile, this::toReferenceValue, tableModel::addValues);
+        importWorker.setHeaderDetector(this::isHeaderRow);
+        importWorker.setImportListener((rowCount, cancelled, error) -> {
+            setImportControlsEnabled(true);
             
-            // Clear existing table data
-            tableModel.setRowCount(0);
-            
-            // Import CSV data into table
-            int rowCount = 0;
-            for (String[] values : csvData) {
-                try {
-                    // Extract values with defaults
-                    String key = values.length > 0 ? values[0].trim() : "";
-                    String display = values.length > 1 ? values[1].trim() : "";
-                    String description = values.length > 2 ? values[2].trim() : "";
-                    String color = values.length > 3 ? values[3].trim() : "";
-                    String icon = values.length > 4 ? values[4].trim() : "";
-                    
-                    // Parse sort order with default
-                    Integer sortOrder = 10;
-                    if (values.length > 5 && !values[5].trim().isEmpty()) {
-                        try {
-                            sortOrder = Integer.parseInt(values[5].trim());
-                        } catch (NumberFormatException e) {
-                            // Keep default value
-                        }
-                    }
-                    
-                    // Validate required fields
-                    if (key.isEmpty()) {
-                        key = "ITEM_" + (rowCount + 1); // Auto-generate key
-                    }
-                    if (display.isEmpty()) {
-                        display = key; // Use key as display if empty
-                    }
-                    
-                    // Add row to table
-                    Object[] row = {key, display, description, color, icon, sortOrder};
-                    tableModel.addRow(row);
-                    rowCount++;
-                    
-                } catch (Exception e) {
-                    // Log error but continue with other rows
-                    System.err.println("Error processing CSV row " + (rowCount + 1) + ": " + e.getMessage());
-                }
+            if (cancelled || error != null || rowCount == 0) {
+                tableModel.setValues(previousValues);
             }
             
-            // Notify of changes to trigger save
-            notifyPropertyChanged();
-            
-            // Show success message
-            JOptionPane.showMessageDialog(this,
-                String.format("Successfully imported %d reference values from CSV.", rowCount),
-                "Import Complete", JOptionPane.INFORMATION_MESSAGE);
+            if (error != null) {
+                JOptionPane.showMessageDialog(this,
+                    "Error reading CSV file: " + error.getMessage(),
+                    "Import Error", JOptionPane.ERROR_MESSAGE);
+            } else if (!cancelled && rowCount == 0) {
+                JOptionPane.showMessageDialog(this, 
+                    "No valid data found in CSV file.\nExpected format: Key,Display,Description,Color,Icon,Sort", 
+                    "Import Error", JOptionPane.WARNING_MESSAGE);
+            } else if (!cancelled) {
+                // Notify of changes to trigger save
+                notifyPropertyChanged();
                 
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this,
-                "Error reading CSV file: " + e.getMessage(),
-                "Import Error", JOptionPane.ERROR_MESSAGE);
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this,
-                "Unexpected error during import: " + e.getMessage(),
-                "Import Error", JOptionPane.ERROR_MESSAGE);
-        }
+                JOptionPane.showMessageDialog(this,
+                    String.format("Successfully imported %d reference values from CSV.", rowCount),
+                    "Import Complete", JOptionPane.INFORMATION_MESSAGE);
+            }
+        });
+        importWorker.start(this, "Importing reference values");
     }
-
+    
     /**
-     * Simple CSV line parser (handles basic quoting)
+     * Map a CSV record to a reference value (null skips the record)
      */
-    private String[] parseCSVLine(String line) {
-        List<String> values = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
+    private ReferenceData.ReferenceValue toReferenceValue(String[] values, int rowNumber) {
+        if (values.length < 2) {
+            return null; // At least Key and Display required
+        }
         
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                values.add(current.toString());
-                current.setLength(0);
-            } else {
-                current.append(c);
+        // Extract values with defaults
+        String key = values[0].trim();
+        String display = values[1].trim();
+        String description = values.length > 2 ? values[2].trim() : "";
+        String color = values.length > 3 ? values[3].trim() : "";
+        String icon = values.length > 4 ? values[4].trim() : "";
+        
+        // Parse sort order with default
+        int sortOrder = 10;
+        if (values.length > 5 && !values[5].trim().isEmpty()) {
+            try {
+                sortOrder = Integer.parseInt(values[5].trim());
+            } catch (NumberFormatException e) {
+                // Keep default value
             }
         }
         
-        values.add(current.toString()); // Add last value
-        return values.toArray(new String[0]);
+        // Validate required fields
+        if (key.isEmpty()) {
+            key = "ITEM_" + rowNumber; // Auto-generate key
+        }
+        if (display.isEmpty()) {
+            display = key; // Use key as display if empty
+        }
+        
+        ReferenceData.ReferenceValue value = new ReferenceData.ReferenceValue(key, display);
+        value.setDescription(description);
+        value.setColor(color);
+        value.setIcon(icon);
+        value.setSortOrder(sortOrder);
+        return value;
+    }
+    
+    private void setImportControlsEnabled(boolean enabled) {
+        importButton.setEnabled(enabled);
+        addValueButton.setEnabled(enabled);
+        editValueButton.setEnabled(enabled);
+        deleteValueButton.setEnabled(enabled);
+        filterField.setEnabled(enabled);
     }
 
+    private void applyFilter() {
+        tableModel.setFilter(filterField.getText());
+    }
+    
+    private void updateValueCount() {
+        if (tableModel.isFiltered()) {
+            valueCountLabel.setText(String.format("%d of %d", tableModel.getRowCount(), tableModel.getValueCount()));
+        } else {
+            valueCountLabel.setText(String.format("%d values", tableModel.getValueCount()));
+        }
+    }
+    
     /**
      * Check if the first row looks like a header
      */
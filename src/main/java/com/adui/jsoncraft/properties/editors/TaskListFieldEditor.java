@@ -7,8 +7,8 @@ import java.awt.Frame;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -51,11 +51,10 @@ import com.adui.jsoncraft.properties.editors.task.model.ProjectTemplate;
 import com.adui.jsoncraft.properties.editors.task.model.ResourceDefinition;
 import com.adui.jsoncraft.properties.editors.task.model.TaskDependency;
 import com.adui.jsoncraft.properties.editors.task.model.TaskNode;
-import com.adui.jsoncraft.properties.editors.task.model.TaskPriority;
-import com.adui.jsoncraft.properties.editors.task.model.TaskStatus;
 import com.adui.jsoncraft.properties.editors.task.ui.TaskNodeRenderer;
 import com.adui.jsoncraft.properties.editors.task.ui.TaskNodeTransferHandler;
 import com.adui.jsoncraft.properties.editors.task.ui.TaskTreeModel;
+import com.adui.jsoncraft.templates.TemplateLibrary;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -107,7 +106,6 @@ public class TaskListFieldEditor extends ComponentDataEditor {
     private List<TaskNode> allTasks;
     private List<TaskDependency> dependencies;
     private List<ResourceDefinition> resources;
-    private Map<String, ProjectTemplate> templates;
     
     public TaskListFieldEditor(FieldDefinition field) {
         super(field);
@@ -120,7 +118,6 @@ public class TaskListFieldEditor extends ComponentDataEditor {
         allTasks = new ArrayList<>();
         dependencies = new ArrayList<>();
         resources = new ArrayList<>();
-        templates = createDefaultTemplates();
         
         // Task Structure components
         taskTreeModel = new TaskTreeModel();
@@ -195,10 +192,8 @@ public class TaskListFieldEditor extends ComponentDataEditor {
         // Setup event handlers AFTER all components are created
         setupEventHandlers();
         
-        // Load templates into list
-        for (ProjectTemplate template : templates.values()) {
-            templateListModel.addElement(template);
-        }
+        // Load templates into list (parsed once and shared by all editors)
+        refreshTemplateList();
         
         // Initialize data displays
         refreshTaskTree();
@@ -477,7 +472,7 @@ public class TaskListFieldEditor extends ComponentDataEditor {
             
             // Load tasks with better error handling
             Object tasksData = field.getDataProperty("tasks");
-            logger.info("Tasks data type: {}", tasksData != null ? tasksData.getClass().getName() : "null");
+            logger.debug("Tasks data type: {}", tasksData != null ? tasksData.getClass().getName() : "null");
 
             if (tasksData != null) {
                 List<?> tasksList = null;
@@ -485,13 +480,13 @@ public class TaskListFieldEditor extends ComponentDataEditor {
                 if (tasksData instanceof List) {
                     // Already a List - use directly
                     tasksList = (List<?>) tasksData;
-                    logger.info("Tasks data is already a List with {} items", tasksList.size());
+                    logger.debug("Tasks data is already a List with {} items", tasksList.size());
                 } else if (tasksData instanceof String) {
                     // JSON string - need to parse it
                     try {
                         ObjectMapper mapper = new ObjectMapper();
                         tasksList = mapper.readValue((String) tasksData, List.class);
-                        logger.info("Parsed JSON string to List with {} items", tasksList.size());
+                        logger.debug("Parsed JSON string to List with {} items", tasksList.size());
                     } catch (Exception e) {
                         logger.error("Failed to parse tasks JSON string: {}", tasksData, e);
                     }
@@ -579,7 +574,12 @@ public class TaskListFieldEditor extends ComponentDataEditor {
             this.dependencies = newDependencies;
             this.resources = newResources;
             
-            // Load settings
+            // Load settings (reset first; the editor may be rebound from another field)
+            defaultStatusCombo.setSelectedIndex(0);
+            defaultPriorityCombo.setSelectedIndex(0);
+            autoCalculateProgressCheckbox.setSelected(false);
+            showProgressBarsCheckbox.setSelected(false);
+            
             Object settingsData = field.getDataProperty("settings");
             if (settingsData instanceof Map) {
                 Map<String, Object> settings = (Map<String, Object>) settingsData;
@@ -615,13 +615,10 @@ public class TaskListFieldEditor extends ComponentDataEditor {
             
             logger.debug("Loaded field data: {} tasks, {} dependencies, {} resources", 
                         allTasks.size(), dependencies.size(), resources.size());
-            logger.info("=== JSON PARSER DEBUG ===");
-            logger.info("Field ID: {}", field.getFieldId());
-            logger.info("Field Data Map: {}", field.getData());
-            logger.info("Tasks Data Raw: {}", field.getDataProperty("tasks"));
-            logger.info("Dependencies Data Raw: {}", field.getDataProperty("dependencies"));
-            logger.info("Resources Data Raw: {}", field.getDataProperty("resources"));
-            logger.info("========================");            
+            if (logger.isTraceEnabled()) {
+                // Raw dumps re-parse the data properties - only when tracing
+                logger.trace("Field {} raw data: {}", field.getFieldId(), field.getData());
+            }
         } catch (Exception e) {
             logger.error("Error loading field data", e);
         }
@@ -1060,6 +1057,13 @@ public class TaskListFieldEditor extends ComponentDataEditor {
         }
     }
     
+    private void refreshTemplateList() {
+        templateListModel.clear();
+        for (ProjectTemplate template : TemplateLibrary.getInstance().getTaskTemplates()) {
+            templateListModel.addElement(template);
+        }
+    }
+    
     private void saveAsTemplate() {
         if (allTasks.isEmpty()) {
             JOptionPane.showMessageDialog(this, 
@@ -1086,13 +1090,17 @@ public class TaskListFieldEditor extends ComponentDataEditor {
                 new ArrayList<>(dependencies)
             );
             
-            templates.put(template.getName(), template);
-            
-            // Update template list
-            templateListModel.clear();
-            for (ProjectTemplate tmpl : templates.values()) {
-                templateListModel.addElement(tmpl);
+            try {
+                TemplateLibrary.getInstance().saveTaskTemplate(template);
+            } catch (IOException e) {
+                logger.error("Failed to save task template {}", template.getName(), e);
+                JOptionPane.showMessageDialog(this, 
+                    "Could not save template: " + e.getMessage(), 
+                    "Save Failed", 
+                    JOptionPane.ERROR_MESSAGE);
+                return;
             }
+            refreshTemplateList();
             
             JOptionPane.showMessageDialog(this, 
                 "Template saved successfully!", 
@@ -1101,57 +1109,10 @@ public class TaskListFieldEditor extends ComponentDataEditor {
         }
     }
     
-    private Map<String, ProjectTemplate> createDefaultTemplates() {
-        Map<String, ProjectTemplate> templateMap = new HashMap<>();
-        
-        // Software Development Template
-        List<TaskNode> devTasks = Arrays.asList(
-            new TaskNode("DEV001", "Requirements Analysis", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Planning"),
-            new TaskNode("DEV002", "System Design", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Design"),
-            new TaskNode("DEV003", "Implementation", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Development"),
-            new TaskNode("DEV004", "Testing", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Testing"),
-            new TaskNode("DEV005", "Deployment", null, TaskStatus.NOT_STARTED, TaskPriority.LOW, "Deployment")
-        );
-        
-        List<TaskDependency> devDeps = Arrays.asList(
-            new TaskDependency("DEV001", "DEV002", "finish-to-start", 1),
-            new TaskDependency("DEV002", "DEV003", "finish-to-start", 2),
-            new TaskDependency("DEV003", "DEV004", "finish-to-start", 0),
-            new TaskDependency("DEV004", "DEV005", "finish-to-start", 1)
-        );
-        
-        ProjectTemplate devTemplate = new ProjectTemplate("Software Development", 
-            "Standard software development lifecycle with requirements, design, development, testing, and deployment phases", 
-            devTasks, devDeps);
-        templateMap.put(devTemplate.getName(), devTemplate);
-        
-        // Construction Project Template
-        List<TaskNode> constructionTasks = Arrays.asList(
-            new TaskNode("CONST001", "Site Preparation", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Planning"),
-            new TaskNode("CONST002", "Foundation", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Construction"),
-            new TaskNode("CONST003", "Framing", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Construction"),
-            new TaskNode("CONST004", "Electrical & Plumbing", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Systems"),
-            new TaskNode("CONST005", "Finishing", null, TaskStatus.NOT_STARTED, TaskPriority.LOW, "Completion")
-        );
-        
-        List<TaskDependency> constructionDeps = Arrays.asList(
-            new TaskDependency("CONST001", "CONST002", "finish-to-start", 1),
-            new TaskDependency("CONST002", "CONST003", "finish-to-start", 2),
-            new TaskDependency("CONST003", "CONST004", "finish-to-start", 0),
-            new TaskDependency("CONST004", "CONST005", "finish-to-start", 3)
-        );
-        
-        ProjectTemplate constructionTemplate = new ProjectTemplate("Construction Project", 
-            "Standard construction project phases from site preparation to completion", 
-            constructionTasks, constructionDeps);
-        templateMap.put(constructionTemplate.getName(), constructionTemplate);
-        
-        return templateMap;
-    }
-    
     // Helper method to notify parent of property changes
     @Override
     protected void notifyPropertyChanged() {
+        if (isLoading()) return;
         saveFieldData();
         for (PropertyChangeListener listener : listeners) {
             listener.propertyChanged(field);
@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Project Template - represents reusable project structures
+ * Project Template - represents reusable project structures.
+ * Templates are shared (see TemplateLibrary), so the getters hand out copies of the tasks
+ * and dependencies: applying a template never lets the editor modify it.
  */
 public class ProjectTemplate {
     private String name;
@@ -15,8 +17,8 @@ public class ProjectTemplate {
     public ProjectTemplate(String name, String description, List<TaskNode> tasks, List<TaskDependency> dependencies) {
         this.name = name;
         this.description = description;
-        this.tasks = new ArrayList<>(tasks);
-        this.dependencies = new ArrayList<>(dependencies);
+        setTasks(tasks);
+        setDependencies(dependencies);
     }
     
     // Getters and setters
@@ -26,11 +28,37 @@ public class ProjectTemplate {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     
-    public List<TaskNode> getTasks() { return new ArrayList<>(tasks); }
-    public void setTasks(List<TaskNode> tasks) { this.tasks = new ArrayList<>(tasks); }
+    public List<TaskNode> getTasks() {
+        List<TaskNode> copies = new ArrayList<>(tasks.size());
+        for (TaskNode task : tasks) {
+            copies.add(task.copy());
+        }
+        return copies;
+    }
+    
+    public int getTaskCount() { return tasks.size(); }
+    
+    public void setTasks(List<TaskNode> tasks) {
+        this.tasks = new ArrayList<>(tasks.size());
+        for (TaskNode task : tasks) {
+            this.tasks.add(task.copy());
+        }
+    }
     
-    public List<TaskDependency> getDependencies() { return new ArrayList<>(dependencies); }
-    public void setDependencies(List<TaskDependency> dependencies) { this.dependencies = new ArrayList<>(dependencies); }
+    public List<TaskDependency> getDependencies() {
+        List<TaskDependency> copies = new ArrayList<>(dependencies.size());
+        for (TaskDependency dependency : dependencies) {
+            copies.add(dependency.copy());
+        }
+        return copies;
+    }
+    
+    public void setDependencies(List<TaskDependency> dependencies) {
+        this.dependencies = new ArrayList<>(dependencies.size());
+        for (TaskDependency dependency : dependencies) {
+            this.dependencies.add(dependency.copy());
+        }
+    }
     
     @Override
     public String toString() {
@@ -32,6 +32,10 @@ public class TaskDependency {
     public int getLagDays() { return lagDays; }
     public void setLagDays(int lagDays) { this.lagDays = lagDays; }
     
+    public TaskDependency copy() {
+        return new TaskDependency(fromTaskId, toTaskId, type, lagDays);
+    }
+    
     public Map<String, Object> toMap() {
         Map<String, Object> map = new HashMap<>();
         map.put("fromTaskId", fromTaskId);
@@ -93,6 +93,26 @@ public class TaskNode {
         return name + " (" + status + " - " + completion + "%)";
     }
     
+    /**
+     * Create an independent copy of this task and its children
+     */
+    public TaskNode copy() {
+        TaskNode copy = new TaskNode(id, name, parentId, status, priority, phase);
+        copy.description = this.description;
+        copy.assignee = this.assignee;
+        copy.estimatedHours = this.estimatedHours;
+        copy.actualHours = this.actualHours;
+        copy.startDate = this.startDate;
+        copy.endDate = this.endDate;
+        copy.completion = this.completion;
+        if (this.children != null) {
+            for (TaskNode child : this.children) {
+                copy.children.add(child.copy());
+            }
+        }
+        return copy;
+    }
+    
     public Map<String, Object> toMap() {
         Map<String, Object> map = new HashMap<>();
         map.put("id", id);
@@ -0,0 +1,439 @@
+package com.adui.jsoncraft.server;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.CsvFormConverter;
+import com.adui.jsoncraft.json.FormDiff;
+import com.adui.jsoncraft.json.JsonGenerator;
+import com.adui.jsoncraft.json.JsonParser;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.ConfigManager;
+import com.adui.jsoncraft.utils.LogLevelManager;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.adui.jsoncraft.validation.ValidationEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Headless HTTP service on localhost exposing the desktop app's parser, validator, generator,
+ * diff and CSV converter, so tools can call them without starting a JVM per request.
+ *
+ * <pre>
+ * POST /parse      form JSON          -> window summary
+ * POST /validate   form JSON          -> errors and warnings
+ * POST /generate   form JSON          -> ADUI JSON (?canonical=true, ?sharedReferences=true)
+ * POST /diff       {"old": form, "new": form} -> changes
+ * POST /csv        CSV (?title=...)   -> ADUI JSON
+ * GET  /metrics    latency histograms per endpoint
+ * GET  /health
+ * </pre>
+ *
+ * Request bodies are parsed straight from the socket stream and responses are streamed back
+ * chunked. At most {@code server.maxConcurrent} requests run at once; the rest wait up to
+ * {@code server.queueTimeoutMs} and then get 503. Workers are virtual threads when the JVM has them.
+ */
+public class FormServer {
+    private static final Logger logger = LoggerFactory.getLogger(FormServer.class);
+
+    public static final int DEFAULT_PORT = 8765;
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long queueTimeoutMillis;
+    private final long maxRequestBytes;
+    private final boolean virtualThreads;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonParser jsonParser = new JsonParser();
+    private final JsonGenerator jsonGenerator;
+    private final ValidationEngine validationEngine = new ValidationEngine();
+
+    public FormServer(int port, int maxConcurrent, long queueTimeoutMillis, long maxRequestBytes) throws IOException {
+        int workers = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        this.permits = new Semaphore(workers);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.maxRequestBytes = maxRequestBytes;
+        this.jsonGenerator = new JsonGenerator(ConfigManager.getInstance().getBooleanProperty("export.prettyPrint", true), false);
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : newPlatformExecutor(workers);
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+
+        register("/parse", "POST", this::parse);
+        register("/validate", "POST", this::validate);
+        register("/generate", "POST", this::generate);
+        register("/diff", "POST", this::diff);
+        register("/csv", "POST", this::convertCsv);
+        register("/metrics", "GET", exchange -> writeJson(exchange, 200,
+            mapper.valueToTree(MetricsRegistry.getInstance().snapshot())));
+        register("/health", "GET", exchange -> writeJson(exchange, 200, mapper.createObjectNode().put("status", "ok")));
+    }
+
+    public void start() {
+        server.start();
+        logger.info("Form server listening on http://localhost:{} ({} workers, {} threads)",
+            getPort(), permits.availablePermits(), virtualThreads ? "virtual" : "platform");
+    }
+
+    /**
+     * Stop accepting requests, give running ones up to the delay to finish, then shut down the workers
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        logger.info("Form server stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // ========== ENDPOINTS ==========
+
+    private void parse(HttpExchange exchange) throws Exception {
+        WindowDefinition window = readWindow(exchange.getRequestBody());
+        ObjectNode summary = mapper.createObjectNode();
+        summary.put("windowId", window.getWindowId());
+        summary.put("name", window.getName());
+        summary.put("tabCount", window.getTabCount());
+        summary.put("fieldCount", window.getFieldCount());
+        ArrayNode tabs = summary.putArray("tabs");
+        for (TabDefinition tab : window.getTabs()) {
+            tabs.addObject()
+                .put("tabId", tab.getTabId())
+                .put("name", tab.getName())
+                .put("fieldCount", tab.getFieldCount());
+        }
+        writeJson(exchange, 200, summary);
+    }
+
+    private void validate(HttpExchange exchange) throws Exception {
+        WindowDefinition window = readWindow(exchange.getRequestBody());
+        ValidationEngine.ValidationResult result = validationEngine.validateWindow(window);
+
+        ObjectNode response = mapper.createObjectNode();
+        response.put("valid", result.isValid());
+        response.put("summary", result.getSummary());
+        ArrayNode errors = response.putArray("errors");
+        for (ValidationEngine.ValidationError error : result.getErrors()) {
+            errors.addObject().put("code", error.getCode()).put("message", error.getMessage());
+        }
+        ArrayNode warnings = response.putArray("warnings");
+        for (ValidationEngine.ValidationWarning warning : result.getWarnings()) {
+            warnings.addObject().put("code", warning.getCode()).put("message", warning.getMessage());
+        }
+        writeJson(exchange, 200, response);
+    }
+
+    private void generate(HttpExchange exchange) throws Exception {
+        Map<String, String> query = parseQuery(exchange);
+        WindowDefinition window = readWindow(exchange.getRequestBody());
+        streamForm(exchange, window, generatorFor(query));
+    }
+
+    private void diff(HttpExchange exchange) throws Exception {
+        JsonNode request = readTree(exchange.getRequestBody());
+        if (!request.path("old").isObject() || !request.path("new").isObject()) {
+            throw new HttpError(400, "Expected {\"old\": form, \"new\": form}");
+        }
+        FormDiff.Result result = new FormDiff().compare(
+            jsonParser.parseTree(request.get("old")), jsonParser.parseTree(request.get("new")));
+
+        ObjectNode response = mapper.createObjectNode();
+        response.put("equal", result.isEmpty());
+        response.put("summary", result.getSummary());
+        response.set("changes", result.toJson(mapper));
+        writeJson(exchange, 200, response);
+    }
+
+    private void convertCsv(HttpExchange exchange) throws Exception {
+        Map<String, String> query = parseQuery(exchange);
+        String title = query.getOrDefault("title", "CSV Form");
+        WindowDefinition window;
+        try {
+            window = new CsvFormConverter().convert(
+                new InputStreamReader(limit(exchange.getRequestBody()), StandardCharsets.UTF_8), title);
+        } catch (RequestTooLargeException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new HttpError(400, e.getMessage());
+        }
+        streamForm(exchange, window, generatorFor(query));
+    }
+
+    // ========== PLUMBING ==========
+
+    /**
+     * One endpoint body; may throw {@link HttpError} for client errors
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        void handle(HttpExchange exchange) throws Exception;
+    }
+
+    private void register(String path, String method, Endpoint endpoint) {
+        String name = path.substring(1);
+        MetricsRegistry.Timer timer = MetricsRegistry.getInstance().timer("server." + name);
+        MetricsRegistry.Counter errors = MetricsRegistry.getInstance().counter("server." + name + ".errors");
+        MetricsRegistry.Counter rejected = MetricsRegistry.getInstance().counter("server.rejected");
+
+        server.createContext(path, exchange -> {
+            long start = timer.start();
+            boolean acquired = false;
+            try {
+                if (!path.equals(exchange.getRequestURI().getPath())) {
+                    throw new HttpError(404, "Not found: " + exchange.getRequestURI().getPath());
+                }
+                if (!method.equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    throw new HttpError(405, "Use " + method + " for " + path);
+                }
+                acquired = permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+                if (!acquired) {
+                    rejected.increment();
+                    throw new HttpError(503, "Server busy");
+                }
+                endpoint.handle(exchange);
+            } catch (HttpError e) {
+                errors.increment();
+                sendError(exchange, e.status, e.getMessage());
+            } catch (RequestTooLargeException e) {
+                errors.increment();
+                sendError(exchange, 413, e.getMessage());
+            } catch (JsonParser.JsonParseException | JsonProcessingException e) {
+                errors.increment();
+                sendError(exchange, 400, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendError(exchange, 503, "Interrupted");
+            } catch (Exception e) {
+                errors.increment();
+                logger.error("{} {} failed", exchange.getRequestMethod(), path, e);
+                sendError(exchange, 500, e.getMessage());
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+                exchange.close();
+                timer.stop(start);
+            }
+        });
+    }
+
+    private WindowDefinition readWindow(InputStream body) throws IOException, JsonParser.JsonParseException {
+        return jsonParser.parseTree(readTree(body));
+    }
+
+    private JsonNode readTree(InputStream body) throws IOException {
+        JsonNode tree = mapper.readTree(limit(body));
+        if (tree == null || tree.isMissingNode()) {
+            throw new HttpError(400, "Request body is empty");
+        }
+        return tree;
+    }
+
+    private JsonGenerator generatorFor(Map<String, String> query) {
+        boolean canonical = Boolean.parseBoolean(query.get("canonical"));
+        boolean sharedReferences = Boolean.parseBoolean(query.get("sharedReferences"));
+        if (!canonical && !sharedReferences) {
+            return jsonGenerator;
+        }
+        JsonGenerator generator = new JsonGenerator(true, false);
+        generator.setCanonical(canonical);
+        generator.setShareReferences(sharedReferences);
+        return generator;
+    }
+
+    private void streamForm(HttpExchange exchange, WindowDefinition window, JsonGenerator generator) throws Exception {
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            generator.writeJson(window, out);
+        }
+    }
+
+    private void writeJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            mapper.writeValue(out, body);
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) {
+        if (exchange.getResponseCode() != -1) {
+            // Headers already went out mid-stream; closing the exchange truncates the response
+            logger.warn("Error after response started: {}", message);
+            return;
+        }
+        try {
+            writeJson(exchange, status, mapper.createObjectNode().put("error", message != null ? message : "Error"));
+        } catch (IOException e) {
+            logger.debug("Could not send error response", e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw != null) {
+            for (String pair : raw.split("&")) {
+                int equals = pair.indexOf('=');
+                String key = equals >= 0 ? pair.substring(0, equals) : pair;
+                String value = equals >= 0 ? pair.substring(equals + 1) : "true";
+                query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private InputStream limit(InputStream body) {
+        return maxRequestBytes > 0 ? new LimitedInputStream(body, maxRequestBytes) : body;
+    }
+
+    /**
+     * Virtual-thread-per-task executor on Java 21+, looked up reflectively since the build targets Java 11
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) java.util.concurrent.Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Fixed pool with a bounded queue; when the queue is full the accepting thread runs the
+     * request itself, which stops it accepting more connections until there is room
+     */
+    private static ExecutorService newPlatformExecutor(int workers) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "form-server-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(workers * 16), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Client error with an HTTP status
+     */
+    static class HttpError extends IOException {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    static class RequestTooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        RequestTooLargeException(long limit) {
+            super("Request body larger than " + limit + " bytes");
+        }
+    }
+
+    /**
+     * Fails once more than the allowed number of bytes has been read
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                check(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                check(n);
+            }
+            return n;
+        }
+
+        private void check(int n) throws RequestTooLargeException {
+            count += n;
+            if (count > limit) {
+                throw new RequestTooLargeException(limit);
+            }
+        }
+    }
+
+    /**
+     * Run the server until the JVM is stopped: {@code FormServer [--port N] [--workers N]}
+     */
+    public static void main(String[] args) throws IOException {
+        ConfigManager config = ConfigManager.getInstance();
+        config.initialize();
+        LogLevelManager.applyConfiguredLevel(config);
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.configure(config);
+        // Per-endpoint latency is part of the service, so metrics are always on here
+        metrics.setEnabled(true);
+
+        int port = config.getIntProperty("server.port", DEFAULT_PORT);
+        int workers = config.getIntProperty("server.maxConcurrent", 0);
+        for (int i = 0; i < args.length - 1; i++) {
+            if ("--port".equals(args[i])) {
+                port = Integer.parseInt(args[++i]);
+            } else if ("--workers".equals(args[i])) {
+                workers = Integer.parseInt(args[++i]);
+            }
+        }
+
+        FormServer formServer = new FormServer(port, workers,
+            config.getIntProperty("server.queueTimeoutMs", 5000),
+            config.getIntProperty("server.maxRequestMb", 32) * 1024L * 1024L);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> formServer.stop(1), "form-server-shutdown"));
+        formServer.start();
+    }
+}
@@ -0,0 +1,130 @@
+package com.adui.jsoncraft.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Command-line client for {@link FormServer}, for scripts and CI:
+ * <pre>
+ * FormServiceClient [--port N] validate|parse|generate form.adui-json
+ * FormServiceClient [--port N] diff old.adui-json new.adui-json
+ * FormServiceClient [--port N] csv fields.csv [title]
+ * FormServiceClient [--port N] metrics|health
+ * </pre>
+ * Files are streamed to the server as-is (diff wraps them in {"old": ..., "new": ...} on the fly)
+ * and the response is copied to stdout. Exit code 0 on success, 1 on an error response or, for
+ * validate, an invalid form, 2 when the server cannot be reached.
+ */
+public class FormServiceClient {
+
+    public static void main(String[] args) {
+        int port = FormServer.DEFAULT_PORT;
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--port".equals(args[i]) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else {
+                arguments.add(args[i]);
+            }
+        }
+        if (arguments.isEmpty()) {
+            System.err.println("Usage: FormServiceClient [--port N] <parse|validate|generate|diff|csv|metrics|health> [files...]");
+            System.exit(2);
+        }
+
+        String endpoint = arguments.get(0);
+        List<String> files = arguments.subList(1, arguments.size());
+        String path = "/" + endpoint;
+        HttpRequest.Builder request = HttpRequest.newBuilder();
+
+        switch (endpoint) {
+            case "metrics":
+            case "health":
+                request.GET();
+                break;
+            case "diff":
+                requireFiles(files, 2);
+                request.POST(HttpRequest.BodyPublishers.ofInputStream(() -> diffBody(files.get(0), files.get(1))));
+                request.header("Content-Type", "application/json");
+                break;
+            case "csv":
+                requireFiles(files, 1);
+                if (files.size() > 1) {
+                    path += "?title=" + URLEncoder.encode(files.get(1), StandardCharsets.UTF_8);
+                }
+                request.POST(HttpRequest.BodyPublishers.ofInputStream(() -> open(files.get(0))));
+                request.header("Content-Type", "text/csv; charset=utf-8");
+                break;
+            default:
+                requireFiles(files, 1);
+                request.POST(HttpRequest.BodyPublishers.ofInputStream(() -> open(files.get(0))));
+                request.header("Content-Type", "application/json");
+                break;
+        }
+
+        try {
+            HttpResponse<InputStream> response = HttpClient.newHttpClient().send(
+                request.uri(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+            byte[] body;
+            try (InputStream in = response.body()) {
+                body = in.readAllBytes();
+            }
+            System.out.write(body);
+            System.out.println();
+            System.out.flush();
+
+            boolean ok = response.statusCode() / 100 == 2;
+            if (ok && "validate".equals(endpoint)) {
+                ok = new String(body, StandardCharsets.UTF_8).contains("\"valid\":true");
+            }
+            System.exit(ok ? 0 : 1);
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Request failed: " + e);
+            System.exit(2);
+        }
+    }
+
+    private static void requireFiles(List<String> files, int count) {
+        if (files.size() < count) {
+            System.err.println("Expected " + count + " file argument(s)");
+            System.exit(2);
+        }
+    }
+
+    private static InputStream open(String file) {
+        try {
+            return new FileInputStream(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream diffBody(String oldFile, String newFile) {
+        List<InputStream> parts = new ArrayList<>();
+        parts.add(text("{\"old\":"));
+        parts.add(open(oldFile));
+        parts.add(text(",\"new\":"));
+        parts.add(open(newFile));
+        parts.add(text("}"));
+        return new SequenceInputStream(Collections.enumeration(parts));
+    }
+
+    private static InputStream text(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,548 @@
+package com.adui.jsoncraft.templates;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.BinaryFormat;
+import com.adui.jsoncraft.json.JsonGenerator;
+import com.adui.jsoncraft.json.JsonParser;
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.properties.editors.task.model.ProjectTemplate;
+import com.adui.jsoncraft.properties.editors.task.model.TaskDependency;
+import com.adui.jsoncraft.properties.editors.task.model.TaskNode;
+import com.adui.jsoncraft.properties.editors.task.model.TaskPriority;
+import com.adui.jsoncraft.properties.editors.task.model.TaskStatus;
+import com.adui.jsoncraft.utils.ConfigManager;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Form, field and task list templates from the templates directory, parsed once and cached.
+ * <ul>
+ * <li>{@code templates/*.adui-json|.adui-smile} - form templates</li>
+ * <li>{@code templates/fields/*.adui-json|.adui-smile} - every field in these forms is a field template</li>
+ * <li>{@code templates/tasks/*.json} - task list templates, plus the built-in ones</li>
+ * </ul>
+ * Cached templates are prototypes that are never handed out; {@code instantiate()} returns a
+ * structural copy (new window, tab and field objects with copied maps) while reference data and
+ * nested data values stay shared until an editor replaces them. Changes on disk are applied per
+ * file through {@link #applyChanges} (fed by the workspace watcher), and listeners are told.
+ */
+public class TemplateLibrary {
+    private static final Logger logger = LoggerFactory.getLogger(TemplateLibrary.class);
+    private static final MetricsRegistry.Timer LOAD_TIMER = MetricsRegistry.getInstance().timer("templates.load");
+    private static final MetricsRegistry.Timer INSTANTIATE_TIMER = MetricsRegistry.getInstance().timer("templates.instantiate");
+
+    public static final String FIELDS_DIRECTORY = "fields";
+    public static final String TASKS_DIRECTORY = "tasks";
+    public static final String TASK_EXTENSION = ".json";
+    /** Prefix of palette entry ids that stand for field templates */
+    public static final String PALETTE_PREFIX = "template:";
+
+    private static TemplateLibrary instance;
+
+    /**
+     * Told after templates were added, changed or removed; called on the thread that applied the change
+     */
+    public interface Listener {
+        void templatesChanged();
+    }
+
+    private final Path directory;
+    private final JsonParser jsonParser;
+    private final ObjectMapper objectMapper;
+    private final List<Listener> listeners;
+    private final Map<String, ProjectTemplate> builtInTaskTemplates;
+
+    // Per-file results; replaced as a whole so readers never see a half-applied change
+    private volatile Map<Path, LoadedFile> files;
+
+    public TemplateLibrary(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.jsonParser = new JsonParser();
+        this.objectMapper = new ObjectMapper();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.builtInTaskTemplates = createBuiltInTaskTemplates();
+    }
+
+    public static synchronized TemplateLibrary getInstance() {
+        if (instance == null) {
+            instance = new TemplateLibrary(ConfigManager.getInstance().getTemplatesDirectory());
+        }
+        return instance;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean isLoaded() {
+        return files != null;
+    }
+
+    /**
+     * Load all templates on first use; later calls return immediately
+     */
+    public void ensureLoaded() {
+        if (files == null) {
+            synchronized (this) {
+                if (files == null) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse every template file again
+     */
+    public synchronized void reload() {
+        long start = LOAD_TIMER.start();
+        Map<Path, LoadedFile> loaded = new HashMap<>();
+        for (Path file : listTemplateFiles()) {
+            LoadedFile result = load(file);
+            if (result != null) {
+                loaded.put(file, result);
+            }
+        }
+        files = loaded;
+        LOAD_TIMER.stop(start);
+        logger.info("Loaded {} template file(s) from {}", loaded.size(), directory);
+    }
+
+    /**
+     * Re-read the template files among the given changed paths (others are ignored).
+     * Returns true and notifies listeners if any template changed.
+     */
+    public boolean applyChanges(Collection<Path> paths) {
+        boolean changed = false;
+        synchronized (this) {
+            if (files == null) {
+                return false;
+            }
+            Map<Path, LoadedFile> updated = new HashMap<>(files);
+            for (Path path : paths) {
+                Path normalized = path.toAbsolutePath().normalize();
+                if (!normalized.startsWith(directory)) {
+                    continue;
+                }
+                if (Files.isDirectory(normalized)) {
+                    // A copied-in folder arrives as one directory event
+                    for (Path file : listTemplateFiles()) {
+                        if (file.startsWith(normalized) && !updated.containsKey(file)) {
+                            changed |= putLoaded(updated, file);
+                        }
+                    }
+                } else if (kindOf(normalized) != null) {
+                    changed |= putLoaded(updated, normalized);
+                } else {
+                    // A deleted directory: drop everything that was under it
+                    changed |= updated.keySet().removeIf(file -> file.startsWith(normalized) && !file.equals(normalized));
+                }
+            }
+            if (changed) {
+                files = updated;
+            }
+        }
+        if (changed) {
+            logger.info("Templates changed on disk");
+            for (Listener listener : listeners) {
+                listener.templatesChanged();
+            }
+        }
+        return changed;
+    }
+
+    private boolean putLoaded(Map<Path, LoadedFile> target, Path file) {
+        LoadedFile result = Files.isRegularFile(file) ? load(file) : null;
+        return result != null ? target.put(file, result) != result : target.remove(file) != null;
+    }
+
+    // ========== FORM TEMPLATES ==========
+
+    public List<FormTemplate> getFormTemplates() {
+        ensureLoaded();
+        List<FormTemplate> result = new ArrayList<>();
+        for (LoadedFile file : files.values()) {
+            if (file.formTemplate != null) {
+                result.add(file.formTemplate);
+            }
+        }
+        result.sort(Comparator.comparing(FormTemplate::getName, String.CASE_INSENSITIVE_ORDER));
+        return result;
+    }
+
+    /**
+     * Save a form as a template (templates/&lt;name&gt;.adui-json) and add it to the library
+     */
+    public FormTemplate saveFormTemplate(WindowDefinition window, String name) throws IOException {
+        ensureLoaded();
+        Path file = directory.resolve(toFileName(name) + BinaryFormat.TEXT_EXTENSION);
+        Files.createDirectories(directory);
+        WindowDefinition prototype = window.copy();
+        prototype.setName(name);
+        try {
+            Files.write(file, new JsonGenerator().generateJson(prototype).getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        } catch (JsonGenerator.JsonGenerationException e) {
+            throw new IOException("Could not write template: " + e.getMessage(), e);
+        }
+        applyChanges(Collections.singleton(file));
+        return files.get(file) != null ? files.get(file).formTemplate : null;
+    }
+
+    // ========== FIELD TEMPLATES ==========
+
+    public List<FieldTemplate> getFieldTemplates() {
+        ensureLoaded();
+        List<FieldTemplate> result = new ArrayList<>();
+        for (LoadedFile file : files.values()) {
+            result.addAll(file.fieldTemplates);
+        }
+        result.sort(Comparator.comparing(FieldTemplate::getName, String.CASE_INSENSITIVE_ORDER));
+        return result;
+    }
+
+    public FieldTemplate getFieldTemplate(String id) {
+        for (FieldTemplate template : getFieldTemplates()) {
+            if (template.getId().equals(id)) {
+                return template;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isFieldTemplateEntry(String paletteId) {
+        return paletteId != null && paletteId.startsWith(PALETTE_PREFIX);
+    }
+
+    public static String toFieldTemplateId(String paletteId) {
+        return paletteId.substring(PALETTE_PREFIX.length());
+    }
+
+    // ========== TASK LIST TEMPLATES ==========
+
+    /**
+     * Built-in task list templates plus those on disk (a file with the same name replaces a built-in)
+     */
+    public List<ProjectTemplate> getTaskTemplates() {
+        ensureLoaded();
+        Map<String, ProjectTemplate> byName = new LinkedHashMap<>(builtInTaskTemplates);
+        for (LoadedFile file : files.values()) {
+            if (file.taskTemplate != null) {
+                byName.put(file.taskTemplate.getName(), file.taskTemplate);
+            }
+        }
+        List<ProjectTemplate> result = new ArrayList<>(byName.values());
+        result.sort(Comparator.comparing(ProjectTemplate::getName, String.CASE_INSENSITIVE_ORDER));
+        return result;
+    }
+
+    /**
+     * Save a task list template to templates/tasks and add it to the library.
+     * The template keeps its own copies of the tasks (see {@link ProjectTemplate}).
+     */
+    public void saveTaskTemplate(ProjectTemplate template) throws IOException {
+        ensureLoaded();
+        Path tasksDirectory = directory.resolve(TASKS_DIRECTORY);
+        Files.createDirectories(tasksDirectory);
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("name", template.getName());
+        content.put("description", template.getDescription());
+        content.put("tasks", template.getTasks().stream().map(TaskNode::toMap).collect(Collectors.toList()));
+        content.put("dependencies", template.getDependencies().stream().map(TaskDependency::toMap).collect(Collectors.toList()));
+
+        Path file = tasksDirectory.resolve(toFileName(template.getName()) + TASK_EXTENSION);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), content);
+        applyChanges(Collections.singleton(file));
+    }
+
+    // ========== LOADING ==========
+
+    private enum Kind { FORM, FIELDS, TASKS }
+
+    private Kind kindOf(Path file) {
+        Path parent = file.getParent();
+        String name = file.getFileName().toString();
+        boolean form = name.endsWith(BinaryFormat.TEXT_EXTENSION) || name.endsWith(BinaryFormat.FILE_EXTENSION);
+        if (directory.equals(parent)) {
+            return form ? Kind.FORM : null;
+        }
+        if (directory.resolve(FIELDS_DIRECTORY).equals(parent)) {
+            return form ? Kind.FIELDS : null;
+        }
+        if (directory.resolve(TASKS_DIRECTORY).equals(parent)) {
+            return name.endsWith(TASK_EXTENSION) ? Kind.TASKS : null;
+        }
+        return null;
+    }
+
+    private List<Path> listTemplateFiles() {
+        List<Path> result = new ArrayList<>();
+        for (Path dir : Arrays.asList(directory, directory.resolve(FIELDS_DIRECTORY), directory.resolve(TASKS_DIRECTORY))) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> stream = Files.list(dir)) {
+                stream.filter(Files::isRegularFile)
+                    .map(path -> path.toAbsolutePath().normalize())
+                    .filter(path -> kindOf(path) != null)
+                    .forEach(result::add);
+            } catch (IOException e) {
+                logger.warn("Could not list templates in {}: {}", dir, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse one template file; null (and a warning) if it cannot be read
+     */
+    private LoadedFile load(Path file) {
+        Kind kind = kindOf(file);
+        if (kind == null) {
+            return null;
+        }
+        try {
+            switch (kind) {
+                case FORM:
+                    WindowDefinition window = jsonParser.parseFile(file.toFile());
+                    return new LoadedFile(new FormTemplate(file, window), Collections.emptyList(), null);
+                case FIELDS:
+                    return new LoadedFile(null, createFieldTemplates(file, jsonParser.parseFile(file.toFile())), null);
+                default:
+                    return new LoadedFile(null, Collections.emptyList(), readTaskTemplate(file.toFile()));
+            }
+        } catch (Exception e) {
+            logger.warn("Skipping template {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<FieldTemplate> createFieldTemplates(Path file, WindowDefinition window) {
+        String prefix = stem(file);
+        List<FieldTemplate> result = new ArrayList<>();
+        for (TabDefinition tab : window.getTabs()) {
+            if (tab.getFields() == null) {
+                continue;
+            }
+            for (FieldDefinition field : tab.getFields()) {
+                if (field.getFieldId() != null) {
+                    result.add(new FieldTemplate(prefix + "/" + field.getFieldId(), file, field));
+                }
+            }
+        }
+        return result;
+    }
+
+    private ProjectTemplate readTaskTemplate(File file) throws IOException {
+        Map<String, Object> content = objectMapper.readValue(file, new TypeReference<Map<String, Object>>() {});
+        List<TaskNode> tasks = new ArrayList<>();
+        List<TaskDependency> dependencies = new ArrayList<>();
+        for (Object task : asList(content.get("tasks"))) {
+            tasks.add(TaskNode.fromMap(asMap(task)));
+        }
+        for (Object dependency : asList(content.get("dependencies"))) {
+            dependencies.add(TaskDependency.fromMap(asMap(dependency)));
+        }
+        String name = content.get("name") instanceof String ? (String) content.get("name") : stem(file.toPath());
+        String description = content.get("description") instanceof String ? (String) content.get("description") : "";
+        return new ProjectTemplate(name, description, tasks, dependencies);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object value) {
+        return value instanceof List ? (List<Object>) value : Collections.emptyList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) throws IOException {
+        if (!(value instanceof Map)) {
+            throw new IOException("Expected an object but found " + value);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private static String stem(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.indexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static String toFileName(String name) {
+        String fileName = name.trim().replaceAll("[^\\w\\-. ]+", "_").replace(' ', '_');
+        return fileName.isEmpty() ? "template" : fileName;
+    }
+
+    private static Map<String, ProjectTemplate> createBuiltInTaskTemplates() {
+        Map<String, ProjectTemplate> templateMap = new LinkedHashMap<>();
+
+        // Software Development Template
+        List<TaskNode> devTasks = Arrays.asList(
+            new TaskNode("DEV001", "Requirements Analysis", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Planning"),
+            new TaskNode("DEV002", "System Design", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Design"),
+            new TaskNode("DEV003", "Implementation", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Development"),
+            new TaskNode("DEV004", "Testing", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Testing"),
+            new TaskNode("DEV005", "Deployment", null, TaskStatus.NOT_STARTED, TaskPriority.LOW, "Deployment")
+        );
+
+        List<TaskDependency> devDeps = Arrays.asList(
+            new TaskDependency("DEV001", "DEV002", "finish-to-start", 1),
+            new TaskDependency("DEV002", "DEV003", "finish-to-start", 2),
+            new TaskDependency("DEV003", "DEV004", "finish-to-start", 0),
+            new TaskDependency("DEV004", "DEV005", "finish-to-start", 1)
+        );
+
+        ProjectTemplate devTemplate = new ProjectTemplate("Software Development",
+            "Standard software development lifecycle with requirements, design, development, testing, and deployment phases",
+            devTasks, devDeps);
+        templateMap.put(devTemplate.getName(), devTemplate);
+
+        // Construction Project Template
+        List<TaskNode> constructionTasks = Arrays.asList(
+            new TaskNode("CONST001", "Site Preparation", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Planning"),
+            new TaskNode("CONST002", "Foundation", null, TaskStatus.NOT_STARTED, TaskPriority.HIGH, "Construction"),
+            new TaskNode("CONST003", "Framing", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Construction"),
+            new TaskNode("CONST004", "Electrical & Plumbing", null, TaskStatus.NOT_STARTED, TaskPriority.MEDIUM, "Systems"),
+            new TaskNode("CONST005", "Finishing", null, TaskStatus.NOT_STARTED, TaskPriority.LOW, "Completion")
+        );
+
+        List<TaskDependency> constructionDeps = Arrays.asList(
+            new TaskDependency("CONST001", "CONST002", "finish-to-start", 1),
+            new TaskDependency("CONST002", "CONST003", "finish-to-start", 2),
+            new TaskDependency("CONST003", "CONST004", "finish-to-start", 0),
+            new TaskDependency("CONST004", "CONST005", "finish-to-start", 3)
+        );
+
+        ProjectTemplate constructionTemplate = new ProjectTemplate("Construction Project",
+            "Standard construction project phases from site preparation to completion",
+            constructionTasks, constructionDeps);
+        templateMap.put(constructionTemplate.getName(), constructionTemplate);
+
+        return Collections.unmodifiableMap(templateMap);
+    }
+
+    /**
+     * What one template file contributed
+     */
+    private static final class LoadedFile {
+        final FormTemplate formTemplate;
+        final List<FieldTemplate> fieldTemplates;
+        final ProjectTemplate taskTemplate;
+
+        LoadedFile(FormTemplate formTemplate, List<FieldTemplate> fieldTemplates, ProjectTemplate taskTemplate) {
+            this.formTemplate = formTemplate;
+            this.fieldTemplates = fieldTemplates;
+            this.taskTemplate = taskTemplate;
+        }
+    }
+
+    /**
+     * A cached, parsed form template
+     */
+    public static final class FormTemplate {
+        private final Path file;
+        private final WindowDefinition prototype;
+        private final String name;
+        private final String description;
+        private final int fieldCount;
+
+        FormTemplate(Path file, WindowDefinition prototype) {
+            this.file = file;
+            this.prototype = prototype;
+            this.name = prototype.getName() != null ? prototype.getName() : stem(file);
+            this.description = prototype.getDescription() != null ? prototype.getDescription() : "";
+            this.fieldCount = prototype.getFieldCount();
+        }
+
+        public Path getFile() { return file; }
+        public String getName() { return name; }
+        public String getDescription() { return description; }
+        public int getFieldCount() { return fieldCount; }
+
+        /**
+         * A new, independent window built from this template
+         */
+        public WindowDefinition instantiate() {
+            long start = INSTANTIATE_TIMER.start();
+            try {
+                return prototype.copy();
+            } finally {
+                INSTANTIATE_TIMER.stop(start);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + fieldCount + " fields)";
+        }
+    }
+
+    /**
+     * A cached, parsed field template
+     */
+    public static final class FieldTemplate {
+        private final String id;
+        private final Path file;
+        private final FieldDefinition prototype;
+
+        FieldTemplate(String id, Path file, FieldDefinition prototype) {
+            this.id = id;
+            this.file = file;
+            this.prototype = prototype;
+        }
+
+        public String getId() { return id; }
+        public String getPaletteId() { return PALETTE_PREFIX + id; }
+        public Path getFile() { return file; }
+        public String getName() { return prototype.getName() != null ? prototype.getName() : prototype.getFieldId(); }
+        public String getDescription() { return prototype.getDescription() != null ? prototype.getDescription() : ""; }
+        public ComponentType getComponentType() { return prototype.getComponentType(); }
+
+        /**
+         * A new field built from this template; callers give it a unique fieldId
+         */
+        public FieldDefinition instantiate() {
+            long start = INSTANTIATE_TIMER.start();
+            try {
+                return prototype.copy();
+            } finally {
+                INSTANTIATE_TIMER.stop(start);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getName();
+        }
+    }
+}
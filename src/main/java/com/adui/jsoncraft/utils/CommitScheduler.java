@@ -0,0 +1,183 @@
+package com.adui.jsoncraft.utils;
+
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.BooleanSupplier;
+
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces edits (typically keystrokes) into a single model commit.
+ * Each edit restarts an idle timer; the commit action runs once the user pauses,
+ * when an attached component loses focus, or when flush() is called explicitly
+ * (before selection changes, save or generate). A delay of 0 commits every edit
+ * immediately. Must be used on the EDT.
+ */
+public class CommitScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(CommitScheduler.class);
+
+    // All live schedulers, so save/generate can flush every pending edit
+    private static final Set<CommitScheduler> activeSchedulers =
+        Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final String name;
+    private final Runnable commitAction;
+    private final Timer idleTimer;
+    private final MetricsRegistry.Timer commitTimer;
+    private BooleanSupplier suppressed;
+    private boolean pending;
+
+    // Pipeline statistics: edits received vs. commits actually run
+    private long editCount;
+    private long commitCount;
+    private long commitNanos;
+
+    public CommitScheduler(String name, int delayMillis, Runnable commitAction) {
+        this.name = name;
+        this.commitAction = commitAction;
+        this.idleTimer = new Timer(Math.max(0, delayMillis), e -> flush());
+        this.idleTimer.setRepeats(false);
+        this.commitTimer = MetricsRegistry.getInstance().timer("commit." + name);
+        synchronized (activeSchedulers) {
+            activeSchedulers.add(this);
+        }
+    }
+
+    /**
+     * Ignore edits while the supplier returns true (e.g. while loading values into the UI)
+     */
+    public void setSuppressed(BooleanSupplier suppressed) {
+        this.suppressed = suppressed;
+    }
+
+    /**
+     * Record an edit and (re)start the idle timer
+     */
+    public void schedule() {
+        if (suppressed != null && suppressed.getAsBoolean()) {
+            return;
+        }
+        editCount++;
+        pending = true;
+        if (idleTimer.getDelay() == 0) {
+            flush();
+        } else {
+            idleTimer.restart();
+        }
+    }
+
+    /**
+     * Run the pending commit now, if there is one
+     */
+    public void flush() {
+        idleTimer.stop();
+        if (!pending) {
+            return;
+        }
+        pending = false;
+
+        long start = System.nanoTime();
+        try {
+            commitAction.run();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            commitNanos += elapsed;
+            commitCount++;
+            if (MetricsRegistry.getInstance().isEnabled()) {
+                commitTimer.record(elapsed);
+            }
+        }
+    }
+
+    /**
+     * Record an edit and commit immediately (discrete controls such as spinners)
+     */
+    public void commitNow() {
+        if (suppressed != null && suppressed.getAsBoolean()) {
+            return;
+        }
+        editCount++;
+        pending = true;
+        flush();
+    }
+
+    /**
+     * Drop the pending commit without running it
+     */
+    public void cancel() {
+        idleTimer.stop();
+        pending = false;
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Schedule a commit on every document change and flush when the component loses focus
+     */
+    public void attachTo(JTextComponent... components) {
+        DocumentListener documentListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { schedule(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { schedule(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { schedule(); }
+        };
+        FocusAdapter focusListener = new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                flush();
+            }
+        };
+
+        for (JTextComponent component : components) {
+            component.getDocument().addDocumentListener(documentListener);
+            component.addFocusListener(focusListener);
+        }
+    }
+
+    public String getName() { return name; }
+    public long getEditCount() { return editCount; }
+    public long getCommitCount() { return commitCount; }
+
+    /**
+     * Average time spent in the commit action, in milliseconds
+     */
+    public double getAverageCommitMillis() {
+        return commitCount > 0 ? commitNanos / 1_000_000.0 / commitCount : 0.0;
+    }
+
+    public String getStatistics() {
+        return String.format("%s: %d edits -> %d commits (avg %.2f ms)",
+            name, editCount, commitCount, getAverageCommitMillis());
+    }
+
+    /**
+     * Flush all pending commits, e.g. before saving or generating JSON
+     */
+    public static void flushAll() {
+        List<CommitScheduler> schedulers;
+        synchronized (activeSchedulers) {
+            schedulers = new ArrayList<>(activeSchedulers);
+        }
+        for (CommitScheduler scheduler : schedulers) {
+            if (scheduler.isPending()) {
+                scheduler.flush();
+                logger.debug("Flushed pending commit: {}", scheduler.getStatistics());
+            }
+        }
+    }
+}
@@ -34,7 +34,7 @@ public class ConfigManager {
         this.configPath = configDir.resolve(CONFIG_FILE);
     }
     
-    public static ConfigManager getInstance() {
+    public static synchronized ConfigManager getInstance() {
         if (instance == null) {
             instance = new ConfigManager();
         }
@@ -56,10 +56,13 @@ public class ConfigManager {
         properties.setProperty("ui.defaultHeight", "800");
         properties.setProperty("ui.minWidth", "1000");
         properties.setProperty("ui.minHeight", "600");
+        properties.setProperty("ui.commitDelay", "300");  // milliseconds, 0 = commit every keystroke
         
         // Panel Sizes
         properties.setProperty("palette.width", "280");
+        properties.setProperty("palette.searchDelay", "150");  // milliseconds
         properties.setProperty("properties.width", "350");
+        properties.setProperty("properties.editorPoolSize", "8");
         properties.setProperty("console.height", "150");
         
         // Window State
@@ -74,6 +77,12 @@ public class ConfigManager {
         properties.setProperty("file.autoSaveInterval", "120");  // seconds
         properties.setProperty("file.backupEnabled", "true");
         properties.setProperty("file.maxRecentFiles", "10");
+        properties.setProperty("file.binaryWorkingFormat", "false");  // save as .adui-smile
+        properties.setProperty("workspace.watch", "true");
+        properties.setProperty("workspace.watchDebounceMs", "500");
+        
+        // Export Settings
+        properties.setProperty("export.sharedReferences", "false");
         
         // Editor Settings
         properties.setProperty("editor.fontSize", "12");
@@ -87,6 +96,16 @@ public class ConfigManager {
         properties.setProperty("validation.showWarnings", "true");
         properties.setProperty("validation.strictMode", "false");
         
+        // Metrics Settings
+        properties.setProperty("metrics.enabled", "false");
+        properties.setProperty("metrics.slowThresholdMs", "0");  // log slower samples, 0 = off
+        
+        // Service mode (--server)
+        properties.setProperty("server.port", "8765");
+        properties.setProperty("server.maxConcurrent", "0");  // 0 = one per CPU
+        properties.setProperty("server.queueTimeoutMs", "5000");
+        properties.setProperty("server.maxRequestMb", "32");
+        
         // Application Settings
         properties.setProperty("app.version", "1.0.0");
         properties.setProperty("app.checkUpdates", "true");
@@ -0,0 +1,144 @@
+package com.adui.jsoncraft.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming CSV record reader (RFC 4180 style)
+ * Handles quoted cells, escaped quotes ("") and line breaks inside quoted cells,
+ * reading one record at a time so large files never have to fit in memory.
+ */
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private long charsRead;
+    private boolean firstChar = true;
+
+    public CsvReader(Reader reader) {
+        this(reader, ',');
+    }
+
+    public CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Read the next record, or null at end of input
+     */
+    public String[] readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean inQuotes = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    // Unterminated quote - keep what we have
+                    cells.add(cell.toString());
+                    break;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        inQuotes = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+            } else {
+                if (c == -1 || c == '\n') {
+                    cells.add(cell.toString());
+                    break;
+                }
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n' && next != -1) {
+                        unread();
+                    }
+                    cells.add(cell.toString());
+                    break;
+                }
+                if (c == separator) {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '"' && cell.length() == 0) {
+                    inQuotes = true;
+                } else {
+                    cell.append((char) c);
+                }
+            }
+            c = read();
+        }
+
+        return cells.toArray(new String[0]);
+    }
+
+    /**
+     * Check whether a record has no content (blank line)
+     */
+    public static boolean isBlank(String[] record) {
+        if (record == null) return true;
+        for (String cell : record) {
+            if (cell != null && !cell.trim().isEmpty()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Number of characters consumed so far, for progress reporting
+     */
+    public long getCharsRead() {
+        return charsRead;
+    }
+
+    private int read() throws IOException {
+        if (position >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        charsRead++;
+
+        // Skip UTF-8 byte order mark
+        if (firstChar) {
+            firstChar = false;
+            if (c == '\uFEFF') {
+                return read();
+            }
+        }
+        return c;
+    }
+
+    private void unread() {
+        position--;
+        charsRead--;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
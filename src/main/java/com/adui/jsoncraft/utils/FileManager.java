@@ -1,5 +1,7 @@
 package com.adui.jsoncraft.utils;
 
+import com.adui.jsoncraft.json.BinaryFormat;
+import com.adui.jsoncraft.json.FormBundle;
 import com.adui.jsoncraft.json.JsonGenerator;
 import com.adui.jsoncraft.json.JsonGenerator.JsonGenerationException;
 import com.adui.jsoncraft.json.JsonParser;
@@ -10,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -24,27 +27,36 @@ import java.util.List;
  */
 public class FileManager {
     private static final Logger logger = LoggerFactory.getLogger(FileManager.class);
+    private static final MetricsRegistry.Timer SAVE_TIMER = MetricsRegistry.getInstance().timer("file.save");
+    private static final MetricsRegistry.Timer LOAD_TIMER = MetricsRegistry.getInstance().timer("file.load");
     
     private static final String FILE_EXTENSION = ".adui-json";
     private static final String SAMPLES_DIRECTORY = "samples";
     
     private final JsonGenerator jsonGenerator;
     private final JsonParser jsonParser;
+    private final BinaryFormat binaryFormat;
     private JFileChooser fileChooser;
     private final List<File> recentFiles;
     
     public FileManager() throws JsonGenerationException {
         this.jsonGenerator = new JsonGenerator(true, false);
         this.jsonParser = new JsonParser();
+        this.binaryFormat = new BinaryFormat(jsonGenerator, jsonParser);
         this.recentFiles = new ArrayList<>();
-        initializeFileChooser();
-        createSampleFiles();
+        // File chooser is created on first use and sample files are written in the background
+        // (see createSampleFilesInBackground) so neither delays startup
     }
     
     private void initializeFileChooser() {
         fileChooser = new JFileChooser();
-        fileChooser.setFileFilter(new FileNameExtensionFilter(
-            "ADUI JSON Files (*.adui-json)", "adui-json"));
+        FileNameExtensionFilter textFilter = new FileNameExtensionFilter(
+            "ADUI JSON Files (*.adui-json)", "adui-json");
+        FileNameExtensionFilter binaryFilter = new FileNameExtensionFilter(
+            "ADUI Binary Files (*.adui-smile)", "adui-smile");
+        fileChooser.addChoosableFileFilter(textFilter);
+        fileChooser.addChoosableFileFilter(binaryFilter);
+        fileChooser.setFileFilter(isBinaryWorkingFormat() ? binaryFilter : textFilter);
         
         // Set default directory to Documents/JSON
         Path defaultDir = getDefaultJsonDirectory();
@@ -65,43 +77,88 @@ public class FileManager {
     }
     
     /**
-     * Save WindowDefinition to file
+     * True if working files are saved in the binary (Smile) format by default
+     */
+    public boolean isBinaryWorkingFormat() {
+        return ConfigManager.getInstance().getBooleanProperty("file.binaryWorkingFormat", false);
+    }
+    
+    /**
+     * Extension suggested for Save / Save As
+     */
+    public String getWorkingExtension() {
+        return isBinaryWorkingFormat() ? BinaryFormat.FILE_EXTENSION : FILE_EXTENSION;
+    }
+    
+    /**
+     * The file itself when it has a form extension, otherwise with the given extension added
+     */
+    private static File withFormExtension(File file, String extension) {
+        if (BinaryFormat.hasBinaryExtension(file) || file.getName().endsWith(FILE_EXTENSION)) {
+            return file;
+        }
+        return new File(file.getParent(), file.getName() + extension);
+    }
+    
+    /**
+     * Save WindowDefinition to file (binary when the name ends with .adui-smile, text JSON otherwise;
+     * a name without either extension gets the configured working format's)
      */
     public boolean saveToFile(WindowDefinition window, File file) {
+        long timing = SAVE_TIMER.start();
+        FormEvents.FileSaveEvent event = new FormEvents.FileSaveEvent();
+        event.begin();
+        file = withFormExtension(file, getWorkingExtension());
         try {
-            String json = jsonGenerator.generateJson(window);
-            
-            // Ensure file has correct extension
-            if (!file.getName().endsWith(FILE_EXTENSION)) {
-                file = new File(file.getParent(), file.getName() + FILE_EXTENSION);
-            }
-            
-            try (FileWriter writer = new FileWriter(file)) {
-                writer.write(json);
+            if (BinaryFormat.hasBinaryExtension(file)) {
+                byte[] content = binaryFormat.write(window);
+                event.bytes = content.length;
+                Files.write(file.toPath(), content);
+            } else {
+                byte[] content = jsonGenerator.generateJson(window).getBytes(StandardCharsets.UTF_8);
+                event.bytes = content.length;
+                Files.write(file.toPath(), content);
             }
             
             addToRecentFiles(file);
             logger.info("Saved window definition to: {}", file.getAbsolutePath());
+            event.success = true;
             return true;
             
         } catch (Exception e) {
             logger.error("Failed to save file: {}", file.getAbsolutePath(), e);
             return false;
+        } finally {
+            SAVE_TIMER.stop(timing);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setWindow(window);
+                event.path = file.getAbsolutePath();
+                event.commit();
+            }
         }
     }
     
     /**
-     * Show save dialog and save file
+     * Show save dialog and save file in the configured working format
      */
     public File showSaveDialog(JFrame parent, WindowDefinition window) {
+        return showSaveDialog(parent, window, getWorkingExtension());
+    }
+    
+    /**
+     * Show save dialog suggesting the given extension (.adui-json for deployment, .adui-smile for working files)
+     */
+    public File showSaveDialog(JFrame parent, WindowDefinition window, String extension) {
         // Set suggested filename
         if (window.getWindowId() != null) {
-            fileChooser.setSelectedFile(new File(window.getWindowId() + FILE_EXTENSION));
+            getFileChooser().setSelectedFile(new File(window.getWindowId() + extension));
         }
         
-        int result = fileChooser.showSaveDialog(parent);
+        int result = getFileChooser().showSaveDialog(parent);
         if (result == JFileChooser.APPROVE_OPTION) {
-            File file = fileChooser.getSelectedFile();
+            // Resolved here so the caller keeps saving to the file actually written
+            File file = withFormExtension(getFileChooser().getSelectedFile(), extension);
             
             if (saveToFile(window, file)) {
                 return file;
@@ -120,9 +177,9 @@ public class FileManager {
      * Show open dialog and load file
      */
     public WindowDefinition showOpenDialog(JFrame parent) {
-        int result = fileChooser.showOpenDialog(parent);
+        int result = getFileChooser().showOpenDialog(parent);
         if (result == JFileChooser.APPROVE_OPTION) {
-            File file = fileChooser.getSelectedFile();
+            File file = getFileChooser().getSelectedFile();
             WindowDefinition window = loadFromFile(file);
             if (window != null) {
                 addToRecentFiles(file);
@@ -133,15 +190,81 @@ public class FileManager {
         return null;
     }
     
+    /**
+     * Pick form files and a target, then build a compressed bundle in the background
+     */
+    public void showBundleExportDialog(JFrame parent) {
+        JFileChooser formChooser = new JFileChooser(getFileChooser().getCurrentDirectory());
+        formChooser.setDialogTitle("Select Forms to Bundle");
+        formChooser.setMultiSelectionEnabled(true);
+        formChooser.setFileFilter(new FileNameExtensionFilter(
+            "ADUI Forms (*.adui-json, *.adui-smile)", "adui-json", "adui-smile"));
+        if (formChooser.showOpenDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File[] formFiles = formChooser.getSelectedFiles();
+        if (formFiles.length == 0) {
+            return;
+        }
+        
+        JFileChooser bundleChooser = new JFileChooser(formChooser.getCurrentDirectory());
+        bundleChooser.setDialogTitle("Save Bundle");
+        bundleChooser.setFileFilter(new FileNameExtensionFilter("ADUI Bundles (*.adui-bundle)", "adui-bundle"));
+        bundleChooser.setSelectedFile(new File("forms" + FormBundle.FILE_EXTENSION));
+        if (bundleChooser.showSaveDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File selected = bundleChooser.getSelectedFile();
+        File bundleFile = selected.getName().endsWith(FormBundle.FILE_EXTENSION)
+            ? selected : new File(selected.getParentFile(), selected.getName() + FormBundle.FILE_EXTENSION);
+        
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() throws Exception {
+                try (FormBundle.Writer writer = new FormBundle.Writer(bundleFile)) {
+                    for (File formFile : formFiles) {
+                        writer.add(formFile, jsonParser);
+                    }
+                    return writer.getEntries().size();
+                } catch (Exception e) {
+                    // Don't leave a half-written bundle behind
+                    Files.deleteIfExists(bundleFile.toPath());
+                    throw e;
+                }
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    int count = get();
+                    JOptionPane.showMessageDialog(parent,
+                        String.format("Bundled %d forms into %s (%,d bytes)", count, bundleFile.getName(), bundleFile.length()),
+                        "Export Bundle", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    logger.error("Failed to export bundle: {}", bundleFile.getAbsolutePath(), cause);
+                    JOptionPane.showMessageDialog(parent,
+                        "Failed to export bundle:\n" + cause.getMessage(),
+                        "Export Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
     /**
      * Load WindowDefinition from file - ENHANCED with JsonParser
      */
     public WindowDefinition loadFromFile(File file) {
+        long timing = LOAD_TIMER.start();
+        FormEvents.FileLoadEvent event = new FormEvents.FileLoadEvent();
+        event.begin();
         try {
             // Use JsonParser to load the file
             WindowDefinition window = jsonParser.parseFile(file);
             
             logger.info("Loaded window definition from: {}", file.getAbsolutePath());
+            event.setWindow(window);
+            event.success = window != null;
             return window;
             
         } catch (JsonParser.JsonParseException e) {
@@ -165,9 +288,32 @@ public class FileManager {
                     "Load Error", JOptionPane.ERROR_MESSAGE);
             });
             return null;
+        } finally {
+            LOAD_TIMER.stop(timing);
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = file.getAbsolutePath();
+                event.bytes = file.length();
+                event.commit();
+            }
         }
     }
     
+    /**
+     * Create sample files on a background thread
+     */
+    public void createSampleFilesInBackground() {
+        Thread worker = new Thread(() -> StartupProfiler.getInstance().time("Sample files", () -> {
+            try {
+                createSampleFiles();
+            } catch (Exception e) {
+                logger.warn("Failed to create sample files", e);
+            }
+        }), "sample-files");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
     /**
      * Create sample files in Documents/JSON directory
      * @throws JsonGenerationException 
@@ -328,9 +474,9 @@ public class FileManager {
      * Show file dialog for generic file selection (ADDED - for compatibility)
      */
     public File showFileDialog(JFrame parent) {
-        int result = fileChooser.showOpenDialog(parent);
+        int result = getFileChooser().showOpenDialog(parent);
         if (result == JFileChooser.APPROVE_OPTION) {
-            return fileChooser.getSelectedFile();
+            return getFileChooser().getSelectedFile();
         }
         return null;
     }
@@ -339,6 +485,9 @@ public class FileManager {
      * Get file chooser for advanced operations
      */
     public JFileChooser getFileChooser() {
+        if (fileChooser == null) {
+            StartupProfiler.getInstance().time("File chooser", this::initializeFileChooser);
+        }
         return fileChooser;
     }
 }
\ No newline at end of file
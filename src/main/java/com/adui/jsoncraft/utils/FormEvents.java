@@ -0,0 +1,171 @@
+package com.adui.jsoncraft.utils;
+
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for form operations.
+ * Record a session with {@code -XX:StartFlightRecording=filename=session.jfr} (or from
+ * JDK Mission Control) and look under the "JSONFormMaker" category. Events cost next
+ * to nothing while no recording is running; attributes are only filled in when
+ * {@code shouldCommit()} is true.
+ */
+public final class FormEvents {
+
+    private static final String CATEGORY = "JSONFormMaker";
+
+    private FormEvents() {
+    }
+
+    /**
+     * Total number of fields in a window (0 for null)
+     */
+    public static int countFields(WindowDefinition window) {
+        int count = 0;
+        if (window != null && window.getTabs() != null) {
+            for (TabDefinition tab : window.getTabs()) {
+                if (tab.getFields() != null) {
+                    count += tab.getFields().size();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Base for events describing a whole window
+     */
+    @StackTrace(false)
+    public abstract static class WindowEvent extends Event {
+        @Label("Window ID")
+        public String windowId;
+
+        @Label("Tab Count")
+        public int tabCount;
+
+        @Label("Field Count")
+        public int fieldCount;
+
+        @Label("Succeeded")
+        public boolean success;
+
+        public void setWindow(WindowDefinition window) {
+            if (window != null) {
+                windowId = window.getWindowId();
+                tabCount = window.getTabs() != null ? window.getTabs().size() : 0;
+                fieldCount = countFields(window);
+            }
+        }
+    }
+
+    @Name("com.adui.jsoncraft.FileLoad")
+    @Label("Form File Load")
+    @Category({CATEGORY, "File"})
+    @Description("Reading and parsing a form file")
+    public static class FileLoadEvent extends WindowEvent {
+        @Label("Path")
+        public String path;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("com.adui.jsoncraft.FileSave")
+    @Label("Form File Save")
+    @Category({CATEGORY, "File"})
+    @Description("Generating and writing a form file")
+    public static class FileSaveEvent extends WindowEvent {
+        @Label("Path")
+        public String path;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("com.adui.jsoncraft.JsonParse")
+    @Label("JSON Parse")
+    @Category({CATEGORY, "JSON"})
+    @Description("Parsing form JSON into a WindowDefinition")
+    public static class ParseEvent extends WindowEvent {
+        @Label("Source")
+        public String source;
+
+        @Label("Input Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("com.adui.jsoncraft.JsonGenerate")
+    @Label("JSON Generate")
+    @Category({CATEGORY, "JSON"})
+    @Description("Generating form JSON from a WindowDefinition")
+    public static class GenerateEvent extends WindowEvent {
+        @Label("Output Length")
+        @Description("Characters in the generated JSON string; not recorded when streaming")
+        public long characters;
+    }
+
+    @Name("com.adui.jsoncraft.Validate")
+    @Label("Form Validation")
+    @Category({CATEGORY, "Validation"})
+    @Description("Validating a WindowDefinition")
+    public static class ValidateEvent extends WindowEvent {
+        @Label("Errors")
+        public int errorCount;
+
+        @Label("Warnings")
+        public int warningCount;
+    }
+
+    @Name("com.adui.jsoncraft.TabRefresh")
+    @Label("Tab Refresh")
+    @Category({CATEGORY, "Canvas"})
+    @Description("Rebuilding the field visualizers of a canvas tab")
+    @StackTrace(false)
+    public static class TabRefreshEvent extends Event {
+        @Label("Tab ID")
+        public String tabId;
+
+        @Label("Field Count")
+        public int fieldCount;
+    }
+
+    @Name("com.adui.jsoncraft.EditorCreation")
+    @Label("Editor Creation")
+    @Category({CATEGORY, "Properties"})
+    @Description("Constructing a component data editor")
+    @StackTrace(false)
+    public static class EditorCreationEvent extends Event {
+        @Label("Component Type")
+        public String componentType;
+
+        @Label("Field ID")
+        public String fieldId;
+
+        @Label("Editor")
+        public String editorClass;
+    }
+
+    @Name("com.adui.jsoncraft.EventDispatch")
+    @Label("Event Bus Dispatch")
+    @Category({CATEGORY, "Canvas"})
+    @Description("Delivering one event to all listeners of the canvas event bus")
+    @StackTrace(false)
+    public static class EventDispatchEvent extends Event {
+        @Label("Event Type")
+        public String eventType;
+
+        @Label("Listeners")
+        public int listenerCount;
+    }
+}
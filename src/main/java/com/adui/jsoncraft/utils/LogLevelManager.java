@@ -0,0 +1,82 @@
+package com.adui.jsoncraft.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+
+/**
+ * Runtime control of the application log level (the com.adui.jsoncraft logger).
+ * The level is persisted as debug.logLevel; -Djsonformmaker.logLevel at launch wins
+ * over the saved value.
+ */
+public final class LogLevelManager {
+    private static final Logger logger = LoggerFactory.getLogger(LogLevelManager.class);
+
+    public static final String APPLICATION_LOGGER = "com.adui.jsoncraft";
+    public static final String[] LEVELS = {"ERROR", "WARN", "INFO", "DEBUG", "TRACE"};
+
+    private static final String CONFIG_KEY = "debug.logLevel";
+    private static final String SYSTEM_PROPERTY = "jsonformmaker.logLevel";
+
+    private LogLevelManager() {
+    }
+
+    /**
+     * Apply the saved level unless one was given on the command line
+     */
+    public static void applyConfiguredLevel(ConfigManager config) {
+        if (System.getProperty(SYSTEM_PROPERTY) != null) {
+            return;
+        }
+        String level = config.getProperty(CONFIG_KEY, null);
+        if (level != null && !level.trim().isEmpty()) {
+            setLevel(level, false);
+        }
+    }
+
+    /**
+     * Command-line tools: log only warnings and errors unless a level was given on the command line
+     */
+    public static void applyCommandLineLevel() {
+        if (System.getProperty(SYSTEM_PROPERTY) == null) {
+            setLevel("WARN", false);
+        }
+    }
+
+    public static String getLevel() {
+        ch.qos.logback.classic.Logger appLogger = getApplicationLogger();
+        if (appLogger == null) {
+            return "INFO";
+        }
+        return appLogger.getEffectiveLevel().toString();
+    }
+
+    /**
+     * Change the application log level; optionally save it for the next start
+     */
+    public static void setLevel(String levelName, boolean persist) {
+        ch.qos.logback.classic.Logger appLogger = getApplicationLogger();
+        if (appLogger == null) {
+            logger.warn("Log level switching requires logback");
+            return;
+        }
+
+        Level level = Level.toLevel(levelName, Level.INFO);
+        appLogger.setLevel(level);
+        logger.info("Log level set to {}", level);
+
+        if (persist) {
+            ConfigManager.getInstance().setProperty(CONFIG_KEY, level.toString());
+        }
+    }
+
+    private static ch.qos.logback.classic.Logger getApplicationLogger() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext)) {
+            return null;
+        }
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        return context.getLogger(APPLICATION_LOGGER);
+    }
+}
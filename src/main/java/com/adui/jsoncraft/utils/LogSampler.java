@@ -0,0 +1,64 @@
+package com.adui.jsoncraft.utils;
+
+import org.slf4j.Logger;
+
+/**
+ * Rate limiter for per-item debug logging (one line per field, event, ...).
+ * Lets at most maxPerInterval messages through per interval and reports how many
+ * were suppressed with the next message that gets through. Checks isDebugEnabled()
+ * first, so a disabled sampler costs no formatting or locking.
+ */
+public class LogSampler {
+    private final int maxPerInterval;
+    private final long intervalNanos;
+    private long intervalStart;
+    private int emitted;
+    private long suppressed;
+
+    public LogSampler(int maxPerInterval, long intervalMillis) {
+        this.maxPerInterval = Math.max(1, maxPerInterval);
+        this.intervalNanos = Math.max(1, intervalMillis) * 1_000_000L;
+        this.intervalStart = System.nanoTime();
+    }
+
+    public void debug(Logger logger, String format, Object arg) {
+        if (logger.isDebugEnabled() && acquire(logger)) {
+            logger.debug(format, arg);
+        }
+    }
+
+    public void debug(Logger logger, String format, Object arg1, Object arg2) {
+        if (logger.isDebugEnabled() && acquire(logger)) {
+            logger.debug(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * Take a slot in the current interval, logging the suppressed count when a new interval starts
+     */
+    private boolean acquire(Logger logger) {
+        long dropped = 0;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - intervalStart >= intervalNanos) {
+                intervalStart = now;
+                emitted = 0;
+                dropped = suppressed;
+                suppressed = 0;
+            }
+            if (emitted >= maxPerInterval) {
+                suppressed++;
+                return false;
+            }
+            emitted++;
+        }
+        if (dropped > 0) {
+            logger.debug("... {} similar messages suppressed", dropped);
+        }
+        return true;
+    }
+
+    public synchronized long getSuppressedCount() {
+        return suppressed;
+    }
+}
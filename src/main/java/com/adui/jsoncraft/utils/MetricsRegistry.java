@@ -0,0 +1,320 @@
+package com.adui.jsoncraft.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Lightweight metrics for hot paths: counters and timers with log-linear latency histograms.
+ * Callers keep Counter/Timer references in static fields and use
+ * {@code long t = TIMER.start(); ... TIMER.stop(t);}. When metrics are disabled start()
+ * returns 0 and stop() returns immediately, so instrumentation costs one volatile read.
+ */
+public class MetricsRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private static final MetricsRegistry instance = new MetricsRegistry();
+
+    private volatile boolean enabled;
+    private volatile long slowThresholdNanos;
+    private volatile long resetTimeMillis;
+    private final Map<String, Counter> counters;
+    private final Map<String, Timer> timers;
+
+    private MetricsRegistry() {
+        this.counters = new ConcurrentHashMap<>();
+        this.timers = new ConcurrentHashMap<>();
+        this.slowThresholdNanos = Long.MAX_VALUE;
+        this.resetTimeMillis = System.currentTimeMillis();
+    }
+
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Apply metrics.enabled and metrics.slowThresholdMs from the configuration
+     */
+    public void configure(ConfigManager config) {
+        setSlowThresholdMillis(config.getIntProperty("metrics.slowThresholdMs", 0));
+        setEnabled(config.getBooleanProperty("metrics.enabled", false));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            logger.info("Metrics {}", enabled ? "enabled" : "disabled");
+        }
+    }
+
+    /**
+     * Log timer samples slower than this (0 disables slow-sample logging)
+     */
+    public void setSlowThresholdMillis(int millis) {
+        this.slowThresholdNanos = millis > 0 ? millis * 1_000_000L : Long.MAX_VALUE;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Clear all recorded values (registered metrics stay registered)
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        timers.values().forEach(Timer::reset);
+        resetTimeMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Snapshot of all metrics with recorded values, suitable for JSON export
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        snapshot.put("timestamp", System.currentTimeMillis());
+        snapshot.put("intervalMs", System.currentTimeMillis() - resetTimeMillis);
+
+        Map<String, Object> counterValues = new TreeMap<>();
+        for (Counter counter : counters.values()) {
+            if (counter.getCount() > 0) {
+                counterValues.put(counter.getName(), counter.getCount());
+            }
+        }
+        snapshot.put("counters", counterValues);
+
+        Map<String, Object> timerValues = new TreeMap<>();
+        for (Timer timer : timers.values()) {
+            if (timer.getCount() > 0) {
+                timerValues.put(timer.getName(), timer.toMap());
+            }
+        }
+        snapshot.put("timers", timerValues);
+        return snapshot;
+    }
+
+    public String toJson() throws IOException {
+        return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(snapshot());
+    }
+
+    public void exportJson(File file) throws IOException {
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, snapshot());
+        logger.info("Exported metrics to {}", file.getAbsolutePath());
+    }
+
+    /**
+     * Human-readable table of all timers and counters
+     */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Metrics %s, interval %.1f s%n%n", enabled ? "enabled" : "disabled",
+            (System.currentTimeMillis() - resetTimeMillis) / 1000.0));
+        report.append(String.format("%-32s %9s %10s %9s %9s %9s %9s %9s%n",
+            "Timer", "Count", "Total ms", "Mean", "p50", "p99", "p99.9", "Max"));
+
+        for (Timer timer : new TreeMap<>(timers).values()) {
+            if (timer.getCount() == 0) continue;
+            report.append(String.format("%-32s %9d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                timer.getName(), timer.getCount(), toMillis(timer.getTotalNanos()),
+                toMillis(timer.getMeanNanos()), toMillis(timer.getPercentileNanos(50)),
+                toMillis(timer.getPercentileNanos(99)), toMillis(timer.getPercentileNanos(99.9)),
+                toMillis(timer.getMaxNanos())));
+        }
+
+        report.append(String.format("%n%-32s %9s%n", "Counter", "Count"));
+        for (Counter counter : new TreeMap<>(counters).values()) {
+            if (counter.getCount() == 0) continue;
+            report.append(String.format("%-32s %9d%n", counter.getName(), counter.getCount()));
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Monotonic event counter
+     */
+    public static class Counter {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        public void increment() {
+            if (instance.enabled) {
+                count.increment();
+            }
+        }
+
+        public void add(long delta) {
+            if (instance.enabled) {
+                count.add(delta);
+            }
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return count.sum(); }
+
+        void reset() {
+            count.reset();
+        }
+    }
+
+    /**
+     * Latency timer backed by a log-linear histogram (16 sub-buckets per power of two,
+     * about 6% relative precision, values up to ~18 minutes)
+     */
+    public static class Timer {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int MAX_EXPONENT = 40;
+        private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+        private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+        Timer(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Start timing; returns 0 when metrics are disabled
+         */
+        public long start() {
+            return instance.enabled ? System.nanoTime() : 0L;
+        }
+
+        /**
+         * Record the time since start(); no-op when start() returned 0
+         */
+        public void stop(long startNanos) {
+            if (startNanos != 0L) {
+                record(System.nanoTime() - startNanos);
+            }
+        }
+
+        /**
+         * Time a block of code
+         */
+        public void time(Runnable block) {
+            long start = start();
+            try {
+                block.run();
+            } finally {
+                stop(start);
+            }
+        }
+
+        public void record(long nanos) {
+            long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+            count.increment();
+            totalNanos.add(value);
+            maxNanos.accumulateAndGet(value, Math::max);
+            buckets.incrementAndGet(bucketIndex(value));
+
+            if (value > instance.slowThresholdNanos) {
+                logger.info("Slow {}: {} ms", name, String.format("%.1f", value / 1_000_000.0));
+            }
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return count.sum(); }
+        public long getTotalNanos() { return totalNanos.sum(); }
+        public long getMaxNanos() { return maxNanos.get(); }
+
+        public double getMeanNanos() {
+            long samples = getCount();
+            return samples > 0 ? (double) getTotalNanos() / samples : 0.0;
+        }
+
+        /**
+         * Approximate percentile (0-100) from the histogram, in nanoseconds
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                total += buckets.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), getMaxNanos());
+                }
+            }
+            return getMaxNanos();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", getCount());
+            values.put("totalMs", toMillis(getTotalNanos()));
+            values.put("meanMs", toMillis(getMeanNanos()));
+            values.put("p50Ms", toMillis(getPercentileNanos(50)));
+            values.put("p90Ms", toMillis(getPercentileNanos(90)));
+            values.put("p99Ms", toMillis(getPercentileNanos(99)));
+            values.put("p999Ms", toMillis(getPercentileNanos(99.9)));
+            values.put("maxMs", toMillis(getMaxNanos()));
+            return values;
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+        }
+
+        static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+        }
+
+        static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+            return lower + (1L << shift) - 1;
+        }
+    }
+}
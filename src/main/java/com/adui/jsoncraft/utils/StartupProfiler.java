@@ -0,0 +1,152 @@
+package com.adui.jsoncraft.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records startup phases and milestones (first paint, UI ready) so time-to-first-paint
+ * can be tracked between releases. Phases may run on any thread; times are relative to
+ * JVM start where the runtime reports it, otherwise to the first use of this class.
+ */
+public class StartupProfiler {
+    private static final Logger logger = LoggerFactory.getLogger(StartupProfiler.class);
+
+    private static final StartupProfiler instance = new StartupProfiler();
+
+    private final long originNanos;
+    private final long jvmToOriginMillis;
+    private final List<Phase> phases;
+    private boolean reported;
+
+    private StartupProfiler() {
+        this.originNanos = System.nanoTime();
+        this.phases = new ArrayList<>();
+
+        long jvmStart = -1;
+        try {
+            jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        } catch (Throwable t) {
+            // Management API not available - report relative to main only
+        }
+        this.jvmToOriginMillis = jvmStart > 0 ? Math.max(0, System.currentTimeMillis() - jvmStart) : 0;
+    }
+
+    public static StartupProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Run and record a startup phase
+     */
+    public void time(String name, Runnable phase) {
+        long start = System.nanoTime();
+        try {
+            phase.run();
+        } finally {
+            record(name, start, System.nanoTime(), false);
+        }
+    }
+
+    /**
+     * Run and record a startup phase that produces a value
+     */
+    public <T> T timeResult(String name, Callable<T> phase) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return phase.call();
+        } finally {
+            record(name, start, System.nanoTime(), false);
+        }
+    }
+
+    /**
+     * Record a point-in-time milestone (zero duration)
+     */
+    public void mark(String milestone) {
+        long now = System.nanoTime();
+        record(milestone, now, now, true);
+    }
+
+    /**
+     * Milliseconds since JVM start (or class initialization if unknown)
+     */
+    public long elapsedMillis() {
+        return jvmToOriginMillis + (System.nanoTime() - originNanos) / 1_000_000;
+    }
+
+    /**
+     * Get the recorded time of a phase or milestone end, or -1 if not recorded
+     */
+    public synchronized long getMillis(String name) {
+        for (Phase phase : phases) {
+            if (phase.name.equals(name)) {
+                return phase.endMillis;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Log the startup report once (later phases are still logged individually)
+     */
+    public synchronized void logReport() {
+        if (reported) return;
+        reported = true;
+        logger.info(getReport());
+    }
+
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder("Startup timing (ms since JVM start):");
+        report.append(String.format("%n  %-28s %-22s %8s %8s", "Phase", "Thread", "Start", "Took"));
+        for (Phase phase : phases) {
+            report.append(String.format("%n  %-28s %-22s %8d %8s", phase.name, phase.thread,
+                phase.startMillis, phase.isMilestone() ? "-" : String.valueOf(phase.endMillis - phase.startMillis)));
+        }
+        return report.toString();
+    }
+
+    private void record(String name, long startNanos, long endNanos, boolean milestone) {
+        Phase phase = new Phase(name, Thread.currentThread().getName(),
+            toMillis(startNanos), toMillis(endNanos), milestone);
+        boolean late;
+        synchronized (this) {
+            phases.add(phase);
+            late = reported;
+        }
+        if (late) {
+            logger.info("Startup phase '{}' finished at {} ms (took {} ms, {})",
+                name, phase.endMillis, phase.endMillis - phase.startMillis, phase.thread);
+        } else {
+            logger.debug("Startup phase '{}' took {} ms", name, phase.endMillis - phase.startMillis);
+        }
+    }
+
+    private long toMillis(long nanos) {
+        return jvmToOriginMillis + (nanos - originNanos) / 1_000_000;
+    }
+
+    private static class Phase {
+        private final String name;
+        private final String thread;
+        private final long startMillis;
+        private final long endMillis;
+        private final boolean milestone;
+
+        Phase(String name, String thread, long startMillis, long endMillis, boolean milestone) {
+            this.name = name;
+            this.thread = thread;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.milestone = milestone;
+        }
+
+        boolean isMilestone() {
+            return milestone;
+        }
+    }
+}
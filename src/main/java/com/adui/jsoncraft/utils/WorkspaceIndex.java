@@ -0,0 +1,596 @@
+package com.adui.jsoncraft.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.json.BinaryFormat;
+import com.adui.jsoncraft.json.ContentHash;
+import com.adui.jsoncraft.json.JsonParser;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.ReferenceData;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Persistent index of every form under the workspace directory (file.defaultLocation).
+ * Records window ID, tab and field IDs, component types and reference-set hashes per file,
+ * and keeps inverted maps in memory so "which forms use X" is a hash lookup.
+ * refresh() re-parses only files whose size or modification time changed, in parallel,
+ * and saves the index to workspace-index.smile in the config directory.
+ */
+public class WorkspaceIndex {
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceIndex.class);
+    private static final MetricsRegistry.Timer REFRESH_TIMER = MetricsRegistry.getInstance().timer("workspace.refresh");
+    private static final MetricsRegistry.Timer QUERY_TIMER = MetricsRegistry.getInstance().timer("workspace.query");
+
+    private static final String INDEX_FILE = "workspace-index.smile";
+    // 2: reference hashes are SHA-256 of the canonical reference JSON
+    private static final int INDEX_VERSION = 2;
+
+    private static WorkspaceIndex instance;
+
+    /** What a query matches against */
+    public enum Kind {
+        FIELD("Field ID"),
+        COMPONENT("Component Type"),
+        REFERENCE("Reference List"),
+        WINDOW("Window ID");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final Path root;
+    private final Path indexFile;
+    private final ObjectMapper smileMapper;
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded;
+    private final ExecutorService updateExecutor;
+
+    public WorkspaceIndex(Path root, Path indexFile) {
+        this.root = root.toAbsolutePath().normalize();
+        this.indexFile = indexFile;
+        this.smileMapper = new ObjectMapper(new SmileFactory());
+        this.snapshot = new Snapshot(Collections.emptyMap()).build();
+        this.updateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workspace-index-update");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized WorkspaceIndex getInstance() {
+        if (instance == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            instance = new WorkspaceIndex(config.getDefaultJsonDirectory(),
+                config.getConfigDirectory().resolve(INDEX_FILE));
+        }
+        return instance;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getFileCount() {
+        return snapshot.files.size();
+    }
+
+    /**
+     * Entries for all indexed files, ordered by path
+     */
+    public List<FileEntry> getEntries() {
+        return Collections.unmodifiableList(snapshot.sortedEntries);
+    }
+
+    /**
+     * Load the saved index (once); files are not re-checked until refresh()
+     */
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isRegularFile(indexFile)) {
+            return;
+        }
+        try {
+            JsonNode rootNode = smileMapper.readTree(indexFile.toFile());
+            if (rootNode.path("version").asInt() != INDEX_VERSION
+                    || !root.toString().equals(rootNode.path("root").asText())) {
+                logger.info("Discarding workspace index built for another version or directory");
+                return;
+            }
+            Map<String, FileEntry> files = new HashMap<>();
+            for (JsonNode node : rootNode.path("files")) {
+                FileEntry entry = FileEntry.fromJson(node);
+                files.put(entry.path, entry);
+            }
+            snapshot = new Snapshot(files).build();
+            logger.info("Loaded workspace index with {} files", files.size());
+        } catch (IOException e) {
+            logger.warn("Could not read workspace index {}: {}", indexFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Bring the index up to date with the workspace directory and save it
+     */
+    public synchronized RefreshResult refresh() throws IOException {
+        load();
+        long timing = REFRESH_TIMER.start();
+        long start = System.nanoTime();
+        try {
+            Map<String, FileEntry> previous = snapshot.files;
+            Map<String, FileEntry> files = new HashMap<>();
+            List<Path> changed = new ArrayList<>();
+
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> paths = Files.walk(root)) {
+                    for (Path path : (Iterable<Path>) paths.filter(WorkspaceIndex::isFormFile)::iterator) {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        String key = root.relativize(path).toString();
+                        FileEntry existing = previous.get(key);
+                        if (existing != null && existing.lastModified == attributes.lastModifiedTime().toMillis()
+                                && existing.size == attributes.size()) {
+                            files.put(key, existing);
+                        } else {
+                            changed.add(path);
+                        }
+                    }
+                }
+            }
+
+            for (FileEntry entry : parseAll(changed)) {
+                files.put(entry.path, entry);
+            }
+            int removed = (int) previous.keySet().stream().filter(key -> !files.containsKey(key)).count();
+
+            if (!changed.isEmpty() || removed > 0 || !Files.exists(indexFile)) {
+                snapshot = new Snapshot(files).build();
+                save();
+            }
+
+            RefreshResult result = new RefreshResult(files.size(), changed.size(), removed,
+                (System.nanoTime() - start) / 1_000_000);
+            logger.info("Workspace index refreshed: {}", result);
+            return result;
+        } finally {
+            REFRESH_TIMER.stop(timing);
+        }
+    }
+
+    /**
+     * Re-index a single file after it was saved; runs in the background
+     */
+    public void update(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        if (!loaded || !path.startsWith(root)) {
+            return;
+        }
+        updateExecutor.execute(() -> {
+            synchronized (this) {
+                if (!isFormFile(path)) {
+                    return;
+                }
+                Map<String, FileEntry> files = new HashMap<>(snapshot.files);
+                FileEntry entry = indexFile(new JsonParser(), path);
+                files.put(entry.path, entry);
+                snapshot = new Snapshot(files).build();
+            }
+        });
+    }
+
+    /**
+     * Apply a batch of changed paths reported by the file watcher: re-parse changed forms,
+     * drop deleted ones. Ignored until the index has been loaded; refresh() catches up then.
+     */
+    public synchronized void applyChanges(Collection<Path> paths) throws IOException {
+        if (!loaded || paths.isEmpty()) {
+            return;
+        }
+        Map<String, FileEntry> files = new HashMap<>(snapshot.files);
+        List<Path> changed = new ArrayList<>();
+        int removed = 0;
+        for (Path path : paths) {
+            Path normalized = path.toAbsolutePath().normalize();
+            if (!normalized.startsWith(root)) {
+                continue;
+            }
+            if (isFormFile(normalized)) {
+                changed.add(normalized);
+            } else if (Files.isDirectory(normalized)) {
+                // Created or modified directory: rescan it rather than trusting the event
+                removed += rescanDirectory(normalized, files, changed);
+            } else if (!Files.exists(normalized)) {
+                // Deleted file, or a deleted/renamed directory with forms below it
+                String key = root.relativize(normalized).toString();
+                String prefix = key + File.separator;
+                int before = files.size();
+                files.keySet().removeIf(k -> k.equals(key) || k.startsWith(prefix));
+                removed += before - files.size();
+            }
+        }
+        for (FileEntry entry : parseAll(changed)) {
+            files.put(entry.path, entry);
+        }
+        if (!changed.isEmpty() || removed > 0) {
+            snapshot = new Snapshot(files).build();
+            save();
+            logger.debug("Workspace index updated: {} parsed, {} removed", changed.size(), removed);
+        }
+    }
+
+    /**
+     * Paths (relative to the workspace) of forms matching the term.
+     * Exact case-insensitive matches are returned when there are any; otherwise substring matches.
+     * References match by ID or content hash.
+     */
+    public List<Match> query(Kind kind, String term) {
+        long timing = QUERY_TIMER.start();
+        try {
+            Snapshot current = snapshot;
+            Map<String, List<FileEntry>> index = current.inverted.get(kind);
+            String normalized = term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            // Posting lists are in path order, so exact hits need no sorting
+            List<FileEntry> exact = index.get(normalized);
+            if (exact != null) {
+                List<String> matchedKeys = Collections.singletonList(normalized);
+                List<Match> results = new ArrayList<>(exact.size());
+                for (FileEntry entry : exact) {
+                    results.add(new Match(entry, matchedKeys));
+                }
+                return results;
+            }
+
+            Map<FileEntry, List<String>> matches = new HashMap<>();
+            for (Map.Entry<String, List<FileEntry>> posting : index.entrySet()) {
+                if (posting.getKey().contains(normalized)) {
+                    for (FileEntry entry : posting.getValue()) {
+                        matches.computeIfAbsent(entry, k -> new ArrayList<>(2)).add(posting.getKey());
+                    }
+                }
+            }
+            List<Match> results = new ArrayList<>(matches.size());
+            for (Map.Entry<FileEntry, List<String>> match : matches.entrySet()) {
+                Collections.sort(match.getValue());
+                results.add(new Match(match.getKey(), match.getValue()));
+            }
+            results.sort((a, b) -> a.getEntry().path.compareTo(b.getEntry().path));
+            return results;
+        } finally {
+            QUERY_TIMER.stop(timing);
+        }
+    }
+
+    public File resolve(FileEntry entry) {
+        return root.resolve(entry.path).toFile();
+    }
+
+    /**
+     * Queue new or modified forms below an existing directory for parsing and drop entries
+     * for forms no longer there. Returns the number of entries dropped.
+     */
+    private int rescanDirectory(Path directory, Map<String, FileEntry> files, List<Path> changed) throws IOException {
+        Set<String> present = new HashSet<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.filter(WorkspaceIndex::isFormFile)::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                String key = root.relativize(path).toString();
+                present.add(key);
+                FileEntry existing = files.get(key);
+                if (existing == null || existing.lastModified != attributes.lastModifiedTime().toMillis()
+                        || existing.size != attributes.size()) {
+                    changed.add(path);
+                }
+            }
+        }
+        String prefix = directory.equals(root) ? "" : root.relativize(directory) + File.separator;
+        int before = files.size();
+        files.keySet().removeIf(k -> k.startsWith(prefix) && !present.contains(k));
+        return before - files.size();
+    }
+
+    private List<FileEntry> parseAll(List<Path> paths) throws IOException {
+        if (paths.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int threads = Math.max(1, Math.min(paths.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "workspace-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadLocal<JsonParser> parsers = ThreadLocal.withInitial(JsonParser::new);
+        try {
+            List<Future<FileEntry>> futures = new ArrayList<>(paths.size());
+            for (Path path : paths) {
+                futures.add(executor.submit(() -> indexFile(parsers.get(), path)));
+            }
+            List<FileEntry> entries = new ArrayList<>(paths.size());
+            for (Future<FileEntry> future : futures) {
+                entries.add(future.get());
+            }
+            return entries;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Workspace indexing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Workspace indexing failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FileEntry indexFile(JsonParser jsonParser, Path path) {
+        FileEntry entry = new FileEntry(root.relativize(path).toString());
+        File file = path.toFile();
+        entry.lastModified = file.lastModified();
+        entry.size = file.length();
+        try {
+            WindowDefinition window = jsonParser.parseFile(file);
+            // Shared reference instances are hashed once per file
+            Map<ReferenceData, String> hashed = new IdentityHashMap<>();
+            entry.windowId = window.getWindowId();
+            entry.name = window.getName();
+            if (window.getTabs() != null) {
+                for (TabDefinition tab : window.getTabs()) {
+                    entry.tabIds.add(tab.getTabId());
+                    if (tab.getFields() == null) continue;
+                    for (FieldDefinition field : tab.getFields()) {
+                        entry.fieldIds.add(field.getFieldId());
+                        if (field.getComponentType() != null) {
+                            entry.componentTypes.add(field.getComponentType().getJsonName());
+                        }
+                        ReferenceData reference = field.getReference();
+                        if (reference != null && reference.getId() != null) {
+                            String hash = hashed.get(reference);
+                            if (hash == null) {
+                                hash = ContentHash.of(reference);
+                                hashed.put(reference, hash);
+                            }
+                            entry.references.put(reference.getId(), hash);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            entry.error = e.getMessage();
+            logger.debug("Could not index {}: {}", path, e.getMessage());
+        }
+        return entry;
+    }
+
+    private void save() {
+        ObjectNode rootNode = smileMapper.createObjectNode();
+        rootNode.put("version", INDEX_VERSION);
+        rootNode.put("root", root.toString());
+        ArrayNode filesNode = rootNode.putArray("files");
+        for (FileEntry entry : snapshot.files.values()) {
+            filesNode.add(entry.toJson(smileMapper));
+        }
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path temp = indexFile.resolveSibling(INDEX_FILE + ".tmp");
+            smileMapper.writeValue(temp.toFile(), rootNode);
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Could not save workspace index {}: {}", indexFile, e.getMessage());
+        }
+    }
+
+    private static boolean isFormFile(Path path) {
+        String name = path.getFileName().toString();
+        return (name.endsWith(BinaryFormat.TEXT_EXTENSION) || name.endsWith(BinaryFormat.FILE_EXTENSION))
+            && Files.isRegularFile(path);
+    }
+
+    /**
+     * What the index knows about one form file
+     */
+    public static class FileEntry {
+        private final String path;
+        private long lastModified;
+        private long size;
+        private String windowId;
+        private String name;
+        private String error;
+        private final Set<String> tabIds = new LinkedHashSet<>();
+        private final Set<String> fieldIds = new LinkedHashSet<>();
+        private final Set<String> componentTypes = new TreeSet<>();
+        private final Map<String, String> references = new LinkedHashMap<>();
+
+        FileEntry(String path) {
+            this.path = path;
+        }
+
+        public String getPath() { return path; }
+        public long getLastModified() { return lastModified; }
+        public long getSize() { return size; }
+        public String getWindowId() { return windowId; }
+        public String getName() { return name; }
+        public String getError() { return error; }
+        public Set<String> getTabIds() { return Collections.unmodifiableSet(tabIds); }
+        public Set<String> getFieldIds() { return Collections.unmodifiableSet(fieldIds); }
+        public Set<String> getComponentTypes() { return Collections.unmodifiableSet(componentTypes); }
+        public Map<String, String> getReferences() { return Collections.unmodifiableMap(references); }
+
+        ObjectNode toJson(ObjectMapper mapper) {
+            ObjectNode node = mapper.createObjectNode();
+            node.put("path", path);
+            node.put("lastModified", lastModified);
+            node.put("size", size);
+            node.put("windowId", windowId);
+            node.put("name", name);
+            if (error != null) {
+                node.put("error", error);
+            }
+            tabIds.forEach(node.putArray("tabIds")::add);
+            fieldIds.forEach(node.putArray("fieldIds")::add);
+            componentTypes.forEach(node.putArray("componentTypes")::add);
+            ObjectNode referencesNode = node.putObject("references");
+            references.forEach(referencesNode::put);
+            return node;
+        }
+
+        static FileEntry fromJson(JsonNode node) {
+            FileEntry entry = new FileEntry(node.path("path").asText());
+            entry.lastModified = node.path("lastModified").asLong();
+            entry.size = node.path("size").asLong();
+            entry.windowId = node.hasNonNull("windowId") ? node.get("windowId").asText() : null;
+            entry.name = node.hasNonNull("name") ? node.get("name").asText() : null;
+            entry.error = node.hasNonNull("error") ? node.get("error").asText() : null;
+            node.path("tabIds").forEach(id -> entry.tabIds.add(id.asText()));
+            node.path("fieldIds").forEach(id -> entry.fieldIds.add(id.asText()));
+            node.path("componentTypes").forEach(type -> entry.componentTypes.add(type.asText()));
+            node.path("references").fields().forEachRemaining(e -> entry.references.put(e.getKey(), e.getValue().asText()));
+            return entry;
+        }
+    }
+
+    /**
+     * A file that matched a query, with the index keys that matched
+     */
+    public static class Match {
+        private final FileEntry entry;
+        private final List<String> matchedKeys;
+
+        Match(FileEntry entry, List<String> matchedKeys) {
+            this.entry = entry;
+            this.matchedKeys = matchedKeys;
+        }
+
+        public FileEntry getEntry() { return entry; }
+        public List<String> getMatchedKeys() { return matchedKeys; }
+    }
+
+    /**
+     * Counts from one refresh
+     */
+    public static class RefreshResult {
+        private final int fileCount;
+        private final int parsedCount;
+        private final int removedCount;
+        private final long elapsedMillis;
+
+        RefreshResult(int fileCount, int parsedCount, int removedCount, long elapsedMillis) {
+            this.fileCount = fileCount;
+            this.parsedCount = parsedCount;
+            this.removedCount = removedCount;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getFileCount() { return fileCount; }
+        public int getParsedCount() { return parsedCount; }
+        public int getRemovedCount() { return removedCount; }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        @Override
+        public String toString() {
+            return String.format("%d files, %d parsed, %d removed in %d ms",
+                fileCount, parsedCount, removedCount, elapsedMillis);
+        }
+    }
+
+    /**
+     * Immutable view of the index with one inverted map per query kind.
+     * Built off the EDT (refresh, load, update) so queries are plain lookups.
+     */
+    private static class Snapshot {
+        private final Map<String, FileEntry> files;
+        private final List<FileEntry> sortedEntries;
+        private final Map<Kind, Map<String, List<FileEntry>>> inverted = new EnumMap<>(Kind.class);
+
+        Snapshot(Map<String, FileEntry> files) {
+            this.files = files;
+            this.sortedEntries = new ArrayList<>(files.values());
+            this.sortedEntries.sort((a, b) -> a.path.compareTo(b.path));
+        }
+
+        Snapshot build() {
+            for (Kind kind : Kind.values()) {
+                inverted.put(kind, buildInvertedIndex(kind));
+            }
+            return this;
+        }
+
+        private Map<String, List<FileEntry>> buildInvertedIndex(Kind kind) {
+            Map<String, List<FileEntry>> index = new HashMap<>();
+            for (FileEntry entry : sortedEntries) {
+                for (String key : keys(entry, kind)) {
+                    if (key == null) continue;
+                    List<FileEntry> posting = index.computeIfAbsent(key.toLowerCase(Locale.ROOT), k -> new ArrayList<>(1));
+                    // Entries arrive in path order; skip a repeat of the same file (e.g. case variants)
+                    if (posting.isEmpty() || posting.get(posting.size() - 1) != entry) {
+                        posting.add(entry);
+                    }
+                }
+            }
+            return index;
+        }
+
+        private static Iterable<String> keys(FileEntry entry, Kind kind) {
+            switch (kind) {
+                case FIELD:
+                    return entry.fieldIds;
+                case COMPONENT:
+                    return entry.componentTypes;
+                case REFERENCE:
+                    return Stream.concat(entry.references.keySet().stream(), entry.references.values().stream())
+                        .collect(Collectors.toList());
+                case WINDOW:
+                default:
+                    return Collections.singletonList(entry.windowId);
+            }
+        }
+    }
+}
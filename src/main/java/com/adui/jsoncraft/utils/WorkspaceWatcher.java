@@ -0,0 +1,257 @@
+package com.adui.jsoncraft.utils;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the workspace directory tree (and the directory of the open file, if it lies
+ * outside the workspace) with a WatchService. Events are collected and delivered as one
+ * batch once no new event has arrived for the debounce interval, so a CSVtoJSON.py run
+ * or a sync of a shared folder produces one notification instead of thousands.
+ * Listeners are called on the watcher's scheduler thread, not the EDT.
+ */
+public class WorkspaceWatcher implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceWatcher.class);
+
+    // A continuous change storm is still flushed at least this often (in debounce intervals)
+    private static final int MAX_DELAY_FACTOR = 10;
+
+    /**
+     * Receives debounced batches of changed paths
+     */
+    public interface Listener {
+        /**
+         * @param paths    files and directories that were created, modified or deleted
+         * @param overflow true if events were lost and callers should rescan
+         */
+        void filesChanged(Set<Path> paths, boolean overflow);
+    }
+
+    private final Path root;
+    private final long debounceMillis;
+    private final List<Listener> listeners;
+    private final Map<WatchKey, Path> watchedDirectories;
+    private final ScheduledExecutorService scheduler;
+    private final Object pendingLock = new Object();
+    private Set<Path> pending;
+    private boolean pendingOverflow;
+    private long firstPendingMillis;
+    private ScheduledFuture<?> flushFuture;
+    private WatchService watchService;
+    private Path extraDirectory;
+    private WatchKey extraKey;
+
+    public WorkspaceWatcher(Path root, long debounceMillis) {
+        this.root = root.toAbsolutePath().normalize();
+        this.debounceMillis = Math.max(10, debounceMillis);
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.watchedDirectories = new ConcurrentHashMap<>();
+        this.pending = new HashSet<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workspace-watcher-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Start the watch thread; the workspace tree is registered on that thread, not the caller's
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+
+        Thread thread = new Thread(() -> {
+            try {
+                if (Files.isDirectory(root)) {
+                    registerTree(root, null);
+                }
+                logger.info("Watching {} ({} directories)", root, watchedDirectories.size());
+            } catch (IOException | ClosedWatchServiceException e) {
+                logger.warn("Could not watch {}: {}", root, e.getMessage());
+            }
+            processEvents();
+        }, "workspace-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Also watch the directory of the open file when it is outside the workspace
+     */
+    public synchronized void watchFile(File file) {
+        if (watchService == null || file == null) {
+            return;
+        }
+        Path directory = file.toPath().toAbsolutePath().normalize().getParent();
+        if (directory == null || directory.startsWith(root) || directory.equals(extraDirectory)) {
+            return;
+        }
+        if (extraKey != null) {
+            extraKey.cancel();
+            watchedDirectories.remove(extraKey);
+        }
+        try {
+            extraKey = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            extraDirectory = directory;
+            watchedDirectories.put(extraKey, directory);
+        } catch (IOException e) {
+            logger.warn("Could not watch {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        scheduler.shutdownNow();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Error closing watch service", e);
+            }
+            watchService = null;
+        }
+    }
+
+    /**
+     * Register a directory and everything below it; files found in a newly created
+     * directory are reported too, since their own create events may have been missed
+     */
+    private void registerTree(Path start, Set<Path> discovered) throws IOException {
+        try (Stream<Path> paths = Files.walk(start)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isDirectory(path)) {
+                    WatchKey key = path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                    watchedDirectories.put(key, path);
+                } else if (discovered != null) {
+                    discovered.add(path);
+                }
+            }
+        }
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                WatchService service = watchService;
+                if (service == null) {
+                    return;
+                }
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = watchedDirectories.get(key);
+            Set<Path> changed = new HashSet<>();
+            boolean overflow = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    overflow = true;
+                    continue;
+                }
+                if (directory == null) {
+                    continue;
+                }
+                Path path = directory.resolve((Path) event.context());
+                changed.add(path);
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(path) && path.startsWith(root)) {
+                    try {
+                        registerTree(path, changed);
+                    } catch (IOException e) {
+                        logger.warn("Could not watch new directory {}: {}", path, e.getMessage());
+                    }
+                }
+            }
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+            if (!changed.isEmpty() || overflow) {
+                enqueue(changed, overflow);
+            }
+        }
+    }
+
+    private void enqueue(Set<Path> changed, boolean overflow) {
+        synchronized (pendingLock) {
+            long now = System.currentTimeMillis();
+            if (pending.isEmpty() && !pendingOverflow) {
+                firstPendingMillis = now;
+            }
+            pending.addAll(changed);
+            pendingOverflow |= overflow;
+
+            // Restart the quiet period unless the batch has been waiting too long already
+            if (flushFuture == null || now - firstPendingMillis < debounceMillis * MAX_DELAY_FACTOR) {
+                if (flushFuture != null) {
+                    flushFuture.cancel(false);
+                }
+                flushFuture = scheduler.schedule(this::flush, debounceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flush() {
+        Set<Path> batch;
+        boolean overflow;
+        synchronized (pendingLock) {
+            batch = pending;
+            overflow = pendingOverflow;
+            pending = new HashSet<>();
+            pendingOverflow = false;
+            flushFuture = null;
+        }
+        if (batch.isEmpty() && !overflow) {
+            return;
+        }
+
+        logger.debug("Workspace changes: {} paths{}", batch.size(), overflow ? " (overflow)" : "");
+        Set<Path> paths = Collections.unmodifiableSet(batch);
+        for (Listener listener : listeners) {
+            try {
+                listener.filesChanged(paths, overflow);
+            } catch (Exception e) {
+                logger.error("Workspace watcher listener failed", e);
+            }
+        }
+    }
+}
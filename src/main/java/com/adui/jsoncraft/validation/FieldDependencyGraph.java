@@ -0,0 +1,233 @@
+package com.adui.jsoncraft.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.WindowDefinition;
+
+/**
+ * Compiled displayLogic / requiredWhen of every field in a window, plus the reverse index
+ * "field X is referenced by the logic of fields A, B". An {@link Evaluation} uses the index so
+ * that changing one value re-evaluates only the logic that references it. Hidden fields keep
+ * their values (as in ADempiere), so visibility changes never cascade.
+ */
+public class FieldDependencyGraph {
+    public static final String DISPLAY_LOGIC = "displayLogic";
+    public static final String REQUIRED_WHEN = "requiredWhen";
+
+    private final Map<String, LogicExpression> displayLogic = new LinkedHashMap<>();
+    private final Map<String, LogicExpression> requiredWhen = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final Set<String> fieldIds = new LinkedHashSet<>();
+    private final Set<String> alwaysRequired = new HashSet<>();
+    private final List<Problem> problems = new ArrayList<>();
+
+    private FieldDependencyGraph() {
+    }
+
+    /**
+     * Compile the logic of all fields (through the {@link LogicCompiler} cache) and index dependencies
+     */
+    public static FieldDependencyGraph build(WindowDefinition window) {
+        FieldDependencyGraph graph = new FieldDependencyGraph();
+        if (window == null || window.getTabs() == null) {
+            return graph;
+        }
+
+        List<FieldDefinition> fields = new ArrayList<>();
+        for (TabDefinition tab : window.getTabs()) {
+            if (tab.getFields() != null) {
+                for (FieldDefinition field : tab.getFields()) {
+                    if (field.getFieldId() != null) {
+                        fields.add(field);
+                        graph.fieldIds.add(field.getFieldId());
+                    }
+                }
+            }
+        }
+
+        for (FieldDefinition field : fields) {
+            String fieldId = field.getFieldId();
+            if (field.isRequired() || (field.getValidation() != null && field.getValidation().isRequired())) {
+                graph.alwaysRequired.add(fieldId);
+            }
+            graph.add(fieldId, DISPLAY_LOGIC, field.getDisplayLogic(), graph.displayLogic);
+            if (field.getValidation() != null) {
+                graph.add(fieldId, REQUIRED_WHEN, field.getValidation().getRequiredWhen(), graph.requiredWhen);
+            }
+        }
+        return graph;
+    }
+
+    private void add(String fieldId, String property, String source, Map<String, LogicExpression> target) {
+        if (source == null || source.trim().isEmpty()) {
+            return;
+        }
+        LogicExpression expression;
+        try {
+            expression = LogicCompiler.getInstance().compile(source);
+        } catch (LogicCompiler.LogicSyntaxException e) {
+            problems.add(new Problem(Problem.Kind.SYNTAX, fieldId, property, e.getMessage()));
+            return;
+        }
+
+        target.put(fieldId, expression);
+        for (String reference : expression.getReferencedFields()) {
+            if (!fieldIds.contains(reference)) {
+                problems.add(new Problem(Problem.Kind.UNKNOWN_FIELD, fieldId, property,
+                    "Refers to unknown field '" + reference + "'"));
+            } else if (reference.equals(fieldId)) {
+                problems.add(new Problem(Problem.Kind.SELF_REFERENCE, fieldId, property,
+                    "Refers to its own value"));
+            }
+            dependents.computeIfAbsent(reference, key -> new LinkedHashSet<>()).add(fieldId);
+        }
+    }
+
+    public LogicExpression getDisplayLogic(String fieldId) {
+        return displayLogic.get(fieldId);
+    }
+
+    public LogicExpression getRequiredWhen(String fieldId) {
+        return requiredWhen.get(fieldId);
+    }
+
+    /**
+     * Fields whose displayLogic or requiredWhen references the given field
+     */
+    public Set<String> getDependents(String fieldId) {
+        Set<String> result = dependents.get(fieldId);
+        return result != null ? Collections.unmodifiableSet(result) : Collections.emptySet();
+    }
+
+    /**
+     * Number of fields with any conditional logic
+     */
+    public int getConditionalFieldCount() {
+        Set<String> conditional = new HashSet<>(displayLogic.keySet());
+        conditional.addAll(requiredWhen.keySet());
+        return conditional.size();
+    }
+
+    public List<Problem> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * Start evaluating with the given initial values (fieldId to value; missing means empty)
+     */
+    public Evaluation newEvaluation(Map<String, String> initialValues) {
+        return new Evaluation(initialValues);
+    }
+
+    /**
+     * Visibility and required state for one set of field values, updated incrementally
+     */
+    public final class Evaluation implements LogicExpression.Context {
+        private final Map<String, String> values;
+        private final Set<String> hidden = new HashSet<>();
+        private final Set<String> conditionallyRequired = new HashSet<>();
+        private long evaluationCount;
+
+        private Evaluation(Map<String, String> initialValues) {
+            this.values = new HashMap<>(initialValues);
+            for (String fieldId : fieldIds) {
+                evaluate(fieldId);
+            }
+        }
+
+        @Override
+        public String getValue(String fieldId) {
+            return values.get(fieldId);
+        }
+
+        public boolean isDisplayed(String fieldId) {
+            return !hidden.contains(fieldId);
+        }
+
+        public boolean isRequired(String fieldId) {
+            return alwaysRequired.contains(fieldId) || conditionallyRequired.contains(fieldId);
+        }
+
+        /**
+         * Set a value and re-evaluate the logic that depends on it.
+         * Returns the fields whose visibility or required state changed.
+         */
+        public Set<String> setValue(String fieldId, String value) {
+            String previous = values.put(fieldId, value);
+            if (Objects.equals(previous, value)) {
+                return Collections.emptySet();
+            }
+            Set<String> changed = new LinkedHashSet<>();
+            for (String dependent : getDependents(fieldId)) {
+                if (evaluate(dependent)) {
+                    changed.add(dependent);
+                }
+            }
+            return changed;
+        }
+
+        /**
+         * Number of expression evaluations so far, to check that updates stay incremental
+         */
+        public long getEvaluationCount() {
+            return evaluationCount;
+        }
+
+        private boolean evaluate(String fieldId) {
+            boolean changed = false;
+            LogicExpression display = displayLogic.get(fieldId);
+            if (display != null) {
+                evaluationCount++;
+                boolean visible = display.evaluate(this);
+                changed |= visible ? hidden.remove(fieldId) : hidden.add(fieldId);
+            }
+            LogicExpression required = requiredWhen.get(fieldId);
+            if (required != null) {
+                evaluationCount++;
+                boolean isRequired = required.evaluate(this);
+                changed |= isRequired ? conditionallyRequired.add(fieldId) : conditionallyRequired.remove(fieldId);
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Something wrong with a field's logic
+     */
+    public static class Problem {
+        public enum Kind { SYNTAX, UNKNOWN_FIELD, SELF_REFERENCE }
+
+        private final Kind kind;
+        private final String fieldId;
+        private final String property;
+        private final String message;
+
+        Problem(Kind kind, String fieldId, String property, String message) {
+            this.kind = kind;
+            this.fieldId = fieldId;
+            this.property = property;
+            this.message = message;
+        }
+
+        public Kind getKind() { return kind; }
+        public String getFieldId() { return fieldId; }
+        public String getProperty() { return property; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return fieldId + " " + property + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.adui.jsoncraft.validation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.adui.jsoncraft.model.ComponentType;
+import com.adui.jsoncraft.model.FieldDefinition;
+import com.adui.jsoncraft.model.TabDefinition;
+import com.adui.jsoncraft.model.ValidationRules;
+import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.MetricsRegistry;
+
+/**
+ * Runtime state of a form being filled in: values, visibility, required state and value errors.
+ * Rules are compiled once; {@link #setValue} re-checks only the edited field and the fields whose
+ * displayLogic / requiredWhen depend on it (through {@link FieldDependencyGraph}).
+ * Multi-value fields hold their selected keys comma separated.
+ */
+public class FormRuntime {
+    private static final MetricsRegistry.Timer UPDATE_TIMER = MetricsRegistry.getInstance().timer("preview.update");
+
+    public static final String VALUE_SEPARATOR = ",";
+
+    private final FieldDependencyGraph graph;
+    private final FieldDependencyGraph.Evaluation evaluation;
+    private final Map<String, FieldRules> rules = new LinkedHashMap<>();
+    private final Map<String, String> errors = new HashMap<>();
+
+    public FormRuntime(WindowDefinition window) {
+        this(window, Collections.emptyMap());
+    }
+
+    public FormRuntime(WindowDefinition window, Map<String, String> initialValues) {
+        this.graph = FieldDependencyGraph.build(window);
+        this.evaluation = graph.newEvaluation(initialValues);
+        if (window != null && window.getTabs() != null) {
+            for (TabDefinition tab : window.getTabs()) {
+                if (tab.getFields() == null) {
+                    continue;
+                }
+                for (FieldDefinition field : tab.getFields()) {
+                    if (field.getFieldId() != null) {
+                        rules.put(field.getFieldId(), new FieldRules(field));
+                    }
+                }
+            }
+        }
+        for (String fieldId : rules.keySet()) {
+            check(fieldId);
+        }
+    }
+
+    public FieldDependencyGraph getGraph() {
+        return graph;
+    }
+
+    public String getValue(String fieldId) {
+        return evaluation.getValue(fieldId);
+    }
+
+    public boolean isDisplayed(String fieldId) {
+        return evaluation.isDisplayed(fieldId);
+    }
+
+    public boolean isRequired(String fieldId) {
+        return evaluation.isRequired(fieldId);
+    }
+
+    /**
+     * Error for the field's current value, or null. Hidden fields never have errors.
+     */
+    public String getError(String fieldId) {
+        return evaluation.isDisplayed(fieldId) ? errors.get(fieldId) : null;
+    }
+
+    /**
+     * Errors of all displayed fields, in form order
+     */
+    public Map<String, String> getErrors() {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String fieldId : rules.keySet()) {
+            String error = getError(fieldId);
+            if (error != null) {
+                result.put(fieldId, error);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Set a field's value. Returns the fields whose visibility, required state or error may have
+     * changed (always including the edited field), so a view can refresh just those.
+     */
+    public Update setValue(String fieldId, String value) {
+        long start = UPDATE_TIMER.start();
+        try {
+            long evaluationsBefore = evaluation.getEvaluationCount();
+            Set<String> affected = new LinkedHashSet<>();
+            affected.add(fieldId);
+            affected.addAll(evaluation.setValue(fieldId, value == null || value.isEmpty() ? null : value));
+            for (String affectedId : affected) {
+                check(affectedId);
+            }
+            return new Update(affected, evaluation.getEvaluationCount() - evaluationsBefore);
+        } finally {
+            UPDATE_TIMER.stop(start);
+        }
+    }
+
+    private void check(String fieldId) {
+        FieldRules fieldRules = rules.get(fieldId);
+        String error = fieldRules != null
+            ? fieldRules.check(evaluation.getValue(fieldId), evaluation.isRequired(fieldId))
+            : null;
+        if (error != null) {
+            errors.put(fieldId, error);
+        } else {
+            errors.remove(fieldId);
+        }
+    }
+
+    public static List<String> splitValues(String value) {
+        List<String> result = new ArrayList<>();
+        if (value != null) {
+            for (String part : value.split(VALUE_SEPARATOR)) {
+                if (!part.trim().isEmpty()) {
+                    result.add(part.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    public static boolean isMultiValue(ComponentType type) {
+        return type == ComponentType.MULTI_SELECT_FIELD
+            || type == ComponentType.CHECKBOX_GROUP_FIELD
+            || type == ComponentType.TAG_SELECT_FIELD;
+    }
+
+    private static boolean isNumeric(ComponentType type) {
+        return type == ComponentType.NUMBER_FIELD
+            || type == ComponentType.DECIMAL_FIELD
+            || type == ComponentType.CURRENCY_FIELD
+            || type == ComponentType.PERCENTAGE_FIELD
+            || type == ComponentType.SLIDER_FIELD
+            || type == ComponentType.RATING_FIELD
+            || type == ComponentType.COUNTER_FIELD;
+    }
+
+    /**
+     * Result of one {@link #setValue} call
+     */
+    public static class Update {
+        private final Set<String> affectedFields;
+        private final long evaluations;
+
+        Update(Set<String> affectedFields, long evaluations) {
+            this.affectedFields = Collections.unmodifiableSet(affectedFields);
+            this.evaluations = evaluations;
+        }
+
+        public Set<String> getAffectedFields() { return affectedFields; }
+        public long getEvaluations() { return evaluations; }
+    }
+
+    /**
+     * Value rules of one field, with the pattern compiled up front
+     */
+    private static class FieldRules {
+        private final boolean multiValue;
+        private final boolean numeric;
+        private final boolean integer;
+        private final Integer minLength;
+        private final Integer maxLength;
+        private final BigDecimal min;
+        private final BigDecimal max;
+        private final Integer decimalPlaces;
+        private final Pattern pattern;
+        private final String patternMessage;
+        private final Integer minSelections;
+        private final Integer maxSelections;
+
+        FieldRules(FieldDefinition field) {
+            ComponentType type = field.getComponentType();
+            ValidationRules validation = field.getValidation() != null ? field.getValidation() : new ValidationRules();
+            this.multiValue = isMultiValue(type);
+            this.numeric = isNumeric(type) || validation.getMin() != null || validation.getMax() != null;
+            this.integer = type == ComponentType.NUMBER_FIELD || type == ComponentType.COUNTER_FIELD;
+            this.minLength = validation.getMinLength();
+            this.maxLength = validation.getMaxLength();
+            this.min = validation.getMin() != null ? new BigDecimal(validation.getMin().toString()) : null;
+            this.max = validation.getMax() != null ? new BigDecimal(validation.getMax().toString()) : null;
+            this.decimalPlaces = validation.getDecimalPlaces();
+            this.pattern = compilePattern(validation.getPattern());
+            this.patternMessage = validation.getPatternMessage();
+            this.minSelections = validation.getMinSelections();
+            this.maxSelections = validation.getMaxSelections();
+        }
+
+        // An invalid pattern is reported by ValidationEngine; here it is just not enforced
+        private static Pattern compilePattern(String regex) {
+            if (regex == null || regex.isEmpty()) {
+                return null;
+            }
+            try {
+                return Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+
+        String check(String value, boolean required) {
+            if (multiValue) {
+                return checkSelections(splitValues(value).size(), required);
+            }
+            if (value == null || value.trim().isEmpty()) {
+                return required ? "Required" : null;
+            }
+            if (minLength != null && value.length() < minLength) {
+                return "At least " + minLength + " characters";
+            }
+            if (maxLength != null && value.length() > maxLength) {
+                return "At most " + maxLength + " characters";
+            }
+            if (numeric) {
+                String error = checkNumber(value.trim());
+                if (error != null) {
+                    return error;
+                }
+            }
+            if (pattern != null && !pattern.matcher(value).matches()) {
+                return patternMessage != null && !patternMessage.isEmpty()
+                    ? patternMessage : "Does not match " + pattern.pattern();
+            }
+            return null;
+        }
+
+        private String checkSelections(int count, boolean required) {
+            if (count == 0 && required) {
+                return "Required";
+            }
+            if (minSelections != null && count < minSelections && (count > 0 || required)) {
+                return "Select at least " + minSelections;
+            }
+            if (maxSelections != null && count > maxSelections) {
+                return "Select at most " + maxSelections;
+            }
+            return null;
+        }
+
+        private String checkNumber(String value) {
+            BigDecimal number;
+            try {
+                number = new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                return "Not a number";
+            }
+            if (integer && number.stripTrailingZeros().scale() > 0) {
+                return "Must be a whole number";
+            }
+            if (decimalPlaces != null && Math.max(number.stripTrailingZeros().scale(), 0) > decimalPlaces) {
+                return "At most " + decimalPlaces + " decimal places";
+            }
+            if (min != null && number.compareTo(min) < 0) {
+                return "Minimum is " + min.toPlainString();
+            }
+            if (max != null && number.compareTo(max) > 0) {
+                return "Maximum is " + max.toPlainString();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.adui.jsoncraft.validation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.adui.jsoncraft.utils.MetricsRegistry;
+
+/**
+ * Compiles displayLogic / requiredWhen strings into {@link LogicExpression}s.
+ *
+ * Syntax follows the ADempiere/iDempiere display logic the ADUI format comes from:
+ * <pre>
+ *   &#64;IsActive&#64;='Y' &amp; (&#64;DocStatus&#64;=DR,IP | &#64;Amount&#64;&gt;100)
+ * </pre>
+ * Field values are referenced as @FieldId@ (optionally @FieldId:default@), literals are quoted
+ * or bare words/numbers. Operators: = and ! (also ==, !=, &lt;&gt;), &lt; &gt; &lt;= &gt;=,
+ * &amp; and | (also &amp;&amp;, ||), unary ! before a group or reference, and parentheses.
+ * A comma-separated right-hand side matches any of the values. Comparisons are numeric when
+ * both sides are numbers; Y/N and true/false are treated as the same values. A lone operand is
+ * true when it is non-empty and not N/false/0.
+ *
+ * Source text is parsed into a small AST which is then compiled to closures; compiled
+ * expressions are cached by source, so a form with hundreds of fields sharing the same
+ * conditions compiles each distinct condition once.
+ */
+public class LogicCompiler {
+    private static final Logger logger = LoggerFactory.getLogger(LogicCompiler.class);
+    private static final MetricsRegistry.Timer COMPILE_TIMER = MetricsRegistry.getInstance().timer("logic.compile");
+
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private static LogicCompiler instance;
+
+    private final Map<String, LogicExpression> cache = new ConcurrentHashMap<>();
+
+    public static synchronized LogicCompiler getInstance() {
+        if (instance == null) {
+            instance = new LogicCompiler();
+        }
+        return instance;
+    }
+
+    /**
+     * Compiled expression for the source, from the cache when it was compiled before
+     */
+    public LogicExpression compile(String source) throws LogicSyntaxException {
+        String key = source.trim();
+        LogicExpression expression = cache.get(key);
+        if (expression != null) {
+            return expression;
+        }
+
+        long timing = COMPILE_TIMER.start();
+        try {
+            Parser parser = new Parser(key);
+            Node root = parser.parse();
+            expression = new LogicExpression(key, parser.references, root.toPredicate());
+        } finally {
+            COMPILE_TIMER.stop(timing);
+        }
+
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            logger.debug("Logic expression cache full, clearing {} entries", cache.size());
+            cache.clear();
+        }
+        cache.put(key, expression);
+        return expression;
+    }
+
+    // ---- AST ----
+
+    private interface Node {
+        Predicate<LogicExpression.Context> toPredicate();
+    }
+
+    private static final class OrNode implements Node {
+        final Node left;
+        final Node right;
+
+        OrNode(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Predicate<LogicExpression.Context> toPredicate() {
+            return left.toPredicate().or(right.toPredicate());
+        }
+    }
+
+    private static final class AndNode implements Node {
+        final Node left;
+        final Node right;
+
+        AndNode(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Predicate<LogicExpression.Context> toPredicate() {
+            return left.toPredicate().and(right.toPredicate());
+        }
+    }
+
+    private static final class NotNode implements Node {
+        final Node operand;
+
+        NotNode(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public Predicate<LogicExpression.Context> toPredicate() {
+            return operand.toPredicate().negate();
+        }
+    }
+
+    private static final class TruthNode implements Node {
+        final Operand operand;
+
+        TruthNode(Operand operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public Predicate<LogicExpression.Context> toPredicate() {
+            Function<LogicExpression.Context, String> value = operand.toFunction();
+            return context -> isTrue(value.apply(context));
+        }
+    }
+
+    private static final class CompareNode implements Node {
+        final Operand left;
+        final String operator;
+        final List<Operand> right;
+
+        CompareNode(Operand left, String operator, List<Operand> right) {
+            this.left = left;
+            this.operator = operator;
+            this.right = right;
+        }
+
+        @Override
+        public Predicate<LogicExpression.Context> toPredicate() {
+            Function<LogicExpression.Context, String> leftValue = left.toFunction();
+            boolean equality = "=".equals(operator) || "!".equals(operator);
+
+            if (equality) {
+                boolean negate = "!".equals(operator);
+                // Constant right-hand sides are normalized once, at compile time
+                boolean allLiterals = right.stream().allMatch(operand -> operand.literal != null);
+                if (allLiterals) {
+                    Set<String> literals = new HashSet<>();
+                    List<Double> numbers = new ArrayList<>();
+                    for (Operand operand : right) {
+                        literals.add(normalize(operand.literal));
+                        Double number = toNumber(operand.literal);
+                        if (number != null) {
+                            numbers.add(number);
+                        }
+                    }
+                    return context -> {
+                        String value = leftValue.apply(context);
+                        boolean matches = literals.contains(normalize(value));
+                        if (!matches && !numbers.isEmpty()) {
+                            Double number = toNumber(value);
+                            matches = number != null && numbers.contains(number);
+                        }
+                        return matches != negate;
+                    };
+                }
+                List<Function<LogicExpression.Context, String>> rightValues = new ArrayList<>();
+                right.forEach(operand -> rightValues.add(operand.toFunction()));
+                return context -> {
+                    String value = leftValue.apply(context);
+                    for (Function<LogicExpression.Context, String> rightValue : rightValues) {
+                        if (valuesEqual(value, rightValue.apply(context))) {
+                            return !negate;
+                        }
+                    }
+                    return negate;
+                };
+            }
+
+            Function<LogicExpression.Context, String> rightValue = right.get(0).toFunction();
+            switch (operator) {
+                case "<":
+                    return context -> compare(leftValue.apply(context), rightValue.apply(context)) < 0;
+                case ">":
+                    return context -> compare(leftValue.apply(context), rightValue.apply(context)) > 0;
+                case "<=":
+                    return context -> compare(leftValue.apply(context), rightValue.apply(context)) <= 0;
+                default:
+                    return context -> compare(leftValue.apply(context), rightValue.apply(context)) >= 0;
+            }
+        }
+    }
+
+    /**
+     * A field reference (fieldId set) or a literal
+     */
+    private static final class Operand {
+        final String fieldId;
+        final String defaultValue;
+        final String literal;
+
+        private Operand(String fieldId, String defaultValue, String literal) {
+            this.fieldId = fieldId;
+            this.defaultValue = defaultValue;
+            this.literal = literal;
+        }
+
+        static Operand field(String fieldId, String defaultValue) {
+            return new Operand(fieldId, defaultValue, null);
+        }
+
+        static Operand literal(String literal) {
+            return new Operand(null, null, literal);
+        }
+
+        Function<LogicExpression.Context, String> toFunction() {
+            if (fieldId == null) {
+                String constant = literal;
+                return context -> constant;
+            }
+            String id = fieldId;
+            String fallback = defaultValue != null ? defaultValue : "";
+            return context -> {
+                String value = context.getValue(id);
+                return value == null || value.isEmpty() ? fallback : value;
+            };
+        }
+    }
+
+    // ---- Value semantics ----
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return "Y";
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return "N";
+        }
+        return value;
+    }
+
+    private static boolean isTrue(String value) {
+        String normalized = normalize(value);
+        return !normalized.isEmpty() && !"N".equals(normalized) && !"0".equals(normalized);
+    }
+
+    private static Double toNumber(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        char first = value.charAt(0);
+        if (!Character.isDigit(first) && first != '-' && first != '+' && first != '.') {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean valuesEqual(String left, String right) {
+        if (normalize(left).equals(normalize(right))) {
+            return true;
+        }
+        Double leftNumber = toNumber(left);
+        Double rightNumber = toNumber(right);
+        return leftNumber != null && leftNumber.equals(rightNumber);
+    }
+
+    private static int compare(String left, String right) {
+        Double leftNumber = toNumber(left);
+        Double rightNumber = toNumber(right);
+        if (leftNumber != null && rightNumber != null) {
+            return Double.compare(leftNumber, rightNumber);
+        }
+        return normalize(left).compareTo(normalize(right));
+    }
+
+    // ---- Parser ----
+
+    /**
+     * Recursive-descent parser; collects referenced field IDs on the way
+     */
+    private static final class Parser {
+        private final String source;
+        private final Set<String> references = new LinkedHashSet<>();
+        private int position;
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        Node parse() throws LogicSyntaxException {
+            if (source.isEmpty()) {
+                throw error("Empty expression");
+            }
+            Node node = parseOr();
+            skipWhitespace();
+            if (position < source.length()) {
+                throw error("Unexpected '" + source.charAt(position) + "'");
+            }
+            return node;
+        }
+
+        private Node parseOr() throws LogicSyntaxException {
+            Node node = parseAnd();
+            while (accept("||") || accept("|")) {
+                node = new OrNode(node, parseAnd());
+            }
+            return node;
+        }
+
+        private Node parseAnd() throws LogicSyntaxException {
+            Node node = parseUnary();
+            while (accept("&&") || accept("&")) {
+                node = new AndNode(node, parseUnary());
+            }
+            return node;
+        }
+
+        private Node parseUnary() throws LogicSyntaxException {
+            skipWhitespace();
+            if (peek() == '!' && peek(1) != '=') {
+                position++;
+                return new NotNode(parseUnary());
+            }
+            if (accept("(")) {
+                Node node = parseOr();
+                if (!accept(")")) {
+                    throw error("Missing ')'");
+                }
+                return node;
+            }
+            return parseComparison();
+        }
+
+        private Node parseComparison() throws LogicSyntaxException {
+            Operand left = parseOperand();
+            String operator = parseOperator();
+            if (operator == null) {
+                return new TruthNode(left);
+            }
+
+            List<Operand> right = new ArrayList<>();
+            right.add(parseOperand());
+            if ("=".equals(operator) || "!".equals(operator)) {
+                while (accept(",")) {
+                    right.add(parseOperand());
+                }
+            }
+            return new CompareNode(left, operator, right);
+        }
+
+        private String parseOperator() {
+            skipWhitespace();
+            if (accept("==") || accept("=")) {
+                return "=";
+            }
+            if (accept("!=") || accept("<>")) {
+                return "!";
+            }
+            if (accept("<=")) {
+                return "<=";
+            }
+            if (accept(">=")) {
+                return ">=";
+            }
+            if (accept("<")) {
+                return "<";
+            }
+            if (accept(">")) {
+                return ">";
+            }
+            // ADempiere's not-equal, only where a comparison can follow (not "!(" or "!@" negation)
+            if (peek() == '!') {
+                position++;
+                return "!";
+            }
+            return null;
+        }
+
+        private Operand parseOperand() throws LogicSyntaxException {
+            skipWhitespace();
+            char c = peek();
+            if (c == '@') {
+                int start = ++position;
+                int end = source.indexOf('@', start);
+                if (end < 0) {
+                    throw error("Missing closing '@' for field reference");
+                }
+                String reference = source.substring(start, end);
+                position = end + 1;
+                int colon = reference.indexOf(':');
+                String fieldId = (colon >= 0 ? reference.substring(0, colon) : reference).trim();
+                if (fieldId.isEmpty()) {
+                    throw error("Empty field reference");
+                }
+                references.add(fieldId);
+                return Operand.field(fieldId, colon >= 0 ? reference.substring(colon + 1) : null);
+            }
+            if (c == '\'' || c == '"') {
+                int end = source.indexOf(c, position + 1);
+                if (end < 0) {
+                    throw error("Unterminated string");
+                }
+                String literal = source.substring(position + 1, end);
+                position = end + 1;
+                return Operand.literal(literal);
+            }
+
+            int start = position;
+            while (position < source.length() && isWordChar(source.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error(position < source.length() ? "Unexpected '" + c + "'" : "Unexpected end of expression");
+            }
+            return Operand.literal(source.substring(start, position));
+        }
+
+        private static boolean isWordChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == '+';
+        }
+
+        private boolean accept(String token) {
+            skipWhitespace();
+            if (source.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private char peek() {
+            return peek(0);
+        }
+
+        private char peek(int offset) {
+            int index = position + offset;
+            return index < source.length() ? source.charAt(index) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private LogicSyntaxException error(String message) {
+            return new LogicSyntaxException(message, position);
+        }
+    }
+
+    /**
+     * Thrown for malformed logic; position is the character offset where parsing stopped
+     */
+    public static class LogicSyntaxException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final int position;
+
+        public LogicSyntaxException(String message, int position) {
+            super(message + " at position " + (position + 1));
+            this.position = position;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+    }
+}
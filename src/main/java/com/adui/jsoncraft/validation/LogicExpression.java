@@ -0,0 +1,49 @@
+package com.adui.jsoncraft.validation;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A compiled displayLogic / requiredWhen expression. Instances are immutable and shared
+ * through the {@link LogicCompiler} cache, so evaluating is just calling the compiled closure.
+ */
+public final class LogicExpression {
+
+    /**
+     * Supplies current field values during evaluation; null means empty
+     */
+    public interface Context {
+        String getValue(String fieldId);
+    }
+
+    private final String source;
+    private final Set<String> referencedFields;
+    private final Predicate<Context> evaluator;
+
+    LogicExpression(String source, Set<String> referencedFields, Predicate<Context> evaluator) {
+        this.source = source;
+        this.referencedFields = Collections.unmodifiableSet(referencedFields);
+        this.evaluator = evaluator;
+    }
+
+    public boolean evaluate(Context context) {
+        return evaluator.test(context);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Field IDs referenced as @FieldId@, in order of first appearance
+     */
+    public Set<String> getReferencedFields() {
+        return referencedFields;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -16,6 +16,8 @@ import com.adui.jsoncraft.model.ReferenceData;
 import com.adui.jsoncraft.model.TabDefinition;
 import com.adui.jsoncraft.model.ValidationRules;
 import com.adui.jsoncraft.model.WindowDefinition;
+import com.adui.jsoncraft.utils.FormEvents;
+import com.adui.jsoncraft.utils.MetricsRegistry;
 
 /**
  * Validation Engine for JSONFormMaker
@@ -23,6 +25,7 @@ import com.adui.jsoncraft.model.WindowDefinition;
  */
 public class ValidationEngine {
     private static final Logger logger = LoggerFactory.getLogger(ValidationEngine.class);
+    private static final MetricsRegistry.Timer VALIDATE_TIMER = MetricsRegistry.getInstance().timer("validation.window");
     
     // Validation patterns
     private static final Pattern ID_PATTERN = Pattern.compile("^[A-Z][A-Z0-9_]*$");
@@ -32,6 +35,27 @@ public class ValidationEngine {
      * Validate complete window definition
      */
     public ValidationResult validateWindow(WindowDefinition window) {
+        long timing = VALIDATE_TIMER.start();
+        FormEvents.ValidateEvent event = new FormEvents.ValidateEvent();
+        event.begin();
+        ValidationResult result = null;
+        try {
+            result = validateWindowDefinition(window);
+            return result;
+        } finally {
+            VALIDATE_TIMER.stop(timing);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setWindow(window);
+                event.success = result != null && result.isValid();
+                event.errorCount = result != null ? result.getErrors().size() : 0;
+                event.warningCount = result != null ? result.getWarnings().size() : 0;
+                event.commit();
+            }
+        }
+    }
+    
+    private ValidationResult validateWindowDefinition(WindowDefinition window) {
         List<ValidationError> errors = new ArrayList<>();
         List<ValidationWarning> warnings = new ArrayList<>();
         
@@ -46,6 +70,9 @@ public class ValidationEngine {
         // Validate tabs
         validateTabs(window.getTabs(), errors, warnings);
         
+        // Validate displayLogic / requiredWhen expressions
+        validateLogic(window, errors, warnings);
+        
         // Validate overall structure
         validateOverallStructure(window, errors, warnings);
         
@@ -332,6 +359,26 @@ public class ValidationEngine {
         }
     }
     
+    /**
+     * Validate displayLogic and requiredWhen: syntax, and references to existing field IDs
+     */
+    private void validateLogic(WindowDefinition window, List<ValidationError> errors, List<ValidationWarning> warnings) {
+        for (FieldDependencyGraph.Problem problem : FieldDependencyGraph.build(window).getProblems()) {
+            String message = "Field '" + problem.getFieldId() + "' " + problem.getProperty() + ": " + problem.getMessage();
+            switch (problem.getKind()) {
+                case SYNTAX:
+                    errors.add(new ValidationError("LOGIC_SYNTAX", message));
+                    break;
+                case UNKNOWN_FIELD:
+                    errors.add(new ValidationError("LOGIC_UNKNOWN_FIELD", message));
+                    break;
+                default:
+                    warnings.add(new ValidationWarning("LOGIC_SELF_REFERENCE", message));
+                    break;
+            }
+        }
+    }
+    
     /**
      * Validate overall window structure
      */